@@ -1,13 +1,18 @@
 package com.hellfire.net.vec;
 
+import com.hellfire.net.vec.text.VecFormat;
 import org.jetbrains.annotations.NotNull;
 
+import java.io.IOException;
+import java.util.Comparator;
+
 /* Created by Conor on 15.05.2024 */
 public abstract class IVec<N extends Number & Comparable<N>, T extends IVec<N, ?>> {
 
     // Is it smart to have it a universal val? idk
-    private static final int HASH_PRIME = 31;
+    protected static final int HASH_PRIME = 31;
     private static final char[] FIELD_NAMES = {'x', 'y', 'z', 'w'};
+    private static final ThreadLocal<StringBuilder> SCRATCH = ThreadLocal.withInitial(() -> new StringBuilder(64));
 
     public abstract int numComponents();
 
@@ -23,6 +28,10 @@ public abstract class IVec<N extends Number & Comparable<N>, T extends IVec<N, ?
     @NotNull
     public abstract N[] getComponents();
 
+    public abstract double getDouble(final int component);
+
+    public abstract void componentsInto(final double @NotNull [] dst, final int offset);
+
     @NotNull
     public abstract T add(final @NotNull T vec);
 
@@ -94,9 +103,128 @@ public abstract class IVec<N extends Number & Comparable<N>, T extends IVec<N, ?
     @NotNull
     public abstract IVec<Double, ?> normalize();
 
+    /** Approximate {@link #length()}, see {@link FastMath} */
+    public abstract double lengthFast();
+
+    /**
+     * {@code 1 / length()}. Integer types square their components in {@code double} here, so unlike {@link #length()}
+     * this does not overflow for large components.
+     */
+    public abstract double inverseLength();
+
+    /** Approximate {@link #inverseLength()}, see {@link FastMath} */
+    public abstract double inverseLengthFast();
+
+    /** Approximate {@link #normalize()} that multiplies by {@link #inverseLengthFast()}, see {@link FastMath} */
+    @NotNull
+    public abstract IVec<Double, ?> normalizeFast();
+
     @NotNull
     public abstract T zero();
 
+    ///////////////////////////////////////////////////////////////////////////
+    // Fused methods
+    // Each produces a single result object. Integer types truncate like divScalar.
+    ///////////////////////////////////////////////////////////////////////////
+
+    /** {@code this + vec * scale} */
+    @NotNull
+    public abstract T addScaled(final @NotNull T vec, double scale);
+
+    /** {@code this * a + b}, component-wise */
+    @NotNull
+    public abstract T mulAdd(final @NotNull T a, final @NotNull T b);
+
+    /** {@code this * a + b} rounded once, see {@link Math#fma(double, double, double)}. Exact for integer types. */
+    @NotNull
+    public abstract T fma(final @NotNull T a, final @NotNull T b);
+
+    /** Linear interpolation, {@code t = 0} yields this and {@code t = 1} yields other */
+    @NotNull
+    public abstract T lerp(final @NotNull T other, double t);
+
+    /** {@code this * scale}, with every component clamped to {@code [min, max]} */
+    @NotNull
+    public abstract T scaleAndClamp(double scale, final @NotNull T min, final @NotNull T max);
+
+    /** Distance from this point to the infinite line through a and b, or to a if both are equal */
+    public abstract double distanceToLine(final @NotNull T a, final @NotNull T b);
+
+    ///////////////////////////////////////////////////////////////////////////
+    // Distance comparisons
+    // All of them compare squared distances, none takes a square root
+    ///////////////////////////////////////////////////////////////////////////
+
+    /** Whether this is strictly closer to a than to b */
+    public boolean closerTo(final @NotNull T a, final @NotNull T b) {
+        return distanceSquared(a) < distanceSquared(b);
+    }
+
+    /** Whether vec lies within the given distance of this, inclusive */
+    public boolean withinDistance(final @NotNull T vec, double distance) {
+        return distance >= 0 && distanceSquared(vec) <= distance * distance;
+    }
+
+    /** Negative if a is closer to this than b, positive if it is further away and 0 if both are equally far */
+    public int compareDistance(final @NotNull T a, final @NotNull T b) {
+        return Double.compare(distanceSquared(a), distanceSquared(b));
+    }
+
+    /** Compares the length of this with the length of vec */
+    public int compareLength(final @NotNull T vec) {
+        return Double.compare(lengthSquared(), vec.lengthSquared());
+    }
+
+    /** Orders vectors by their distance to this, nearest first */
+    @NotNull
+    public Comparator<T> distanceComparator() {
+        return this::compareDistance;
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // Text
+    ///////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Appends the same layout as {@link #toString()}, but through {@link VecFormat} instead of {@link String#format},
+     * so nothing is allocated besides growing the builder. Parse it back with the static {@code parse} of the concrete type.
+     */
+    @NotNull
+    public StringBuilder appendTo(final @NotNull StringBuilder sb, final int precision) {
+        sb.append(this.getClass().getSimpleName()).append('{');
+        for (int i = 0; i < numComponents(); i++) {
+            sb.append(FIELD_NAMES[i]).append('=');
+            appendComponent(sb, i, precision);
+            if (i < numComponents() - 1) sb.append(", ");
+        }
+        return sb.append('}');
+    }
+
+    public void appendTo(final @NotNull Appendable out, final int precision) throws IOException {
+        if (out instanceof StringBuilder sb) {
+            appendTo(sb, precision);
+            return;
+        }
+
+        final StringBuilder sb = SCRATCH.get();
+        sb.setLength(0);
+        out.append(appendTo(sb, precision));
+    }
+
+    /** Appends only the components, for example {@code 1.00,2.00,3.00} for CSV */
+    @NotNull
+    public StringBuilder appendComponents(final @NotNull StringBuilder sb, final int precision, final char separator) {
+        for (int i = 0; i < numComponents(); i++) {
+            if (i > 0) sb.append(separator);
+            appendComponent(sb, i, precision);
+        }
+        return sb;
+    }
+
+    protected void appendComponent(final @NotNull StringBuilder sb, final int component, final int precision) {
+        VecFormat.append(sb, getDouble(component), precision);
+    }
+
     @Override
     public String toString() {
         final String className = this.getClass().getSimpleName();
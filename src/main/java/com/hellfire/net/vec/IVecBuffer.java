@@ -0,0 +1,120 @@
+package com.hellfire.net.vec;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+
+/**
+ * Fixed-size struct-of-arrays container for vectors. Every component lives in its own primitive array,
+ * and all bulk operations work in place over the half-open range {@code [from, to)}.
+ * Vector objects are only created when {@link #get(int)} is called.
+ */
+public abstract class IVecBuffer<N extends Number & Comparable<N>, T extends IVec<N, ?>, B extends IVecBuffer<N, T, B>> {
+
+    protected final int size;
+
+    protected IVecBuffer(final int size) {
+        if (size < 0) throw new IllegalArgumentException("Invalid size");
+        this.size = size;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public abstract int numComponents();
+
+    @NotNull
+    public abstract T get(final int index);
+
+    @NotNull
+    public abstract B set(final int index, final @NotNull T vec);
+
+    @NotNull
+    public abstract B add(final int from, final int to, final @NotNull B other);
+
+    @NotNull
+    public abstract B add(final int from, final int to, final @NotNull T vec);
+
+    @NotNull
+    public abstract B sub(final int from, final int to, final @NotNull B other);
+
+    @NotNull
+    public abstract B sub(final int from, final int to, final @NotNull T vec);
+
+    @NotNull
+    public abstract B mul(final int from, final int to, final @NotNull B other);
+
+    @NotNull
+    public abstract B mul(final int from, final int to, final @NotNull T vec);
+
+    @NotNull
+    public abstract B divScalar(final int from, final int to, double scale);
+
+    public abstract double length(final int index);
+
+    public abstract double lengthSquared(final int index);
+
+    public abstract double distanceSquared(final int index, final @NotNull T vec);
+
+    public abstract void length(final int from, final int to, final double @NotNull [] dst, final int dstOffset);
+
+    public abstract void distanceSquared(final int from, final int to, final @NotNull B other, final double @NotNull [] dst, final int dstOffset);
+
+    public abstract void distanceSquared(final int from, final int to, final @NotNull T vec, final double @NotNull [] dst, final int dstOffset);
+
+    @NotNull
+    public abstract B copy();
+
+    ///////////////////////////////////////////////////////////////////////////
+    // Whole-buffer shortcuts
+    ///////////////////////////////////////////////////////////////////////////
+
+    @NotNull
+    public B add(final @NotNull B other) {
+        return add(0, size, other);
+    }
+
+    @NotNull
+    public B add(final @NotNull T vec) {
+        return add(0, size, vec);
+    }
+
+    @NotNull
+    public B sub(final @NotNull B other) {
+        return sub(0, size, other);
+    }
+
+    @NotNull
+    public B sub(final @NotNull T vec) {
+        return sub(0, size, vec);
+    }
+
+    @NotNull
+    public B mul(final @NotNull B other) {
+        return mul(0, size, other);
+    }
+
+    @NotNull
+    public B mul(final @NotNull T vec) {
+        return mul(0, size, vec);
+    }
+
+    @NotNull
+    public B divScalar(double scale) {
+        return divScalar(0, size, scale);
+    }
+
+    protected void checkRange(final int from, final int to) {
+        Objects.checkFromToIndex(from, to, size);
+    }
+
+    protected static void checkDst(final int from, final int to, final double @NotNull [] dst, final int dstOffset) {
+        Objects.checkFromIndexSize(dstOffset, to - from, dst.length);
+    }
+
+    @Override
+    public String toString() {
+        return this.getClass().getSimpleName() + "{size=" + size + "}";
+    }
+}
@@ -0,0 +1,409 @@
+package com.hellfire.net.vec;
+
+import com.hellfire.net.vec.doubles.*;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Lazily recorded chain of vector operations. Ops are appended to flat arrays and only run when the expression is
+ * evaluated, in a single pass over the components, so a chain such as
+ * <pre>{@code
+ * VecExpr expr = VecExpr.of(3).add(b).sub(c).mulScalar(k).normalize();
+ * Vec3d result = expr.eval3(a);
+ * }</pre>
+ * creates only the result instead of one vector per step. Expressions can be evaluated repeatedly, into a mutable
+ * vector, or over every element of a buffer.
+ * <p>
+ * All math happens in double precision regardless of the operand types, and matches the equivalent
+ * {@link Vec3d} chain bit for bit. Operand values are captured when the op is recorded.
+ * Evaluation uses scratch space owned by the expression, so an instance must not be evaluated from multiple threads at once.
+ */
+public final class VecExpr {
+
+    private static final byte ADD = 0, SUB = 1, MUL = 2, DIV = 3, ADD_SCALAR = 4, MUL_SCALAR = 5, DIV_SCALAR = 6,
+            NEGATE = 7, ABS = 8, MIN = 9, MAX = 10, NORMALIZE = 11, ADD_SCALED = 12, LERP = 13;
+
+    private static final int MAX_DIMS = 4;
+
+    private final int dims;
+    private final double[] regs = new double[MAX_DIMS];
+
+    private byte[] ops = new byte[8];
+    private double[] args = new double[32];
+    private int opCount, argCount;
+
+    private VecExpr(final int dims) {
+        this.dims = dims;
+    }
+
+    @NotNull
+    public static VecExpr of(final int dims) {
+        if (dims < 2 || dims > MAX_DIMS) throw new IllegalArgumentException("Invalid number of components");
+        return new VecExpr(dims);
+    }
+
+    public int numComponents() {
+        return dims;
+    }
+
+    public int size() {
+        return opCount;
+    }
+
+    /** Drops all recorded ops so the instance can be reused */
+    @NotNull
+    public VecExpr reset() {
+        opCount = 0;
+        argCount = 0;
+        return this;
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // Recording
+    ///////////////////////////////////////////////////////////////////////////
+
+    @NotNull
+    public VecExpr add(final @NotNull IVec<?, ?> vec) {
+        return recordVec(ADD, vec);
+    }
+
+    @NotNull
+    public VecExpr sub(final @NotNull IVec<?, ?> vec) {
+        return recordVec(SUB, vec);
+    }
+
+    @NotNull
+    public VecExpr mul(final @NotNull IVec<?, ?> vec) {
+        return recordVec(MUL, vec);
+    }
+
+    @NotNull
+    public VecExpr div(final @NotNull IVec<?, ?> vec) {
+        return recordVec(DIV, vec);
+    }
+
+    @NotNull
+    public VecExpr min(final @NotNull IVec<?, ?> vec) {
+        return recordVec(MIN, vec);
+    }
+
+    @NotNull
+    public VecExpr max(final @NotNull IVec<?, ?> vec) {
+        return recordVec(MAX, vec);
+    }
+
+    @NotNull
+    public VecExpr addScalar(final double val) {
+        return recordScalar(ADD_SCALAR, val);
+    }
+
+    @NotNull
+    public VecExpr subScalar(final double val) {
+        return recordScalar(ADD_SCALAR, -val);
+    }
+
+    @NotNull
+    public VecExpr mulScalar(final double scale) {
+        return recordScalar(MUL_SCALAR, scale);
+    }
+
+    @NotNull
+    public VecExpr divScalar(final double scale) {
+        return recordScalar(DIV_SCALAR, scale);
+    }
+
+    @NotNull
+    public VecExpr negate() {
+        return record(NEGATE);
+    }
+
+    @NotNull
+    public VecExpr abs() {
+        return record(ABS);
+    }
+
+    @NotNull
+    public VecExpr normalize() {
+        return record(NORMALIZE);
+    }
+
+    /** Same as {@link IVec#addScaled(IVec, double)} */
+    @NotNull
+    public VecExpr addScaled(final @NotNull IVec<?, ?> vec, final double scale) {
+        recordVec(ADD_SCALED, vec);
+        args[argCount++] = scale;
+        return this;
+    }
+
+    /** Same as {@link IVec#lerp(IVec, double)} */
+    @NotNull
+    public VecExpr lerp(final @NotNull IVec<?, ?> other, final double t) {
+        recordVec(LERP, other);
+        args[argCount++] = t;
+        return this;
+    }
+
+    private VecExpr record(final byte op) {
+        if (opCount == ops.length) ops = Arrays.copyOf(ops, opCount * 2);
+        if (argCount + MAX_DIMS + 1 > args.length) args = Arrays.copyOf(args, args.length * 2);
+        ops[opCount++] = op;
+        return this;
+    }
+
+    private VecExpr recordScalar(final byte op, final double val) {
+        record(op);
+        args[argCount++] = val;
+        return this;
+    }
+
+    private VecExpr recordVec(final byte op, final @NotNull IVec<?, ?> vec) {
+        checkDims(vec);
+        record(op);
+        vec.componentsInto(args, argCount);
+        argCount += MAX_DIMS;
+        return this;
+    }
+
+    private void checkDims(final @NotNull IVec<?, ?> vec) {
+        if (vec.numComponents() != dims) throw new IllegalArgumentException("Invalid number of components");
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // Evaluation
+    ///////////////////////////////////////////////////////////////////////////
+
+    @NotNull
+    public Vec2d eval2(final @NotNull IVec2<?, ?> start) {
+        load(start);
+        run();
+        return new Vec2d(regs[0], regs[1]);
+    }
+
+    @NotNull
+    public Vec3d eval3(final @NotNull IVec3<?, ?> start) {
+        load(start);
+        run();
+        return new Vec3d(regs[0], regs[1], regs[2]);
+    }
+
+    @NotNull
+    public Vec3d eval3(final double x, final double y, final double z) {
+        if (dims != 3) throw new IllegalArgumentException("Invalid number of components");
+        regs[0] = x;
+        regs[1] = y;
+        regs[2] = z;
+        regs[3] = 0;
+        run();
+        return new Vec3d(regs[0], regs[1], regs[2]);
+    }
+
+    @NotNull
+    public Vec4d eval4(final @NotNull IVec4<?, ?> start) {
+        load(start);
+        run();
+        return new Vec4d(regs[0], regs[1], regs[2], regs[3]);
+    }
+
+    /** Evaluates into {@code dst} without allocating */
+    @NotNull
+    public MutableVec3d evalInto(final @NotNull IVec3<?, ?> start, final @NotNull MutableVec3d dst) {
+        load(start);
+        run();
+        return dst.set(regs[0], regs[1], regs[2]);
+    }
+
+    /** Evaluates into {@code dst} without allocating, {@code dst} may be {@code start} */
+    @NotNull
+    public MutableVec3d evalInto(final @NotNull MutableVec3d start, final @NotNull MutableVec3d dst) {
+        if (dims != 3) throw new IllegalArgumentException("Invalid number of components");
+        regs[0] = start.x;
+        regs[1] = start.y;
+        regs[2] = start.z;
+        regs[3] = 0;
+        run();
+        return dst.set(regs[0], regs[1], regs[2]);
+    }
+
+    /** Applies the expression to every element in {@code [from, to)} of {@code src}, writing into the same indices of {@code dst} */
+    @NotNull
+    public Vec2dBuffer apply(final @NotNull Vec2dBuffer src, final int from, final int to, final @NotNull Vec2dBuffer dst) {
+        if (dims != 2) throw new IllegalArgumentException("Invalid number of components");
+        Objects.checkFromToIndex(from, to, Math.min(src.size(), dst.size()));
+        for (int i = from; i < to; i++) {
+            regs[0] = src.x[i];
+            regs[1] = src.y[i];
+            regs[2] = 0;
+            regs[3] = 0;
+            run();
+            dst.x[i] = regs[0];
+            dst.y[i] = regs[1];
+        }
+        return dst;
+    }
+
+    /** Applies the expression to every element in {@code [from, to)} of {@code src}, writing into the same indices of {@code dst} */
+    @NotNull
+    public Vec3dBuffer apply(final @NotNull Vec3dBuffer src, final int from, final int to, final @NotNull Vec3dBuffer dst) {
+        if (dims != 3) throw new IllegalArgumentException("Invalid number of components");
+        Objects.checkFromToIndex(from, to, Math.min(src.size(), dst.size()));
+        for (int i = from; i < to; i++) {
+            regs[0] = src.x[i];
+            regs[1] = src.y[i];
+            regs[2] = src.z[i];
+            regs[3] = 0;
+            run();
+            dst.x[i] = regs[0];
+            dst.y[i] = regs[1];
+            dst.z[i] = regs[2];
+        }
+        return dst;
+    }
+
+    /** Applies the expression to every element in {@code [from, to)} of {@code src}, writing into the same indices of {@code dst} */
+    @NotNull
+    public Vec4dBuffer apply(final @NotNull Vec4dBuffer src, final int from, final int to, final @NotNull Vec4dBuffer dst) {
+        if (dims != 4) throw new IllegalArgumentException("Invalid number of components");
+        Objects.checkFromToIndex(from, to, Math.min(src.size(), dst.size()));
+        for (int i = from; i < to; i++) {
+            regs[0] = src.x[i];
+            regs[1] = src.y[i];
+            regs[2] = src.z[i];
+            regs[3] = src.w[i];
+            run();
+            dst.x[i] = regs[0];
+            dst.y[i] = regs[1];
+            dst.z[i] = regs[2];
+            dst.w[i] = regs[3];
+        }
+        return dst;
+    }
+
+    private void load(final @NotNull IVec<?, ?> start) {
+        checkDims(start);
+        regs[3] = 0;
+        start.componentsInto(regs, 0);
+    }
+
+    // Every op works on all four registers, only normalize mixes them and it ignores the unused ones
+    private void run() {
+        double x = regs[0], y = regs[1], z = regs[2], w = regs[3];
+        final double[] a = args;
+        int arg = 0;
+
+        for (int i = 0; i < opCount; i++) {
+            switch (ops[i]) {
+                case ADD -> {
+                    x += a[arg];
+                    y += a[arg + 1];
+                    z += a[arg + 2];
+                    w += a[arg + 3];
+                    arg += MAX_DIMS;
+                }
+                case SUB -> {
+                    x -= a[arg];
+                    y -= a[arg + 1];
+                    z -= a[arg + 2];
+                    w -= a[arg + 3];
+                    arg += MAX_DIMS;
+                }
+                case MUL -> {
+                    x *= a[arg];
+                    y *= a[arg + 1];
+                    z *= a[arg + 2];
+                    w *= a[arg + 3];
+                    arg += MAX_DIMS;
+                }
+                case DIV -> {
+                    x /= a[arg];
+                    y /= a[arg + 1];
+                    z /= a[arg + 2];
+                    w /= a[arg + 3];
+                    arg += MAX_DIMS;
+                }
+                case MIN -> {
+                    x = Math.min(a[arg], x);
+                    y = Math.min(a[arg + 1], y);
+                    z = Math.min(a[arg + 2], z);
+                    w = Math.min(a[arg + 3], w);
+                    arg += MAX_DIMS;
+                }
+                case MAX -> {
+                    x = Math.max(a[arg], x);
+                    y = Math.max(a[arg + 1], y);
+                    z = Math.max(a[arg + 2], z);
+                    w = Math.max(a[arg + 3], w);
+                    arg += MAX_DIMS;
+                }
+                case ADD_SCALAR -> {
+                    final double val = a[arg++];
+                    x += val;
+                    y += val;
+                    z += val;
+                    w += val;
+                }
+                case MUL_SCALAR -> {
+                    final double scale = a[arg++];
+                    x *= scale;
+                    y *= scale;
+                    z *= scale;
+                    w *= scale;
+                }
+                case DIV_SCALAR -> {
+                    final double scale = a[arg++];
+                    x /= scale;
+                    y /= scale;
+                    z /= scale;
+                    w /= scale;
+                }
+                case NEGATE -> {
+                    x = -x;
+                    y = -y;
+                    z = -z;
+                    w = -w;
+                }
+                case ABS -> {
+                    x = Math.abs(x);
+                    y = Math.abs(y);
+                    z = Math.abs(z);
+                    w = Math.abs(w);
+                }
+                case NORMALIZE -> {
+                    final double len = Math.sqrt(x * x + y * y + (dims > 2 ? z * z : 0) + (dims > 3 ? w * w : 0));
+                    x /= len;
+                    y /= len;
+                    z /= len;
+                    w /= len;
+                }
+                case ADD_SCALED -> {
+                    final double scale = a[arg + MAX_DIMS];
+                    x = x + a[arg] * scale;
+                    y = y + a[arg + 1] * scale;
+                    z = z + a[arg + 2] * scale;
+                    w = w + a[arg + 3] * scale;
+                    arg += MAX_DIMS + 1;
+                }
+                case LERP -> {
+                    final double t = a[arg + MAX_DIMS];
+                    x = x + (a[arg] - x) * t;
+                    y = y + (a[arg + 1] - y) * t;
+                    z = z + (a[arg + 2] - z) * t;
+                    w = w + (a[arg + 3] - w) * t;
+                    arg += MAX_DIMS + 1;
+                }
+                default -> throw new IllegalStateException("Invalid op " + ops[i]);
+            }
+        }
+
+        regs[0] = x;
+        regs[1] = y;
+        regs[2] = z;
+        regs[3] = w;
+    }
+
+    @Override
+    public String toString() {
+        return "VecExpr{dims=" + dims + ", ops=" + opCount + "}";
+    }
+}
@@ -0,0 +1,7 @@
+package com.hellfire.net.vec.collections;
+
+@FunctionalInterface
+public interface Vec2iConsumer {
+
+    void accept(int x, int y);
+}
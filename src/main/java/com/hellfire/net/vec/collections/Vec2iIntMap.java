@@ -0,0 +1,110 @@
+package com.hellfire.net.vec.collections;
+
+import com.hellfire.net.vec.hash.VecHasher;
+import com.hellfire.net.vec.ints.Vec2i;
+import org.jetbrains.annotations.NotNull;
+
+/** Open addressing map from {@link Vec2i} keys to {@code int} values. Keys are never boxed into {@link Vec2i} objects. */
+public class Vec2iIntMap extends Vec2iTable {
+
+    private int[] values;
+    private final int missingValue;
+
+    public Vec2iIntMap() {
+        this(0);
+    }
+
+    public Vec2iIntMap(int expectedSize) {
+        this(expectedSize, DEFAULT_LOAD_FACTOR, VecHasher.GRID, 0);
+    }
+
+    /** @param missingValue returned by lookups and removals of absent keys */
+    public Vec2iIntMap(int expectedSize, float loadFactor, @NotNull VecHasher hasher, int missingValue) {
+        super(expectedSize, loadFactor, hasher);
+        this.missingValue = missingValue;
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // Access
+    ///////////////////////////////////////////////////////////////////////////
+
+    public int get(int x, int y) {
+        final int slot = find(x, y);
+        return (slot >= 0) ? values[slot] : missingValue;
+    }
+
+    public int get(@NotNull Vec2i key) {
+        return get(key.x, key.y);
+    }
+
+    public int getOrDefault(int x, int y, int defaultValue) {
+        final int slot = find(x, y);
+        return (slot >= 0) ? values[slot] : defaultValue;
+    }
+
+    public int put(int x, int y, int value) {
+        final int before = size;
+        final int slot = insert(x, y);
+        final int previous = (size != before) ? missingValue : values[slot];
+        values[slot] = value;
+        return previous;
+    }
+
+    public int put(@NotNull Vec2i key, int value) {
+        return put(key.x, key.y, value);
+    }
+
+    /** Adds {@code increment} to the value of the key, starting from the missing value if absent. */
+    public int addTo(int x, int y, int increment) {
+        final int before = size;
+        final int slot = insert(x, y);
+        if (size != before) values[slot] = missingValue;
+        return values[slot] += increment;
+    }
+
+    public int remove(int x, int y) {
+        final int slot = find(x, y);
+        if (slot < 0) return missingValue;
+        final int previous = values[slot];
+        removeSlot(slot);
+        return previous;
+    }
+
+    public int remove(@NotNull Vec2i key) {
+        return remove(key.x, key.y);
+    }
+
+    public void forEach(@NotNull Vec2iIntConsumer action) {
+        for (int slot = 0; slot < used.length; slot++) {
+            if (used[slot]) action.accept(keyX(keys[slot]), keyY(keys[slot]), values[slot]);
+        }
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // Value hooks
+    ///////////////////////////////////////////////////////////////////////////
+
+    @Override
+    protected void allocateValues(int capacity) {
+        values = new int[capacity];
+    }
+
+    @Override
+    protected void relocateValues(int @NotNull [] newSlots, int capacity) {
+        final int[] relocated = new int[capacity];
+        for (int old = 0; old < newSlots.length; old++) {
+            if (newSlots[old] >= 0) relocated[newSlots[old]] = values[old];
+        }
+        values = relocated;
+    }
+
+    @Override
+    protected void moveValue(int from, int to) {
+        values[to] = values[from];
+    }
+
+    @Override
+    protected void clearValue(int slot) {
+        values[slot] = 0;
+    }
+}
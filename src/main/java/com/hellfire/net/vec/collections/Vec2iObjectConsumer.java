@@ -0,0 +1,7 @@
+package com.hellfire.net.vec.collections;
+
+@FunctionalInterface
+public interface Vec2iObjectConsumer<V> {
+
+    void accept(int x, int y, V value);
+}
@@ -0,0 +1,116 @@
+package com.hellfire.net.vec.collections;
+
+import com.hellfire.net.vec.hash.VecHasher;
+import com.hellfire.net.vec.ints.Vec2i;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/** Open addressing map from {@link Vec2i} keys to object values. Keys are never boxed into {@link Vec2i} objects. */
+public class Vec2iObjectMap<V> extends Vec2iTable {
+
+    private Object[] values;
+
+    public Vec2iObjectMap() {
+        this(0);
+    }
+
+    public Vec2iObjectMap(int expectedSize) {
+        this(expectedSize, DEFAULT_LOAD_FACTOR, VecHasher.GRID);
+    }
+
+    public Vec2iObjectMap(int expectedSize, float loadFactor, @NotNull VecHasher hasher) {
+        super(expectedSize, loadFactor, hasher);
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // Access
+    ///////////////////////////////////////////////////////////////////////////
+
+    @SuppressWarnings("unchecked")
+    public @Nullable V get(int x, int y) {
+        final int slot = find(x, y);
+        return (slot >= 0) ? (V) values[slot] : null;
+    }
+
+    public @Nullable V get(@NotNull Vec2i key) {
+        return get(key.x, key.y);
+    }
+
+    @SuppressWarnings("unchecked")
+    public @Nullable V getOrDefault(int x, int y, @Nullable V defaultValue) {
+        final int slot = find(x, y);
+        return (slot >= 0) ? (V) values[slot] : defaultValue;
+    }
+
+    @SuppressWarnings("unchecked")
+    public @Nullable V put(int x, int y, @Nullable V value) {
+        final int before = size;
+        final int slot = insert(x, y);
+        final V previous = (size != before) ? null : (V) values[slot];
+        values[slot] = value;
+        return previous;
+    }
+
+    public @Nullable V put(@NotNull Vec2i key, @Nullable V value) {
+        return put(key.x, key.y, value);
+    }
+
+    @SuppressWarnings("unchecked")
+    public @Nullable V putIfAbsent(int x, int y, @Nullable V value) {
+        final int before = size;
+        final int slot = insert(x, y);
+        if (size != before) {
+            values[slot] = value;
+            return null;
+        }
+        return (V) values[slot];
+    }
+
+    @SuppressWarnings("unchecked")
+    public @Nullable V remove(int x, int y) {
+        final int slot = find(x, y);
+        if (slot < 0) return null;
+        final V previous = (V) values[slot];
+        removeSlot(slot);
+        return previous;
+    }
+
+    public @Nullable V remove(@NotNull Vec2i key) {
+        return remove(key.x, key.y);
+    }
+
+    @SuppressWarnings("unchecked")
+    public void forEach(@NotNull Vec2iObjectConsumer<? super V> action) {
+        for (int slot = 0; slot < used.length; slot++) {
+            if (used[slot]) action.accept(keyX(keys[slot]), keyY(keys[slot]), (V) values[slot]);
+        }
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // Value hooks
+    ///////////////////////////////////////////////////////////////////////////
+
+    @Override
+    protected void allocateValues(int capacity) {
+        values = new Object[capacity];
+    }
+
+    @Override
+    protected void relocateValues(int @NotNull [] newSlots, int capacity) {
+        final Object[] relocated = new Object[capacity];
+        for (int old = 0; old < newSlots.length; old++) {
+            if (newSlots[old] >= 0) relocated[newSlots[old]] = values[old];
+        }
+        values = relocated;
+    }
+
+    @Override
+    protected void moveValue(int from, int to) {
+        values[to] = values[from];
+    }
+
+    @Override
+    protected void clearValue(int slot) {
+        values[slot] = null;
+    }
+}
@@ -0,0 +1,80 @@
+package com.hellfire.net.vec.collections;
+
+import com.hellfire.net.vec.hash.VecHasher;
+import com.hellfire.net.vec.ints.Vec2i;
+import org.jetbrains.annotations.NotNull;
+
+/** Open addressing set of {@link Vec2i} keys. Keys are never boxed into {@link Vec2i} objects. */
+public class Vec2iSet extends Vec2iTable {
+
+    public Vec2iSet() {
+        this(0);
+    }
+
+    public Vec2iSet(int expectedSize) {
+        this(expectedSize, DEFAULT_LOAD_FACTOR, VecHasher.GRID);
+    }
+
+    public Vec2iSet(int expectedSize, float loadFactor, @NotNull VecHasher hasher) {
+        super(expectedSize, loadFactor, hasher);
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // Access
+    ///////////////////////////////////////////////////////////////////////////
+
+    public boolean contains(int x, int y) {
+        return containsKey(x, y);
+    }
+
+    public boolean contains(@NotNull Vec2i key) {
+        return containsKey(key.x, key.y);
+    }
+
+    public boolean add(int x, int y) {
+        final int before = size;
+        insert(x, y);
+        return size != before;
+    }
+
+    public boolean add(@NotNull Vec2i key) {
+        return add(key.x, key.y);
+    }
+
+    public boolean remove(int x, int y) {
+        final int slot = find(x, y);
+        if (slot < 0) return false;
+        removeSlot(slot);
+        return true;
+    }
+
+    public boolean remove(@NotNull Vec2i key) {
+        return remove(key.x, key.y);
+    }
+
+    public void forEach(@NotNull Vec2iConsumer action) {
+        for (int slot = 0; slot < used.length; slot++) {
+            if (used[slot]) action.accept(keyX(keys[slot]), keyY(keys[slot]));
+        }
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // Value hooks
+    ///////////////////////////////////////////////////////////////////////////
+
+    @Override
+    protected void allocateValues(int capacity) {
+    }
+
+    @Override
+    protected void relocateValues(int @NotNull [] newSlots, int capacity) {
+    }
+
+    @Override
+    protected void moveValue(int from, int to) {
+    }
+
+    @Override
+    protected void clearValue(int slot) {
+    }
+}
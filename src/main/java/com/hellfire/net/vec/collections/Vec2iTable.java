@@ -0,0 +1,170 @@
+package com.hellfire.net.vec.collections;
+
+import com.hellfire.net.vec.hash.VecHasher;
+import com.hellfire.net.vec.ints.Vec2i;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * Linear probing table over {@link Vec2i} keys packed losslessly into a {@code long}.
+ * Removal uses backward shifting, so there are no tombstones. Subclasses keep their values in parallel arrays.
+ */
+abstract class Vec2iTable {
+
+    protected static final float DEFAULT_LOAD_FACTOR = Vec3iTable.DEFAULT_LOAD_FACTOR;
+
+    protected final VecHasher hasher;
+    protected final float loadFactor;
+
+    protected long[] keys;
+    protected boolean[] used;
+    protected int mask, size, resizeAt;
+
+    protected Vec2iTable(int expectedSize, float loadFactor, @NotNull VecHasher hasher) {
+        if (expectedSize < 0) throw new IllegalArgumentException("Invalid expected size");
+        if (!(loadFactor > 0 && loadFactor < 1)) throw new IllegalArgumentException("Invalid load factor");
+        this.hasher = hasher;
+        this.loadFactor = loadFactor;
+        allocate(Vec3iTable.tableSize(expectedSize, loadFactor));
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public boolean containsKey(int x, int y) {
+        return find(x, y) >= 0;
+    }
+
+    public boolean containsKey(@NotNull Vec2i key) {
+        return containsKey(key.x, key.y);
+    }
+
+    /** Visits all keys as {@link Vec2i} objects. Prefer the primitive {@code forEach} variants on hot paths. */
+    public void forEachKey(@NotNull Consumer<? super Vec2i> action) {
+        for (int slot = 0; slot < used.length; slot++) {
+            if (used[slot]) action.accept(new Vec2i(keyX(keys[slot]), keyY(keys[slot])));
+        }
+    }
+
+    public void clear() {
+        for (int slot = 0; slot < used.length; slot++) {
+            if (used[slot]) clearValue(slot);
+            used[slot] = false;
+        }
+        size = 0;
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // Value hooks
+    ///////////////////////////////////////////////////////////////////////////
+
+    protected abstract void allocateValues(int capacity);
+
+    /** {@code newSlots[old]} is the new slot of the entry at {@code old}, or {@code -1} if that slot was empty. */
+    protected abstract void relocateValues(int @NotNull [] newSlots, int capacity);
+
+    protected abstract void moveValue(int from, int to);
+
+    protected abstract void clearValue(int slot);
+
+    ///////////////////////////////////////////////////////////////////////////
+    // Probing
+    ///////////////////////////////////////////////////////////////////////////
+
+    protected static long key(int x, int y) {
+        return ((long) x << 32) | (y & 0xFFFFFFFFL);
+    }
+
+    protected static int keyX(long key) {
+        return (int) (key >> 32);
+    }
+
+    protected static int keyY(long key) {
+        return (int) key;
+    }
+
+    protected int find(int x, int y) {
+        final long key = key(x, y);
+        int slot = home(x, y);
+        while (used[slot]) {
+            if (keys[slot] == key) return slot;
+            slot = (slot + 1) & mask;
+        }
+        return -(slot + 1);
+    }
+
+    /** Returns the slot of the key, inserting it if absent. Check {@link #size} to tell both cases apart. */
+    protected int insert(int x, int y) {
+        int slot = find(x, y);
+        if (slot >= 0) return slot;
+
+        if (size >= resizeAt) {
+            resize(used.length << 1);
+            slot = find(x, y);
+        }
+        slot = -slot - 1;
+        used[slot] = true;
+        keys[slot] = key(x, y);
+        size++;
+        return slot;
+    }
+
+    protected void removeSlot(int slot) {
+        int free = slot;
+        int next = (free + 1) & mask;
+        while (used[next]) {
+            final int home = home(keyX(keys[next]), keyY(keys[next]));
+            // Move the entry back if the freed slot lies between its home and its current slot
+            if (((next - home) & mask) >= ((next - free) & mask)) {
+                keys[free] = keys[next];
+                moveValue(next, free);
+                free = next;
+            }
+            next = (next + 1) & mask;
+        }
+        used[free] = false;
+        clearValue(free);
+        size--;
+    }
+
+    private int home(int x, int y) {
+        return (int) hasher.hash(x, y) & mask;
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        used = new boolean[capacity];
+        mask = capacity - 1;
+        resizeAt = Math.min(capacity - 1, (int) (capacity * loadFactor));
+        allocateValues(capacity);
+    }
+
+    private void resize(int capacity) {
+        final long[] oldKeys = keys;
+        final boolean[] oldUsed = used;
+        final int[] newSlots = new int[oldUsed.length];
+        Arrays.fill(newSlots, -1);
+
+        keys = new long[capacity];
+        used = new boolean[capacity];
+        mask = capacity - 1;
+        resizeAt = Math.min(capacity - 1, (int) (capacity * loadFactor));
+
+        for (int old = 0; old < oldUsed.length; old++) {
+            if (!oldUsed[old]) continue;
+            int slot = home(keyX(oldKeys[old]), keyY(oldKeys[old]));
+            while (used[slot]) slot = (slot + 1) & mask;
+            used[slot] = true;
+            keys[slot] = oldKeys[old];
+            newSlots[old] = slot;
+        }
+        relocateValues(newSlots, capacity);
+    }
+}
@@ -0,0 +1,110 @@
+package com.hellfire.net.vec.collections;
+
+import com.hellfire.net.vec.hash.VecHasher;
+import com.hellfire.net.vec.ints.Vec3i;
+import org.jetbrains.annotations.NotNull;
+
+/** Open addressing map from {@link Vec3i} keys to {@code long} values. Keys are never boxed into {@link Vec3i} objects. */
+public class Vec3iLongMap extends Vec3iTable {
+
+    private long[] values;
+    private final long missingValue;
+
+    public Vec3iLongMap() {
+        this(0);
+    }
+
+    public Vec3iLongMap(int expectedSize) {
+        this(expectedSize, DEFAULT_LOAD_FACTOR, VecHasher.GRID, 0);
+    }
+
+    /** @param missingValue returned by lookups and removals of absent keys */
+    public Vec3iLongMap(int expectedSize, float loadFactor, @NotNull VecHasher hasher, long missingValue) {
+        super(expectedSize, loadFactor, hasher);
+        this.missingValue = missingValue;
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // Access
+    ///////////////////////////////////////////////////////////////////////////
+
+    public long get(int x, int y, int z) {
+        final int slot = find(x, y, z);
+        return (slot >= 0) ? values[slot] : missingValue;
+    }
+
+    public long get(@NotNull Vec3i key) {
+        return get(key.x, key.y, key.z);
+    }
+
+    public long getOrDefault(int x, int y, int z, long defaultValue) {
+        final int slot = find(x, y, z);
+        return (slot >= 0) ? values[slot] : defaultValue;
+    }
+
+    public long put(int x, int y, int z, long value) {
+        final int before = size;
+        final int slot = insert(x, y, z);
+        final long previous = (size != before) ? missingValue : values[slot];
+        values[slot] = value;
+        return previous;
+    }
+
+    public long put(@NotNull Vec3i key, long value) {
+        return put(key.x, key.y, key.z, value);
+    }
+
+    /** Adds {@code increment} to the value of the key, starting from the missing value if absent. */
+    public long addTo(int x, int y, int z, long increment) {
+        final int before = size;
+        final int slot = insert(x, y, z);
+        if (size != before) values[slot] = missingValue;
+        return values[slot] += increment;
+    }
+
+    public long remove(int x, int y, int z) {
+        final int slot = find(x, y, z);
+        if (slot < 0) return missingValue;
+        final long previous = values[slot];
+        removeSlot(slot);
+        return previous;
+    }
+
+    public long remove(@NotNull Vec3i key) {
+        return remove(key.x, key.y, key.z);
+    }
+
+    public void forEach(@NotNull Vec3iLongConsumer action) {
+        for (int slot = 0; slot < used.length; slot++) {
+            if (used[slot]) action.accept(keys[slot * 3], keys[slot * 3 + 1], keys[slot * 3 + 2], values[slot]);
+        }
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // Value hooks
+    ///////////////////////////////////////////////////////////////////////////
+
+    @Override
+    protected void allocateValues(int capacity) {
+        values = new long[capacity];
+    }
+
+    @Override
+    protected void relocateValues(int @NotNull [] newSlots, int capacity) {
+        final long[] relocated = new long[capacity];
+        for (int old = 0; old < newSlots.length; old++) {
+            if (newSlots[old] >= 0) relocated[newSlots[old]] = values[old];
+        }
+        values = relocated;
+    }
+
+    @Override
+    protected void moveValue(int from, int to) {
+        values[to] = values[from];
+    }
+
+    @Override
+    protected void clearValue(int slot) {
+        values[slot] = 0;
+    }
+}
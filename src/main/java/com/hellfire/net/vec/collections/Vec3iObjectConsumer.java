@@ -0,0 +1,7 @@
+package com.hellfire.net.vec.collections;
+
+@FunctionalInterface
+public interface Vec3iObjectConsumer<V> {
+
+    void accept(int x, int y, int z, V value);
+}
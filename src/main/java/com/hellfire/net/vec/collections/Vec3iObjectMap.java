@@ -0,0 +1,116 @@
+package com.hellfire.net.vec.collections;
+
+import com.hellfire.net.vec.hash.VecHasher;
+import com.hellfire.net.vec.ints.Vec3i;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/** Open addressing map from {@link Vec3i} keys to object values. Keys are never boxed into {@link Vec3i} objects. */
+public class Vec3iObjectMap<V> extends Vec3iTable {
+
+    private Object[] values;
+
+    public Vec3iObjectMap() {
+        this(0);
+    }
+
+    public Vec3iObjectMap(int expectedSize) {
+        this(expectedSize, DEFAULT_LOAD_FACTOR, VecHasher.GRID);
+    }
+
+    public Vec3iObjectMap(int expectedSize, float loadFactor, @NotNull VecHasher hasher) {
+        super(expectedSize, loadFactor, hasher);
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // Access
+    ///////////////////////////////////////////////////////////////////////////
+
+    @SuppressWarnings("unchecked")
+    public @Nullable V get(int x, int y, int z) {
+        final int slot = find(x, y, z);
+        return (slot >= 0) ? (V) values[slot] : null;
+    }
+
+    public @Nullable V get(@NotNull Vec3i key) {
+        return get(key.x, key.y, key.z);
+    }
+
+    @SuppressWarnings("unchecked")
+    public @Nullable V getOrDefault(int x, int y, int z, @Nullable V defaultValue) {
+        final int slot = find(x, y, z);
+        return (slot >= 0) ? (V) values[slot] : defaultValue;
+    }
+
+    @SuppressWarnings("unchecked")
+    public @Nullable V put(int x, int y, int z, @Nullable V value) {
+        final int before = size;
+        final int slot = insert(x, y, z);
+        final V previous = (size != before) ? null : (V) values[slot];
+        values[slot] = value;
+        return previous;
+    }
+
+    public @Nullable V put(@NotNull Vec3i key, @Nullable V value) {
+        return put(key.x, key.y, key.z, value);
+    }
+
+    @SuppressWarnings("unchecked")
+    public @Nullable V putIfAbsent(int x, int y, int z, @Nullable V value) {
+        final int before = size;
+        final int slot = insert(x, y, z);
+        if (size != before) {
+            values[slot] = value;
+            return null;
+        }
+        return (V) values[slot];
+    }
+
+    @SuppressWarnings("unchecked")
+    public @Nullable V remove(int x, int y, int z) {
+        final int slot = find(x, y, z);
+        if (slot < 0) return null;
+        final V previous = (V) values[slot];
+        removeSlot(slot);
+        return previous;
+    }
+
+    public @Nullable V remove(@NotNull Vec3i key) {
+        return remove(key.x, key.y, key.z);
+    }
+
+    @SuppressWarnings("unchecked")
+    public void forEach(@NotNull Vec3iObjectConsumer<? super V> action) {
+        for (int slot = 0; slot < used.length; slot++) {
+            if (used[slot]) action.accept(keys[slot * 3], keys[slot * 3 + 1], keys[slot * 3 + 2], (V) values[slot]);
+        }
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // Value hooks
+    ///////////////////////////////////////////////////////////////////////////
+
+    @Override
+    protected void allocateValues(int capacity) {
+        values = new Object[capacity];
+    }
+
+    @Override
+    protected void relocateValues(int @NotNull [] newSlots, int capacity) {
+        final Object[] relocated = new Object[capacity];
+        for (int old = 0; old < newSlots.length; old++) {
+            if (newSlots[old] >= 0) relocated[newSlots[old]] = values[old];
+        }
+        values = relocated;
+    }
+
+    @Override
+    protected void moveValue(int from, int to) {
+        values[to] = values[from];
+    }
+
+    @Override
+    protected void clearValue(int slot) {
+        values[slot] = null;
+    }
+}
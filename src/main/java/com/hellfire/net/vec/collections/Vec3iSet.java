@@ -0,0 +1,80 @@
+package com.hellfire.net.vec.collections;
+
+import com.hellfire.net.vec.hash.VecHasher;
+import com.hellfire.net.vec.ints.Vec3i;
+import org.jetbrains.annotations.NotNull;
+
+/** Open addressing set of {@link Vec3i} keys. Keys are never boxed into {@link Vec3i} objects. */
+public class Vec3iSet extends Vec3iTable {
+
+    public Vec3iSet() {
+        this(0);
+    }
+
+    public Vec3iSet(int expectedSize) {
+        this(expectedSize, DEFAULT_LOAD_FACTOR, VecHasher.GRID);
+    }
+
+    public Vec3iSet(int expectedSize, float loadFactor, @NotNull VecHasher hasher) {
+        super(expectedSize, loadFactor, hasher);
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // Access
+    ///////////////////////////////////////////////////////////////////////////
+
+    public boolean contains(int x, int y, int z) {
+        return containsKey(x, y, z);
+    }
+
+    public boolean contains(@NotNull Vec3i key) {
+        return containsKey(key.x, key.y, key.z);
+    }
+
+    public boolean add(int x, int y, int z) {
+        final int before = size;
+        insert(x, y, z);
+        return size != before;
+    }
+
+    public boolean add(@NotNull Vec3i key) {
+        return add(key.x, key.y, key.z);
+    }
+
+    public boolean remove(int x, int y, int z) {
+        final int slot = find(x, y, z);
+        if (slot < 0) return false;
+        removeSlot(slot);
+        return true;
+    }
+
+    public boolean remove(@NotNull Vec3i key) {
+        return remove(key.x, key.y, key.z);
+    }
+
+    public void forEach(@NotNull Vec3iConsumer action) {
+        for (int slot = 0; slot < used.length; slot++) {
+            if (used[slot]) action.accept(keys[slot * 3], keys[slot * 3 + 1], keys[slot * 3 + 2]);
+        }
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // Value hooks
+    ///////////////////////////////////////////////////////////////////////////
+
+    @Override
+    protected void allocateValues(int capacity) {
+    }
+
+    @Override
+    protected void relocateValues(int @NotNull [] newSlots, int capacity) {
+    }
+
+    @Override
+    protected void moveValue(int from, int to) {
+    }
+
+    @Override
+    protected void clearValue(int slot) {
+    }
+}
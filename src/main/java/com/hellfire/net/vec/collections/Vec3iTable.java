@@ -0,0 +1,171 @@
+package com.hellfire.net.vec.collections;
+
+import com.hellfire.net.vec.hash.VecHasher;
+import com.hellfire.net.vec.ints.Vec3i;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * Linear probing table over {@link Vec3i} keys stored as packed {@code int} triples.
+ * Removal uses backward shifting, so there are no tombstones. Subclasses keep their values in parallel arrays.
+ */
+abstract class Vec3iTable {
+
+    protected static final int DEFAULT_CAPACITY = 16;
+    protected static final float DEFAULT_LOAD_FACTOR = 0.75f;
+
+    protected final VecHasher hasher;
+    protected final float loadFactor;
+
+    protected int[] keys;
+    protected boolean[] used;
+    protected int mask, size, resizeAt;
+
+    protected Vec3iTable(int expectedSize, float loadFactor, @NotNull VecHasher hasher) {
+        if (expectedSize < 0) throw new IllegalArgumentException("Invalid expected size");
+        if (!(loadFactor > 0 && loadFactor < 1)) throw new IllegalArgumentException("Invalid load factor");
+        this.hasher = hasher;
+        this.loadFactor = loadFactor;
+        allocate(tableSize(expectedSize, loadFactor));
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public boolean containsKey(int x, int y, int z) {
+        return find(x, y, z) >= 0;
+    }
+
+    public boolean containsKey(@NotNull Vec3i key) {
+        return containsKey(key.x, key.y, key.z);
+    }
+
+    /** Visits all keys as {@link Vec3i} objects. Prefer the primitive {@code forEach} variants on hot paths. */
+    public void forEachKey(@NotNull Consumer<? super Vec3i> action) {
+        for (int slot = 0; slot < used.length; slot++) {
+            if (used[slot]) action.accept(new Vec3i(keys[slot * 3], keys[slot * 3 + 1], keys[slot * 3 + 2]));
+        }
+    }
+
+    public void clear() {
+        for (int slot = 0; slot < used.length; slot++) {
+            if (used[slot]) clearValue(slot);
+            used[slot] = false;
+        }
+        size = 0;
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // Value hooks
+    ///////////////////////////////////////////////////////////////////////////
+
+    protected abstract void allocateValues(int capacity);
+
+    /** {@code newSlots[old]} is the new slot of the entry at {@code old}, or {@code -1} if that slot was empty. */
+    protected abstract void relocateValues(int @NotNull [] newSlots, int capacity);
+
+    protected abstract void moveValue(int from, int to);
+
+    protected abstract void clearValue(int slot);
+
+    ///////////////////////////////////////////////////////////////////////////
+    // Probing
+    ///////////////////////////////////////////////////////////////////////////
+
+    protected int find(int x, int y, int z) {
+        int slot = home(x, y, z);
+        while (used[slot]) {
+            final int k = slot * 3;
+            if (keys[k] == x && keys[k + 1] == y && keys[k + 2] == z) return slot;
+            slot = (slot + 1) & mask;
+        }
+        return -(slot + 1);
+    }
+
+    /** Returns the slot of the key, inserting it if absent. Check {@link #size} to tell both cases apart. */
+    protected int insert(int x, int y, int z) {
+        int slot = find(x, y, z);
+        if (slot >= 0) return slot;
+
+        if (size >= resizeAt) {
+            resize(used.length << 1);
+            slot = find(x, y, z);
+        }
+        slot = -slot - 1;
+        used[slot] = true;
+        keys[slot * 3] = x;
+        keys[slot * 3 + 1] = y;
+        keys[slot * 3 + 2] = z;
+        size++;
+        return slot;
+    }
+
+    protected void removeSlot(int slot) {
+        int free = slot;
+        int next = (free + 1) & mask;
+        while (used[next]) {
+            final int k = next * 3;
+            final int home = home(keys[k], keys[k + 1], keys[k + 2]);
+            // Move the entry back if the freed slot lies between its home and its current slot
+            if (((next - home) & mask) >= ((next - free) & mask)) {
+                System.arraycopy(keys, k, keys, free * 3, 3);
+                moveValue(next, free);
+                free = next;
+            }
+            next = (next + 1) & mask;
+        }
+        used[free] = false;
+        clearValue(free);
+        size--;
+    }
+
+    private int home(int x, int y, int z) {
+        return (int) hasher.hash(x, y, z) & mask;
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity * 3];
+        used = new boolean[capacity];
+        mask = capacity - 1;
+        resizeAt = Math.min(capacity - 1, (int) (capacity * loadFactor));
+        allocateValues(capacity);
+    }
+
+    private void resize(int capacity) {
+        final int[] oldKeys = keys;
+        final boolean[] oldUsed = used;
+        final int[] newSlots = new int[oldUsed.length];
+        Arrays.fill(newSlots, -1);
+
+        keys = new int[capacity * 3];
+        used = new boolean[capacity];
+        mask = capacity - 1;
+        resizeAt = Math.min(capacity - 1, (int) (capacity * loadFactor));
+
+        for (int old = 0; old < oldUsed.length; old++) {
+            if (!oldUsed[old]) continue;
+            final int x = oldKeys[old * 3], y = oldKeys[old * 3 + 1], z = oldKeys[old * 3 + 2];
+            int slot = home(x, y, z);
+            while (used[slot]) slot = (slot + 1) & mask;
+            used[slot] = true;
+            keys[slot * 3] = x;
+            keys[slot * 3 + 1] = y;
+            keys[slot * 3 + 2] = z;
+            newSlots[old] = slot;
+        }
+        relocateValues(newSlots, capacity);
+    }
+
+    static int tableSize(int expectedSize, float loadFactor) {
+        final long needed = Math.max(DEFAULT_CAPACITY, (long) Math.ceil(expectedSize / (double) loadFactor) + 1);
+        if (needed > (1 << 30)) throw new IllegalArgumentException("Table too large");
+        return Integer.highestOneBit((int) needed - 1) << 1;
+    }
+}
@@ -0,0 +1,242 @@
+package com.hellfire.net.vec.curve;
+
+import com.hellfire.net.vec.ints.Vec2i;
+import com.hellfire.net.vec.ints.Vec2iBuffer;
+import com.hellfire.net.vec.ints.Vec3i;
+import com.hellfire.net.vec.ints.Vec3iBuffer;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Objects;
+
+/**
+ * Hilbert curve indices for 2D and 3D integer vectors. Unlike Z-order, consecutive indices are always neighbouring cells.
+ * <p>
+ * The order is the number of bits per axis: coordinates must lie in {@code [0, 2^order)}, up to order 31 in 2D
+ * and 21 in 3D. Offset world coordinates into that range first. The 3D variant follows Skilling's transpose algorithm.
+ */
+public final class Hilbert {
+
+    public static final int MAX_ORDER_2 = 31, MAX_ORDER_3 = 21;
+
+    private Hilbert() {
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // 2D
+    ///////////////////////////////////////////////////////////////////////////
+
+    public static long encode(int x, int y, int order) {
+        checkOrder(order, MAX_ORDER_2);
+        checkCoord(x, order);
+        checkCoord(y, order);
+
+        final int mask = (1 << order) - 1;
+        long index = 0;
+        for (int s = 1 << (order - 1); s > 0; s >>>= 1) {
+            final int rx = (x & s) != 0 ? 1 : 0, ry = (y & s) != 0 ? 1 : 0;
+            index += (long) s * s * ((3 * rx) ^ ry);
+            if (ry == 0) {
+                if (rx == 1) {
+                    x = mask - x;
+                    y = mask - y;
+                }
+                final int t = x;
+                x = y;
+                y = t;
+            }
+        }
+        return index;
+    }
+
+    public static long encode(@NotNull Vec2i vec, int order) {
+        return encode(vec.x, vec.y, order);
+    }
+
+    @NotNull
+    public static Vec2i decode2(long index, int order) {
+        checkOrder(order, MAX_ORDER_2);
+        int x = 0, y = 0;
+        for (int level = 0; level < order; level++) {
+            final int s = 1 << level;
+            final int rx = (int) (1 & (index >>> 1)), ry = (int) (1 & (index ^ rx));
+            if (ry == 0) {
+                if (rx == 1) {
+                    x = s - 1 - x;
+                    y = s - 1 - y;
+                }
+                final int t = x;
+                x = y;
+                y = t;
+            }
+            x += s * rx;
+            y += s * ry;
+            index >>>= 2;
+        }
+        return new Vec2i(x, y);
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // 3D
+    ///////////////////////////////////////////////////////////////////////////
+
+    public static long encode(int x, int y, int z, int order) {
+        checkOrder(order, MAX_ORDER_3);
+        checkCoord(x, order);
+        checkCoord(y, order);
+        checkCoord(z, order);
+
+        // Axes to transpose, unrolled for three axes
+        for (int q = 1 << (order - 1); q > 1; q >>>= 1) {
+            final int p = q - 1;
+            if ((x & q) != 0) x ^= p;
+            if ((y & q) != 0) x ^= p;
+            else {
+                final int t = (x ^ y) & p;
+                x ^= t;
+                y ^= t;
+            }
+            if ((z & q) != 0) x ^= p;
+            else {
+                final int t = (x ^ z) & p;
+                x ^= t;
+                z ^= t;
+            }
+        }
+
+        // Gray encode
+        y ^= x;
+        z ^= y;
+        int t = 0;
+        for (int q = 1 << (order - 1); q > 1; q >>>= 1) if ((z & q) != 0) t ^= q - 1;
+        x ^= t;
+        y ^= t;
+        z ^= t;
+
+        return Morton.spread3(z) | (Morton.spread3(y) << 1) | (Morton.spread3(x) << 2);
+    }
+
+    public static long encode(@NotNull Vec3i vec, int order) {
+        return encode(vec.x, vec.y, vec.z, order);
+    }
+
+    @NotNull
+    public static Vec3i decode3(long index, int order) {
+        checkOrder(order, MAX_ORDER_3);
+        int x = Morton.compact3(index >>> 2), y = Morton.compact3(index >>> 1), z = Morton.compact3(index);
+
+        // Gray decode
+        int t = z >>> 1;
+        z ^= y;
+        y ^= x;
+        x ^= t;
+
+        // Undo excess work
+        for (int q = 2; q != (2 << (order - 1)); q <<= 1) {
+            final int p = q - 1;
+            if ((z & q) != 0) x ^= p;
+            else {
+                t = (x ^ z) & p;
+                x ^= t;
+                z ^= t;
+            }
+            if ((y & q) != 0) x ^= p;
+            else {
+                t = (x ^ y) & p;
+                x ^= t;
+                y ^= t;
+            }
+            if ((x & q) != 0) x ^= p;
+        }
+        return new Vec3i(x, y, z);
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // Bulk and sorting
+    ///////////////////////////////////////////////////////////////////////////
+
+    public static void encode(@NotNull Vec2iBuffer src, int from, int to, int order, long @NotNull [] dst, int dstOffset) {
+        Objects.checkFromToIndex(from, to, src.size());
+        Objects.checkFromIndexSize(dstOffset, to - from, dst.length);
+        for (int i = from; i < to; i++) dst[dstOffset + i - from] = encode(src.x[i], src.y[i], order);
+    }
+
+    public static void encode(@NotNull Vec3iBuffer src, int from, int to, int order, long @NotNull [] dst, int dstOffset) {
+        Objects.checkFromToIndex(from, to, src.size());
+        Objects.checkFromIndexSize(dstOffset, to - from, dst.length);
+        for (int i = from; i < to; i++) dst[dstOffset + i - from] = encode(src.x[i], src.y[i], src.z[i], order);
+    }
+
+    /** Compares by Hilbert index. Encodes on every comparison, so prefer {@code sort} for large collections. */
+    @NotNull
+    public static Comparator<Vec2i> comparator2(int order) {
+        checkOrder(order, MAX_ORDER_2);
+        return (a, b) -> Long.compare(encode(a, order), encode(b, order));
+    }
+
+    /** Compares by Hilbert index. Encodes on every comparison, so prefer {@code sort} for large collections. */
+    @NotNull
+    public static Comparator<Vec3i> comparator3(int order) {
+        checkOrder(order, MAX_ORDER_3);
+        return (a, b) -> Long.compare(encode(a, order), encode(b, order));
+    }
+
+    /** Stable sort into Hilbert order. Every vector is encoded once, then ordered with a radix sort. */
+    public static void sort(@NotNull Vec2i @NotNull [] vecs, int order) {
+        final long[] keys = new long[vecs.length];
+        for (int i = 0; i < vecs.length; i++) keys[i] = encode(vecs[i], order);
+        final int[] perm = sortedPermutation(keys, 2 * order);
+
+        final Vec2i[] copy = vecs.clone();
+        for (int i = 0; i < vecs.length; i++) vecs[i] = copy[perm[i]];
+    }
+
+    /** Stable sort into Hilbert order. Every vector is encoded once, then ordered with a radix sort. */
+    public static void sort(@NotNull Vec3i @NotNull [] vecs, int order) {
+        final long[] keys = new long[vecs.length];
+        for (int i = 0; i < vecs.length; i++) keys[i] = encode(vecs[i], order);
+        final int[] perm = sortedPermutation(keys, 3 * order);
+
+        final Vec3i[] copy = vecs.clone();
+        for (int i = 0; i < vecs.length; i++) vecs[i] = copy[perm[i]];
+    }
+
+    /** Stable in-place sort of the buffer into Hilbert order. */
+    public static void sort(@NotNull Vec3iBuffer buf, int order) {
+        final long[] keys = new long[buf.size()];
+        encode(buf, 0, buf.size(), order, keys, 0);
+        final int[] perm = sortedPermutation(keys, 3 * order);
+
+        final Vec3iBuffer copy = buf.copy();
+        for (int i = 0; i < perm.length; i++) buf.set(i, copy.x[perm[i]], copy.y[perm[i]], copy.z[perm[i]]);
+    }
+
+    // LSD radix sort over the significant key bits, returning the source index of every sorted position
+    static int @NotNull [] sortedPermutation(long @NotNull [] keys, int bits) {
+        final int n = keys.length;
+        int[] perm = new int[n], tmp = new int[n];
+        for (int i = 0; i < n; i++) perm[i] = i;
+
+        final int[] counts = new int[257];
+        for (int shift = 0; shift < bits; shift += 8) {
+            Arrays.fill(counts, 0);
+            for (int i = 0; i < n; i++) counts[(int) ((keys[perm[i]] >>> shift) & 0xFF) + 1]++;
+            for (int i = 0; i < 256; i++) counts[i + 1] += counts[i];
+            for (int i = 0; i < n; i++) tmp[counts[(int) ((keys[perm[i]] >>> shift) & 0xFF)]++] = perm[i];
+
+            final int[] swap = perm;
+            perm = tmp;
+            tmp = swap;
+        }
+        return perm;
+    }
+
+    private static void checkOrder(int order, int max) {
+        if (order < 1 || order > max) throw new IllegalArgumentException("Invalid order");
+    }
+
+    private static void checkCoord(int val, int order) {
+        if ((val >>> order) != 0) throw new IllegalArgumentException("Coordinate out of range for order " + order);
+    }
+}
@@ -0,0 +1,262 @@
+package com.hellfire.net.vec.curve;
+
+import com.hellfire.net.vec.ints.Vec2i;
+import com.hellfire.net.vec.ints.Vec2iBuffer;
+import com.hellfire.net.vec.ints.Vec3i;
+import com.hellfire.net.vec.ints.Vec3iBuffer;
+import com.hellfire.net.vec.longs.Vec2l;
+import com.hellfire.net.vec.longs.Vec3l;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+
+/**
+ * Morton (Z-order) codes for 2D and 3D integer vectors, built with magic-number bit interleaving.
+ * <p>
+ * 2D codes interleave two full 32-bit coordinates into 64 bits, 3D codes interleave 21 bits per axis into 63 bits.
+ * Coordinates are offset so that negative values sort before positive ones: 2D codes are ordered as <i>unsigned</i> longs,
+ * 3D codes cover {@code [-2^20, 2^20)} per axis and are always non-negative. Int coordinates outside that range wrap.
+ * The long overloads require every component to fit in an int and throw otherwise, rather than wrap twice.
+ */
+public final class Morton {
+
+    public static final long X_MASK_2 = 0x5555555555555555L, Y_MASK_2 = X_MASK_2 << 1;
+    public static final long X_MASK_3 = 0x1249249249249249L, Y_MASK_3 = X_MASK_3 << 1, Z_MASK_3 = X_MASK_3 << 2;
+
+    private static final int BIAS_3 = 1 << 20;
+    private static final long BITS_21 = (1L << 21) - 1;
+
+    private Morton() {
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // 2D
+    ///////////////////////////////////////////////////////////////////////////
+
+    public static long encode(int x, int y) {
+        return spread2(x ^ Integer.MIN_VALUE) | (spread2(y ^ Integer.MIN_VALUE) << 1);
+    }
+
+    public static long encode(@NotNull Vec2i vec) {
+        return encode(vec.x, vec.y);
+    }
+
+    public static long encode(@NotNull Vec2l vec) {
+        return encode(toInt(vec.x), toInt(vec.y));
+    }
+
+    public static int decode2X(long code) {
+        return compact2(code) ^ Integer.MIN_VALUE;
+    }
+
+    public static int decode2Y(long code) {
+        return compact2(code >>> 1) ^ Integer.MIN_VALUE;
+    }
+
+    @NotNull
+    public static Vec2i decode2(long code) {
+        return new Vec2i(decode2X(code), decode2Y(code));
+    }
+
+    @NotNull
+    public static Vec2l decode2l(long code) {
+        return new Vec2l(decode2X(code), decode2Y(code));
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // 3D
+    ///////////////////////////////////////////////////////////////////////////
+
+    public static long encode(int x, int y, int z) {
+        return spread3(x + BIAS_3) | (spread3(y + BIAS_3) << 1) | (spread3(z + BIAS_3) << 2);
+    }
+
+    public static long encode(@NotNull Vec3i vec) {
+        return encode(vec.x, vec.y, vec.z);
+    }
+
+    public static long encode(@NotNull Vec3l vec) {
+        return encode(toInt(vec.x), toInt(vec.y), toInt(vec.z));
+    }
+
+    public static int decode3X(long code) {
+        return compact3(code) - BIAS_3;
+    }
+
+    public static int decode3Y(long code) {
+        return compact3(code >>> 1) - BIAS_3;
+    }
+
+    public static int decode3Z(long code) {
+        return compact3(code >>> 2) - BIAS_3;
+    }
+
+    @NotNull
+    public static Vec3i decode3(long code) {
+        return new Vec3i(decode3X(code), decode3Y(code), decode3Z(code));
+    }
+
+    @NotNull
+    public static Vec3l decode3l(long code) {
+        return new Vec3l(decode3X(code), decode3Y(code), decode3Z(code));
+    }
+
+    public static boolean fits3(int x, int y, int z) {
+        return fits3(x) && fits3(y) && fits3(z);
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // Bulk
+    ///////////////////////////////////////////////////////////////////////////
+
+    public static void encode(@NotNull Vec2iBuffer src, int from, int to, long @NotNull [] dst, int dstOffset) {
+        Objects.checkFromToIndex(from, to, src.size());
+        Objects.checkFromIndexSize(dstOffset, to - from, dst.length);
+        for (int i = from; i < to; i++) dst[dstOffset + i - from] = encode(src.x[i], src.y[i]);
+    }
+
+    public static void encode(@NotNull Vec3iBuffer src, int from, int to, long @NotNull [] dst, int dstOffset) {
+        Objects.checkFromToIndex(from, to, src.size());
+        Objects.checkFromIndexSize(dstOffset, to - from, dst.length);
+        for (int i = from; i < to; i++) dst[dstOffset + i - from] = encode(src.x[i], src.y[i], src.z[i]);
+    }
+
+    public static void decode(long @NotNull [] src, int srcOffset, @NotNull Vec2iBuffer dst, int from, int to) {
+        Objects.checkFromToIndex(from, to, dst.size());
+        Objects.checkFromIndexSize(srcOffset, to - from, src.length);
+        for (int i = from; i < to; i++) {
+            final long code = src[srcOffset + i - from];
+            dst.set(i, decode2X(code), decode2Y(code));
+        }
+    }
+
+    public static void decode(long @NotNull [] src, int srcOffset, @NotNull Vec3iBuffer dst, int from, int to) {
+        Objects.checkFromToIndex(from, to, dst.size());
+        Objects.checkFromIndexSize(srcOffset, to - from, src.length);
+        for (int i = from; i < to; i++) {
+            final long code = src[srcOffset + i - from];
+            dst.set(i, decode3X(code), decode3Y(code), decode3Z(code));
+        }
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // Arithmetic on codes
+    ///////////////////////////////////////////////////////////////////////////
+
+    /** Moves a 2D code by the given deltas without decoding it. */
+    public static long offset2(long code, int dx, int dy) {
+        return dilatedAdd(code, spread2(dx), X_MASK_2) | dilatedAdd(code, spread2(dy) << 1, Y_MASK_2);
+    }
+
+    /** Moves a 3D code by the given deltas without decoding it. */
+    public static long offset3(long code, int dx, int dy, int dz) {
+        return dilatedAdd(code, spread3(dx), X_MASK_3)
+                | dilatedAdd(code, spread3(dy) << 1, Y_MASK_3)
+                | dilatedAdd(code, spread3(dz) << 2, Z_MASK_3);
+    }
+
+    public static boolean inBox2(long code, long min, long max) {
+        return inRange(code, min, max, X_MASK_2) && inRange(code, min, max, Y_MASK_2);
+    }
+
+    public static boolean inBox3(long code, long min, long max) {
+        return inRange(code, min, max, X_MASK_3) && inRange(code, min, max, Y_MASK_3) && inRange(code, min, max, Z_MASK_3);
+    }
+
+    /**
+     * Smallest code {@code >= code} that lies in the 2D box spanned by the corner codes {@code min} and {@code max}
+     * (the BIGMIN of Tropf and Herzog). Lets a scan over Z-ordered data skip the stretches outside of the box.
+     * Requires {@code code <= max} as unsigned values.
+     */
+    public static long nextInBox2(long code, long min, long max) {
+        if (Long.compareUnsigned(code, max) > 0) throw new IllegalArgumentException("Code is beyond the box");
+        return inBox2(code, min, max) ? code : bigMin(code, min, max, 63, 2, X_MASK_2);
+    }
+
+    /** 3D variant of {@link #nextInBox2(long, long, long)}. Requires {@code code <= max}. */
+    public static long nextInBox3(long code, long min, long max) {
+        if (code > max) throw new IllegalArgumentException("Code is beyond the box");
+        return inBox3(code, min, max) ? code : bigMin(code, min, max, 62, 3, X_MASK_3);
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // Bit twiddling
+    ///////////////////////////////////////////////////////////////////////////
+
+    static long spread2(int val) {
+        long v = val & 0xFFFFFFFFL;
+        v = (v | (v << 16)) & 0x0000FFFF0000FFFFL;
+        v = (v | (v << 8)) & 0x00FF00FF00FF00FFL;
+        v = (v | (v << 4)) & 0x0F0F0F0F0F0F0F0FL;
+        v = (v | (v << 2)) & 0x3333333333333333L;
+        return (v | (v << 1)) & 0x5555555555555555L;
+    }
+
+    static int compact2(long code) {
+        long v = code & 0x5555555555555555L;
+        v = (v | (v >>> 1)) & 0x3333333333333333L;
+        v = (v | (v >>> 2)) & 0x0F0F0F0F0F0F0F0FL;
+        v = (v | (v >>> 4)) & 0x00FF00FF00FF00FFL;
+        v = (v | (v >>> 8)) & 0x0000FFFF0000FFFFL;
+        return (int) (v | (v >>> 16));
+    }
+
+    static long spread3(int val) {
+        long v = val & BITS_21;
+        v = (v | (v << 32)) & 0x001F00000000FFFFL;
+        v = (v | (v << 16)) & 0x001F0000FF0000FFL;
+        v = (v | (v << 8)) & 0x100F00F00F00F00FL;
+        v = (v | (v << 4)) & 0x10C30C30C30C30C3L;
+        return (v | (v << 2)) & 0x1249249249249249L;
+    }
+
+    static int compact3(long code) {
+        long v = code & 0x1249249249249249L;
+        v = (v | (v >>> 2)) & 0x10C30C30C30C30C3L;
+        v = (v | (v >>> 4)) & 0x100F00F00F00F00FL;
+        v = (v | (v >>> 8)) & 0x001F0000FF0000FFL;
+        v = (v | (v >>> 16)) & 0x001F00000000FFFFL;
+        return (int) ((v | (v >>> 32)) & BITS_21);
+    }
+
+    private static boolean fits3(int val) {
+        return val >= -BIAS_3 && val < BIAS_3;
+    }
+
+    private static int toInt(long val) {
+        if (val != (int) val) throw new IllegalArgumentException("Coordinate out of int range");
+        return (int) val;
+    }
+
+    // Adds the axis selected by mask, carrying through the bits of the other axes
+    private static long dilatedAdd(long code, long delta, long mask) {
+        return ((code | ~mask) + (delta & mask)) & mask;
+    }
+
+    private static boolean inRange(long code, long min, long max, long mask) {
+        final long v = code & mask;
+        return Long.compareUnsigned(v, min & mask) >= 0 && Long.compareUnsigned(v, max & mask) <= 0;
+    }
+
+    private static long bigMin(long code, long min, long max, int topBit, int dims, long xMask) {
+        long bigMin = max;
+        for (int bit = topBit; bit >= 0; bit--) {
+            final long bitMask = 1L << bit;
+            // All lower bits that belong to the same axis as the current bit
+            final long axisBelow = (xMask << (bit % dims)) & (bitMask - 1);
+
+            final boolean c = (code & bitMask) != 0, lo = (min & bitMask) != 0, hi = (max & bitMask) != 0;
+            if (!c && !lo && hi) {
+                bigMin = (min & ~axisBelow) | bitMask;
+                max = (max & ~bitMask) | axisBelow;
+            } else if (!c && lo && hi) {
+                return min;
+            } else if (c && !lo && !hi) {
+                return bigMin;
+            } else if (c && !lo && hi) {
+                min = (min & ~axisBelow) | bitMask;
+            }
+        }
+        return bigMin;
+    }
+}
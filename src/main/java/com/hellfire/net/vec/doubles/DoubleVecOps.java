@@ -0,0 +1,35 @@
+package com.hellfire.net.vec.doubles;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Unboxed view of the double vector family. Code written against this interface avoids the
+ * {@code Double} boxing and varargs arrays of the generic {@link com.hellfire.net.vec.IVec} methods.
+ */
+public interface DoubleVecOps<T extends DoubleVecOps<T>> {
+
+    int numComponents();
+
+    double getDouble(final int component);
+
+    @NotNull
+    T setDouble(final int component, final double val);
+
+    void componentsInto(final double @NotNull [] dst, final int offset);
+
+    @NotNull
+    T addScalar(final double val);
+
+    @NotNull
+    T subScalar(final double val);
+
+    @NotNull
+    T mulScalar(final double scale);
+
+    @NotNull
+    T divScalar(double scale);
+
+    double length();
+
+    double lengthSquared();
+}
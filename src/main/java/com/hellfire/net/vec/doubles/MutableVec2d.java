@@ -0,0 +1,242 @@
+package com.hellfire.net.vec.doubles;
+
+import com.hellfire.net.vec.FastMath;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Mutable companion of {@link Vec2d}. All {@code *Local} methods modify this instance and return it,
+ * so they never allocate. Use {@link #toImmutable()} to hand the result to code expecting a {@link Vec2d}.
+ */
+public class MutableVec2d {
+
+    public double x, y;
+
+    public MutableVec2d(double x, double y) {
+        this.x = x;
+        this.y = y;
+    }
+
+    public MutableVec2d(final @NotNull Vec2d vec) {
+        this(vec.x, vec.y);
+    }
+
+    public MutableVec2d() {
+        this(0, 0);
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // In-place methods
+    ///////////////////////////////////////////////////////////////////////////
+
+    public @NotNull MutableVec2d set(double x, double y) {
+        this.x = x;
+        this.y = y;
+        return this;
+    }
+
+    public @NotNull MutableVec2d set(@NotNull Vec2d vec) {
+        return set(vec.x, vec.y);
+    }
+
+    public @NotNull MutableVec2d set(@NotNull MutableVec2d vec) {
+        return set(vec.x, vec.y);
+    }
+
+    public @NotNull MutableVec2d addLocal(double x, double y) {
+        this.x += x;
+        this.y += y;
+        return this;
+    }
+
+    public @NotNull MutableVec2d addLocal(@NotNull Vec2d vec) {
+        return addLocal(vec.x, vec.y);
+    }
+
+    public @NotNull MutableVec2d addLocal(@NotNull MutableVec2d vec) {
+        return addLocal(vec.x, vec.y);
+    }
+
+    public @NotNull MutableVec2d subLocal(double x, double y) {
+        this.x -= x;
+        this.y -= y;
+        return this;
+    }
+
+    public @NotNull MutableVec2d subLocal(@NotNull Vec2d vec) {
+        return subLocal(vec.x, vec.y);
+    }
+
+    public @NotNull MutableVec2d subLocal(@NotNull MutableVec2d vec) {
+        return subLocal(vec.x, vec.y);
+    }
+
+    public @NotNull MutableVec2d mulLocal(double x, double y) {
+        this.x *= x;
+        this.y *= y;
+        return this;
+    }
+
+    public @NotNull MutableVec2d mulLocal(@NotNull Vec2d vec) {
+        return mulLocal(vec.x, vec.y);
+    }
+
+    public @NotNull MutableVec2d mulLocal(@NotNull MutableVec2d vec) {
+        return mulLocal(vec.x, vec.y);
+    }
+
+    public @NotNull MutableVec2d addScalarLocal(double val) {
+        x += val;
+        y += val;
+        return this;
+    }
+
+    public @NotNull MutableVec2d subScalarLocal(double val) {
+        x -= val;
+        y -= val;
+        return this;
+    }
+
+    public @NotNull MutableVec2d mulScalarLocal(double scale) {
+        x *= scale;
+        y *= scale;
+        return this;
+    }
+
+    public @NotNull MutableVec2d divScalarLocal(double scale) {
+        x /= scale;
+        y /= scale;
+        return this;
+    }
+
+    public @NotNull MutableVec2d negateLocal() {
+        x = -x;
+        y = -y;
+        return this;
+    }
+
+    public @NotNull MutableVec2d absLocal() {
+        x = Math.abs(x);
+        y = Math.abs(y);
+        return this;
+    }
+
+    public @NotNull MutableVec2d minLocal(@NotNull Vec2d vec) {
+        x = Math.min(vec.x, x);
+        y = Math.min(vec.y, y);
+        return this;
+    }
+
+    public @NotNull MutableVec2d minLocal(@NotNull MutableVec2d vec) {
+        x = Math.min(vec.x, x);
+        y = Math.min(vec.y, y);
+        return this;
+    }
+
+    public @NotNull MutableVec2d maxLocal(@NotNull Vec2d vec) {
+        x = Math.max(vec.x, x);
+        y = Math.max(vec.y, y);
+        return this;
+    }
+
+    public @NotNull MutableVec2d maxLocal(@NotNull MutableVec2d vec) {
+        x = Math.max(vec.x, x);
+        y = Math.max(vec.y, y);
+        return this;
+    }
+
+    public @NotNull MutableVec2d normalizeLocal() {
+        return divScalarLocal(length());
+    }
+
+    public @NotNull MutableVec2d normalizeFastLocal() {
+        final double inv = FastMath.invSqrt(x * x + y * y);
+        x *= inv;
+        y *= inv;
+        return this;
+    }
+
+    public @NotNull MutableVec2d addScaledLocal(@NotNull Vec2d vec, double scale) {
+        x = x + vec.x * scale;
+        y = y + vec.y * scale;
+        return this;
+    }
+
+    public @NotNull MutableVec2d addScaledLocal(@NotNull MutableVec2d vec, double scale) {
+        x = x + vec.x * scale;
+        y = y + vec.y * scale;
+        return this;
+    }
+
+    public @NotNull MutableVec2d mulAddLocal(@NotNull Vec2d a, @NotNull Vec2d b) {
+        x = x * a.x + b.x;
+        y = y * a.y + b.y;
+        return this;
+    }
+
+    public @NotNull MutableVec2d mulAddLocal(@NotNull MutableVec2d a, @NotNull MutableVec2d b) {
+        x = x * a.x + b.x;
+        y = y * a.y + b.y;
+        return this;
+    }
+
+    public @NotNull MutableVec2d fmaLocal(@NotNull Vec2d a, @NotNull Vec2d b) {
+        x = Math.fma(x, a.x, b.x);
+        y = Math.fma(y, a.y, b.y);
+        return this;
+    }
+
+    public @NotNull MutableVec2d fmaLocal(@NotNull MutableVec2d a, @NotNull MutableVec2d b) {
+        x = Math.fma(x, a.x, b.x);
+        y = Math.fma(y, a.y, b.y);
+        return this;
+    }
+
+    public @NotNull MutableVec2d lerpLocal(@NotNull Vec2d other, double t) {
+        x = x + (other.x - x) * t;
+        y = y + (other.y - y) * t;
+        return this;
+    }
+
+    public @NotNull MutableVec2d lerpLocal(@NotNull MutableVec2d other, double t) {
+        x = x + (other.x - x) * t;
+        y = y + (other.y - y) * t;
+        return this;
+    }
+
+    public @NotNull MutableVec2d scaleAndClampLocal(double scale, @NotNull Vec2d min, @NotNull Vec2d max) {
+        x = Math.clamp(x * scale, min.x, max.x);
+        y = Math.clamp(y * scale, min.y, max.y);
+        return this;
+    }
+
+    public @NotNull MutableVec2d zeroLocal() {
+        return set(0, 0);
+    }
+
+    public double length() {
+        return Math.sqrt(x * x + y * y);
+    }
+
+    public double lengthSquared() {
+        return (x * x) + (y * y);
+    }
+
+    public double distanceSquared(@NotNull Vec2d vec) {
+        double dx = Math.abs(vec.x - x), dy = Math.abs(vec.y - y);
+        return (dx * dx) + (dy * dy);
+    }
+
+    public double distanceSquared(@NotNull MutableVec2d vec) {
+        double dx = Math.abs(vec.x - x), dy = Math.abs(vec.y - y);
+        return (dx * dx) + (dy * dy);
+    }
+
+    public @NotNull Vec2d toImmutable() {
+        return new Vec2d(x, y);
+    }
+
+    @Override
+    public String toString() {
+        return "MutableVec2d{x=" + x + ", y=" + y + "}";
+    }
+}
@@ -0,0 +1,288 @@
+package com.hellfire.net.vec.doubles;
+
+import com.hellfire.net.vec.FastMath;
+import net.minestom.server.coordinate.Point;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Mutable companion of {@link Vec3d}. All {@code *Local} methods modify this instance and return it,
+ * so they never allocate. Use {@link #toImmutable()} to hand the result to code expecting a {@link Vec3d}.
+ */
+public class MutableVec3d {
+
+    public double x, y, z;
+
+    public MutableVec3d(double x, double y, double z) {
+        this.x = x;
+        this.y = y;
+        this.z = z;
+    }
+
+    public MutableVec3d(final @NotNull Vec3d vec) {
+        this(vec.x, vec.y, vec.z);
+    }
+
+    public MutableVec3d() {
+        this(0, 0, 0);
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // In-place methods
+    ///////////////////////////////////////////////////////////////////////////
+
+    public @NotNull MutableVec3d set(double x, double y, double z) {
+        this.x = x;
+        this.y = y;
+        this.z = z;
+        return this;
+    }
+
+    public @NotNull MutableVec3d set(@NotNull Vec3d vec) {
+        return set(vec.x, vec.y, vec.z);
+    }
+
+    public @NotNull MutableVec3d set(@NotNull MutableVec3d vec) {
+        return set(vec.x, vec.y, vec.z);
+    }
+
+    public @NotNull MutableVec3d set(@NotNull Point point) {
+        return set(point.x(), point.y(), point.z());
+    }
+
+    public @NotNull MutableVec3d addLocal(double x, double y, double z) {
+        this.x += x;
+        this.y += y;
+        this.z += z;
+        return this;
+    }
+
+    public @NotNull MutableVec3d addLocal(@NotNull Vec3d vec) {
+        return addLocal(vec.x, vec.y, vec.z);
+    }
+
+    public @NotNull MutableVec3d addLocal(@NotNull MutableVec3d vec) {
+        return addLocal(vec.x, vec.y, vec.z);
+    }
+
+    public @NotNull MutableVec3d subLocal(double x, double y, double z) {
+        this.x -= x;
+        this.y -= y;
+        this.z -= z;
+        return this;
+    }
+
+    public @NotNull MutableVec3d subLocal(@NotNull Vec3d vec) {
+        return subLocal(vec.x, vec.y, vec.z);
+    }
+
+    public @NotNull MutableVec3d subLocal(@NotNull MutableVec3d vec) {
+        return subLocal(vec.x, vec.y, vec.z);
+    }
+
+    public @NotNull MutableVec3d mulLocal(double x, double y, double z) {
+        this.x *= x;
+        this.y *= y;
+        this.z *= z;
+        return this;
+    }
+
+    public @NotNull MutableVec3d mulLocal(@NotNull Vec3d vec) {
+        return mulLocal(vec.x, vec.y, vec.z);
+    }
+
+    public @NotNull MutableVec3d mulLocal(@NotNull MutableVec3d vec) {
+        return mulLocal(vec.x, vec.y, vec.z);
+    }
+
+    public @NotNull MutableVec3d addScalarLocal(double val) {
+        x += val;
+        y += val;
+        z += val;
+        return this;
+    }
+
+    public @NotNull MutableVec3d subScalarLocal(double val) {
+        x -= val;
+        y -= val;
+        z -= val;
+        return this;
+    }
+
+    public @NotNull MutableVec3d mulScalarLocal(double scale) {
+        x *= scale;
+        y *= scale;
+        z *= scale;
+        return this;
+    }
+
+    public @NotNull MutableVec3d divScalarLocal(double scale) {
+        x /= scale;
+        y /= scale;
+        z /= scale;
+        return this;
+    }
+
+    public @NotNull MutableVec3d negateLocal() {
+        x = -x;
+        y = -y;
+        z = -z;
+        return this;
+    }
+
+    public @NotNull MutableVec3d absLocal() {
+        x = Math.abs(x);
+        y = Math.abs(y);
+        z = Math.abs(z);
+        return this;
+    }
+
+    public @NotNull MutableVec3d minLocal(@NotNull Vec3d vec) {
+        x = Math.min(vec.x, x);
+        y = Math.min(vec.y, y);
+        z = Math.min(vec.z, z);
+        return this;
+    }
+
+    public @NotNull MutableVec3d minLocal(@NotNull MutableVec3d vec) {
+        x = Math.min(vec.x, x);
+        y = Math.min(vec.y, y);
+        z = Math.min(vec.z, z);
+        return this;
+    }
+
+    public @NotNull MutableVec3d maxLocal(@NotNull Vec3d vec) {
+        x = Math.max(vec.x, x);
+        y = Math.max(vec.y, y);
+        z = Math.max(vec.z, z);
+        return this;
+    }
+
+    public @NotNull MutableVec3d maxLocal(@NotNull MutableVec3d vec) {
+        x = Math.max(vec.x, x);
+        y = Math.max(vec.y, y);
+        z = Math.max(vec.z, z);
+        return this;
+    }
+
+    public @NotNull MutableVec3d normalizeLocal() {
+        return divScalarLocal(length());
+    }
+
+    public @NotNull MutableVec3d normalizeFastLocal() {
+        final double inv = FastMath.invSqrt(x * x + y * y + z * z);
+        x *= inv;
+        y *= inv;
+        z *= inv;
+        return this;
+    }
+
+    public @NotNull MutableVec3d crossLocal(@NotNull Vec3d other) {
+        return set(
+                y*other.z - other.y*z,
+                z*other.x - other.z*x,
+                x*other.y - other.x*y
+        );
+    }
+
+    public @NotNull MutableVec3d crossLocal(@NotNull MutableVec3d other) {
+        return set(
+                y*other.z - other.y*z,
+                z*other.x - other.z*x,
+                x*other.y - other.x*y
+        );
+    }
+
+    public @NotNull MutableVec3d addScaledLocal(@NotNull Vec3d vec, double scale) {
+        x = x + vec.x * scale;
+        y = y + vec.y * scale;
+        z = z + vec.z * scale;
+        return this;
+    }
+
+    public @NotNull MutableVec3d addScaledLocal(@NotNull MutableVec3d vec, double scale) {
+        x = x + vec.x * scale;
+        y = y + vec.y * scale;
+        z = z + vec.z * scale;
+        return this;
+    }
+
+    public @NotNull MutableVec3d mulAddLocal(@NotNull Vec3d a, @NotNull Vec3d b) {
+        x = x * a.x + b.x;
+        y = y * a.y + b.y;
+        z = z * a.z + b.z;
+        return this;
+    }
+
+    public @NotNull MutableVec3d mulAddLocal(@NotNull MutableVec3d a, @NotNull MutableVec3d b) {
+        x = x * a.x + b.x;
+        y = y * a.y + b.y;
+        z = z * a.z + b.z;
+        return this;
+    }
+
+    public @NotNull MutableVec3d fmaLocal(@NotNull Vec3d a, @NotNull Vec3d b) {
+        x = Math.fma(x, a.x, b.x);
+        y = Math.fma(y, a.y, b.y);
+        z = Math.fma(z, a.z, b.z);
+        return this;
+    }
+
+    public @NotNull MutableVec3d fmaLocal(@NotNull MutableVec3d a, @NotNull MutableVec3d b) {
+        x = Math.fma(x, a.x, b.x);
+        y = Math.fma(y, a.y, b.y);
+        z = Math.fma(z, a.z, b.z);
+        return this;
+    }
+
+    public @NotNull MutableVec3d lerpLocal(@NotNull Vec3d other, double t) {
+        x = x + (other.x - x) * t;
+        y = y + (other.y - y) * t;
+        z = z + (other.z - z) * t;
+        return this;
+    }
+
+    public @NotNull MutableVec3d lerpLocal(@NotNull MutableVec3d other, double t) {
+        x = x + (other.x - x) * t;
+        y = y + (other.y - y) * t;
+        z = z + (other.z - z) * t;
+        return this;
+    }
+
+    public @NotNull MutableVec3d scaleAndClampLocal(double scale, @NotNull Vec3d min, @NotNull Vec3d max) {
+        x = Math.clamp(x * scale, min.x, max.x);
+        y = Math.clamp(y * scale, min.y, max.y);
+        z = Math.clamp(z * scale, min.z, max.z);
+        return this;
+    }
+
+    public @NotNull MutableVec3d zeroLocal() {
+        return set(0, 0, 0);
+    }
+
+    public double length() {
+        return Math.sqrt(x * x + y * y + z * z);
+    }
+
+    public double lengthSquared() {
+        return (x * x) + (y * y) + (z * z);
+    }
+
+    public double distanceSquared(@NotNull Vec3d vec) {
+        double dx = Math.abs(vec.x - x), dy = Math.abs(vec.y - y), dz = Math.abs(vec.z - z);
+        return (dx * dx) + (dy * dy) + (dz * dz);
+    }
+
+    public double distanceSquared(@NotNull MutableVec3d vec) {
+        double dx = Math.abs(vec.x - x), dy = Math.abs(vec.y - y), dz = Math.abs(vec.z - z);
+        return (dx * dx) + (dy * dy) + (dz * dz);
+    }
+
+    public @NotNull Vec3d toImmutable() {
+        return new Vec3d(x, y, z);
+    }
+
+    @Override
+    public String toString() {
+        return "MutableVec3d{x=" + x + ", y=" + y + ", z=" + z + "}";
+    }
+}
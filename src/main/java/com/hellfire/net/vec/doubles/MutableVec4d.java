@@ -0,0 +1,292 @@
+package com.hellfire.net.vec.doubles;
+
+import com.hellfire.net.vec.FastMath;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Mutable companion of {@link Vec4d}. All {@code *Local} methods modify this instance and return it,
+ * so they never allocate. Use {@link #toImmutable()} to hand the result to code expecting a {@link Vec4d}.
+ */
+public class MutableVec4d {
+
+    public double x, y, z, w;
+
+    public MutableVec4d(double x, double y, double z, double w) {
+        this.x = x;
+        this.y = y;
+        this.z = z;
+        this.w = w;
+    }
+
+    public MutableVec4d(final @NotNull Vec4d vec) {
+        this(vec.x, vec.y, vec.z, vec.w);
+    }
+
+    public MutableVec4d() {
+        this(0, 0, 0, 0);
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // In-place methods
+    ///////////////////////////////////////////////////////////////////////////
+
+    public @NotNull MutableVec4d set(double x, double y, double z, double w) {
+        this.x = x;
+        this.y = y;
+        this.z = z;
+        this.w = w;
+        return this;
+    }
+
+    public @NotNull MutableVec4d set(@NotNull Vec4d vec) {
+        return set(vec.x, vec.y, vec.z, vec.w);
+    }
+
+    public @NotNull MutableVec4d set(@NotNull MutableVec4d vec) {
+        return set(vec.x, vec.y, vec.z, vec.w);
+    }
+
+    public @NotNull MutableVec4d addLocal(double x, double y, double z, double w) {
+        this.x += x;
+        this.y += y;
+        this.z += z;
+        this.w += w;
+        return this;
+    }
+
+    public @NotNull MutableVec4d addLocal(@NotNull Vec4d vec) {
+        return addLocal(vec.x, vec.y, vec.z, vec.w);
+    }
+
+    public @NotNull MutableVec4d addLocal(@NotNull MutableVec4d vec) {
+        return addLocal(vec.x, vec.y, vec.z, vec.w);
+    }
+
+    public @NotNull MutableVec4d subLocal(double x, double y, double z, double w) {
+        this.x -= x;
+        this.y -= y;
+        this.z -= z;
+        this.w -= w;
+        return this;
+    }
+
+    public @NotNull MutableVec4d subLocal(@NotNull Vec4d vec) {
+        return subLocal(vec.x, vec.y, vec.z, vec.w);
+    }
+
+    public @NotNull MutableVec4d subLocal(@NotNull MutableVec4d vec) {
+        return subLocal(vec.x, vec.y, vec.z, vec.w);
+    }
+
+    public @NotNull MutableVec4d mulLocal(double x, double y, double z, double w) {
+        this.x *= x;
+        this.y *= y;
+        this.z *= z;
+        this.w *= w;
+        return this;
+    }
+
+    public @NotNull MutableVec4d mulLocal(@NotNull Vec4d vec) {
+        return mulLocal(vec.x, vec.y, vec.z, vec.w);
+    }
+
+    public @NotNull MutableVec4d mulLocal(@NotNull MutableVec4d vec) {
+        return mulLocal(vec.x, vec.y, vec.z, vec.w);
+    }
+
+    public @NotNull MutableVec4d addScalarLocal(double val) {
+        x += val;
+        y += val;
+        z += val;
+        w += val;
+        return this;
+    }
+
+    public @NotNull MutableVec4d subScalarLocal(double val) {
+        x -= val;
+        y -= val;
+        z -= val;
+        w -= val;
+        return this;
+    }
+
+    public @NotNull MutableVec4d mulScalarLocal(double scale) {
+        x *= scale;
+        y *= scale;
+        z *= scale;
+        w *= scale;
+        return this;
+    }
+
+    public @NotNull MutableVec4d divScalarLocal(double scale) {
+        x /= scale;
+        y /= scale;
+        z /= scale;
+        w /= scale;
+        return this;
+    }
+
+    public @NotNull MutableVec4d negateLocal() {
+        x = -x;
+        y = -y;
+        z = -z;
+        w = -w;
+        return this;
+    }
+
+    public @NotNull MutableVec4d absLocal() {
+        x = Math.abs(x);
+        y = Math.abs(y);
+        z = Math.abs(z);
+        w = Math.abs(w);
+        return this;
+    }
+
+    public @NotNull MutableVec4d minLocal(@NotNull Vec4d vec) {
+        x = Math.min(vec.x, x);
+        y = Math.min(vec.y, y);
+        z = Math.min(vec.z, z);
+        w = Math.min(vec.w, w);
+        return this;
+    }
+
+    public @NotNull MutableVec4d minLocal(@NotNull MutableVec4d vec) {
+        x = Math.min(vec.x, x);
+        y = Math.min(vec.y, y);
+        z = Math.min(vec.z, z);
+        w = Math.min(vec.w, w);
+        return this;
+    }
+
+    public @NotNull MutableVec4d maxLocal(@NotNull Vec4d vec) {
+        x = Math.max(vec.x, x);
+        y = Math.max(vec.y, y);
+        z = Math.max(vec.z, z);
+        w = Math.max(vec.w, w);
+        return this;
+    }
+
+    public @NotNull MutableVec4d maxLocal(@NotNull MutableVec4d vec) {
+        x = Math.max(vec.x, x);
+        y = Math.max(vec.y, y);
+        z = Math.max(vec.z, z);
+        w = Math.max(vec.w, w);
+        return this;
+    }
+
+    public @NotNull MutableVec4d normalizeLocal() {
+        return divScalarLocal(length());
+    }
+
+    public @NotNull MutableVec4d normalizeFastLocal() {
+        final double inv = FastMath.invSqrt(x * x + y * y + z * z + w * w);
+        x *= inv;
+        y *= inv;
+        z *= inv;
+        w *= inv;
+        return this;
+    }
+
+    public @NotNull MutableVec4d addScaledLocal(@NotNull Vec4d vec, double scale) {
+        x = x + vec.x * scale;
+        y = y + vec.y * scale;
+        z = z + vec.z * scale;
+        w = w + vec.w * scale;
+        return this;
+    }
+
+    public @NotNull MutableVec4d addScaledLocal(@NotNull MutableVec4d vec, double scale) {
+        x = x + vec.x * scale;
+        y = y + vec.y * scale;
+        z = z + vec.z * scale;
+        w = w + vec.w * scale;
+        return this;
+    }
+
+    public @NotNull MutableVec4d mulAddLocal(@NotNull Vec4d a, @NotNull Vec4d b) {
+        x = x * a.x + b.x;
+        y = y * a.y + b.y;
+        z = z * a.z + b.z;
+        w = w * a.w + b.w;
+        return this;
+    }
+
+    public @NotNull MutableVec4d mulAddLocal(@NotNull MutableVec4d a, @NotNull MutableVec4d b) {
+        x = x * a.x + b.x;
+        y = y * a.y + b.y;
+        z = z * a.z + b.z;
+        w = w * a.w + b.w;
+        return this;
+    }
+
+    public @NotNull MutableVec4d fmaLocal(@NotNull Vec4d a, @NotNull Vec4d b) {
+        x = Math.fma(x, a.x, b.x);
+        y = Math.fma(y, a.y, b.y);
+        z = Math.fma(z, a.z, b.z);
+        w = Math.fma(w, a.w, b.w);
+        return this;
+    }
+
+    public @NotNull MutableVec4d fmaLocal(@NotNull MutableVec4d a, @NotNull MutableVec4d b) {
+        x = Math.fma(x, a.x, b.x);
+        y = Math.fma(y, a.y, b.y);
+        z = Math.fma(z, a.z, b.z);
+        w = Math.fma(w, a.w, b.w);
+        return this;
+    }
+
+    public @NotNull MutableVec4d lerpLocal(@NotNull Vec4d other, double t) {
+        x = x + (other.x - x) * t;
+        y = y + (other.y - y) * t;
+        z = z + (other.z - z) * t;
+        w = w + (other.w - w) * t;
+        return this;
+    }
+
+    public @NotNull MutableVec4d lerpLocal(@NotNull MutableVec4d other, double t) {
+        x = x + (other.x - x) * t;
+        y = y + (other.y - y) * t;
+        z = z + (other.z - z) * t;
+        w = w + (other.w - w) * t;
+        return this;
+    }
+
+    public @NotNull MutableVec4d scaleAndClampLocal(double scale, @NotNull Vec4d min, @NotNull Vec4d max) {
+        x = Math.clamp(x * scale, min.x, max.x);
+        y = Math.clamp(y * scale, min.y, max.y);
+        z = Math.clamp(z * scale, min.z, max.z);
+        w = Math.clamp(w * scale, min.w, max.w);
+        return this;
+    }
+
+    public @NotNull MutableVec4d zeroLocal() {
+        return set(0, 0, 0, 0);
+    }
+
+    public double length() {
+        return Math.sqrt(x * x + y * y + z * z + w * w);
+    }
+
+    public double lengthSquared() {
+        return (x * x) + (y * y) + (z * z) + (w * w);
+    }
+
+    public double distanceSquared(@NotNull Vec4d vec) {
+        double dx = Math.abs(vec.x - x), dy = Math.abs(vec.y - y), dz = Math.abs(vec.z - z), dw = Math.abs(vec.w - w);
+        return (dx * dx) + (dy * dy) + (dz * dz) + (dw * dw);
+    }
+
+    public double distanceSquared(@NotNull MutableVec4d vec) {
+        double dx = Math.abs(vec.x - x), dy = Math.abs(vec.y - y), dz = Math.abs(vec.z - z), dw = Math.abs(vec.w - w);
+        return (dx * dx) + (dy * dy) + (dz * dz) + (dw * dw);
+    }
+
+    public @NotNull Vec4d toImmutable() {
+        return new Vec4d(x, y, z, w);
+    }
+
+    @Override
+    public String toString() {
+        return "MutableVec4d{x=" + x + ", y=" + y + ", z=" + z + ", w=" + w + "}";
+    }
+}
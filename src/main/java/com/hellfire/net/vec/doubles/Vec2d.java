@@ -1,11 +1,15 @@
 package com.hellfire.net.vec.doubles;
 
+import com.hellfire.net.vec.FastMath;
 import com.hellfire.net.vec.IVec2;
+import com.hellfire.net.vec.text.VecParser;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Range;
 
+import java.util.Objects;
+
 /* Created by Conor on 15.05.2024 */
-public class Vec2d extends IVec2<Double, Vec2d> {
+public class Vec2d extends IVec2<Double, Vec2d> implements DoubleVecOps<Vec2d> {
 
     public static final Vec2d ZERO = new Vec2d(0, 0);
 
@@ -26,6 +30,14 @@ public class Vec2d extends IVec2<Double, Vec2d> {
         this(0, 0);
     }
 
+    /** Parses the {@code toString}/{@code appendTo} form or plain separated components, see {@link VecParser} */
+    public static @NotNull Vec2d parse(final @NotNull CharSequence text, final int from) {
+        final VecParser parser = new VecParser(text, from).beginVec();
+        final double x = parser.nextDouble(), y = parser.nextDouble();
+        parser.endVec();
+        return new Vec2d(x, y);
+    }
+
     ///////////////////////////////////////////////////////////////////////////
     // Impl methods
     ///////////////////////////////////////////////////////////////////////////
@@ -167,12 +179,12 @@ public class Vec2d extends IVec2<Double, Vec2d> {
 
     @Override
     public @NotNull Vec2d minLength(@NotNull Vec2d vec) {
-        return (length() < vec.length()) ? this : vec;
+        return (lengthSquared() < vec.lengthSquared()) ? this : vec;
     }
 
     @Override
     public @NotNull Vec2d maxLength(@NotNull Vec2d vec) {
-        return (length() > vec.length()) ? this : vec;
+        return (lengthSquared() > vec.lengthSquared()) ? this : vec;
     }
 
     @Override
@@ -195,6 +207,27 @@ public class Vec2d extends IVec2<Double, Vec2d> {
         return divScalar(length());
     }
 
+    @Override
+    public double lengthFast() {
+        return FastMath.sqrt(x * x + y * y);
+    }
+
+    @Override
+    public double inverseLength() {
+        return 1 / Math.sqrt(x * x + y * y);
+    }
+
+    @Override
+    public double inverseLengthFast() {
+        return FastMath.invSqrt(x * x + y * y);
+    }
+
+    @Override
+    public @NotNull Vec2d normalizeFast() {
+        final double inv = inverseLengthFast();
+        return new Vec2d(x * inv, y * inv);
+    }
+
     @Override
     public @NotNull Vec2d zero() {
         return ZERO;
@@ -204,4 +237,120 @@ public class Vec2d extends IVec2<Double, Vec2d> {
     public @NotNull Vec2d clone() {
         return new Vec2d(x, y);
     }
+
+    public @NotNull MutableVec2d toMutable() {
+        return new MutableVec2d(x, y);
+    }
+
+    @Override
+    public @NotNull Vec2d addScaled(@NotNull Vec2d vec, double scale) {
+        return new Vec2d(x + vec.x * scale, y + vec.y * scale);
+    }
+
+    @Override
+    public @NotNull Vec2d mulAdd(@NotNull Vec2d a, @NotNull Vec2d b) {
+        return new Vec2d(x * a.x + b.x, y * a.y + b.y);
+    }
+
+    @Override
+    public @NotNull Vec2d fma(@NotNull Vec2d a, @NotNull Vec2d b) {
+        return new Vec2d(Math.fma(x, a.x, b.x), Math.fma(y, a.y, b.y));
+    }
+
+    @Override
+    public @NotNull Vec2d lerp(@NotNull Vec2d other, double t) {
+        return new Vec2d(x + (other.x - x) * t, y + (other.y - y) * t);
+    }
+
+    @Override
+    public @NotNull Vec2d scaleAndClamp(double scale, @NotNull Vec2d min, @NotNull Vec2d max) {
+        return new Vec2d(Math.clamp(x * scale, min.x, max.x), Math.clamp(y * scale, min.y, max.y));
+    }
+
+    @Override
+    public double distanceToLine(@NotNull Vec2d a, @NotNull Vec2d b) {
+        final double ux = b.x - a.x, uy = b.y - a.y;
+        final double dx = x - a.x, dy = y - a.y;
+        final double uu = ux * ux + uy * uy;
+        if (uu == 0) return Math.sqrt(dx * dx + dy * dy);
+
+        final double t = (dx * ux + dy * uy) / uu;
+        final double ex = dx - ux * t, ey = dy - uy * t;
+        return Math.sqrt(ex * ex + ey * ey);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Vec2d v)) return false;
+        return Double.doubleToLongBits(x) == Double.doubleToLongBits(v.x)
+                && Double.doubleToLongBits(y) == Double.doubleToLongBits(v.y);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Double.hashCode(x);
+        result = HASH_PRIME * result + Double.hashCode(y);
+        return result;
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // Primitive methods
+    ///////////////////////////////////////////////////////////////////////////
+
+    @Override
+    public double getDouble(@Range(from = 0, to = 1) int component) {
+        return switch (component) {
+            case 0 -> x;
+            case 1 -> y;
+            default -> throw new IllegalArgumentException("Invalid component");
+        };
+    }
+
+    @Override
+    public @NotNull Vec2d setDouble(@Range(from = 0, to = 1) int component, double val) {
+        return switch (component) {
+            case 0 -> new Vec2d(val, y);
+            case 1 -> new Vec2d(x, val);
+            default -> throw new IllegalArgumentException("Invalid component");
+        };
+    }
+
+    @Override
+    public void componentsInto(double @NotNull [] dst, int offset) {
+        Objects.checkFromIndexSize(offset, NUM_COMPONENTS, dst.length);
+        dst[offset] = x;
+        dst[offset + 1] = y;
+    }
+
+    public @NotNull Vec2d add(double x2, double y2) {
+        return new Vec2d(x + x2, y + y2);
+    }
+
+    public @NotNull Vec2d sub(double x2, double y2) {
+        return new Vec2d(x - x2, y - y2);
+    }
+
+    public @NotNull Vec2d mul(double x2, double y2) {
+        return new Vec2d(x * x2, y * y2);
+    }
+
+    public @NotNull Vec2d div(double x2, double y2) {
+        return new Vec2d(x / x2, y / y2);
+    }
+
+    @Override
+    public @NotNull Vec2d addScalar(double val) {
+        return new Vec2d(x + val, y + val);
+    }
+
+    @Override
+    public @NotNull Vec2d subScalar(double val) {
+        return new Vec2d(x - val, y - val);
+    }
+
+    @Override
+    public @NotNull Vec2d mulScalar(double scale) {
+        return new Vec2d(x * scale, y * scale);
+    }
 }
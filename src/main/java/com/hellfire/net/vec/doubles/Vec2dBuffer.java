@@ -0,0 +1,262 @@
+package com.hellfire.net.vec.doubles;
+
+import com.hellfire.net.vec.FastMath;
+import com.hellfire.net.vec.IVecBuffer;
+import com.hellfire.net.vec.kernel.VecKernelProvider;
+import com.hellfire.net.vec.kernel.VecKernels;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+
+public class Vec2dBuffer extends IVecBuffer<Double, Vec2d, Vec2dBuffer> {
+
+    public final double[] x, y;
+
+    public Vec2dBuffer(final int size) {
+        super(size);
+        this.x = new double[size];
+        this.y = new double[size];
+    }
+
+    public Vec2dBuffer(final @NotNull Vec2d @NotNull ... vecs) {
+        this(vecs.length);
+        for (int i = 0; i < vecs.length; i++) set(i, vecs[i]);
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // Impl methods
+    ///////////////////////////////////////////////////////////////////////////
+
+    @Override
+    public int numComponents() {
+        return Vec2d.NUM_COMPONENTS;
+    }
+
+    @Override
+    public @NotNull Vec2d get(int index) {
+        return new Vec2d(x[index], y[index]);
+    }
+
+    @Override
+    public @NotNull Vec2dBuffer set(int index, @NotNull Vec2d vec) {
+        x[index] = vec.x;
+        y[index] = vec.y;
+        return this;
+    }
+
+    public @NotNull Vec2dBuffer set(int index, double x, double y) {
+        this.x[index] = x;
+        this.y[index] = y;
+        return this;
+    }
+
+    @Override
+    public @NotNull Vec2dBuffer add(int from, int to, @NotNull Vec2dBuffer other) {
+        checkRange(from, to);
+        other.checkRange(from, to);
+        final VecKernels kernels = VecKernelProvider.get();
+        kernels.add(x, other.x, x, from, to);
+        kernels.add(y, other.y, y, from, to);
+        return this;
+    }
+
+    @Override
+    public @NotNull Vec2dBuffer add(int from, int to, @NotNull Vec2d vec) {
+        checkRange(from, to);
+        final double vx = vec.x, vy = vec.y;
+        for (int i = from; i < to; i++) {
+            x[i] += vx;
+            y[i] += vy;
+        }
+        return this;
+    }
+
+    @Override
+    public @NotNull Vec2dBuffer sub(int from, int to, @NotNull Vec2dBuffer other) {
+        checkRange(from, to);
+        other.checkRange(from, to);
+        final VecKernels kernels = VecKernelProvider.get();
+        kernels.sub(x, other.x, x, from, to);
+        kernels.sub(y, other.y, y, from, to);
+        return this;
+    }
+
+    @Override
+    public @NotNull Vec2dBuffer sub(int from, int to, @NotNull Vec2d vec) {
+        checkRange(from, to);
+        final double vx = vec.x, vy = vec.y;
+        for (int i = from; i < to; i++) {
+            x[i] -= vx;
+            y[i] -= vy;
+        }
+        return this;
+    }
+
+    @Override
+    public @NotNull Vec2dBuffer mul(int from, int to, @NotNull Vec2dBuffer other) {
+        checkRange(from, to);
+        other.checkRange(from, to);
+        final VecKernels kernels = VecKernelProvider.get();
+        kernels.mul(x, other.x, x, from, to);
+        kernels.mul(y, other.y, y, from, to);
+        return this;
+    }
+
+    @Override
+    public @NotNull Vec2dBuffer mul(int from, int to, @NotNull Vec2d vec) {
+        checkRange(from, to);
+        final double vx = vec.x, vy = vec.y;
+        for (int i = from; i < to; i++) {
+            x[i] *= vx;
+            y[i] *= vy;
+        }
+        return this;
+    }
+
+    public @NotNull Vec2dBuffer addScalar(int from, int to, double val) {
+        checkRange(from, to);
+        for (int i = from; i < to; i++) {
+            x[i] += val;
+            y[i] += val;
+        }
+        return this;
+    }
+
+    public @NotNull Vec2dBuffer subScalar(int from, int to, double val) {
+        checkRange(from, to);
+        for (int i = from; i < to; i++) {
+            x[i] -= val;
+            y[i] -= val;
+        }
+        return this;
+    }
+
+    public @NotNull Vec2dBuffer mulScalar(int from, int to, double scale) {
+        checkRange(from, to);
+        for (int i = from; i < to; i++) {
+            x[i] *= scale;
+            y[i] *= scale;
+        }
+        return this;
+    }
+
+    @Override
+    public @NotNull Vec2dBuffer divScalar(int from, int to, double scale) {
+        checkRange(from, to);
+        for (int i = from; i < to; i++) {
+            x[i] /= scale;
+            y[i] /= scale;
+        }
+        return this;
+    }
+
+    public @NotNull Vec2dBuffer negate(int from, int to) {
+        checkRange(from, to);
+        for (int i = from; i < to; i++) {
+            x[i] = -x[i];
+            y[i] = -y[i];
+        }
+        return this;
+    }
+
+    @Override
+    public double length(int index) {
+        final double xi = x[index], yi = y[index];
+        return Math.sqrt(xi * xi + yi * yi);
+    }
+
+    @Override
+    public double lengthSquared(int index) {
+        final double xi = x[index], yi = y[index];
+        return (xi * xi) + (yi * yi);
+    }
+
+    @Override
+    public double distanceSquared(int index, @NotNull Vec2d vec) {
+        double dx = Math.abs(vec.x - x[index]), dy = Math.abs(vec.y - y[index]);
+        return (dx * dx) + (dy * dy);
+    }
+
+    @Override
+    public void length(int from, int to, double @NotNull [] dst, int dstOffset) {
+        checkRange(from, to);
+        checkDst(from, to, dst, dstOffset);
+        for (int i = from; i < to; i++) {
+            final double xi = x[i], yi = y[i];
+            dst[dstOffset + i - from] = Math.sqrt(xi * xi + yi * yi);
+        }
+    }
+
+    @Override
+    public void distanceSquared(int from, int to, @NotNull Vec2dBuffer other, double @NotNull [] dst, int dstOffset) {
+        checkRange(from, to);
+        other.checkRange(from, to);
+        checkDst(from, to, dst, dstOffset);
+        for (int i = from; i < to; i++) {
+            double dx = Math.abs(other.x[i] - x[i]), dy = Math.abs(other.y[i] - y[i]);
+            dst[dstOffset + i - from] = (dx * dx) + (dy * dy);
+        }
+    }
+
+    @Override
+    public void distanceSquared(int from, int to, @NotNull Vec2d vec, double @NotNull [] dst, int dstOffset) {
+        checkRange(from, to);
+        checkDst(from, to, dst, dstOffset);
+        final double vx = vec.x, vy = vec.y;
+        for (int i = from; i < to; i++) {
+            double dx = Math.abs(vx - x[i]), dy = Math.abs(vy - y[i]);
+            dst[dstOffset + i - from] = (dx * dx) + (dy * dy);
+        }
+    }
+
+    public @NotNull Vec2dBuffer normalize(int from, int to) {
+        checkRange(from, to);
+        for (int i = from; i < to; i++) {
+            final double xi = x[i], yi = y[i];
+            final double len = Math.sqrt(xi * xi + yi * yi);
+            x[i] = xi / len;
+            y[i] = yi / len;
+        }
+        return this;
+    }
+
+    public @NotNull Vec2dBuffer normalize() {
+        return normalize(0, size);
+    }
+
+    /** Approximate {@link #normalize(int, int)}, see {@link FastMath} */
+    public @NotNull Vec2dBuffer normalizeFast(int from, int to) {
+        checkRange(from, to);
+        for (int i = from; i < to; i++) {
+            final double xi = x[i], yi = y[i];
+            final double inv = FastMath.invSqrt(xi * xi + yi * yi);
+            x[i] = xi * inv;
+            y[i] = yi * inv;
+        }
+        return this;
+    }
+
+    public @NotNull Vec2dBuffer normalizeFast() {
+        return normalizeFast(0, size);
+    }
+
+    public @NotNull Vec2dBuffer normalize(int from, int to, @NotNull Vec2dBuffer dst) {
+        checkRange(from, to);
+        Objects.checkFromToIndex(from, to, dst.size());
+        for (int i = from; i < to; i++) {
+            final double xi = x[i], yi = y[i];
+            final double len = Math.sqrt(xi * xi + yi * yi);
+            dst.x[i] = xi / len;
+            dst.y[i] = yi / len;
+        }
+        return dst;
+    }
+
+    @Override
+    public @NotNull Vec2dBuffer copy() {
+        final Vec2dBuffer copy = new Vec2dBuffer(size);
+        System.arraycopy(x, 0, copy.x, 0, size);
+        System.arraycopy(y, 0, copy.y, 0, size);
+        return copy;
+    }
+}
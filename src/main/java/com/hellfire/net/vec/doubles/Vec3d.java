@@ -1,11 +1,16 @@
 package com.hellfire.net.vec.doubles;
 
+import com.hellfire.net.vec.FastMath;
 import com.hellfire.net.vec.IVec3;
+import com.hellfire.net.vec.text.VecParser;
+import net.minestom.server.coordinate.Point;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Range;
 
+import java.util.Objects;
+
 /* Created by Conor on 15.05.2024 */
-public class Vec3d extends IVec3<Double, Vec3d> {
+public class Vec3d extends IVec3<Double, Vec3d> implements DoubleVecOps<Vec3d> {
 
     public static final Vec3d ZERO = new Vec3d(0, 0, 0);
 
@@ -28,6 +33,18 @@ public class Vec3d extends IVec3<Double, Vec3d> {
         this(0, 0, 0);
     }
 
+    /** Parses the {@code toString}/{@code appendTo} form or plain separated components, see {@link VecParser} */
+    public static @NotNull Vec3d parse(final @NotNull CharSequence text, final int from) {
+        final VecParser parser = new VecParser(text, from).beginVec();
+        final double x = parser.nextDouble(), y = parser.nextDouble(), z = parser.nextDouble();
+        parser.endVec();
+        return new Vec3d(x, y, z);
+    }
+
+    public static @NotNull Vec3d from(final @NotNull Point point) {
+        return new Vec3d(point.x(), point.y(), point.z());
+    }
+
     /////////////////////////////////////////////////////////////////////////
     // Impl methods
     ///////////////////////////////////////////////////////////////////////////
@@ -168,12 +185,12 @@ public class Vec3d extends IVec3<Double, Vec3d> {
 
     @Override
     public @NotNull Vec3d minLength(@NotNull Vec3d vec) {
-        return (length() < vec.length()) ? this : vec;
+        return (lengthSquared() < vec.lengthSquared()) ? this : vec;
     }
 
     @Override
     public @NotNull Vec3d maxLength(@NotNull Vec3d vec) {
-        return (length() > vec.length()) ? this : vec;
+        return (lengthSquared() > vec.lengthSquared()) ? this : vec;
     }
 
     @Override
@@ -198,6 +215,27 @@ public class Vec3d extends IVec3<Double, Vec3d> {
         return divScalar(length());
     }
 
+    @Override
+    public double lengthFast() {
+        return FastMath.sqrt(x * x + y * y + z * z);
+    }
+
+    @Override
+    public double inverseLength() {
+        return 1 / Math.sqrt(x * x + y * y + z * z);
+    }
+
+    @Override
+    public double inverseLengthFast() {
+        return FastMath.invSqrt(x * x + y * y + z * z);
+    }
+
+    @Override
+    public @NotNull Vec3d normalizeFast() {
+        final double inv = inverseLengthFast();
+        return new Vec3d(x * inv, y * inv, z * inv);
+    }
+
     @Override
     public @NotNull Vec3d zero() {
         return ZERO;
@@ -208,6 +246,10 @@ public class Vec3d extends IVec3<Double, Vec3d> {
         return new Vec3d(x, y, z);
     }
 
+    public @NotNull MutableVec3d toMutable() {
+        return new MutableVec3d(x, y, z);
+    }
+
     @Override
     public @NotNull Vec3d cross(@NotNull Vec3d other) {
         return new Vec3d(
@@ -216,4 +258,125 @@ public class Vec3d extends IVec3<Double, Vec3d> {
                 x*other.y - other.x*y
         );
     }
+
+    @Override
+    public @NotNull Vec3d addScaled(@NotNull Vec3d vec, double scale) {
+        return new Vec3d(x + vec.x * scale, y + vec.y * scale, z + vec.z * scale);
+    }
+
+    @Override
+    public @NotNull Vec3d mulAdd(@NotNull Vec3d a, @NotNull Vec3d b) {
+        return new Vec3d(x * a.x + b.x, y * a.y + b.y, z * a.z + b.z);
+    }
+
+    @Override
+    public @NotNull Vec3d fma(@NotNull Vec3d a, @NotNull Vec3d b) {
+        return new Vec3d(Math.fma(x, a.x, b.x), Math.fma(y, a.y, b.y), Math.fma(z, a.z, b.z));
+    }
+
+    @Override
+    public @NotNull Vec3d lerp(@NotNull Vec3d other, double t) {
+        return new Vec3d(x + (other.x - x) * t, y + (other.y - y) * t, z + (other.z - z) * t);
+    }
+
+    @Override
+    public @NotNull Vec3d scaleAndClamp(double scale, @NotNull Vec3d min, @NotNull Vec3d max) {
+        return new Vec3d(
+                Math.clamp(x * scale, min.x, max.x),
+                Math.clamp(y * scale, min.y, max.y),
+                Math.clamp(z * scale, min.z, max.z)
+        );
+    }
+
+    @Override
+    public double distanceToLine(@NotNull Vec3d a, @NotNull Vec3d b) {
+        final double ux = b.x - a.x, uy = b.y - a.y, uz = b.z - a.z;
+        final double dx = x - a.x, dy = y - a.y, dz = z - a.z;
+        final double uu = ux * ux + uy * uy + uz * uz;
+        if (uu == 0) return Math.sqrt(dx * dx + dy * dy + dz * dz);
+
+        final double t = (dx * ux + dy * uy + dz * uz) / uu;
+        final double ex = dx - ux * t, ey = dy - uy * t, ez = dz - uz * t;
+        return Math.sqrt(ex * ex + ey * ey + ez * ez);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Vec3d v)) return false;
+        return Double.doubleToLongBits(x) == Double.doubleToLongBits(v.x)
+                && Double.doubleToLongBits(y) == Double.doubleToLongBits(v.y)
+                && Double.doubleToLongBits(z) == Double.doubleToLongBits(v.z);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Double.hashCode(x);
+        result = HASH_PRIME * result + Double.hashCode(y);
+        result = HASH_PRIME * result + Double.hashCode(z);
+        return result;
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // Primitive methods
+    ///////////////////////////////////////////////////////////////////////////
+
+    @Override
+    public double getDouble(@Range(from = 0, to = 2) int component) {
+        return switch (component) {
+            case 0 -> x;
+            case 1 -> y;
+            case 2 -> z;
+            default -> throw new IllegalArgumentException("Invalid component");
+        };
+    }
+
+    @Override
+    public @NotNull Vec3d setDouble(@Range(from = 0, to = 2) int component, double val) {
+        return switch (component) {
+            case 0 -> new Vec3d(val, y, z);
+            case 1 -> new Vec3d(x, val, z);
+            case 2 -> new Vec3d(x, y, val);
+            default -> throw new IllegalArgumentException("Invalid component");
+        };
+    }
+
+    @Override
+    public void componentsInto(double @NotNull [] dst, int offset) {
+        Objects.checkFromIndexSize(offset, NUM_COMPONENTS, dst.length);
+        dst[offset] = x;
+        dst[offset + 1] = y;
+        dst[offset + 2] = z;
+    }
+
+    public @NotNull Vec3d add(double x2, double y2, double z2) {
+        return new Vec3d(x + x2, y + y2, z + z2);
+    }
+
+    public @NotNull Vec3d sub(double x2, double y2, double z2) {
+        return new Vec3d(x - x2, y - y2, z - z2);
+    }
+
+    public @NotNull Vec3d mul(double x2, double y2, double z2) {
+        return new Vec3d(x * x2, y * y2, z * z2);
+    }
+
+    public @NotNull Vec3d div(double x2, double y2, double z2) {
+        return new Vec3d(x / x2, y / y2, z / z2);
+    }
+
+    @Override
+    public @NotNull Vec3d addScalar(double val) {
+        return new Vec3d(x + val, y + val, z + val);
+    }
+
+    @Override
+    public @NotNull Vec3d subScalar(double val) {
+        return new Vec3d(x - val, y - val, z - val);
+    }
+
+    @Override
+    public @NotNull Vec3d mulScalar(double scale) {
+        return new Vec3d(x * scale, y * scale, z * scale);
+    }
 }
@@ -0,0 +1,279 @@
+package com.hellfire.net.vec.doubles;
+
+import com.hellfire.net.vec.FastMath;
+import com.hellfire.net.vec.IVecBuffer;
+import com.hellfire.net.vec.kernel.VecKernelProvider;
+import com.hellfire.net.vec.kernel.VecKernels;
+import net.minestom.server.coordinate.Point;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+
+public class Vec3dBuffer extends IVecBuffer<Double, Vec3d, Vec3dBuffer> {
+
+    public final double[] x, y, z;
+
+    public Vec3dBuffer(final int size) {
+        super(size);
+        this.x = new double[size];
+        this.y = new double[size];
+        this.z = new double[size];
+    }
+
+    public Vec3dBuffer(final @NotNull Vec3d @NotNull ... vecs) {
+        this(vecs.length);
+        for (int i = 0; i < vecs.length; i++) set(i, vecs[i]);
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // Impl methods
+    ///////////////////////////////////////////////////////////////////////////
+
+    @Override
+    public int numComponents() {
+        return Vec3d.NUM_COMPONENTS;
+    }
+
+    @Override
+    public @NotNull Vec3d get(int index) {
+        return new Vec3d(x[index], y[index], z[index]);
+    }
+
+    @Override
+    public @NotNull Vec3dBuffer set(int index, @NotNull Vec3d vec) {
+        x[index] = vec.x;
+        y[index] = vec.y;
+        z[index] = vec.z;
+        return this;
+    }
+
+    public @NotNull Vec3dBuffer set(int index, double x, double y, double z) {
+        this.x[index] = x;
+        this.y[index] = y;
+        this.z[index] = z;
+        return this;
+    }
+
+    public @NotNull Vec3dBuffer set(int index, @NotNull Point point) {
+        return set(index, point.x(), point.y(), point.z());
+    }
+
+    @Override
+    public @NotNull Vec3dBuffer add(int from, int to, @NotNull Vec3dBuffer other) {
+        checkRange(from, to);
+        other.checkRange(from, to);
+        final VecKernels kernels = VecKernelProvider.get();
+        kernels.add(x, other.x, x, from, to);
+        kernels.add(y, other.y, y, from, to);
+        kernels.add(z, other.z, z, from, to);
+        return this;
+    }
+
+    @Override
+    public @NotNull Vec3dBuffer add(int from, int to, @NotNull Vec3d vec) {
+        checkRange(from, to);
+        final double vx = vec.x, vy = vec.y, vz = vec.z;
+        for (int i = from; i < to; i++) {
+            x[i] += vx;
+            y[i] += vy;
+            z[i] += vz;
+        }
+        return this;
+    }
+
+    @Override
+    public @NotNull Vec3dBuffer sub(int from, int to, @NotNull Vec3dBuffer other) {
+        checkRange(from, to);
+        other.checkRange(from, to);
+        final VecKernels kernels = VecKernelProvider.get();
+        kernels.sub(x, other.x, x, from, to);
+        kernels.sub(y, other.y, y, from, to);
+        kernels.sub(z, other.z, z, from, to);
+        return this;
+    }
+
+    @Override
+    public @NotNull Vec3dBuffer sub(int from, int to, @NotNull Vec3d vec) {
+        checkRange(from, to);
+        final double vx = vec.x, vy = vec.y, vz = vec.z;
+        for (int i = from; i < to; i++) {
+            x[i] -= vx;
+            y[i] -= vy;
+            z[i] -= vz;
+        }
+        return this;
+    }
+
+    @Override
+    public @NotNull Vec3dBuffer mul(int from, int to, @NotNull Vec3dBuffer other) {
+        checkRange(from, to);
+        other.checkRange(from, to);
+        final VecKernels kernels = VecKernelProvider.get();
+        kernels.mul(x, other.x, x, from, to);
+        kernels.mul(y, other.y, y, from, to);
+        kernels.mul(z, other.z, z, from, to);
+        return this;
+    }
+
+    @Override
+    public @NotNull Vec3dBuffer mul(int from, int to, @NotNull Vec3d vec) {
+        checkRange(from, to);
+        final double vx = vec.x, vy = vec.y, vz = vec.z;
+        for (int i = from; i < to; i++) {
+            x[i] *= vx;
+            y[i] *= vy;
+            z[i] *= vz;
+        }
+        return this;
+    }
+
+    public @NotNull Vec3dBuffer addScalar(int from, int to, double val) {
+        checkRange(from, to);
+        for (int i = from; i < to; i++) {
+            x[i] += val;
+            y[i] += val;
+            z[i] += val;
+        }
+        return this;
+    }
+
+    public @NotNull Vec3dBuffer subScalar(int from, int to, double val) {
+        checkRange(from, to);
+        for (int i = from; i < to; i++) {
+            x[i] -= val;
+            y[i] -= val;
+            z[i] -= val;
+        }
+        return this;
+    }
+
+    public @NotNull Vec3dBuffer mulScalar(int from, int to, double scale) {
+        checkRange(from, to);
+        for (int i = from; i < to; i++) {
+            x[i] *= scale;
+            y[i] *= scale;
+            z[i] *= scale;
+        }
+        return this;
+    }
+
+    @Override
+    public @NotNull Vec3dBuffer divScalar(int from, int to, double scale) {
+        checkRange(from, to);
+        for (int i = from; i < to; i++) {
+            x[i] /= scale;
+            y[i] /= scale;
+            z[i] /= scale;
+        }
+        return this;
+    }
+
+    public @NotNull Vec3dBuffer negate(int from, int to) {
+        checkRange(from, to);
+        for (int i = from; i < to; i++) {
+            x[i] = -x[i];
+            y[i] = -y[i];
+            z[i] = -z[i];
+        }
+        return this;
+    }
+
+    @Override
+    public double length(int index) {
+        final double xi = x[index], yi = y[index], zi = z[index];
+        return Math.sqrt(xi * xi + yi * yi + zi * zi);
+    }
+
+    @Override
+    public double lengthSquared(int index) {
+        final double xi = x[index], yi = y[index], zi = z[index];
+        return (xi * xi) + (yi * yi) + (zi * zi);
+    }
+
+    @Override
+    public double distanceSquared(int index, @NotNull Vec3d vec) {
+        double dx = Math.abs(vec.x - x[index]), dy = Math.abs(vec.y - y[index]), dz = Math.abs(vec.z - z[index]);
+        return (dx * dx) + (dy * dy) + (dz * dz);
+    }
+
+    @Override
+    public void length(int from, int to, double @NotNull [] dst, int dstOffset) {
+        checkRange(from, to);
+        checkDst(from, to, dst, dstOffset);
+        for (int i = from; i < to; i++) {
+            final double xi = x[i], yi = y[i], zi = z[i];
+            dst[dstOffset + i - from] = Math.sqrt(xi * xi + yi * yi + zi * zi);
+        }
+    }
+
+    @Override
+    public void distanceSquared(int from, int to, @NotNull Vec3dBuffer other, double @NotNull [] dst, int dstOffset) {
+        checkRange(from, to);
+        other.checkRange(from, to);
+        checkDst(from, to, dst, dstOffset);
+        for (int i = from; i < to; i++) {
+            double dx = Math.abs(other.x[i] - x[i]), dy = Math.abs(other.y[i] - y[i]), dz = Math.abs(other.z[i] - z[i]);
+            dst[dstOffset + i - from] = (dx * dx) + (dy * dy) + (dz * dz);
+        }
+    }
+
+    @Override
+    public void distanceSquared(int from, int to, @NotNull Vec3d vec, double @NotNull [] dst, int dstOffset) {
+        checkRange(from, to);
+        checkDst(from, to, dst, dstOffset);
+        final double vx = vec.x, vy = vec.y, vz = vec.z;
+        for (int i = from; i < to; i++) {
+            double dx = Math.abs(vx - x[i]), dy = Math.abs(vy - y[i]), dz = Math.abs(vz - z[i]);
+            dst[dstOffset + i - from] = (dx * dx) + (dy * dy) + (dz * dz);
+        }
+    }
+
+    public @NotNull Vec3dBuffer normalize(int from, int to) {
+        checkRange(from, to);
+        VecKernelProvider.get().normalize3(x, y, z, from, to);
+        return this;
+    }
+
+    public @NotNull Vec3dBuffer normalize() {
+        return normalize(0, size);
+    }
+
+    /** Approximate {@link #normalize(int, int)}, see {@link FastMath} */
+    public @NotNull Vec3dBuffer normalizeFast(int from, int to) {
+        checkRange(from, to);
+        for (int i = from; i < to; i++) {
+            final double xi = x[i], yi = y[i], zi = z[i];
+            final double inv = FastMath.invSqrt(xi * xi + yi * yi + zi * zi);
+            x[i] = xi * inv;
+            y[i] = yi * inv;
+            z[i] = zi * inv;
+        }
+        return this;
+    }
+
+    public @NotNull Vec3dBuffer normalizeFast() {
+        return normalizeFast(0, size);
+    }
+
+    public @NotNull Vec3dBuffer normalize(int from, int to, @NotNull Vec3dBuffer dst) {
+        checkRange(from, to);
+        Objects.checkFromToIndex(from, to, dst.size());
+        for (int i = from; i < to; i++) {
+            final double xi = x[i], yi = y[i], zi = z[i];
+            final double len = Math.sqrt(xi * xi + yi * yi + zi * zi);
+            dst.x[i] = xi / len;
+            dst.y[i] = yi / len;
+            dst.z[i] = zi / len;
+        }
+        return dst;
+    }
+
+    @Override
+    public @NotNull Vec3dBuffer copy() {
+        final Vec3dBuffer copy = new Vec3dBuffer(size);
+        System.arraycopy(x, 0, copy.x, 0, size);
+        System.arraycopy(y, 0, copy.y, 0, size);
+        System.arraycopy(z, 0, copy.z, 0, size);
+        return copy;
+    }
+}
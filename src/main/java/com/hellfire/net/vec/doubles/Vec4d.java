@@ -1,11 +1,15 @@
 package com.hellfire.net.vec.doubles;
 
+import com.hellfire.net.vec.FastMath;
 import com.hellfire.net.vec.IVec4;
+import com.hellfire.net.vec.text.VecParser;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Range;
 
+import java.util.Objects;
+
 /* Created by Conor on 15.05.2024 */
-public class Vec4d extends IVec4<Double, Vec4d> {
+public class Vec4d extends IVec4<Double, Vec4d> implements DoubleVecOps<Vec4d> {
 
     public static final Vec4d ZERO = new Vec4d(0, 0, 0, 0);
 
@@ -30,6 +34,14 @@ public class Vec4d extends IVec4<Double, Vec4d> {
         this(0, 0, 0, 0);
     }
 
+    /** Parses the {@code toString}/{@code appendTo} form or plain separated components, see {@link VecParser} */
+    public static @NotNull Vec4d parse(final @NotNull CharSequence text, final int from) {
+        final VecParser parser = new VecParser(text, from).beginVec();
+        final double x = parser.nextDouble(), y = parser.nextDouble(), z = parser.nextDouble(), w = parser.nextDouble();
+        parser.endVec();
+        return new Vec4d(x, y, z, w);
+    }
+
     ///////////////////////////////////////////////////////////////////////////
     // Impl methods
     ///////////////////////////////////////////////////////////////////////////
@@ -172,12 +184,12 @@ public class Vec4d extends IVec4<Double, Vec4d> {
 
     @Override
     public @NotNull Vec4d minLength(@NotNull Vec4d vec) {
-        return (length() < vec.length()) ? this : vec;
+        return (lengthSquared() < vec.lengthSquared()) ? this : vec;
     }
 
     @Override
     public @NotNull Vec4d maxLength(@NotNull Vec4d vec) {
-        return (length() > vec.length()) ? this : vec;
+        return (lengthSquared() > vec.lengthSquared()) ? this : vec;
     }
 
     @Override
@@ -204,6 +216,27 @@ public class Vec4d extends IVec4<Double, Vec4d> {
         return divScalar(length());
     }
 
+    @Override
+    public double lengthFast() {
+        return FastMath.sqrt(x * x + y * y + z * z + w * w);
+    }
+
+    @Override
+    public double inverseLength() {
+        return 1 / Math.sqrt(x * x + y * y + z * z + w * w);
+    }
+
+    @Override
+    public double inverseLengthFast() {
+        return FastMath.invSqrt(x * x + y * y + z * z + w * w);
+    }
+
+    @Override
+    public @NotNull Vec4d normalizeFast() {
+        final double inv = inverseLengthFast();
+        return new Vec4d(x * inv, y * inv, z * inv, w * inv);
+    }
+
     @Override
     public @NotNull Vec4d zero() {
         return ZERO;
@@ -213,4 +246,135 @@ public class Vec4d extends IVec4<Double, Vec4d> {
     public @NotNull Vec4d clone() {
         return new Vec4d(x, y, z, w);
     }
+
+    public @NotNull MutableVec4d toMutable() {
+        return new MutableVec4d(x, y, z, w);
+    }
+
+    @Override
+    public @NotNull Vec4d addScaled(@NotNull Vec4d vec, double scale) {
+        return new Vec4d(x + vec.x * scale, y + vec.y * scale, z + vec.z * scale, w + vec.w * scale);
+    }
+
+    @Override
+    public @NotNull Vec4d mulAdd(@NotNull Vec4d a, @NotNull Vec4d b) {
+        return new Vec4d(x * a.x + b.x, y * a.y + b.y, z * a.z + b.z, w * a.w + b.w);
+    }
+
+    @Override
+    public @NotNull Vec4d fma(@NotNull Vec4d a, @NotNull Vec4d b) {
+        return new Vec4d(Math.fma(x, a.x, b.x), Math.fma(y, a.y, b.y), Math.fma(z, a.z, b.z), Math.fma(w, a.w, b.w));
+    }
+
+    @Override
+    public @NotNull Vec4d lerp(@NotNull Vec4d other, double t) {
+        return new Vec4d(x + (other.x - x) * t, y + (other.y - y) * t, z + (other.z - z) * t, w + (other.w - w) * t);
+    }
+
+    @Override
+    public @NotNull Vec4d scaleAndClamp(double scale, @NotNull Vec4d min, @NotNull Vec4d max) {
+        return new Vec4d(
+                Math.clamp(x * scale, min.x, max.x),
+                Math.clamp(y * scale, min.y, max.y),
+                Math.clamp(z * scale, min.z, max.z),
+                Math.clamp(w * scale, min.w, max.w)
+        );
+    }
+
+    @Override
+    public double distanceToLine(@NotNull Vec4d a, @NotNull Vec4d b) {
+        final double ux = b.x - a.x, uy = b.y - a.y, uz = b.z - a.z, uw = b.w - a.w;
+        final double dx = x - a.x, dy = y - a.y, dz = z - a.z, dw = w - a.w;
+        final double uu = ux * ux + uy * uy + uz * uz + uw * uw;
+        if (uu == 0) return Math.sqrt(dx * dx + dy * dy + dz * dz + dw * dw);
+
+        final double t = (dx * ux + dy * uy + dz * uz + dw * uw) / uu;
+        final double ex = dx - ux * t, ey = dy - uy * t, ez = dz - uz * t, ew = dw - uw * t;
+        return Math.sqrt(ex * ex + ey * ey + ez * ez + ew * ew);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Vec4d v)) return false;
+        return Double.doubleToLongBits(x) == Double.doubleToLongBits(v.x)
+                && Double.doubleToLongBits(y) == Double.doubleToLongBits(v.y)
+                && Double.doubleToLongBits(z) == Double.doubleToLongBits(v.z)
+                && Double.doubleToLongBits(w) == Double.doubleToLongBits(v.w);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Double.hashCode(x);
+        result = HASH_PRIME * result + Double.hashCode(y);
+        result = HASH_PRIME * result + Double.hashCode(z);
+        result = HASH_PRIME * result + Double.hashCode(w);
+        return result;
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // Primitive methods
+    ///////////////////////////////////////////////////////////////////////////
+
+    @Override
+    public double getDouble(@Range(from = 0, to = 3) int component) {
+        return switch (component) {
+            case 0 -> x;
+            case 1 -> y;
+            case 2 -> z;
+            case 3 -> w;
+            default -> throw new IllegalArgumentException("Invalid component");
+        };
+    }
+
+    @Override
+    public @NotNull Vec4d setDouble(@Range(from = 0, to = 3) int component, double val) {
+        return switch (component) {
+            case 0 -> new Vec4d(val, y, z, w);
+            case 1 -> new Vec4d(x, val, z, w);
+            case 2 -> new Vec4d(x, y, val, w);
+            case 3 -> new Vec4d(x, y, z, val);
+            default -> throw new IllegalArgumentException("Invalid component");
+        };
+    }
+
+    @Override
+    public void componentsInto(double @NotNull [] dst, int offset) {
+        Objects.checkFromIndexSize(offset, NUM_COMPONENTS, dst.length);
+        dst[offset] = x;
+        dst[offset + 1] = y;
+        dst[offset + 2] = z;
+        dst[offset + 3] = w;
+    }
+
+    public @NotNull Vec4d add(double x2, double y2, double z2, double w2) {
+        return new Vec4d(x + x2, y + y2, z + z2, w + w2);
+    }
+
+    public @NotNull Vec4d sub(double x2, double y2, double z2, double w2) {
+        return new Vec4d(x - x2, y - y2, z - z2, w - w2);
+    }
+
+    public @NotNull Vec4d mul(double x2, double y2, double z2, double w2) {
+        return new Vec4d(x * x2, y * y2, z * z2, w * w2);
+    }
+
+    public @NotNull Vec4d div(double x2, double y2, double z2, double w2) {
+        return new Vec4d(x / x2, y / y2, z / z2, w / w2);
+    }
+
+    @Override
+    public @NotNull Vec4d addScalar(double val) {
+        return new Vec4d(x + val, y + val, z + val, w + val);
+    }
+
+    @Override
+    public @NotNull Vec4d subScalar(double val) {
+        return new Vec4d(x - val, y - val, z - val, w - val);
+    }
+
+    @Override
+    public @NotNull Vec4d mulScalar(double scale) {
+        return new Vec4d(x * scale, y * scale, z * scale, w * scale);
+    }
 }
@@ -0,0 +1,298 @@
+package com.hellfire.net.vec.doubles;
+
+import com.hellfire.net.vec.FastMath;
+import com.hellfire.net.vec.IVecBuffer;
+import com.hellfire.net.vec.kernel.VecKernelProvider;
+import com.hellfire.net.vec.kernel.VecKernels;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+
+public class Vec4dBuffer extends IVecBuffer<Double, Vec4d, Vec4dBuffer> {
+
+    public final double[] x, y, z, w;
+
+    public Vec4dBuffer(final int size) {
+        super(size);
+        this.x = new double[size];
+        this.y = new double[size];
+        this.z = new double[size];
+        this.w = new double[size];
+    }
+
+    public Vec4dBuffer(final @NotNull Vec4d @NotNull ... vecs) {
+        this(vecs.length);
+        for (int i = 0; i < vecs.length; i++) set(i, vecs[i]);
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // Impl methods
+    ///////////////////////////////////////////////////////////////////////////
+
+    @Override
+    public int numComponents() {
+        return Vec4d.NUM_COMPONENTS;
+    }
+
+    @Override
+    public @NotNull Vec4d get(int index) {
+        return new Vec4d(x[index], y[index], z[index], w[index]);
+    }
+
+    @Override
+    public @NotNull Vec4dBuffer set(int index, @NotNull Vec4d vec) {
+        x[index] = vec.x;
+        y[index] = vec.y;
+        z[index] = vec.z;
+        w[index] = vec.w;
+        return this;
+    }
+
+    public @NotNull Vec4dBuffer set(int index, double x, double y, double z, double w) {
+        this.x[index] = x;
+        this.y[index] = y;
+        this.z[index] = z;
+        this.w[index] = w;
+        return this;
+    }
+
+    @Override
+    public @NotNull Vec4dBuffer add(int from, int to, @NotNull Vec4dBuffer other) {
+        checkRange(from, to);
+        other.checkRange(from, to);
+        final VecKernels kernels = VecKernelProvider.get();
+        kernels.add(x, other.x, x, from, to);
+        kernels.add(y, other.y, y, from, to);
+        kernels.add(z, other.z, z, from, to);
+        kernels.add(w, other.w, w, from, to);
+        return this;
+    }
+
+    @Override
+    public @NotNull Vec4dBuffer add(int from, int to, @NotNull Vec4d vec) {
+        checkRange(from, to);
+        final double vx = vec.x, vy = vec.y, vz = vec.z, vw = vec.w;
+        for (int i = from; i < to; i++) {
+            x[i] += vx;
+            y[i] += vy;
+            z[i] += vz;
+            w[i] += vw;
+        }
+        return this;
+    }
+
+    @Override
+    public @NotNull Vec4dBuffer sub(int from, int to, @NotNull Vec4dBuffer other) {
+        checkRange(from, to);
+        other.checkRange(from, to);
+        final VecKernels kernels = VecKernelProvider.get();
+        kernels.sub(x, other.x, x, from, to);
+        kernels.sub(y, other.y, y, from, to);
+        kernels.sub(z, other.z, z, from, to);
+        kernels.sub(w, other.w, w, from, to);
+        return this;
+    }
+
+    @Override
+    public @NotNull Vec4dBuffer sub(int from, int to, @NotNull Vec4d vec) {
+        checkRange(from, to);
+        final double vx = vec.x, vy = vec.y, vz = vec.z, vw = vec.w;
+        for (int i = from; i < to; i++) {
+            x[i] -= vx;
+            y[i] -= vy;
+            z[i] -= vz;
+            w[i] -= vw;
+        }
+        return this;
+    }
+
+    @Override
+    public @NotNull Vec4dBuffer mul(int from, int to, @NotNull Vec4dBuffer other) {
+        checkRange(from, to);
+        other.checkRange(from, to);
+        final VecKernels kernels = VecKernelProvider.get();
+        kernels.mul(x, other.x, x, from, to);
+        kernels.mul(y, other.y, y, from, to);
+        kernels.mul(z, other.z, z, from, to);
+        kernels.mul(w, other.w, w, from, to);
+        return this;
+    }
+
+    @Override
+    public @NotNull Vec4dBuffer mul(int from, int to, @NotNull Vec4d vec) {
+        checkRange(from, to);
+        final double vx = vec.x, vy = vec.y, vz = vec.z, vw = vec.w;
+        for (int i = from; i < to; i++) {
+            x[i] *= vx;
+            y[i] *= vy;
+            z[i] *= vz;
+            w[i] *= vw;
+        }
+        return this;
+    }
+
+    public @NotNull Vec4dBuffer addScalar(int from, int to, double val) {
+        checkRange(from, to);
+        for (int i = from; i < to; i++) {
+            x[i] += val;
+            y[i] += val;
+            z[i] += val;
+            w[i] += val;
+        }
+        return this;
+    }
+
+    public @NotNull Vec4dBuffer subScalar(int from, int to, double val) {
+        checkRange(from, to);
+        for (int i = from; i < to; i++) {
+            x[i] -= val;
+            y[i] -= val;
+            z[i] -= val;
+            w[i] -= val;
+        }
+        return this;
+    }
+
+    public @NotNull Vec4dBuffer mulScalar(int from, int to, double scale) {
+        checkRange(from, to);
+        for (int i = from; i < to; i++) {
+            x[i] *= scale;
+            y[i] *= scale;
+            z[i] *= scale;
+            w[i] *= scale;
+        }
+        return this;
+    }
+
+    @Override
+    public @NotNull Vec4dBuffer divScalar(int from, int to, double scale) {
+        checkRange(from, to);
+        for (int i = from; i < to; i++) {
+            x[i] /= scale;
+            y[i] /= scale;
+            z[i] /= scale;
+            w[i] /= scale;
+        }
+        return this;
+    }
+
+    public @NotNull Vec4dBuffer negate(int from, int to) {
+        checkRange(from, to);
+        for (int i = from; i < to; i++) {
+            x[i] = -x[i];
+            y[i] = -y[i];
+            z[i] = -z[i];
+            w[i] = -w[i];
+        }
+        return this;
+    }
+
+    @Override
+    public double length(int index) {
+        final double xi = x[index], yi = y[index], zi = z[index], wi = w[index];
+        return Math.sqrt(xi * xi + yi * yi + zi * zi + wi * wi);
+    }
+
+    @Override
+    public double lengthSquared(int index) {
+        final double xi = x[index], yi = y[index], zi = z[index], wi = w[index];
+        return (xi * xi) + (yi * yi) + (zi * zi) + (wi * wi);
+    }
+
+    @Override
+    public double distanceSquared(int index, @NotNull Vec4d vec) {
+        double dx = Math.abs(vec.x - x[index]), dy = Math.abs(vec.y - y[index]), dz = Math.abs(vec.z - z[index]), dw = Math.abs(vec.w - w[index]);
+        return (dx * dx) + (dy * dy) + (dz * dz) + (dw * dw);
+    }
+
+    @Override
+    public void length(int from, int to, double @NotNull [] dst, int dstOffset) {
+        checkRange(from, to);
+        checkDst(from, to, dst, dstOffset);
+        for (int i = from; i < to; i++) {
+            final double xi = x[i], yi = y[i], zi = z[i], wi = w[i];
+            dst[dstOffset + i - from] = Math.sqrt(xi * xi + yi * yi + zi * zi + wi * wi);
+        }
+    }
+
+    @Override
+    public void distanceSquared(int from, int to, @NotNull Vec4dBuffer other, double @NotNull [] dst, int dstOffset) {
+        checkRange(from, to);
+        other.checkRange(from, to);
+        checkDst(from, to, dst, dstOffset);
+        for (int i = from; i < to; i++) {
+            double dx = Math.abs(other.x[i] - x[i]), dy = Math.abs(other.y[i] - y[i]), dz = Math.abs(other.z[i] - z[i]), dw = Math.abs(other.w[i] - w[i]);
+            dst[dstOffset + i - from] = (dx * dx) + (dy * dy) + (dz * dz) + (dw * dw);
+        }
+    }
+
+    @Override
+    public void distanceSquared(int from, int to, @NotNull Vec4d vec, double @NotNull [] dst, int dstOffset) {
+        checkRange(from, to);
+        checkDst(from, to, dst, dstOffset);
+        final double vx = vec.x, vy = vec.y, vz = vec.z, vw = vec.w;
+        for (int i = from; i < to; i++) {
+            double dx = Math.abs(vx - x[i]), dy = Math.abs(vy - y[i]), dz = Math.abs(vz - z[i]), dw = Math.abs(vw - w[i]);
+            dst[dstOffset + i - from] = (dx * dx) + (dy * dy) + (dz * dz) + (dw * dw);
+        }
+    }
+
+    public @NotNull Vec4dBuffer normalize(int from, int to) {
+        checkRange(from, to);
+        for (int i = from; i < to; i++) {
+            final double xi = x[i], yi = y[i], zi = z[i], wi = w[i];
+            final double len = Math.sqrt(xi * xi + yi * yi + zi * zi + wi * wi);
+            x[i] = xi / len;
+            y[i] = yi / len;
+            z[i] = zi / len;
+            w[i] = wi / len;
+        }
+        return this;
+    }
+
+    public @NotNull Vec4dBuffer normalize() {
+        return normalize(0, size);
+    }
+
+    /** Approximate {@link #normalize(int, int)}, see {@link FastMath} */
+    public @NotNull Vec4dBuffer normalizeFast(int from, int to) {
+        checkRange(from, to);
+        for (int i = from; i < to; i++) {
+            final double xi = x[i], yi = y[i], zi = z[i], wi = w[i];
+            final double inv = FastMath.invSqrt(xi * xi + yi * yi + zi * zi + wi * wi);
+            x[i] = xi * inv;
+            y[i] = yi * inv;
+            z[i] = zi * inv;
+            w[i] = wi * inv;
+        }
+        return this;
+    }
+
+    public @NotNull Vec4dBuffer normalizeFast() {
+        return normalizeFast(0, size);
+    }
+
+    public @NotNull Vec4dBuffer normalize(int from, int to, @NotNull Vec4dBuffer dst) {
+        checkRange(from, to);
+        Objects.checkFromToIndex(from, to, dst.size());
+        for (int i = from; i < to; i++) {
+            final double xi = x[i], yi = y[i], zi = z[i], wi = w[i];
+            final double len = Math.sqrt(xi * xi + yi * yi + zi * zi + wi * wi);
+            dst.x[i] = xi / len;
+            dst.y[i] = yi / len;
+            dst.z[i] = zi / len;
+            dst.w[i] = wi / len;
+        }
+        return dst;
+    }
+
+    @Override
+    public @NotNull Vec4dBuffer copy() {
+        final Vec4dBuffer copy = new Vec4dBuffer(size);
+        System.arraycopy(x, 0, copy.x, 0, size);
+        System.arraycopy(y, 0, copy.y, 0, size);
+        System.arraycopy(z, 0, copy.z, 0, size);
+        System.arraycopy(w, 0, copy.w, 0, size);
+        return copy;
+    }
+}
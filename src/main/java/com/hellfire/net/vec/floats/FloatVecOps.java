@@ -0,0 +1,35 @@
+package com.hellfire.net.vec.floats;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Unboxed view of the float vector family. Code written against this interface avoids the
+ * {@code Float} boxing and varargs arrays of the generic {@link com.hellfire.net.vec.IVec} methods.
+ */
+public interface FloatVecOps<T extends FloatVecOps<T>> {
+
+    int numComponents();
+
+    float getFloat(final int component);
+
+    @NotNull
+    T setFloat(final int component, final float val);
+
+    void componentsInto(final float @NotNull [] dst, final int offset);
+
+    @NotNull
+    T addScalar(final float val);
+
+    @NotNull
+    T subScalar(final float val);
+
+    @NotNull
+    T mulScalar(final float scale);
+
+    @NotNull
+    T divScalar(double scale);
+
+    double length();
+
+    double lengthSquared();
+}
@@ -0,0 +1,242 @@
+package com.hellfire.net.vec.floats;
+
+import com.hellfire.net.vec.FastMath;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Mutable companion of {@link Vec2f}. All {@code *Local} methods modify this instance and return it,
+ * so they never allocate. Use {@link #toImmutable()} to hand the result to code expecting a {@link Vec2f}.
+ */
+public class MutableVec2f {
+
+    public float x, y;
+
+    public MutableVec2f(float x, float y) {
+        this.x = x;
+        this.y = y;
+    }
+
+    public MutableVec2f(final @NotNull Vec2f vec) {
+        this(vec.x, vec.y);
+    }
+
+    public MutableVec2f() {
+        this(0, 0);
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // In-place methods
+    ///////////////////////////////////////////////////////////////////////////
+
+    public @NotNull MutableVec2f set(float x, float y) {
+        this.x = x;
+        this.y = y;
+        return this;
+    }
+
+    public @NotNull MutableVec2f set(@NotNull Vec2f vec) {
+        return set(vec.x, vec.y);
+    }
+
+    public @NotNull MutableVec2f set(@NotNull MutableVec2f vec) {
+        return set(vec.x, vec.y);
+    }
+
+    public @NotNull MutableVec2f addLocal(float x, float y) {
+        this.x += x;
+        this.y += y;
+        return this;
+    }
+
+    public @NotNull MutableVec2f addLocal(@NotNull Vec2f vec) {
+        return addLocal(vec.x, vec.y);
+    }
+
+    public @NotNull MutableVec2f addLocal(@NotNull MutableVec2f vec) {
+        return addLocal(vec.x, vec.y);
+    }
+
+    public @NotNull MutableVec2f subLocal(float x, float y) {
+        this.x -= x;
+        this.y -= y;
+        return this;
+    }
+
+    public @NotNull MutableVec2f subLocal(@NotNull Vec2f vec) {
+        return subLocal(vec.x, vec.y);
+    }
+
+    public @NotNull MutableVec2f subLocal(@NotNull MutableVec2f vec) {
+        return subLocal(vec.x, vec.y);
+    }
+
+    public @NotNull MutableVec2f mulLocal(float x, float y) {
+        this.x *= x;
+        this.y *= y;
+        return this;
+    }
+
+    public @NotNull MutableVec2f mulLocal(@NotNull Vec2f vec) {
+        return mulLocal(vec.x, vec.y);
+    }
+
+    public @NotNull MutableVec2f mulLocal(@NotNull MutableVec2f vec) {
+        return mulLocal(vec.x, vec.y);
+    }
+
+    public @NotNull MutableVec2f addScalarLocal(float val) {
+        x += val;
+        y += val;
+        return this;
+    }
+
+    public @NotNull MutableVec2f subScalarLocal(float val) {
+        x -= val;
+        y -= val;
+        return this;
+    }
+
+    public @NotNull MutableVec2f mulScalarLocal(float scale) {
+        x *= scale;
+        y *= scale;
+        return this;
+    }
+
+    public @NotNull MutableVec2f divScalarLocal(double scale) {
+        x = (float) (x / scale);
+        y = (float) (y / scale);
+        return this;
+    }
+
+    public @NotNull MutableVec2f negateLocal() {
+        x = -x;
+        y = -y;
+        return this;
+    }
+
+    public @NotNull MutableVec2f absLocal() {
+        x = Math.abs(x);
+        y = Math.abs(y);
+        return this;
+    }
+
+    public @NotNull MutableVec2f minLocal(@NotNull Vec2f vec) {
+        x = Math.min(vec.x, x);
+        y = Math.min(vec.y, y);
+        return this;
+    }
+
+    public @NotNull MutableVec2f minLocal(@NotNull MutableVec2f vec) {
+        x = Math.min(vec.x, x);
+        y = Math.min(vec.y, y);
+        return this;
+    }
+
+    public @NotNull MutableVec2f maxLocal(@NotNull Vec2f vec) {
+        x = Math.max(vec.x, x);
+        y = Math.max(vec.y, y);
+        return this;
+    }
+
+    public @NotNull MutableVec2f maxLocal(@NotNull MutableVec2f vec) {
+        x = Math.max(vec.x, x);
+        y = Math.max(vec.y, y);
+        return this;
+    }
+
+    public @NotNull MutableVec2f normalizeLocal() {
+        return divScalarLocal(length());
+    }
+
+    public @NotNull MutableVec2f normalizeFastLocal() {
+        final float inv = FastMath.invSqrt(x * x + y * y);
+        x *= inv;
+        y *= inv;
+        return this;
+    }
+
+    public @NotNull MutableVec2f addScaledLocal(@NotNull Vec2f vec, double scale) {
+        x = (float) (x + vec.x * scale);
+        y = (float) (y + vec.y * scale);
+        return this;
+    }
+
+    public @NotNull MutableVec2f addScaledLocal(@NotNull MutableVec2f vec, double scale) {
+        x = (float) (x + vec.x * scale);
+        y = (float) (y + vec.y * scale);
+        return this;
+    }
+
+    public @NotNull MutableVec2f mulAddLocal(@NotNull Vec2f a, @NotNull Vec2f b) {
+        x = x * a.x + b.x;
+        y = y * a.y + b.y;
+        return this;
+    }
+
+    public @NotNull MutableVec2f mulAddLocal(@NotNull MutableVec2f a, @NotNull MutableVec2f b) {
+        x = x * a.x + b.x;
+        y = y * a.y + b.y;
+        return this;
+    }
+
+    public @NotNull MutableVec2f fmaLocal(@NotNull Vec2f a, @NotNull Vec2f b) {
+        x = Math.fma(x, a.x, b.x);
+        y = Math.fma(y, a.y, b.y);
+        return this;
+    }
+
+    public @NotNull MutableVec2f fmaLocal(@NotNull MutableVec2f a, @NotNull MutableVec2f b) {
+        x = Math.fma(x, a.x, b.x);
+        y = Math.fma(y, a.y, b.y);
+        return this;
+    }
+
+    public @NotNull MutableVec2f lerpLocal(@NotNull Vec2f other, double t) {
+        x = (float) (x + (other.x - x) * t);
+        y = (float) (y + (other.y - y) * t);
+        return this;
+    }
+
+    public @NotNull MutableVec2f lerpLocal(@NotNull MutableVec2f other, double t) {
+        x = (float) (x + (other.x - x) * t);
+        y = (float) (y + (other.y - y) * t);
+        return this;
+    }
+
+    public @NotNull MutableVec2f scaleAndClampLocal(double scale, @NotNull Vec2f min, @NotNull Vec2f max) {
+        x = (float) Math.clamp(x * scale, min.x, max.x);
+        y = (float) Math.clamp(y * scale, min.y, max.y);
+        return this;
+    }
+
+    public @NotNull MutableVec2f zeroLocal() {
+        return set(0, 0);
+    }
+
+    public double length() {
+        return Math.sqrt(x * x + y * y);
+    }
+
+    public double lengthSquared() {
+        return (x * x) + (y * y);
+    }
+
+    public double distanceSquared(@NotNull Vec2f vec) {
+        float dx = Math.abs(vec.x - x), dy = Math.abs(vec.y - y);
+        return (dx * dx) + (dy * dy);
+    }
+
+    public double distanceSquared(@NotNull MutableVec2f vec) {
+        float dx = Math.abs(vec.x - x), dy = Math.abs(vec.y - y);
+        return (dx * dx) + (dy * dy);
+    }
+
+    public @NotNull Vec2f toImmutable() {
+        return new Vec2f(x, y);
+    }
+
+    @Override
+    public String toString() {
+        return "MutableVec2f{x=" + x + ", y=" + y + "}";
+    }
+}
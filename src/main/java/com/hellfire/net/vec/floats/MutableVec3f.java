@@ -0,0 +1,283 @@
+package com.hellfire.net.vec.floats;
+
+import com.hellfire.net.vec.FastMath;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Mutable companion of {@link Vec3f}. All {@code *Local} methods modify this instance and return it,
+ * so they never allocate. Use {@link #toImmutable()} to hand the result to code expecting a {@link Vec3f}.
+ */
+public class MutableVec3f {
+
+    public float x, y, z;
+
+    public MutableVec3f(float x, float y, float z) {
+        this.x = x;
+        this.y = y;
+        this.z = z;
+    }
+
+    public MutableVec3f(final @NotNull Vec3f vec) {
+        this(vec.x, vec.y, vec.z);
+    }
+
+    public MutableVec3f() {
+        this(0, 0, 0);
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // In-place methods
+    ///////////////////////////////////////////////////////////////////////////
+
+    public @NotNull MutableVec3f set(float x, float y, float z) {
+        this.x = x;
+        this.y = y;
+        this.z = z;
+        return this;
+    }
+
+    public @NotNull MutableVec3f set(@NotNull Vec3f vec) {
+        return set(vec.x, vec.y, vec.z);
+    }
+
+    public @NotNull MutableVec3f set(@NotNull MutableVec3f vec) {
+        return set(vec.x, vec.y, vec.z);
+    }
+
+    public @NotNull MutableVec3f addLocal(float x, float y, float z) {
+        this.x += x;
+        this.y += y;
+        this.z += z;
+        return this;
+    }
+
+    public @NotNull MutableVec3f addLocal(@NotNull Vec3f vec) {
+        return addLocal(vec.x, vec.y, vec.z);
+    }
+
+    public @NotNull MutableVec3f addLocal(@NotNull MutableVec3f vec) {
+        return addLocal(vec.x, vec.y, vec.z);
+    }
+
+    public @NotNull MutableVec3f subLocal(float x, float y, float z) {
+        this.x -= x;
+        this.y -= y;
+        this.z -= z;
+        return this;
+    }
+
+    public @NotNull MutableVec3f subLocal(@NotNull Vec3f vec) {
+        return subLocal(vec.x, vec.y, vec.z);
+    }
+
+    public @NotNull MutableVec3f subLocal(@NotNull MutableVec3f vec) {
+        return subLocal(vec.x, vec.y, vec.z);
+    }
+
+    public @NotNull MutableVec3f mulLocal(float x, float y, float z) {
+        this.x *= x;
+        this.y *= y;
+        this.z *= z;
+        return this;
+    }
+
+    public @NotNull MutableVec3f mulLocal(@NotNull Vec3f vec) {
+        return mulLocal(vec.x, vec.y, vec.z);
+    }
+
+    public @NotNull MutableVec3f mulLocal(@NotNull MutableVec3f vec) {
+        return mulLocal(vec.x, vec.y, vec.z);
+    }
+
+    public @NotNull MutableVec3f addScalarLocal(float val) {
+        x += val;
+        y += val;
+        z += val;
+        return this;
+    }
+
+    public @NotNull MutableVec3f subScalarLocal(float val) {
+        x -= val;
+        y -= val;
+        z -= val;
+        return this;
+    }
+
+    public @NotNull MutableVec3f mulScalarLocal(float scale) {
+        x *= scale;
+        y *= scale;
+        z *= scale;
+        return this;
+    }
+
+    public @NotNull MutableVec3f divScalarLocal(double scale) {
+        x = (float) (x / scale);
+        y = (float) (y / scale);
+        z = (float) (z / scale);
+        return this;
+    }
+
+    public @NotNull MutableVec3f negateLocal() {
+        x = -x;
+        y = -y;
+        z = -z;
+        return this;
+    }
+
+    public @NotNull MutableVec3f absLocal() {
+        x = Math.abs(x);
+        y = Math.abs(y);
+        z = Math.abs(z);
+        return this;
+    }
+
+    public @NotNull MutableVec3f minLocal(@NotNull Vec3f vec) {
+        x = Math.min(vec.x, x);
+        y = Math.min(vec.y, y);
+        z = Math.min(vec.z, z);
+        return this;
+    }
+
+    public @NotNull MutableVec3f minLocal(@NotNull MutableVec3f vec) {
+        x = Math.min(vec.x, x);
+        y = Math.min(vec.y, y);
+        z = Math.min(vec.z, z);
+        return this;
+    }
+
+    public @NotNull MutableVec3f maxLocal(@NotNull Vec3f vec) {
+        x = Math.max(vec.x, x);
+        y = Math.max(vec.y, y);
+        z = Math.max(vec.z, z);
+        return this;
+    }
+
+    public @NotNull MutableVec3f maxLocal(@NotNull MutableVec3f vec) {
+        x = Math.max(vec.x, x);
+        y = Math.max(vec.y, y);
+        z = Math.max(vec.z, z);
+        return this;
+    }
+
+    public @NotNull MutableVec3f normalizeLocal() {
+        return divScalarLocal(length());
+    }
+
+    public @NotNull MutableVec3f normalizeFastLocal() {
+        final float inv = FastMath.invSqrt(x * x + y * y + z * z);
+        x *= inv;
+        y *= inv;
+        z *= inv;
+        return this;
+    }
+
+    public @NotNull MutableVec3f crossLocal(@NotNull Vec3f other) {
+        return set(
+                y*other.z - other.y*z,
+                z*other.x - other.z*x,
+                x*other.y - other.x*y
+        );
+    }
+
+    public @NotNull MutableVec3f crossLocal(@NotNull MutableVec3f other) {
+        return set(
+                y*other.z - other.y*z,
+                z*other.x - other.z*x,
+                x*other.y - other.x*y
+        );
+    }
+
+    public @NotNull MutableVec3f addScaledLocal(@NotNull Vec3f vec, double scale) {
+        x = (float) (x + vec.x * scale);
+        y = (float) (y + vec.y * scale);
+        z = (float) (z + vec.z * scale);
+        return this;
+    }
+
+    public @NotNull MutableVec3f addScaledLocal(@NotNull MutableVec3f vec, double scale) {
+        x = (float) (x + vec.x * scale);
+        y = (float) (y + vec.y * scale);
+        z = (float) (z + vec.z * scale);
+        return this;
+    }
+
+    public @NotNull MutableVec3f mulAddLocal(@NotNull Vec3f a, @NotNull Vec3f b) {
+        x = x * a.x + b.x;
+        y = y * a.y + b.y;
+        z = z * a.z + b.z;
+        return this;
+    }
+
+    public @NotNull MutableVec3f mulAddLocal(@NotNull MutableVec3f a, @NotNull MutableVec3f b) {
+        x = x * a.x + b.x;
+        y = y * a.y + b.y;
+        z = z * a.z + b.z;
+        return this;
+    }
+
+    public @NotNull MutableVec3f fmaLocal(@NotNull Vec3f a, @NotNull Vec3f b) {
+        x = Math.fma(x, a.x, b.x);
+        y = Math.fma(y, a.y, b.y);
+        z = Math.fma(z, a.z, b.z);
+        return this;
+    }
+
+    public @NotNull MutableVec3f fmaLocal(@NotNull MutableVec3f a, @NotNull MutableVec3f b) {
+        x = Math.fma(x, a.x, b.x);
+        y = Math.fma(y, a.y, b.y);
+        z = Math.fma(z, a.z, b.z);
+        return this;
+    }
+
+    public @NotNull MutableVec3f lerpLocal(@NotNull Vec3f other, double t) {
+        x = (float) (x + (other.x - x) * t);
+        y = (float) (y + (other.y - y) * t);
+        z = (float) (z + (other.z - z) * t);
+        return this;
+    }
+
+    public @NotNull MutableVec3f lerpLocal(@NotNull MutableVec3f other, double t) {
+        x = (float) (x + (other.x - x) * t);
+        y = (float) (y + (other.y - y) * t);
+        z = (float) (z + (other.z - z) * t);
+        return this;
+    }
+
+    public @NotNull MutableVec3f scaleAndClampLocal(double scale, @NotNull Vec3f min, @NotNull Vec3f max) {
+        x = (float) Math.clamp(x * scale, min.x, max.x);
+        y = (float) Math.clamp(y * scale, min.y, max.y);
+        z = (float) Math.clamp(z * scale, min.z, max.z);
+        return this;
+    }
+
+    public @NotNull MutableVec3f zeroLocal() {
+        return set(0, 0, 0);
+    }
+
+    public double length() {
+        return Math.sqrt(x * x + y * y + z * z);
+    }
+
+    public double lengthSquared() {
+        return (x * x) + (y * y) + (z * z);
+    }
+
+    public double distanceSquared(@NotNull Vec3f vec) {
+        float dx = Math.abs(vec.x - x), dy = Math.abs(vec.y - y), dz = Math.abs(vec.z - z);
+        return (dx * dx) + (dy * dy) + (dz * dz);
+    }
+
+    public double distanceSquared(@NotNull MutableVec3f vec) {
+        float dx = Math.abs(vec.x - x), dy = Math.abs(vec.y - y), dz = Math.abs(vec.z - z);
+        return (dx * dx) + (dy * dy) + (dz * dz);
+    }
+
+    public @NotNull Vec3f toImmutable() {
+        return new Vec3f(x, y, z);
+    }
+
+    @Override
+    public String toString() {
+        return "MutableVec3f{x=" + x + ", y=" + y + ", z=" + z + "}";
+    }
+}
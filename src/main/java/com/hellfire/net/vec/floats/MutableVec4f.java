@@ -0,0 +1,292 @@
+package com.hellfire.net.vec.floats;
+
+import com.hellfire.net.vec.FastMath;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Mutable companion of {@link Vec4f}. All {@code *Local} methods modify this instance and return it,
+ * so they never allocate. Use {@link #toImmutable()} to hand the result to code expecting a {@link Vec4f}.
+ */
+public class MutableVec4f {
+
+    public float x, y, z, w;
+
+    public MutableVec4f(float x, float y, float z, float w) {
+        this.x = x;
+        this.y = y;
+        this.z = z;
+        this.w = w;
+    }
+
+    public MutableVec4f(final @NotNull Vec4f vec) {
+        this(vec.x, vec.y, vec.z, vec.w);
+    }
+
+    public MutableVec4f() {
+        this(0, 0, 0, 0);
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // In-place methods
+    ///////////////////////////////////////////////////////////////////////////
+
+    public @NotNull MutableVec4f set(float x, float y, float z, float w) {
+        this.x = x;
+        this.y = y;
+        this.z = z;
+        this.w = w;
+        return this;
+    }
+
+    public @NotNull MutableVec4f set(@NotNull Vec4f vec) {
+        return set(vec.x, vec.y, vec.z, vec.w);
+    }
+
+    public @NotNull MutableVec4f set(@NotNull MutableVec4f vec) {
+        return set(vec.x, vec.y, vec.z, vec.w);
+    }
+
+    public @NotNull MutableVec4f addLocal(float x, float y, float z, float w) {
+        this.x += x;
+        this.y += y;
+        this.z += z;
+        this.w += w;
+        return this;
+    }
+
+    public @NotNull MutableVec4f addLocal(@NotNull Vec4f vec) {
+        return addLocal(vec.x, vec.y, vec.z, vec.w);
+    }
+
+    public @NotNull MutableVec4f addLocal(@NotNull MutableVec4f vec) {
+        return addLocal(vec.x, vec.y, vec.z, vec.w);
+    }
+
+    public @NotNull MutableVec4f subLocal(float x, float y, float z, float w) {
+        this.x -= x;
+        this.y -= y;
+        this.z -= z;
+        this.w -= w;
+        return this;
+    }
+
+    public @NotNull MutableVec4f subLocal(@NotNull Vec4f vec) {
+        return subLocal(vec.x, vec.y, vec.z, vec.w);
+    }
+
+    public @NotNull MutableVec4f subLocal(@NotNull MutableVec4f vec) {
+        return subLocal(vec.x, vec.y, vec.z, vec.w);
+    }
+
+    public @NotNull MutableVec4f mulLocal(float x, float y, float z, float w) {
+        this.x *= x;
+        this.y *= y;
+        this.z *= z;
+        this.w *= w;
+        return this;
+    }
+
+    public @NotNull MutableVec4f mulLocal(@NotNull Vec4f vec) {
+        return mulLocal(vec.x, vec.y, vec.z, vec.w);
+    }
+
+    public @NotNull MutableVec4f mulLocal(@NotNull MutableVec4f vec) {
+        return mulLocal(vec.x, vec.y, vec.z, vec.w);
+    }
+
+    public @NotNull MutableVec4f addScalarLocal(float val) {
+        x += val;
+        y += val;
+        z += val;
+        w += val;
+        return this;
+    }
+
+    public @NotNull MutableVec4f subScalarLocal(float val) {
+        x -= val;
+        y -= val;
+        z -= val;
+        w -= val;
+        return this;
+    }
+
+    public @NotNull MutableVec4f mulScalarLocal(float scale) {
+        x *= scale;
+        y *= scale;
+        z *= scale;
+        w *= scale;
+        return this;
+    }
+
+    public @NotNull MutableVec4f divScalarLocal(double scale) {
+        x = (float) (x / scale);
+        y = (float) (y / scale);
+        z = (float) (z / scale);
+        w = (float) (w / scale);
+        return this;
+    }
+
+    public @NotNull MutableVec4f negateLocal() {
+        x = -x;
+        y = -y;
+        z = -z;
+        w = -w;
+        return this;
+    }
+
+    public @NotNull MutableVec4f absLocal() {
+        x = Math.abs(x);
+        y = Math.abs(y);
+        z = Math.abs(z);
+        w = Math.abs(w);
+        return this;
+    }
+
+    public @NotNull MutableVec4f minLocal(@NotNull Vec4f vec) {
+        x = Math.min(vec.x, x);
+        y = Math.min(vec.y, y);
+        z = Math.min(vec.z, z);
+        w = Math.min(vec.w, w);
+        return this;
+    }
+
+    public @NotNull MutableVec4f minLocal(@NotNull MutableVec4f vec) {
+        x = Math.min(vec.x, x);
+        y = Math.min(vec.y, y);
+        z = Math.min(vec.z, z);
+        w = Math.min(vec.w, w);
+        return this;
+    }
+
+    public @NotNull MutableVec4f maxLocal(@NotNull Vec4f vec) {
+        x = Math.max(vec.x, x);
+        y = Math.max(vec.y, y);
+        z = Math.max(vec.z, z);
+        w = Math.max(vec.w, w);
+        return this;
+    }
+
+    public @NotNull MutableVec4f maxLocal(@NotNull MutableVec4f vec) {
+        x = Math.max(vec.x, x);
+        y = Math.max(vec.y, y);
+        z = Math.max(vec.z, z);
+        w = Math.max(vec.w, w);
+        return this;
+    }
+
+    public @NotNull MutableVec4f normalizeLocal() {
+        return divScalarLocal(length());
+    }
+
+    public @NotNull MutableVec4f normalizeFastLocal() {
+        final float inv = FastMath.invSqrt(x * x + y * y + z * z + w * w);
+        x *= inv;
+        y *= inv;
+        z *= inv;
+        w *= inv;
+        return this;
+    }
+
+    public @NotNull MutableVec4f addScaledLocal(@NotNull Vec4f vec, double scale) {
+        x = (float) (x + vec.x * scale);
+        y = (float) (y + vec.y * scale);
+        z = (float) (z + vec.z * scale);
+        w = (float) (w + vec.w * scale);
+        return this;
+    }
+
+    public @NotNull MutableVec4f addScaledLocal(@NotNull MutableVec4f vec, double scale) {
+        x = (float) (x + vec.x * scale);
+        y = (float) (y + vec.y * scale);
+        z = (float) (z + vec.z * scale);
+        w = (float) (w + vec.w * scale);
+        return this;
+    }
+
+    public @NotNull MutableVec4f mulAddLocal(@NotNull Vec4f a, @NotNull Vec4f b) {
+        x = x * a.x + b.x;
+        y = y * a.y + b.y;
+        z = z * a.z + b.z;
+        w = w * a.w + b.w;
+        return this;
+    }
+
+    public @NotNull MutableVec4f mulAddLocal(@NotNull MutableVec4f a, @NotNull MutableVec4f b) {
+        x = x * a.x + b.x;
+        y = y * a.y + b.y;
+        z = z * a.z + b.z;
+        w = w * a.w + b.w;
+        return this;
+    }
+
+    public @NotNull MutableVec4f fmaLocal(@NotNull Vec4f a, @NotNull Vec4f b) {
+        x = Math.fma(x, a.x, b.x);
+        y = Math.fma(y, a.y, b.y);
+        z = Math.fma(z, a.z, b.z);
+        w = Math.fma(w, a.w, b.w);
+        return this;
+    }
+
+    public @NotNull MutableVec4f fmaLocal(@NotNull MutableVec4f a, @NotNull MutableVec4f b) {
+        x = Math.fma(x, a.x, b.x);
+        y = Math.fma(y, a.y, b.y);
+        z = Math.fma(z, a.z, b.z);
+        w = Math.fma(w, a.w, b.w);
+        return this;
+    }
+
+    public @NotNull MutableVec4f lerpLocal(@NotNull Vec4f other, double t) {
+        x = (float) (x + (other.x - x) * t);
+        y = (float) (y + (other.y - y) * t);
+        z = (float) (z + (other.z - z) * t);
+        w = (float) (w + (other.w - w) * t);
+        return this;
+    }
+
+    public @NotNull MutableVec4f lerpLocal(@NotNull MutableVec4f other, double t) {
+        x = (float) (x + (other.x - x) * t);
+        y = (float) (y + (other.y - y) * t);
+        z = (float) (z + (other.z - z) * t);
+        w = (float) (w + (other.w - w) * t);
+        return this;
+    }
+
+    public @NotNull MutableVec4f scaleAndClampLocal(double scale, @NotNull Vec4f min, @NotNull Vec4f max) {
+        x = (float) Math.clamp(x * scale, min.x, max.x);
+        y = (float) Math.clamp(y * scale, min.y, max.y);
+        z = (float) Math.clamp(z * scale, min.z, max.z);
+        w = (float) Math.clamp(w * scale, min.w, max.w);
+        return this;
+    }
+
+    public @NotNull MutableVec4f zeroLocal() {
+        return set(0, 0, 0, 0);
+    }
+
+    public double length() {
+        return Math.sqrt(x * x + y * y + z * z + w * w);
+    }
+
+    public double lengthSquared() {
+        return (x * x) + (y * y) + (z * z) + (w * w);
+    }
+
+    public double distanceSquared(@NotNull Vec4f vec) {
+        float dx = Math.abs(vec.x - x), dy = Math.abs(vec.y - y), dz = Math.abs(vec.z - z), dw = Math.abs(vec.w - w);
+        return (dx * dx) + (dy * dy) + (dz * dz) + (dw * dw);
+    }
+
+    public double distanceSquared(@NotNull MutableVec4f vec) {
+        float dx = Math.abs(vec.x - x), dy = Math.abs(vec.y - y), dz = Math.abs(vec.z - z), dw = Math.abs(vec.w - w);
+        return (dx * dx) + (dy * dy) + (dz * dz) + (dw * dw);
+    }
+
+    public @NotNull Vec4f toImmutable() {
+        return new Vec4f(x, y, z, w);
+    }
+
+    @Override
+    public String toString() {
+        return "MutableVec4f{x=" + x + ", y=" + y + ", z=" + z + ", w=" + w + "}";
+    }
+}
@@ -1,12 +1,17 @@
 package com.hellfire.net.vec.floats;
 
+import com.hellfire.net.vec.FastMath;
 import com.hellfire.net.vec.IVec2;
 import com.hellfire.net.vec.doubles.Vec2d;
+import com.hellfire.net.vec.text.VecFormat;
+import com.hellfire.net.vec.text.VecParser;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Range;
 
+import java.util.Objects;
+
 /* Created by Conor on 15.05.2024 */
-public class Vec2f extends IVec2<Float, Vec2f> {
+public class Vec2f extends IVec2<Float, Vec2f> implements FloatVecOps<Vec2f> {
 
     public static final Vec2f ZERO = new Vec2f(0, 0);
 
@@ -27,6 +32,14 @@ public class Vec2f extends IVec2<Float, Vec2f> {
         this(0, 0);
     }
 
+    /** Parses the {@code toString}/{@code appendTo} form or plain separated components, see {@link VecParser} */
+    public static @NotNull Vec2f parse(final @NotNull CharSequence text, final int from) {
+        final VecParser parser = new VecParser(text, from).beginVec();
+        final float x = parser.nextFloat(), y = parser.nextFloat();
+        parser.endVec();
+        return new Vec2f(x, y);
+    }
+
     ///////////////////////////////////////////////////////////////////////////
     // Impl methods
     ///////////////////////////////////////////////////////////////////////////
@@ -165,12 +178,12 @@ public class Vec2f extends IVec2<Float, Vec2f> {
 
     @Override
     public @NotNull Vec2f minLength(@NotNull Vec2f vec) {
-        return (length() < vec.length()) ? this : vec;
+        return (lengthSquared() < vec.lengthSquared()) ? this : vec;
     }
 
     @Override
     public @NotNull Vec2f maxLength(@NotNull Vec2f vec) {
-        return (length() > vec.length()) ? this : vec;
+        return (lengthSquared() > vec.lengthSquared()) ? this : vec;
     }
 
     @Override
@@ -190,7 +203,29 @@ public class Vec2f extends IVec2<Float, Vec2f> {
 
     @Override
     public @NotNull Vec2d normalize() {
-        return new Vec2d(x, y).divScalar(length());
+        final double len = length();
+        return new Vec2d(x / len, y / len);
+    }
+
+    @Override
+    public double lengthFast() {
+        return FastMath.sqrt((double) x * x + (double) y * y);
+    }
+
+    @Override
+    public double inverseLength() {
+        return 1 / Math.sqrt((double) x * x + (double) y * y);
+    }
+
+    @Override
+    public double inverseLengthFast() {
+        return FastMath.invSqrt((double) x * x + (double) y * y);
+    }
+
+    @Override
+    public @NotNull Vec2d normalizeFast() {
+        final double inv = inverseLengthFast();
+        return new Vec2d(x * inv, y * inv);
     }
 
     @Override
@@ -202,4 +237,141 @@ public class Vec2f extends IVec2<Float, Vec2f> {
     public @NotNull Vec2f clone() {
         return new Vec2f(x, y);
     }
+
+    public @NotNull MutableVec2f toMutable() {
+        return new MutableVec2f(x, y);
+    }
+
+    @Override
+    public @NotNull Vec2f addScaled(@NotNull Vec2f vec, double scale) {
+        return new Vec2f((float) (x + vec.x * scale), (float) (y + vec.y * scale));
+    }
+
+    @Override
+    public @NotNull Vec2f mulAdd(@NotNull Vec2f a, @NotNull Vec2f b) {
+        return new Vec2f(x * a.x + b.x, y * a.y + b.y);
+    }
+
+    @Override
+    public @NotNull Vec2f fma(@NotNull Vec2f a, @NotNull Vec2f b) {
+        return new Vec2f(Math.fma(x, a.x, b.x), Math.fma(y, a.y, b.y));
+    }
+
+    @Override
+    public @NotNull Vec2f lerp(@NotNull Vec2f other, double t) {
+        return new Vec2f((float) (x + (other.x - x) * t), (float) (y + (other.y - y) * t));
+    }
+
+    @Override
+    public @NotNull Vec2f scaleAndClamp(double scale, @NotNull Vec2f min, @NotNull Vec2f max) {
+        return new Vec2f((float) Math.clamp(x * scale, min.x, max.x), (float) Math.clamp(y * scale, min.y, max.y));
+    }
+
+    @Override
+    public double distanceToLine(@NotNull Vec2f a, @NotNull Vec2f b) {
+        final double ux = (double) b.x - a.x, uy = (double) b.y - a.y;
+        final double dx = (double) x - a.x, dy = (double) y - a.y;
+        final double uu = ux * ux + uy * uy;
+        if (uu == 0) return Math.sqrt(dx * dx + dy * dy);
+
+        final double t = (dx * ux + dy * uy) / uu;
+        final double ex = dx - ux * t, ey = dy - uy * t;
+        return Math.sqrt(ex * ex + ey * ey);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Vec2f v)) return false;
+        return Float.floatToIntBits(x) == Float.floatToIntBits(v.x)
+                && Float.floatToIntBits(y) == Float.floatToIntBits(v.y);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Float.hashCode(x);
+        result = HASH_PRIME * result + Float.hashCode(y);
+        return result;
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // Primitive methods
+    ///////////////////////////////////////////////////////////////////////////
+
+    @Override
+    public float getFloat(@Range(from = 0, to = 1) int component) {
+        return switch (component) {
+            case 0 -> x;
+            case 1 -> y;
+            default -> throw new IllegalArgumentException("Invalid component");
+        };
+    }
+
+    @Override
+    public double getDouble(@Range(from = 0, to = 1) int component) {
+        return switch (component) {
+            case 0 -> x;
+            case 1 -> y;
+            default -> throw new IllegalArgumentException("Invalid component");
+        };
+    }
+
+    @Override
+    public @NotNull Vec2f setFloat(@Range(from = 0, to = 1) int component, float val) {
+        return switch (component) {
+            case 0 -> new Vec2f(val, y);
+            case 1 -> new Vec2f(x, val);
+            default -> throw new IllegalArgumentException("Invalid component");
+        };
+    }
+
+    @Override
+    public void componentsInto(float @NotNull [] dst, int offset) {
+        Objects.checkFromIndexSize(offset, NUM_COMPONENTS, dst.length);
+        dst[offset] = x;
+        dst[offset + 1] = y;
+    }
+
+    @Override
+    public void componentsInto(double @NotNull [] dst, int offset) {
+        Objects.checkFromIndexSize(offset, NUM_COMPONENTS, dst.length);
+        dst[offset] = x;
+        dst[offset + 1] = y;
+    }
+
+    public @NotNull Vec2f add(float x2, float y2) {
+        return new Vec2f(x + x2, y + y2);
+    }
+
+    public @NotNull Vec2f sub(float x2, float y2) {
+        return new Vec2f(x - x2, y - y2);
+    }
+
+    public @NotNull Vec2f mul(float x2, float y2) {
+        return new Vec2f(x * x2, y * y2);
+    }
+
+    public @NotNull Vec2f div(float x2, float y2) {
+        return new Vec2f(x / x2, y / y2);
+    }
+
+    @Override
+    public @NotNull Vec2f addScalar(float val) {
+        return new Vec2f(x + val, y + val);
+    }
+
+    @Override
+    public @NotNull Vec2f subScalar(float val) {
+        return new Vec2f(x - val, y - val);
+    }
+
+    @Override
+    public @NotNull Vec2f mulScalar(float scale) {
+        return new Vec2f(x * scale, y * scale);
+    }
+
+    @Override
+    protected void appendComponent(@NotNull StringBuilder sb, @Range(from = 0, to = 1) int component, int precision) {
+        VecFormat.append(sb, getFloat(component), precision);
+    }
 }
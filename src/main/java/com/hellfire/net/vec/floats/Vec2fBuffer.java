@@ -0,0 +1,263 @@
+package com.hellfire.net.vec.floats;
+
+import com.hellfire.net.vec.FastMath;
+import com.hellfire.net.vec.IVecBuffer;
+import com.hellfire.net.vec.doubles.Vec2dBuffer;
+import com.hellfire.net.vec.kernel.VecKernelProvider;
+import com.hellfire.net.vec.kernel.VecKernels;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+
+public class Vec2fBuffer extends IVecBuffer<Float, Vec2f, Vec2fBuffer> {
+
+    public final float[] x, y;
+
+    public Vec2fBuffer(final int size) {
+        super(size);
+        this.x = new float[size];
+        this.y = new float[size];
+    }
+
+    public Vec2fBuffer(final @NotNull Vec2f @NotNull ... vecs) {
+        this(vecs.length);
+        for (int i = 0; i < vecs.length; i++) set(i, vecs[i]);
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // Impl methods
+    ///////////////////////////////////////////////////////////////////////////
+
+    @Override
+    public int numComponents() {
+        return Vec2f.NUM_COMPONENTS;
+    }
+
+    @Override
+    public @NotNull Vec2f get(int index) {
+        return new Vec2f(x[index], y[index]);
+    }
+
+    @Override
+    public @NotNull Vec2fBuffer set(int index, @NotNull Vec2f vec) {
+        x[index] = vec.x;
+        y[index] = vec.y;
+        return this;
+    }
+
+    public @NotNull Vec2fBuffer set(int index, float x, float y) {
+        this.x[index] = x;
+        this.y[index] = y;
+        return this;
+    }
+
+    @Override
+    public @NotNull Vec2fBuffer add(int from, int to, @NotNull Vec2fBuffer other) {
+        checkRange(from, to);
+        other.checkRange(from, to);
+        final VecKernels kernels = VecKernelProvider.get();
+        kernels.add(x, other.x, x, from, to);
+        kernels.add(y, other.y, y, from, to);
+        return this;
+    }
+
+    @Override
+    public @NotNull Vec2fBuffer add(int from, int to, @NotNull Vec2f vec) {
+        checkRange(from, to);
+        final float vx = vec.x, vy = vec.y;
+        for (int i = from; i < to; i++) {
+            x[i] += vx;
+            y[i] += vy;
+        }
+        return this;
+    }
+
+    @Override
+    public @NotNull Vec2fBuffer sub(int from, int to, @NotNull Vec2fBuffer other) {
+        checkRange(from, to);
+        other.checkRange(from, to);
+        final VecKernels kernels = VecKernelProvider.get();
+        kernels.sub(x, other.x, x, from, to);
+        kernels.sub(y, other.y, y, from, to);
+        return this;
+    }
+
+    @Override
+    public @NotNull Vec2fBuffer sub(int from, int to, @NotNull Vec2f vec) {
+        checkRange(from, to);
+        final float vx = vec.x, vy = vec.y;
+        for (int i = from; i < to; i++) {
+            x[i] -= vx;
+            y[i] -= vy;
+        }
+        return this;
+    }
+
+    @Override
+    public @NotNull Vec2fBuffer mul(int from, int to, @NotNull Vec2fBuffer other) {
+        checkRange(from, to);
+        other.checkRange(from, to);
+        final VecKernels kernels = VecKernelProvider.get();
+        kernels.mul(x, other.x, x, from, to);
+        kernels.mul(y, other.y, y, from, to);
+        return this;
+    }
+
+    @Override
+    public @NotNull Vec2fBuffer mul(int from, int to, @NotNull Vec2f vec) {
+        checkRange(from, to);
+        final float vx = vec.x, vy = vec.y;
+        for (int i = from; i < to; i++) {
+            x[i] *= vx;
+            y[i] *= vy;
+        }
+        return this;
+    }
+
+    public @NotNull Vec2fBuffer addScalar(int from, int to, float val) {
+        checkRange(from, to);
+        for (int i = from; i < to; i++) {
+            x[i] += val;
+            y[i] += val;
+        }
+        return this;
+    }
+
+    public @NotNull Vec2fBuffer subScalar(int from, int to, float val) {
+        checkRange(from, to);
+        for (int i = from; i < to; i++) {
+            x[i] -= val;
+            y[i] -= val;
+        }
+        return this;
+    }
+
+    public @NotNull Vec2fBuffer mulScalar(int from, int to, float scale) {
+        checkRange(from, to);
+        for (int i = from; i < to; i++) {
+            x[i] *= scale;
+            y[i] *= scale;
+        }
+        return this;
+    }
+
+    @Override
+    public @NotNull Vec2fBuffer divScalar(int from, int to, double scale) {
+        checkRange(from, to);
+        for (int i = from; i < to; i++) {
+            x[i] = (float) (x[i] / scale);
+            y[i] = (float) (y[i] / scale);
+        }
+        return this;
+    }
+
+    public @NotNull Vec2fBuffer negate(int from, int to) {
+        checkRange(from, to);
+        for (int i = from; i < to; i++) {
+            x[i] = -x[i];
+            y[i] = -y[i];
+        }
+        return this;
+    }
+
+    @Override
+    public double length(int index) {
+        final float xi = x[index], yi = y[index];
+        return Math.sqrt(xi * xi + yi * yi);
+    }
+
+    @Override
+    public double lengthSquared(int index) {
+        final float xi = x[index], yi = y[index];
+        return (xi * xi) + (yi * yi);
+    }
+
+    @Override
+    public double distanceSquared(int index, @NotNull Vec2f vec) {
+        float dx = Math.abs(vec.x - x[index]), dy = Math.abs(vec.y - y[index]);
+        return (dx * dx) + (dy * dy);
+    }
+
+    @Override
+    public void length(int from, int to, double @NotNull [] dst, int dstOffset) {
+        checkRange(from, to);
+        checkDst(from, to, dst, dstOffset);
+        for (int i = from; i < to; i++) {
+            final float xi = x[i], yi = y[i];
+            dst[dstOffset + i - from] = Math.sqrt(xi * xi + yi * yi);
+        }
+    }
+
+    @Override
+    public void distanceSquared(int from, int to, @NotNull Vec2fBuffer other, double @NotNull [] dst, int dstOffset) {
+        checkRange(from, to);
+        other.checkRange(from, to);
+        checkDst(from, to, dst, dstOffset);
+        for (int i = from; i < to; i++) {
+            float dx = Math.abs(other.x[i] - x[i]), dy = Math.abs(other.y[i] - y[i]);
+            dst[dstOffset + i - from] = (dx * dx) + (dy * dy);
+        }
+    }
+
+    @Override
+    public void distanceSquared(int from, int to, @NotNull Vec2f vec, double @NotNull [] dst, int dstOffset) {
+        checkRange(from, to);
+        checkDst(from, to, dst, dstOffset);
+        final float vx = vec.x, vy = vec.y;
+        for (int i = from; i < to; i++) {
+            float dx = Math.abs(vx - x[i]), dy = Math.abs(vy - y[i]);
+            dst[dstOffset + i - from] = (dx * dx) + (dy * dy);
+        }
+    }
+
+    public @NotNull Vec2fBuffer normalize(int from, int to) {
+        checkRange(from, to);
+        for (int i = from; i < to; i++) {
+            final float xi = x[i], yi = y[i];
+            final double len = Math.sqrt(xi * xi + yi * yi);
+            x[i] = (float) (xi / len);
+            y[i] = (float) (yi / len);
+        }
+        return this;
+    }
+
+    public @NotNull Vec2fBuffer normalize() {
+        return normalize(0, size);
+    }
+
+    /** Approximate {@link #normalize(int, int)}, see {@link FastMath} */
+    public @NotNull Vec2fBuffer normalizeFast(int from, int to) {
+        checkRange(from, to);
+        for (int i = from; i < to; i++) {
+            final float xi = x[i], yi = y[i];
+            final float inv = FastMath.invSqrt(xi * xi + yi * yi);
+            x[i] = xi * inv;
+            y[i] = yi * inv;
+        }
+        return this;
+    }
+
+    public @NotNull Vec2fBuffer normalizeFast() {
+        return normalizeFast(0, size);
+    }
+
+    public @NotNull Vec2dBuffer normalize(int from, int to, @NotNull Vec2dBuffer dst) {
+        checkRange(from, to);
+        Objects.checkFromToIndex(from, to, dst.size());
+        for (int i = from; i < to; i++) {
+            final float xi = x[i], yi = y[i];
+            final double len = Math.sqrt(xi * xi + yi * yi);
+            dst.x[i] = (double) xi / len;
+            dst.y[i] = (double) yi / len;
+        }
+        return dst;
+    }
+
+    @Override
+    public @NotNull Vec2fBuffer copy() {
+        final Vec2fBuffer copy = new Vec2fBuffer(size);
+        System.arraycopy(x, 0, copy.x, 0, size);
+        System.arraycopy(y, 0, copy.y, 0, size);
+        return copy;
+    }
+}
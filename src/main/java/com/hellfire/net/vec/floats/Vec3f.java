@@ -1,12 +1,18 @@
 package com.hellfire.net.vec.floats;
 
+import com.hellfire.net.vec.FastMath;
 import com.hellfire.net.vec.IVec3;
 import com.hellfire.net.vec.doubles.Vec3d;
+import com.hellfire.net.vec.text.VecFormat;
+import com.hellfire.net.vec.text.VecParser;
+import net.minestom.server.coordinate.Point;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Range;
 
+import java.util.Objects;
+
 /* Created by Conor on 15.05.2024 */
-public class Vec3f extends IVec3<Float, Vec3f> {
+public class Vec3f extends IVec3<Float, Vec3f> implements FloatVecOps<Vec3f> {
 
     public static final Vec3f ZERO = new Vec3f(0, 0, 0);
 
@@ -29,6 +35,18 @@ public class Vec3f extends IVec3<Float, Vec3f> {
         this(0, 0, 0);
     }
 
+    /** Parses the {@code toString}/{@code appendTo} form or plain separated components, see {@link VecParser} */
+    public static @NotNull Vec3f parse(final @NotNull CharSequence text, final int from) {
+        final VecParser parser = new VecParser(text, from).beginVec();
+        final float x = parser.nextFloat(), y = parser.nextFloat(), z = parser.nextFloat();
+        parser.endVec();
+        return new Vec3f(x, y, z);
+    }
+
+    public static @NotNull Vec3f from(final @NotNull Point point) {
+        return new Vec3f((float) point.x(), (float) point.y(), (float) point.z());
+    }
+
     ///////////////////////////////////////////////////////////////////////////
     // Impl methods
     ///////////////////////////////////////////////////////////////////////////
@@ -169,12 +187,12 @@ public class Vec3f extends IVec3<Float, Vec3f> {
 
     @Override
     public @NotNull Vec3f minLength(@NotNull Vec3f vec) {
-        return (length() < vec.length()) ? this : vec;
+        return (lengthSquared() < vec.lengthSquared()) ? this : vec;
     }
 
     @Override
     public @NotNull Vec3f maxLength(@NotNull Vec3f vec) {
-        return (length() > vec.length()) ? this : vec;
+        return (lengthSquared() > vec.lengthSquared()) ? this : vec;
     }
 
     @Override
@@ -196,7 +214,29 @@ public class Vec3f extends IVec3<Float, Vec3f> {
 
     @Override
     public @NotNull Vec3d normalize() {
-        return new Vec3d(x, y, z).divScalar(length());
+        final double len = length();
+        return new Vec3d(x / len, y / len, z / len);
+    }
+
+    @Override
+    public double lengthFast() {
+        return FastMath.sqrt((double) x * x + (double) y * y + (double) z * z);
+    }
+
+    @Override
+    public double inverseLength() {
+        return 1 / Math.sqrt((double) x * x + (double) y * y + (double) z * z);
+    }
+
+    @Override
+    public double inverseLengthFast() {
+        return FastMath.invSqrt((double) x * x + (double) y * y + (double) z * z);
+    }
+
+    @Override
+    public @NotNull Vec3d normalizeFast() {
+        final double inv = inverseLengthFast();
+        return new Vec3d(x * inv, y * inv, z * inv);
     }
 
     @Override
@@ -209,6 +249,10 @@ public class Vec3f extends IVec3<Float, Vec3f> {
         return new Vec3f(x, y, z);
     }
 
+    public @NotNull MutableVec3f toMutable() {
+        return new MutableVec3f(x, y, z);
+    }
+
     @Override
     public @NotNull Vec3f cross(@NotNull Vec3f other) {
         return new Vec3f(
@@ -217,4 +261,152 @@ public class Vec3f extends IVec3<Float, Vec3f> {
                 x*other.y - other.x*y
         );
     }
+
+    @Override
+    public @NotNull Vec3f addScaled(@NotNull Vec3f vec, double scale) {
+        return new Vec3f((float) (x + vec.x * scale), (float) (y + vec.y * scale), (float) (z + vec.z * scale));
+    }
+
+    @Override
+    public @NotNull Vec3f mulAdd(@NotNull Vec3f a, @NotNull Vec3f b) {
+        return new Vec3f(x * a.x + b.x, y * a.y + b.y, z * a.z + b.z);
+    }
+
+    @Override
+    public @NotNull Vec3f fma(@NotNull Vec3f a, @NotNull Vec3f b) {
+        return new Vec3f(Math.fma(x, a.x, b.x), Math.fma(y, a.y, b.y), Math.fma(z, a.z, b.z));
+    }
+
+    @Override
+    public @NotNull Vec3f lerp(@NotNull Vec3f other, double t) {
+        return new Vec3f(
+                (float) (x + (other.x - x) * t),
+                (float) (y + (other.y - y) * t),
+                (float) (z + (other.z - z) * t)
+        );
+    }
+
+    @Override
+    public @NotNull Vec3f scaleAndClamp(double scale, @NotNull Vec3f min, @NotNull Vec3f max) {
+        return new Vec3f(
+                (float) Math.clamp(x * scale, min.x, max.x),
+                (float) Math.clamp(y * scale, min.y, max.y),
+                (float) Math.clamp(z * scale, min.z, max.z)
+        );
+    }
+
+    @Override
+    public double distanceToLine(@NotNull Vec3f a, @NotNull Vec3f b) {
+        final double ux = (double) b.x - a.x, uy = (double) b.y - a.y, uz = (double) b.z - a.z;
+        final double dx = (double) x - a.x, dy = (double) y - a.y, dz = (double) z - a.z;
+        final double uu = ux * ux + uy * uy + uz * uz;
+        if (uu == 0) return Math.sqrt(dx * dx + dy * dy + dz * dz);
+
+        final double t = (dx * ux + dy * uy + dz * uz) / uu;
+        final double ex = dx - ux * t, ey = dy - uy * t, ez = dz - uz * t;
+        return Math.sqrt(ex * ex + ey * ey + ez * ez);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Vec3f v)) return false;
+        return Float.floatToIntBits(x) == Float.floatToIntBits(v.x)
+                && Float.floatToIntBits(y) == Float.floatToIntBits(v.y)
+                && Float.floatToIntBits(z) == Float.floatToIntBits(v.z);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Float.hashCode(x);
+        result = HASH_PRIME * result + Float.hashCode(y);
+        result = HASH_PRIME * result + Float.hashCode(z);
+        return result;
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // Primitive methods
+    ///////////////////////////////////////////////////////////////////////////
+
+    @Override
+    public float getFloat(@Range(from = 0, to = 2) int component) {
+        return switch (component) {
+            case 0 -> x;
+            case 1 -> y;
+            case 2 -> z;
+            default -> throw new IllegalArgumentException("Invalid component");
+        };
+    }
+
+    @Override
+    public double getDouble(@Range(from = 0, to = 2) int component) {
+        return switch (component) {
+            case 0 -> x;
+            case 1 -> y;
+            case 2 -> z;
+            default -> throw new IllegalArgumentException("Invalid component");
+        };
+    }
+
+    @Override
+    public @NotNull Vec3f setFloat(@Range(from = 0, to = 2) int component, float val) {
+        return switch (component) {
+            case 0 -> new Vec3f(val, y, z);
+            case 1 -> new Vec3f(x, val, z);
+            case 2 -> new Vec3f(x, y, val);
+            default -> throw new IllegalArgumentException("Invalid component");
+        };
+    }
+
+    @Override
+    public void componentsInto(float @NotNull [] dst, int offset) {
+        Objects.checkFromIndexSize(offset, NUM_COMPONENTS, dst.length);
+        dst[offset] = x;
+        dst[offset + 1] = y;
+        dst[offset + 2] = z;
+    }
+
+    @Override
+    public void componentsInto(double @NotNull [] dst, int offset) {
+        Objects.checkFromIndexSize(offset, NUM_COMPONENTS, dst.length);
+        dst[offset] = x;
+        dst[offset + 1] = y;
+        dst[offset + 2] = z;
+    }
+
+    public @NotNull Vec3f add(float x2, float y2, float z2) {
+        return new Vec3f(x + x2, y + y2, z + z2);
+    }
+
+    public @NotNull Vec3f sub(float x2, float y2, float z2) {
+        return new Vec3f(x - x2, y - y2, z - z2);
+    }
+
+    public @NotNull Vec3f mul(float x2, float y2, float z2) {
+        return new Vec3f(x * x2, y * y2, z * z2);
+    }
+
+    public @NotNull Vec3f div(float x2, float y2, float z2) {
+        return new Vec3f(x / x2, y / y2, z / z2);
+    }
+
+    @Override
+    public @NotNull Vec3f addScalar(float val) {
+        return new Vec3f(x + val, y + val, z + val);
+    }
+
+    @Override
+    public @NotNull Vec3f subScalar(float val) {
+        return new Vec3f(x - val, y - val, z - val);
+    }
+
+    @Override
+    public @NotNull Vec3f mulScalar(float scale) {
+        return new Vec3f(x * scale, y * scale, z * scale);
+    }
+
+    @Override
+    protected void appendComponent(@NotNull StringBuilder sb, @Range(from = 0, to = 2) int component, int precision) {
+        VecFormat.append(sb, getFloat(component), precision);
+    }
 }
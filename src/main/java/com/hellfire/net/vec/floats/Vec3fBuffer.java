@@ -0,0 +1,281 @@
+package com.hellfire.net.vec.floats;
+
+import com.hellfire.net.vec.FastMath;
+import com.hellfire.net.vec.IVecBuffer;
+import com.hellfire.net.vec.doubles.Vec3dBuffer;
+import com.hellfire.net.vec.kernel.VecKernelProvider;
+import com.hellfire.net.vec.kernel.VecKernels;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+
+public class Vec3fBuffer extends IVecBuffer<Float, Vec3f, Vec3fBuffer> {
+
+    public final float[] x, y, z;
+
+    public Vec3fBuffer(final int size) {
+        super(size);
+        this.x = new float[size];
+        this.y = new float[size];
+        this.z = new float[size];
+    }
+
+    public Vec3fBuffer(final @NotNull Vec3f @NotNull ... vecs) {
+        this(vecs.length);
+        for (int i = 0; i < vecs.length; i++) set(i, vecs[i]);
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // Impl methods
+    ///////////////////////////////////////////////////////////////////////////
+
+    @Override
+    public int numComponents() {
+        return Vec3f.NUM_COMPONENTS;
+    }
+
+    @Override
+    public @NotNull Vec3f get(int index) {
+        return new Vec3f(x[index], y[index], z[index]);
+    }
+
+    @Override
+    public @NotNull Vec3fBuffer set(int index, @NotNull Vec3f vec) {
+        x[index] = vec.x;
+        y[index] = vec.y;
+        z[index] = vec.z;
+        return this;
+    }
+
+    public @NotNull Vec3fBuffer set(int index, float x, float y, float z) {
+        this.x[index] = x;
+        this.y[index] = y;
+        this.z[index] = z;
+        return this;
+    }
+
+    @Override
+    public @NotNull Vec3fBuffer add(int from, int to, @NotNull Vec3fBuffer other) {
+        checkRange(from, to);
+        other.checkRange(from, to);
+        final VecKernels kernels = VecKernelProvider.get();
+        kernels.add(x, other.x, x, from, to);
+        kernels.add(y, other.y, y, from, to);
+        kernels.add(z, other.z, z, from, to);
+        return this;
+    }
+
+    @Override
+    public @NotNull Vec3fBuffer add(int from, int to, @NotNull Vec3f vec) {
+        checkRange(from, to);
+        final float vx = vec.x, vy = vec.y, vz = vec.z;
+        for (int i = from; i < to; i++) {
+            x[i] += vx;
+            y[i] += vy;
+            z[i] += vz;
+        }
+        return this;
+    }
+
+    @Override
+    public @NotNull Vec3fBuffer sub(int from, int to, @NotNull Vec3fBuffer other) {
+        checkRange(from, to);
+        other.checkRange(from, to);
+        final VecKernels kernels = VecKernelProvider.get();
+        kernels.sub(x, other.x, x, from, to);
+        kernels.sub(y, other.y, y, from, to);
+        kernels.sub(z, other.z, z, from, to);
+        return this;
+    }
+
+    @Override
+    public @NotNull Vec3fBuffer sub(int from, int to, @NotNull Vec3f vec) {
+        checkRange(from, to);
+        final float vx = vec.x, vy = vec.y, vz = vec.z;
+        for (int i = from; i < to; i++) {
+            x[i] -= vx;
+            y[i] -= vy;
+            z[i] -= vz;
+        }
+        return this;
+    }
+
+    @Override
+    public @NotNull Vec3fBuffer mul(int from, int to, @NotNull Vec3fBuffer other) {
+        checkRange(from, to);
+        other.checkRange(from, to);
+        final VecKernels kernels = VecKernelProvider.get();
+        kernels.mul(x, other.x, x, from, to);
+        kernels.mul(y, other.y, y, from, to);
+        kernels.mul(z, other.z, z, from, to);
+        return this;
+    }
+
+    @Override
+    public @NotNull Vec3fBuffer mul(int from, int to, @NotNull Vec3f vec) {
+        checkRange(from, to);
+        final float vx = vec.x, vy = vec.y, vz = vec.z;
+        for (int i = from; i < to; i++) {
+            x[i] *= vx;
+            y[i] *= vy;
+            z[i] *= vz;
+        }
+        return this;
+    }
+
+    public @NotNull Vec3fBuffer addScalar(int from, int to, float val) {
+        checkRange(from, to);
+        for (int i = from; i < to; i++) {
+            x[i] += val;
+            y[i] += val;
+            z[i] += val;
+        }
+        return this;
+    }
+
+    public @NotNull Vec3fBuffer subScalar(int from, int to, float val) {
+        checkRange(from, to);
+        for (int i = from; i < to; i++) {
+            x[i] -= val;
+            y[i] -= val;
+            z[i] -= val;
+        }
+        return this;
+    }
+
+    public @NotNull Vec3fBuffer mulScalar(int from, int to, float scale) {
+        checkRange(from, to);
+        for (int i = from; i < to; i++) {
+            x[i] *= scale;
+            y[i] *= scale;
+            z[i] *= scale;
+        }
+        return this;
+    }
+
+    @Override
+    public @NotNull Vec3fBuffer divScalar(int from, int to, double scale) {
+        checkRange(from, to);
+        for (int i = from; i < to; i++) {
+            x[i] = (float) (x[i] / scale);
+            y[i] = (float) (y[i] / scale);
+            z[i] = (float) (z[i] / scale);
+        }
+        return this;
+    }
+
+    public @NotNull Vec3fBuffer negate(int from, int to) {
+        checkRange(from, to);
+        for (int i = from; i < to; i++) {
+            x[i] = -x[i];
+            y[i] = -y[i];
+            z[i] = -z[i];
+        }
+        return this;
+    }
+
+    @Override
+    public double length(int index) {
+        final float xi = x[index], yi = y[index], zi = z[index];
+        return Math.sqrt(xi * xi + yi * yi + zi * zi);
+    }
+
+    @Override
+    public double lengthSquared(int index) {
+        final float xi = x[index], yi = y[index], zi = z[index];
+        return (xi * xi) + (yi * yi) + (zi * zi);
+    }
+
+    @Override
+    public double distanceSquared(int index, @NotNull Vec3f vec) {
+        float dx = Math.abs(vec.x - x[index]), dy = Math.abs(vec.y - y[index]), dz = Math.abs(vec.z - z[index]);
+        return (dx * dx) + (dy * dy) + (dz * dz);
+    }
+
+    @Override
+    public void length(int from, int to, double @NotNull [] dst, int dstOffset) {
+        checkRange(from, to);
+        checkDst(from, to, dst, dstOffset);
+        for (int i = from; i < to; i++) {
+            final float xi = x[i], yi = y[i], zi = z[i];
+            dst[dstOffset + i - from] = Math.sqrt(xi * xi + yi * yi + zi * zi);
+        }
+    }
+
+    @Override
+    public void distanceSquared(int from, int to, @NotNull Vec3fBuffer other, double @NotNull [] dst, int dstOffset) {
+        checkRange(from, to);
+        other.checkRange(from, to);
+        checkDst(from, to, dst, dstOffset);
+        for (int i = from; i < to; i++) {
+            float dx = Math.abs(other.x[i] - x[i]), dy = Math.abs(other.y[i] - y[i]), dz = Math.abs(other.z[i] - z[i]);
+            dst[dstOffset + i - from] = (dx * dx) + (dy * dy) + (dz * dz);
+        }
+    }
+
+    @Override
+    public void distanceSquared(int from, int to, @NotNull Vec3f vec, double @NotNull [] dst, int dstOffset) {
+        checkRange(from, to);
+        checkDst(from, to, dst, dstOffset);
+        final float vx = vec.x, vy = vec.y, vz = vec.z;
+        for (int i = from; i < to; i++) {
+            float dx = Math.abs(vx - x[i]), dy = Math.abs(vy - y[i]), dz = Math.abs(vz - z[i]);
+            dst[dstOffset + i - from] = (dx * dx) + (dy * dy) + (dz * dz);
+        }
+    }
+
+    public @NotNull Vec3fBuffer normalize(int from, int to) {
+        checkRange(from, to);
+        for (int i = from; i < to; i++) {
+            final float xi = x[i], yi = y[i], zi = z[i];
+            final double len = Math.sqrt(xi * xi + yi * yi + zi * zi);
+            x[i] = (float) (xi / len);
+            y[i] = (float) (yi / len);
+            z[i] = (float) (zi / len);
+        }
+        return this;
+    }
+
+    public @NotNull Vec3fBuffer normalize() {
+        return normalize(0, size);
+    }
+
+    /** Approximate {@link #normalize(int, int)}, see {@link FastMath} */
+    public @NotNull Vec3fBuffer normalizeFast(int from, int to) {
+        checkRange(from, to);
+        for (int i = from; i < to; i++) {
+            final float xi = x[i], yi = y[i], zi = z[i];
+            final float inv = FastMath.invSqrt(xi * xi + yi * yi + zi * zi);
+            x[i] = xi * inv;
+            y[i] = yi * inv;
+            z[i] = zi * inv;
+        }
+        return this;
+    }
+
+    public @NotNull Vec3fBuffer normalizeFast() {
+        return normalizeFast(0, size);
+    }
+
+    public @NotNull Vec3dBuffer normalize(int from, int to, @NotNull Vec3dBuffer dst) {
+        checkRange(from, to);
+        Objects.checkFromToIndex(from, to, dst.size());
+        for (int i = from; i < to; i++) {
+            final float xi = x[i], yi = y[i], zi = z[i];
+            final double len = Math.sqrt(xi * xi + yi * yi + zi * zi);
+            dst.x[i] = (double) xi / len;
+            dst.y[i] = (double) yi / len;
+            dst.z[i] = (double) zi / len;
+        }
+        return dst;
+    }
+
+    @Override
+    public @NotNull Vec3fBuffer copy() {
+        final Vec3fBuffer copy = new Vec3fBuffer(size);
+        System.arraycopy(x, 0, copy.x, 0, size);
+        System.arraycopy(y, 0, copy.y, 0, size);
+        System.arraycopy(z, 0, copy.z, 0, size);
+        return copy;
+    }
+}
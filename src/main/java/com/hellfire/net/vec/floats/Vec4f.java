@@ -1,12 +1,17 @@
 package com.hellfire.net.vec.floats;
 
+import com.hellfire.net.vec.FastMath;
 import com.hellfire.net.vec.IVec4;
 import com.hellfire.net.vec.doubles.Vec4d;
+import com.hellfire.net.vec.text.VecFormat;
+import com.hellfire.net.vec.text.VecParser;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Range;
 
+import java.util.Objects;
+
 /* Created by Conor on 15.05.2024 */
-public class Vec4f extends IVec4<Float, Vec4f> {
+public class Vec4f extends IVec4<Float, Vec4f> implements FloatVecOps<Vec4f> {
 
     public static final Vec4f ZERO = new Vec4f(0, 0, 0, 0);
 
@@ -31,6 +36,14 @@ public class Vec4f extends IVec4<Float, Vec4f> {
         this(0, 0, 0, 0);
     }
 
+    /** Parses the {@code toString}/{@code appendTo} form or plain separated components, see {@link VecParser} */
+    public static @NotNull Vec4f parse(final @NotNull CharSequence text, final int from) {
+        final VecParser parser = new VecParser(text, from).beginVec();
+        final float x = parser.nextFloat(), y = parser.nextFloat(), z = parser.nextFloat(), w = parser.nextFloat();
+        parser.endVec();
+        return new Vec4f(x, y, z, w);
+    }
+
     ///////////////////////////////////////////////////////////////////////////
     // Impl methods
     ///////////////////////////////////////////////////////////////////////////
@@ -173,12 +186,12 @@ public class Vec4f extends IVec4<Float, Vec4f> {
 
     @Override
     public @NotNull Vec4f minLength(@NotNull Vec4f vec) {
-        return (length() < vec.length()) ? this : vec;
+        return (lengthSquared() < vec.lengthSquared()) ? this : vec;
     }
 
     @Override
     public @NotNull Vec4f maxLength(@NotNull Vec4f vec) {
-        return (length() > vec.length()) ? this : vec;
+        return (lengthSquared() > vec.lengthSquared()) ? this : vec;
     }
 
     @Override
@@ -202,7 +215,29 @@ public class Vec4f extends IVec4<Float, Vec4f> {
 
     @Override
     public @NotNull Vec4d normalize() {
-        return new Vec4d(x, y, z, w).divScalar(length());
+        final double len = length();
+        return new Vec4d(x / len, y / len, z / len, w / len);
+    }
+
+    @Override
+    public double lengthFast() {
+        return FastMath.sqrt((double) x * x + (double) y * y + (double) z * z + (double) w * w);
+    }
+
+    @Override
+    public double inverseLength() {
+        return 1 / Math.sqrt((double) x * x + (double) y * y + (double) z * z + (double) w * w);
+    }
+
+    @Override
+    public double inverseLengthFast() {
+        return FastMath.invSqrt((double) x * x + (double) y * y + (double) z * z + (double) w * w);
+    }
+
+    @Override
+    public @NotNull Vec4d normalizeFast() {
+        final double inv = inverseLengthFast();
+        return new Vec4d(x * inv, y * inv, z * inv, w * inv);
     }
 
     @Override
@@ -214,4 +249,170 @@ public class Vec4f extends IVec4<Float, Vec4f> {
     public @NotNull Vec4f clone() {
         return new Vec4f(x, y, z, w);
     }
+
+    public @NotNull MutableVec4f toMutable() {
+        return new MutableVec4f(x, y, z, w);
+    }
+
+    @Override
+    public @NotNull Vec4f addScaled(@NotNull Vec4f vec, double scale) {
+        return new Vec4f(
+                (float) (x + vec.x * scale),
+                (float) (y + vec.y * scale),
+                (float) (z + vec.z * scale),
+                (float) (w + vec.w * scale)
+        );
+    }
+
+    @Override
+    public @NotNull Vec4f mulAdd(@NotNull Vec4f a, @NotNull Vec4f b) {
+        return new Vec4f(x * a.x + b.x, y * a.y + b.y, z * a.z + b.z, w * a.w + b.w);
+    }
+
+    @Override
+    public @NotNull Vec4f fma(@NotNull Vec4f a, @NotNull Vec4f b) {
+        return new Vec4f(Math.fma(x, a.x, b.x), Math.fma(y, a.y, b.y), Math.fma(z, a.z, b.z), Math.fma(w, a.w, b.w));
+    }
+
+    @Override
+    public @NotNull Vec4f lerp(@NotNull Vec4f other, double t) {
+        return new Vec4f(
+                (float) (x + (other.x - x) * t),
+                (float) (y + (other.y - y) * t),
+                (float) (z + (other.z - z) * t),
+                (float) (w + (other.w - w) * t)
+        );
+    }
+
+    @Override
+    public @NotNull Vec4f scaleAndClamp(double scale, @NotNull Vec4f min, @NotNull Vec4f max) {
+        return new Vec4f(
+                (float) Math.clamp(x * scale, min.x, max.x),
+                (float) Math.clamp(y * scale, min.y, max.y),
+                (float) Math.clamp(z * scale, min.z, max.z),
+                (float) Math.clamp(w * scale, min.w, max.w)
+        );
+    }
+
+    @Override
+    public double distanceToLine(@NotNull Vec4f a, @NotNull Vec4f b) {
+        final double ux = (double) b.x - a.x, uy = (double) b.y - a.y, uz = (double) b.z - a.z, uw = (double) b.w - a.w;
+        final double dx = (double) x - a.x, dy = (double) y - a.y, dz = (double) z - a.z, dw = (double) w - a.w;
+        final double uu = ux * ux + uy * uy + uz * uz + uw * uw;
+        if (uu == 0) return Math.sqrt(dx * dx + dy * dy + dz * dz + dw * dw);
+
+        final double t = (dx * ux + dy * uy + dz * uz + dw * uw) / uu;
+        final double ex = dx - ux * t, ey = dy - uy * t, ez = dz - uz * t, ew = dw - uw * t;
+        return Math.sqrt(ex * ex + ey * ey + ez * ez + ew * ew);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Vec4f v)) return false;
+        return Float.floatToIntBits(x) == Float.floatToIntBits(v.x)
+                && Float.floatToIntBits(y) == Float.floatToIntBits(v.y)
+                && Float.floatToIntBits(z) == Float.floatToIntBits(v.z)
+                && Float.floatToIntBits(w) == Float.floatToIntBits(v.w);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Float.hashCode(x);
+        result = HASH_PRIME * result + Float.hashCode(y);
+        result = HASH_PRIME * result + Float.hashCode(z);
+        result = HASH_PRIME * result + Float.hashCode(w);
+        return result;
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // Primitive methods
+    ///////////////////////////////////////////////////////////////////////////
+
+    @Override
+    public float getFloat(@Range(from = 0, to = 3) int component) {
+        return switch (component) {
+            case 0 -> x;
+            case 1 -> y;
+            case 2 -> z;
+            case 3 -> w;
+            default -> throw new IllegalArgumentException("Invalid component");
+        };
+    }
+
+    @Override
+    public double getDouble(@Range(from = 0, to = 3) int component) {
+        return switch (component) {
+            case 0 -> x;
+            case 1 -> y;
+            case 2 -> z;
+            case 3 -> w;
+            default -> throw new IllegalArgumentException("Invalid component");
+        };
+    }
+
+    @Override
+    public @NotNull Vec4f setFloat(@Range(from = 0, to = 3) int component, float val) {
+        return switch (component) {
+            case 0 -> new Vec4f(val, y, z, w);
+            case 1 -> new Vec4f(x, val, z, w);
+            case 2 -> new Vec4f(x, y, val, w);
+            case 3 -> new Vec4f(x, y, z, val);
+            default -> throw new IllegalArgumentException("Invalid component");
+        };
+    }
+
+    @Override
+    public void componentsInto(float @NotNull [] dst, int offset) {
+        Objects.checkFromIndexSize(offset, NUM_COMPONENTS, dst.length);
+        dst[offset] = x;
+        dst[offset + 1] = y;
+        dst[offset + 2] = z;
+        dst[offset + 3] = w;
+    }
+
+    @Override
+    public void componentsInto(double @NotNull [] dst, int offset) {
+        Objects.checkFromIndexSize(offset, NUM_COMPONENTS, dst.length);
+        dst[offset] = x;
+        dst[offset + 1] = y;
+        dst[offset + 2] = z;
+        dst[offset + 3] = w;
+    }
+
+    public @NotNull Vec4f add(float x2, float y2, float z2, float w2) {
+        return new Vec4f(x + x2, y + y2, z + z2, w + w2);
+    }
+
+    public @NotNull Vec4f sub(float x2, float y2, float z2, float w2) {
+        return new Vec4f(x - x2, y - y2, z - z2, w - w2);
+    }
+
+    public @NotNull Vec4f mul(float x2, float y2, float z2, float w2) {
+        return new Vec4f(x * x2, y * y2, z * z2, w * w2);
+    }
+
+    public @NotNull Vec4f div(float x2, float y2, float z2, float w2) {
+        return new Vec4f(x / x2, y / y2, z / z2, w / w2);
+    }
+
+    @Override
+    public @NotNull Vec4f addScalar(float val) {
+        return new Vec4f(x + val, y + val, z + val, w + val);
+    }
+
+    @Override
+    public @NotNull Vec4f subScalar(float val) {
+        return new Vec4f(x - val, y - val, z - val, w - val);
+    }
+
+    @Override
+    public @NotNull Vec4f mulScalar(float scale) {
+        return new Vec4f(x * scale, y * scale, z * scale, w * scale);
+    }
+
+    @Override
+    protected void appendComponent(@NotNull StringBuilder sb, @Range(from = 0, to = 3) int component, int precision) {
+        VecFormat.append(sb, getFloat(component), precision);
+    }
 }
@@ -0,0 +1,31 @@
+package com.hellfire.net.vec.hash;
+
+final class GridVecHasher implements VecHasher {
+
+    private static final long GOLDEN = 0x9E3779B97F4A7C15L;
+    private static final long MASK_21 = (1L << 21) - 1;
+    private static final long BIAS_21 = 1L << 20;
+
+    @Override
+    public long hash(long x, long y) {
+        final long packed = (x & 0xFFFFFFFFL) | (y << 32);
+        // Zero for int coordinates, otherwise carries the bits the packing dropped
+        final long rest = (x - (int) x) ^ Long.rotateLeft(y - (int) y, 17);
+        return finish(packed ^ rest * GOLDEN);
+    }
+
+    @Override
+    public long hash(long x, long y, long z) {
+        final long bx = x + BIAS_21, by = y + BIAS_21, bz = z + BIAS_21;
+        final long packed = (bx & MASK_21) | ((by & MASK_21) << 21) | ((bz & MASK_21) << 42);
+        // Zero within +-2^20, otherwise carries the bits the packing dropped
+        final long rest = (bx >> 21) ^ Long.rotateLeft(by >> 21, 21) ^ Long.rotateLeft(bz >> 21, 42);
+        return finish(packed ^ rest * GOLDEN);
+    }
+
+    // Tables index by the low bits, which a multiply alone never feeds from the high components packed above them.
+    // mix64 first folds the high half down and only uses bijective steps, so distinct packed keys keep distinct hashes.
+    private static long finish(long h) {
+        return VecHasher.mix64(h);
+    }
+}
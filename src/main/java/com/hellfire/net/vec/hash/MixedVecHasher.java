@@ -0,0 +1,16 @@
+package com.hellfire.net.vec.hash;
+
+final class MixedVecHasher implements VecHasher {
+
+    private static final long GOLDEN = 0x9E3779B97F4A7C15L;
+
+    @Override
+    public long hash(long x, long y) {
+        return VecHasher.mix64(VecHasher.mix64(x * GOLDEN) ^ y);
+    }
+
+    @Override
+    public long hash(long x, long y, long z) {
+        return VecHasher.mix64(VecHasher.mix64(VecHasher.mix64(x * GOLDEN) ^ y) ^ z);
+    }
+}
@@ -0,0 +1,21 @@
+package com.hellfire.net.vec.hash;
+
+final class PolynomialVecHasher implements VecHasher {
+
+    private static final int HASH_PRIME = 31;
+
+    @Override
+    public long hash(long x, long y) {
+        return HASH_PRIME * hash(x) + hash(y);
+    }
+
+    @Override
+    public long hash(long x, long y, long z) {
+        return HASH_PRIME * (HASH_PRIME * hash(x) + hash(y)) + hash(z);
+    }
+
+    // Integer.hashCode for values in int range, Long.hashCode otherwise, like the boxed components
+    private static int hash(long val) {
+        return (val == (int) val) ? (int) val : Long.hashCode(val);
+    }
+}
@@ -0,0 +1,60 @@
+package com.hellfire.net.vec.hash;
+
+import com.hellfire.net.vec.ints.Vec2i;
+import com.hellfire.net.vec.ints.Vec3i;
+import com.hellfire.net.vec.longs.Vec2l;
+import com.hellfire.net.vec.longs.Vec3l;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Hashing strategy for integer vector keys, meant for custom hash tables keyed by raw coordinates.
+ * Implementations return 64-bit hashes whose low bits are usable directly as a table index via masking.
+ */
+public interface VecHasher {
+
+    /** Same values as {@link Vec3i#hashCode()}, kept for comparison. Clusters badly on grid coordinates. */
+    VecHasher POLYNOMIAL = new PolynomialVecHasher();
+
+    /** Full avalanche per component (murmur3 finalizer). Safe for any key distribution. */
+    VecHasher MIXED = new MixedVecHasher();
+
+    /**
+     * Packs the coordinates into one word and applies a single murmur3 finalizer.
+     * Collision free for 3D coordinates within +-2^20 and cheaper than {@link #MIXED}.
+     */
+    VecHasher GRID = new GridVecHasher();
+
+    long hash(final long x, final long y);
+
+    long hash(final long x, final long y, final long z);
+
+    default long hash(final @NotNull Vec2i vec) {
+        return hash(vec.x, vec.y);
+    }
+
+    default long hash(final @NotNull Vec3i vec) {
+        return hash(vec.x, vec.y, vec.z);
+    }
+
+    default long hash(final @NotNull Vec2l vec) {
+        return hash(vec.x, vec.y);
+    }
+
+    default long hash(final @NotNull Vec3l vec) {
+        return hash(vec.x, vec.y, vec.z);
+    }
+
+    /** Folds a 64-bit hash into an {@code int} without discarding the high half. */
+    static int fold(final long hash) {
+        return (int) (hash ^ (hash >>> 32));
+    }
+
+    static long mix64(long h) {
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
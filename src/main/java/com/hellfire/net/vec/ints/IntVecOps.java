@@ -0,0 +1,35 @@
+package com.hellfire.net.vec.ints;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Unboxed view of the int vector family. Code written against this interface avoids the
+ * {@code Integer} boxing and varargs arrays of the generic {@link com.hellfire.net.vec.IVec} methods.
+ */
+public interface IntVecOps<T extends IntVecOps<T>> {
+
+    int numComponents();
+
+    int getInt(final int component);
+
+    @NotNull
+    T setInt(final int component, final int val);
+
+    void componentsInto(final int @NotNull [] dst, final int offset);
+
+    @NotNull
+    T addScalar(final int val);
+
+    @NotNull
+    T subScalar(final int val);
+
+    @NotNull
+    T mulScalar(final int scale);
+
+    @NotNull
+    T divScalar(double scale);
+
+    double length();
+
+    double lengthSquared();
+}
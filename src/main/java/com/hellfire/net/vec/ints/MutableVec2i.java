@@ -0,0 +1,230 @@
+package com.hellfire.net.vec.ints;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Mutable companion of {@link Vec2i}. All {@code *Local} methods modify this instance and return it,
+ * so they never allocate. Use {@link #toImmutable()} to hand the result to code expecting a {@link Vec2i}.
+ */
+public class MutableVec2i {
+
+    public int x, y;
+
+    public MutableVec2i(int x, int y) {
+        this.x = x;
+        this.y = y;
+    }
+
+    public MutableVec2i(final @NotNull Vec2i vec) {
+        this(vec.x, vec.y);
+    }
+
+    public MutableVec2i() {
+        this(0, 0);
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // In-place methods
+    ///////////////////////////////////////////////////////////////////////////
+
+    public @NotNull MutableVec2i set(int x, int y) {
+        this.x = x;
+        this.y = y;
+        return this;
+    }
+
+    public @NotNull MutableVec2i set(@NotNull Vec2i vec) {
+        return set(vec.x, vec.y);
+    }
+
+    public @NotNull MutableVec2i set(@NotNull MutableVec2i vec) {
+        return set(vec.x, vec.y);
+    }
+
+    public @NotNull MutableVec2i addLocal(int x, int y) {
+        this.x += x;
+        this.y += y;
+        return this;
+    }
+
+    public @NotNull MutableVec2i addLocal(@NotNull Vec2i vec) {
+        return addLocal(vec.x, vec.y);
+    }
+
+    public @NotNull MutableVec2i addLocal(@NotNull MutableVec2i vec) {
+        return addLocal(vec.x, vec.y);
+    }
+
+    public @NotNull MutableVec2i subLocal(int x, int y) {
+        this.x -= x;
+        this.y -= y;
+        return this;
+    }
+
+    public @NotNull MutableVec2i subLocal(@NotNull Vec2i vec) {
+        return subLocal(vec.x, vec.y);
+    }
+
+    public @NotNull MutableVec2i subLocal(@NotNull MutableVec2i vec) {
+        return subLocal(vec.x, vec.y);
+    }
+
+    public @NotNull MutableVec2i mulLocal(int x, int y) {
+        this.x *= x;
+        this.y *= y;
+        return this;
+    }
+
+    public @NotNull MutableVec2i mulLocal(@NotNull Vec2i vec) {
+        return mulLocal(vec.x, vec.y);
+    }
+
+    public @NotNull MutableVec2i mulLocal(@NotNull MutableVec2i vec) {
+        return mulLocal(vec.x, vec.y);
+    }
+
+    public @NotNull MutableVec2i addScalarLocal(int val) {
+        x += val;
+        y += val;
+        return this;
+    }
+
+    public @NotNull MutableVec2i subScalarLocal(int val) {
+        x -= val;
+        y -= val;
+        return this;
+    }
+
+    public @NotNull MutableVec2i mulScalarLocal(int scale) {
+        x *= scale;
+        y *= scale;
+        return this;
+    }
+
+    public @NotNull MutableVec2i divScalarLocal(double scale) {
+        x = (int) (x / scale);
+        y = (int) (y / scale);
+        return this;
+    }
+
+    public @NotNull MutableVec2i negateLocal() {
+        x = -x;
+        y = -y;
+        return this;
+    }
+
+    public @NotNull MutableVec2i absLocal() {
+        x = Math.abs(x);
+        y = Math.abs(y);
+        return this;
+    }
+
+    public @NotNull MutableVec2i minLocal(@NotNull Vec2i vec) {
+        x = Math.min(vec.x, x);
+        y = Math.min(vec.y, y);
+        return this;
+    }
+
+    public @NotNull MutableVec2i minLocal(@NotNull MutableVec2i vec) {
+        x = Math.min(vec.x, x);
+        y = Math.min(vec.y, y);
+        return this;
+    }
+
+    public @NotNull MutableVec2i maxLocal(@NotNull Vec2i vec) {
+        x = Math.max(vec.x, x);
+        y = Math.max(vec.y, y);
+        return this;
+    }
+
+    public @NotNull MutableVec2i maxLocal(@NotNull MutableVec2i vec) {
+        x = Math.max(vec.x, x);
+        y = Math.max(vec.y, y);
+        return this;
+    }
+
+    public @NotNull MutableVec2i addScaledLocal(@NotNull Vec2i vec, double scale) {
+        x = (int) (x + vec.x * scale);
+        y = (int) (y + vec.y * scale);
+        return this;
+    }
+
+    public @NotNull MutableVec2i addScaledLocal(@NotNull MutableVec2i vec, double scale) {
+        x = (int) (x + vec.x * scale);
+        y = (int) (y + vec.y * scale);
+        return this;
+    }
+
+    public @NotNull MutableVec2i mulAddLocal(@NotNull Vec2i a, @NotNull Vec2i b) {
+        x = x * a.x + b.x;
+        y = y * a.y + b.y;
+        return this;
+    }
+
+    public @NotNull MutableVec2i mulAddLocal(@NotNull MutableVec2i a, @NotNull MutableVec2i b) {
+        x = x * a.x + b.x;
+        y = y * a.y + b.y;
+        return this;
+    }
+
+    public @NotNull MutableVec2i fmaLocal(@NotNull Vec2i a, @NotNull Vec2i b) {
+        x = x * a.x + b.x;
+        y = y * a.y + b.y;
+        return this;
+    }
+
+    public @NotNull MutableVec2i fmaLocal(@NotNull MutableVec2i a, @NotNull MutableVec2i b) {
+        x = x * a.x + b.x;
+        y = y * a.y + b.y;
+        return this;
+    }
+
+    public @NotNull MutableVec2i lerpLocal(@NotNull Vec2i other, double t) {
+        x = (int) (x + (other.x - x) * t);
+        y = (int) (y + (other.y - y) * t);
+        return this;
+    }
+
+    public @NotNull MutableVec2i lerpLocal(@NotNull MutableVec2i other, double t) {
+        x = (int) (x + (other.x - x) * t);
+        y = (int) (y + (other.y - y) * t);
+        return this;
+    }
+
+    public @NotNull MutableVec2i scaleAndClampLocal(double scale, @NotNull Vec2i min, @NotNull Vec2i max) {
+        x = (int) Math.clamp(x * scale, min.x, max.x);
+        y = (int) Math.clamp(y * scale, min.y, max.y);
+        return this;
+    }
+
+    public @NotNull MutableVec2i zeroLocal() {
+        return set(0, 0);
+    }
+
+    public double length() {
+        return Math.sqrt(x * x + y * y);
+    }
+
+    public double lengthSquared() {
+        return (x * x) + (y * y);
+    }
+
+    public double distanceSquared(@NotNull Vec2i vec) {
+        int dx = Math.abs(vec.x - x), dy = Math.abs(vec.y - y);
+        return (dx * dx) + (dy * dy);
+    }
+
+    public double distanceSquared(@NotNull MutableVec2i vec) {
+        int dx = Math.abs(vec.x - x), dy = Math.abs(vec.y - y);
+        return (dx * dx) + (dy * dy);
+    }
+
+    public @NotNull Vec2i toImmutable() {
+        return new Vec2i(x, y);
+    }
+
+    @Override
+    public String toString() {
+        return "MutableVec2i{x=" + x + ", y=" + y + "}";
+    }
+}
@@ -0,0 +1,276 @@
+package com.hellfire.net.vec.ints;
+
+import net.minestom.server.coordinate.Point;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Mutable companion of {@link Vec3i}. All {@code *Local} methods modify this instance and return it,
+ * so they never allocate. Use {@link #toImmutable()} to hand the result to code expecting a {@link Vec3i}.
+ */
+public class MutableVec3i {
+
+    public int x, y, z;
+
+    public MutableVec3i(int x, int y, int z) {
+        this.x = x;
+        this.y = y;
+        this.z = z;
+    }
+
+    public MutableVec3i(final @NotNull Vec3i vec) {
+        this(vec.x, vec.y, vec.z);
+    }
+
+    public MutableVec3i() {
+        this(0, 0, 0);
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // In-place methods
+    ///////////////////////////////////////////////////////////////////////////
+
+    public @NotNull MutableVec3i set(int x, int y, int z) {
+        this.x = x;
+        this.y = y;
+        this.z = z;
+        return this;
+    }
+
+    public @NotNull MutableVec3i set(@NotNull Vec3i vec) {
+        return set(vec.x, vec.y, vec.z);
+    }
+
+    public @NotNull MutableVec3i set(@NotNull MutableVec3i vec) {
+        return set(vec.x, vec.y, vec.z);
+    }
+
+    /** Sets this to the block containing point */
+    public @NotNull MutableVec3i setFloor(@NotNull Point point) {
+        return set(point.blockX(), point.blockY(), point.blockZ());
+    }
+
+    public @NotNull MutableVec3i addLocal(int x, int y, int z) {
+        this.x += x;
+        this.y += y;
+        this.z += z;
+        return this;
+    }
+
+    public @NotNull MutableVec3i addLocal(@NotNull Vec3i vec) {
+        return addLocal(vec.x, vec.y, vec.z);
+    }
+
+    public @NotNull MutableVec3i addLocal(@NotNull MutableVec3i vec) {
+        return addLocal(vec.x, vec.y, vec.z);
+    }
+
+    public @NotNull MutableVec3i subLocal(int x, int y, int z) {
+        this.x -= x;
+        this.y -= y;
+        this.z -= z;
+        return this;
+    }
+
+    public @NotNull MutableVec3i subLocal(@NotNull Vec3i vec) {
+        return subLocal(vec.x, vec.y, vec.z);
+    }
+
+    public @NotNull MutableVec3i subLocal(@NotNull MutableVec3i vec) {
+        return subLocal(vec.x, vec.y, vec.z);
+    }
+
+    public @NotNull MutableVec3i mulLocal(int x, int y, int z) {
+        this.x *= x;
+        this.y *= y;
+        this.z *= z;
+        return this;
+    }
+
+    public @NotNull MutableVec3i mulLocal(@NotNull Vec3i vec) {
+        return mulLocal(vec.x, vec.y, vec.z);
+    }
+
+    public @NotNull MutableVec3i mulLocal(@NotNull MutableVec3i vec) {
+        return mulLocal(vec.x, vec.y, vec.z);
+    }
+
+    public @NotNull MutableVec3i addScalarLocal(int val) {
+        x += val;
+        y += val;
+        z += val;
+        return this;
+    }
+
+    public @NotNull MutableVec3i subScalarLocal(int val) {
+        x -= val;
+        y -= val;
+        z -= val;
+        return this;
+    }
+
+    public @NotNull MutableVec3i mulScalarLocal(int scale) {
+        x *= scale;
+        y *= scale;
+        z *= scale;
+        return this;
+    }
+
+    public @NotNull MutableVec3i divScalarLocal(double scale) {
+        x = (int) (x / scale);
+        y = (int) (y / scale);
+        z = (int) (z / scale);
+        return this;
+    }
+
+    public @NotNull MutableVec3i negateLocal() {
+        x = -x;
+        y = -y;
+        z = -z;
+        return this;
+    }
+
+    public @NotNull MutableVec3i absLocal() {
+        x = Math.abs(x);
+        y = Math.abs(y);
+        z = Math.abs(z);
+        return this;
+    }
+
+    public @NotNull MutableVec3i minLocal(@NotNull Vec3i vec) {
+        x = Math.min(vec.x, x);
+        y = Math.min(vec.y, y);
+        z = Math.min(vec.z, z);
+        return this;
+    }
+
+    public @NotNull MutableVec3i minLocal(@NotNull MutableVec3i vec) {
+        x = Math.min(vec.x, x);
+        y = Math.min(vec.y, y);
+        z = Math.min(vec.z, z);
+        return this;
+    }
+
+    public @NotNull MutableVec3i maxLocal(@NotNull Vec3i vec) {
+        x = Math.max(vec.x, x);
+        y = Math.max(vec.y, y);
+        z = Math.max(vec.z, z);
+        return this;
+    }
+
+    public @NotNull MutableVec3i maxLocal(@NotNull MutableVec3i vec) {
+        x = Math.max(vec.x, x);
+        y = Math.max(vec.y, y);
+        z = Math.max(vec.z, z);
+        return this;
+    }
+
+    public @NotNull MutableVec3i crossLocal(@NotNull Vec3i other) {
+        return set(
+                y*other.z - other.y*z,
+                z*other.x - other.z*x,
+                x*other.y - other.x*y
+        );
+    }
+
+    public @NotNull MutableVec3i crossLocal(@NotNull MutableVec3i other) {
+        return set(
+                y*other.z - other.y*z,
+                z*other.x - other.z*x,
+                x*other.y - other.x*y
+        );
+    }
+
+    public @NotNull MutableVec3i addScaledLocal(@NotNull Vec3i vec, double scale) {
+        x = (int) (x + vec.x * scale);
+        y = (int) (y + vec.y * scale);
+        z = (int) (z + vec.z * scale);
+        return this;
+    }
+
+    public @NotNull MutableVec3i addScaledLocal(@NotNull MutableVec3i vec, double scale) {
+        x = (int) (x + vec.x * scale);
+        y = (int) (y + vec.y * scale);
+        z = (int) (z + vec.z * scale);
+        return this;
+    }
+
+    public @NotNull MutableVec3i mulAddLocal(@NotNull Vec3i a, @NotNull Vec3i b) {
+        x = x * a.x + b.x;
+        y = y * a.y + b.y;
+        z = z * a.z + b.z;
+        return this;
+    }
+
+    public @NotNull MutableVec3i mulAddLocal(@NotNull MutableVec3i a, @NotNull MutableVec3i b) {
+        x = x * a.x + b.x;
+        y = y * a.y + b.y;
+        z = z * a.z + b.z;
+        return this;
+    }
+
+    public @NotNull MutableVec3i fmaLocal(@NotNull Vec3i a, @NotNull Vec3i b) {
+        x = x * a.x + b.x;
+        y = y * a.y + b.y;
+        z = z * a.z + b.z;
+        return this;
+    }
+
+    public @NotNull MutableVec3i fmaLocal(@NotNull MutableVec3i a, @NotNull MutableVec3i b) {
+        x = x * a.x + b.x;
+        y = y * a.y + b.y;
+        z = z * a.z + b.z;
+        return this;
+    }
+
+    public @NotNull MutableVec3i lerpLocal(@NotNull Vec3i other, double t) {
+        x = (int) (x + (other.x - x) * t);
+        y = (int) (y + (other.y - y) * t);
+        z = (int) (z + (other.z - z) * t);
+        return this;
+    }
+
+    public @NotNull MutableVec3i lerpLocal(@NotNull MutableVec3i other, double t) {
+        x = (int) (x + (other.x - x) * t);
+        y = (int) (y + (other.y - y) * t);
+        z = (int) (z + (other.z - z) * t);
+        return this;
+    }
+
+    public @NotNull MutableVec3i scaleAndClampLocal(double scale, @NotNull Vec3i min, @NotNull Vec3i max) {
+        x = (int) Math.clamp(x * scale, min.x, max.x);
+        y = (int) Math.clamp(y * scale, min.y, max.y);
+        z = (int) Math.clamp(z * scale, min.z, max.z);
+        return this;
+    }
+
+    public @NotNull MutableVec3i zeroLocal() {
+        return set(0, 0, 0);
+    }
+
+    public double length() {
+        return Math.sqrt(x * x + y * y + z * z);
+    }
+
+    public double lengthSquared() {
+        return (x * x) + (y * y) + (z * z);
+    }
+
+    public double distanceSquared(@NotNull Vec3i vec) {
+        int dx = Math.abs(vec.x - x), dy = Math.abs(vec.y - y), dz = Math.abs(vec.z - z);
+        return (dx * dx) + (dy * dy) + (dz * dz);
+    }
+
+    public double distanceSquared(@NotNull MutableVec3i vec) {
+        int dx = Math.abs(vec.x - x), dy = Math.abs(vec.y - y), dz = Math.abs(vec.z - z);
+        return (dx * dx) + (dy * dy) + (dz * dz);
+    }
+
+    public @NotNull Vec3i toImmutable() {
+        return new Vec3i(x, y, z);
+    }
+
+    @Override
+    public String toString() {
+        return "MutableVec3i{x=" + x + ", y=" + y + ", z=" + z + "}";
+    }
+}
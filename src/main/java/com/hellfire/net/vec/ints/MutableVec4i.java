@@ -0,0 +1,278 @@
+package com.hellfire.net.vec.ints;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Mutable companion of {@link Vec4i}. All {@code *Local} methods modify this instance and return it,
+ * so they never allocate. Use {@link #toImmutable()} to hand the result to code expecting a {@link Vec4i}.
+ */
+public class MutableVec4i {
+
+    public int x, y, z, w;
+
+    public MutableVec4i(int x, int y, int z, int w) {
+        this.x = x;
+        this.y = y;
+        this.z = z;
+        this.w = w;
+    }
+
+    public MutableVec4i(final @NotNull Vec4i vec) {
+        this(vec.x, vec.y, vec.z, vec.w);
+    }
+
+    public MutableVec4i() {
+        this(0, 0, 0, 0);
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // In-place methods
+    ///////////////////////////////////////////////////////////////////////////
+
+    public @NotNull MutableVec4i set(int x, int y, int z, int w) {
+        this.x = x;
+        this.y = y;
+        this.z = z;
+        this.w = w;
+        return this;
+    }
+
+    public @NotNull MutableVec4i set(@NotNull Vec4i vec) {
+        return set(vec.x, vec.y, vec.z, vec.w);
+    }
+
+    public @NotNull MutableVec4i set(@NotNull MutableVec4i vec) {
+        return set(vec.x, vec.y, vec.z, vec.w);
+    }
+
+    public @NotNull MutableVec4i addLocal(int x, int y, int z, int w) {
+        this.x += x;
+        this.y += y;
+        this.z += z;
+        this.w += w;
+        return this;
+    }
+
+    public @NotNull MutableVec4i addLocal(@NotNull Vec4i vec) {
+        return addLocal(vec.x, vec.y, vec.z, vec.w);
+    }
+
+    public @NotNull MutableVec4i addLocal(@NotNull MutableVec4i vec) {
+        return addLocal(vec.x, vec.y, vec.z, vec.w);
+    }
+
+    public @NotNull MutableVec4i subLocal(int x, int y, int z, int w) {
+        this.x -= x;
+        this.y -= y;
+        this.z -= z;
+        this.w -= w;
+        return this;
+    }
+
+    public @NotNull MutableVec4i subLocal(@NotNull Vec4i vec) {
+        return subLocal(vec.x, vec.y, vec.z, vec.w);
+    }
+
+    public @NotNull MutableVec4i subLocal(@NotNull MutableVec4i vec) {
+        return subLocal(vec.x, vec.y, vec.z, vec.w);
+    }
+
+    public @NotNull MutableVec4i mulLocal(int x, int y, int z, int w) {
+        this.x *= x;
+        this.y *= y;
+        this.z *= z;
+        this.w *= w;
+        return this;
+    }
+
+    public @NotNull MutableVec4i mulLocal(@NotNull Vec4i vec) {
+        return mulLocal(vec.x, vec.y, vec.z, vec.w);
+    }
+
+    public @NotNull MutableVec4i mulLocal(@NotNull MutableVec4i vec) {
+        return mulLocal(vec.x, vec.y, vec.z, vec.w);
+    }
+
+    public @NotNull MutableVec4i addScalarLocal(int val) {
+        x += val;
+        y += val;
+        z += val;
+        w += val;
+        return this;
+    }
+
+    public @NotNull MutableVec4i subScalarLocal(int val) {
+        x -= val;
+        y -= val;
+        z -= val;
+        w -= val;
+        return this;
+    }
+
+    public @NotNull MutableVec4i mulScalarLocal(int scale) {
+        x *= scale;
+        y *= scale;
+        z *= scale;
+        w *= scale;
+        return this;
+    }
+
+    public @NotNull MutableVec4i divScalarLocal(double scale) {
+        x = (int) (x / scale);
+        y = (int) (y / scale);
+        z = (int) (z / scale);
+        w = (int) (w / scale);
+        return this;
+    }
+
+    public @NotNull MutableVec4i negateLocal() {
+        x = -x;
+        y = -y;
+        z = -z;
+        w = -w;
+        return this;
+    }
+
+    public @NotNull MutableVec4i absLocal() {
+        x = Math.abs(x);
+        y = Math.abs(y);
+        z = Math.abs(z);
+        w = Math.abs(w);
+        return this;
+    }
+
+    public @NotNull MutableVec4i minLocal(@NotNull Vec4i vec) {
+        x = Math.min(vec.x, x);
+        y = Math.min(vec.y, y);
+        z = Math.min(vec.z, z);
+        w = Math.min(vec.w, w);
+        return this;
+    }
+
+    public @NotNull MutableVec4i minLocal(@NotNull MutableVec4i vec) {
+        x = Math.min(vec.x, x);
+        y = Math.min(vec.y, y);
+        z = Math.min(vec.z, z);
+        w = Math.min(vec.w, w);
+        return this;
+    }
+
+    public @NotNull MutableVec4i maxLocal(@NotNull Vec4i vec) {
+        x = Math.max(vec.x, x);
+        y = Math.max(vec.y, y);
+        z = Math.max(vec.z, z);
+        w = Math.max(vec.w, w);
+        return this;
+    }
+
+    public @NotNull MutableVec4i maxLocal(@NotNull MutableVec4i vec) {
+        x = Math.max(vec.x, x);
+        y = Math.max(vec.y, y);
+        z = Math.max(vec.z, z);
+        w = Math.max(vec.w, w);
+        return this;
+    }
+
+    public @NotNull MutableVec4i addScaledLocal(@NotNull Vec4i vec, double scale) {
+        x = (int) (x + vec.x * scale);
+        y = (int) (y + vec.y * scale);
+        z = (int) (z + vec.z * scale);
+        w = (int) (w + vec.w * scale);
+        return this;
+    }
+
+    public @NotNull MutableVec4i addScaledLocal(@NotNull MutableVec4i vec, double scale) {
+        x = (int) (x + vec.x * scale);
+        y = (int) (y + vec.y * scale);
+        z = (int) (z + vec.z * scale);
+        w = (int) (w + vec.w * scale);
+        return this;
+    }
+
+    public @NotNull MutableVec4i mulAddLocal(@NotNull Vec4i a, @NotNull Vec4i b) {
+        x = x * a.x + b.x;
+        y = y * a.y + b.y;
+        z = z * a.z + b.z;
+        w = w * a.w + b.w;
+        return this;
+    }
+
+    public @NotNull MutableVec4i mulAddLocal(@NotNull MutableVec4i a, @NotNull MutableVec4i b) {
+        x = x * a.x + b.x;
+        y = y * a.y + b.y;
+        z = z * a.z + b.z;
+        w = w * a.w + b.w;
+        return this;
+    }
+
+    public @NotNull MutableVec4i fmaLocal(@NotNull Vec4i a, @NotNull Vec4i b) {
+        x = x * a.x + b.x;
+        y = y * a.y + b.y;
+        z = z * a.z + b.z;
+        w = w * a.w + b.w;
+        return this;
+    }
+
+    public @NotNull MutableVec4i fmaLocal(@NotNull MutableVec4i a, @NotNull MutableVec4i b) {
+        x = x * a.x + b.x;
+        y = y * a.y + b.y;
+        z = z * a.z + b.z;
+        w = w * a.w + b.w;
+        return this;
+    }
+
+    public @NotNull MutableVec4i lerpLocal(@NotNull Vec4i other, double t) {
+        x = (int) (x + (other.x - x) * t);
+        y = (int) (y + (other.y - y) * t);
+        z = (int) (z + (other.z - z) * t);
+        w = (int) (w + (other.w - w) * t);
+        return this;
+    }
+
+    public @NotNull MutableVec4i lerpLocal(@NotNull MutableVec4i other, double t) {
+        x = (int) (x + (other.x - x) * t);
+        y = (int) (y + (other.y - y) * t);
+        z = (int) (z + (other.z - z) * t);
+        w = (int) (w + (other.w - w) * t);
+        return this;
+    }
+
+    public @NotNull MutableVec4i scaleAndClampLocal(double scale, @NotNull Vec4i min, @NotNull Vec4i max) {
+        x = (int) Math.clamp(x * scale, min.x, max.x);
+        y = (int) Math.clamp(y * scale, min.y, max.y);
+        z = (int) Math.clamp(z * scale, min.z, max.z);
+        w = (int) Math.clamp(w * scale, min.w, max.w);
+        return this;
+    }
+
+    public @NotNull MutableVec4i zeroLocal() {
+        return set(0, 0, 0, 0);
+    }
+
+    public double length() {
+        return Math.sqrt(x * x + y * y + z * z + w * w);
+    }
+
+    public double lengthSquared() {
+        return (x * x) + (y * y) + (z * z) + (w * w);
+    }
+
+    public double distanceSquared(@NotNull Vec4i vec) {
+        int dx = Math.abs(vec.x - x), dy = Math.abs(vec.y - y), dz = Math.abs(vec.z - z), dw = Math.abs(vec.w - w);
+        return (dx * dx) + (dy * dy) + (dz * dz) + (dw * dw);
+    }
+
+    public double distanceSquared(@NotNull MutableVec4i vec) {
+        int dx = Math.abs(vec.x - x), dy = Math.abs(vec.y - y), dz = Math.abs(vec.z - z), dw = Math.abs(vec.w - w);
+        return (dx * dx) + (dy * dy) + (dz * dz) + (dw * dw);
+    }
+
+    public @NotNull Vec4i toImmutable() {
+        return new Vec4i(x, y, z, w);
+    }
+
+    @Override
+    public String toString() {
+        return "MutableVec4i{x=" + x + ", y=" + y + ", z=" + z + ", w=" + w + "}";
+    }
+}
@@ -0,0 +1,174 @@
+package com.hellfire.net.vec.ints;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Range;
+
+import java.util.Objects;
+
+/**
+ * Encodes {@link Vec3i} block positions into a single {@code long} and does arithmetic directly on the encoded value.
+ * The layout is {@code x | z | y} from the high to the low bits, each field a two's complement number,
+ * which for the {@link #DEFAULT} 26/12/26 split is the vanilla block position format.
+ * Values outside of a field's range wrap around, use {@link #fits(int, int, int)} where that matters.
+ */
+public final class PackedVec3i {
+
+    public static final PackedVec3i DEFAULT = new PackedVec3i(26, 12, 26);
+
+    public static final int DOWN = 0, UP = 1, NORTH = 2, SOUTH = 3, WEST = 4, EAST = 5;
+
+    private final int xBits, yBits, zBits;
+    private final int xShift, zShift;
+    private final long xMask, yMask, zMask;
+    private final long[] neighbors;
+
+    private PackedVec3i(int xBits, int yBits, int zBits) {
+        if (xBits < 1 || yBits < 1 || zBits < 1 || xBits + yBits + zBits > 64 || xBits > 32 || yBits > 32 || zBits > 32)
+            throw new IllegalArgumentException("Invalid bit split");
+
+        this.xBits = xBits;
+        this.yBits = yBits;
+        this.zBits = zBits;
+        this.zShift = yBits;
+        this.xShift = yBits + zBits;
+        this.yMask = mask(yBits);
+        this.zMask = mask(zBits) << zShift;
+        this.xMask = mask(xBits) << xShift;
+        this.neighbors = new long[] {
+                pack(0, -1, 0), pack(0, 1, 0),
+                pack(0, 0, -1), pack(0, 0, 1),
+                pack(-1, 0, 0), pack(1, 0, 0)
+        };
+    }
+
+    @NotNull
+    public static PackedVec3i of(int xBits, int yBits, int zBits) {
+        if (xBits == 26 && yBits == 12 && zBits == 26) return DEFAULT;
+        return new PackedVec3i(xBits, yBits, zBits);
+    }
+
+    public boolean fits(int x, int y, int z) {
+        return fits(x, xBits) && fits(y, yBits) && fits(z, zBits);
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // Encoding
+    ///////////////////////////////////////////////////////////////////////////
+
+    public long pack(int x, int y, int z) {
+        return (((long) x << xShift) & xMask) | (((long) z << zShift) & zMask) | (y & yMask);
+    }
+
+    public long pack(@NotNull Vec3i vec) {
+        return pack(vec.x, vec.y, vec.z);
+    }
+
+    public int unpackX(long packed) {
+        return (int) (packed << (64 - xShift - xBits) >> (64 - xBits));
+    }
+
+    public int unpackY(long packed) {
+        return (int) (packed << (64 - yBits) >> (64 - yBits));
+    }
+
+    public int unpackZ(long packed) {
+        return (int) (packed << (64 - zShift - zBits) >> (64 - zBits));
+    }
+
+    @NotNull
+    public Vec3i unpack(long packed) {
+        return new Vec3i(unpackX(packed), unpackY(packed), unpackZ(packed));
+    }
+
+    public void pack(@NotNull Vec3iBuffer src, int from, int to, long @NotNull [] dst, int dstOffset) {
+        Objects.checkFromToIndex(from, to, src.size());
+        Objects.checkFromIndexSize(dstOffset, to - from, dst.length);
+        for (int i = from; i < to; i++) dst[dstOffset + i - from] = pack(src.x[i], src.y[i], src.z[i]);
+    }
+
+    public void unpack(long @NotNull [] src, int srcOffset, @NotNull Vec3iBuffer dst, int from, int to) {
+        Objects.checkFromToIndex(from, to, dst.size());
+        Objects.checkFromIndexSize(srcOffset, to - from, src.length);
+        for (int i = from; i < to; i++) {
+            final long packed = src[srcOffset + i - from];
+            dst.set(i, unpackX(packed), unpackY(packed), unpackZ(packed));
+        }
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // Packed arithmetic
+    ///////////////////////////////////////////////////////////////////////////
+
+    /** Component-wise sum, each field wrapping within its own bits. */
+    public long add(long a, long b) {
+        return (((a & xMask) + (b & xMask)) & xMask)
+                | (((a & zMask) + (b & zMask)) & zMask)
+                | (((a & yMask) + (b & yMask)) & yMask);
+    }
+
+    /** Component-wise difference, each field wrapping within its own bits. */
+    public long sub(long a, long b) {
+        return (((a & xMask) - (b & xMask)) & xMask)
+                | (((a & zMask) - (b & zMask)) & zMask)
+                | (((a & yMask) - (b & yMask)) & yMask);
+    }
+
+    public long offset(long packed, int dx, int dy, int dz) {
+        return add(packed, pack(dx, dy, dz));
+    }
+
+    public long neighbor(long packed, @Range(from = 0, to = 5) int face) {
+        return add(packed, neighbors[face]);
+    }
+
+    public long withX(long packed, int x) {
+        return (packed & ~xMask) | (((long) x << xShift) & xMask);
+    }
+
+    public long withY(long packed, int y) {
+        return (packed & ~yMask) | (y & yMask);
+    }
+
+    public long withZ(long packed, int z) {
+        return (packed & ~zMask) | (((long) z << zShift) & zMask);
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // Chunk and section extraction
+    ///////////////////////////////////////////////////////////////////////////
+
+    public int chunkX(long packed) {
+        return unpackX(packed) >> 4;
+    }
+
+    public int chunkZ(long packed) {
+        return unpackZ(packed) >> 4;
+    }
+
+    public int sectionY(long packed) {
+        return unpackY(packed) >> 4;
+    }
+
+    /** Index of the block within its 16x16x16 section, in {@code y, z, x} order. */
+    public int sectionIndex(long packed) {
+        return ((unpackY(packed) & 15) << 8) | ((unpackZ(packed) & 15) << 4) | (unpackX(packed) & 15);
+    }
+
+    /** The position rounded down to the minimum corner of its section. */
+    public long sectionOrigin(long packed) {
+        return packed & ~((15L << xShift) | (15L << zShift) | 15L);
+    }
+
+    @Override
+    public String toString() {
+        return "PackedVec3i{x=" + xBits + ", y=" + yBits + ", z=" + zBits + "}";
+    }
+
+    private static long mask(int bits) {
+        return (bits == 64) ? -1L : (1L << bits) - 1;
+    }
+
+    private static boolean fits(int val, int bits) {
+        return bits == 32 || (val >= -(1 << (bits - 1)) && val < (1 << (bits - 1)));
+    }
+}
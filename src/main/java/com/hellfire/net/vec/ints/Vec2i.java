@@ -1,12 +1,17 @@
 package com.hellfire.net.vec.ints;
 
+import com.hellfire.net.vec.FastMath;
 import com.hellfire.net.vec.IVec2;
 import com.hellfire.net.vec.doubles.Vec2d;
+import com.hellfire.net.vec.text.VecFormat;
+import com.hellfire.net.vec.text.VecParser;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Range;
 
+import java.util.Objects;
+
 /* Created by Conor on 15.05.2024 */
-public class Vec2i extends IVec2<Integer, Vec2i> {
+public class Vec2i extends IVec2<Integer, Vec2i> implements IntVecOps<Vec2i> {
 
 
     public static final Vec2i ZERO = new Vec2i(0, 0);
@@ -28,6 +33,14 @@ public class Vec2i extends IVec2<Integer, Vec2i> {
         this(0, 0);
     }
 
+    /** Parses the {@code toString}/{@code appendTo} form or plain separated components, see {@link VecParser} */
+    public static @NotNull Vec2i parse(final @NotNull CharSequence text, final int from) {
+        final VecParser parser = new VecParser(text, from).beginVec();
+        final int x = parser.nextInt(), y = parser.nextInt();
+        parser.endVec();
+        return new Vec2i(x, y);
+    }
+
     ///////////////////////////////////////////////////////////////////////////
     // Impl methods
     ///////////////////////////////////////////////////////////////////////////
@@ -166,12 +179,12 @@ public class Vec2i extends IVec2<Integer, Vec2i> {
 
     @Override
     public @NotNull Vec2i minLength(@NotNull Vec2i vec) {
-        return (length() < vec.length()) ? this : vec;
+        return (lengthSquared() < vec.lengthSquared()) ? this : vec;
     }
 
     @Override
     public @NotNull Vec2i maxLength(@NotNull Vec2i vec) {
-        return (length() > vec.length()) ? this : vec;
+        return (lengthSquared() > vec.lengthSquared()) ? this : vec;
     }
 
     @Override
@@ -191,7 +204,29 @@ public class Vec2i extends IVec2<Integer, Vec2i> {
 
     @Override
     public @NotNull Vec2d normalize() {
-        return new Vec2d(x, y).divScalar(length());
+        final double len = length();
+        return new Vec2d(x / len, y / len);
+    }
+
+    @Override
+    public double lengthFast() {
+        return FastMath.sqrt((double) x * x + (double) y * y);
+    }
+
+    @Override
+    public double inverseLength() {
+        return 1 / Math.sqrt((double) x * x + (double) y * y);
+    }
+
+    @Override
+    public double inverseLengthFast() {
+        return FastMath.invSqrt((double) x * x + (double) y * y);
+    }
+
+    @Override
+    public @NotNull Vec2d normalizeFast() {
+        final double inv = inverseLengthFast();
+        return new Vec2d(x * inv, y * inv);
     }
 
     @Override
@@ -203,4 +238,140 @@ public class Vec2i extends IVec2<Integer, Vec2i> {
     public @NotNull Vec2i clone() {
         return new Vec2i(x, y);
     }
+
+    public @NotNull MutableVec2i toMutable() {
+        return new MutableVec2i(x, y);
+    }
+
+    @Override
+    public @NotNull Vec2i addScaled(@NotNull Vec2i vec, double scale) {
+        return new Vec2i((int) (x + vec.x * scale), (int) (y + vec.y * scale));
+    }
+
+    @Override
+    public @NotNull Vec2i mulAdd(@NotNull Vec2i a, @NotNull Vec2i b) {
+        return new Vec2i(x * a.x + b.x, y * a.y + b.y);
+    }
+
+    @Override
+    public @NotNull Vec2i fma(@NotNull Vec2i a, @NotNull Vec2i b) {
+        return new Vec2i(x * a.x + b.x, y * a.y + b.y);
+    }
+
+    @Override
+    public @NotNull Vec2i lerp(@NotNull Vec2i other, double t) {
+        return new Vec2i((int) (x + (other.x - x) * t), (int) (y + (other.y - y) * t));
+    }
+
+    @Override
+    public @NotNull Vec2i scaleAndClamp(double scale, @NotNull Vec2i min, @NotNull Vec2i max) {
+        return new Vec2i((int) Math.clamp(x * scale, min.x, max.x), (int) Math.clamp(y * scale, min.y, max.y));
+    }
+
+    @Override
+    public double distanceToLine(@NotNull Vec2i a, @NotNull Vec2i b) {
+        final double ux = (double) b.x - a.x, uy = (double) b.y - a.y;
+        final double dx = (double) x - a.x, dy = (double) y - a.y;
+        final double uu = ux * ux + uy * uy;
+        if (uu == 0) return Math.sqrt(dx * dx + dy * dy);
+
+        final double t = (dx * ux + dy * uy) / uu;
+        final double ex = dx - ux * t, ey = dy - uy * t;
+        return Math.sqrt(ex * ex + ey * ey);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Vec2i v)) return false;
+        return x == v.x && y == v.y;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Integer.hashCode(x);
+        result = HASH_PRIME * result + Integer.hashCode(y);
+        return result;
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // Primitive methods
+    ///////////////////////////////////////////////////////////////////////////
+
+    @Override
+    public int getInt(@Range(from = 0, to = 1) int component) {
+        return switch (component) {
+            case 0 -> x;
+            case 1 -> y;
+            default -> throw new IllegalArgumentException("Invalid component");
+        };
+    }
+
+    @Override
+    public double getDouble(@Range(from = 0, to = 1) int component) {
+        return switch (component) {
+            case 0 -> x;
+            case 1 -> y;
+            default -> throw new IllegalArgumentException("Invalid component");
+        };
+    }
+
+    @Override
+    public @NotNull Vec2i setInt(@Range(from = 0, to = 1) int component, int val) {
+        return switch (component) {
+            case 0 -> new Vec2i(val, y);
+            case 1 -> new Vec2i(x, val);
+            default -> throw new IllegalArgumentException("Invalid component");
+        };
+    }
+
+    @Override
+    public void componentsInto(int @NotNull [] dst, int offset) {
+        Objects.checkFromIndexSize(offset, NUM_COMPONENTS, dst.length);
+        dst[offset] = x;
+        dst[offset + 1] = y;
+    }
+
+    @Override
+    public void componentsInto(double @NotNull [] dst, int offset) {
+        Objects.checkFromIndexSize(offset, NUM_COMPONENTS, dst.length);
+        dst[offset] = x;
+        dst[offset + 1] = y;
+    }
+
+    public @NotNull Vec2i add(int x2, int y2) {
+        return new Vec2i(x + x2, y + y2);
+    }
+
+    public @NotNull Vec2i sub(int x2, int y2) {
+        return new Vec2i(x - x2, y - y2);
+    }
+
+    public @NotNull Vec2i mul(int x2, int y2) {
+        return new Vec2i(x * x2, y * y2);
+    }
+
+    public @NotNull Vec2i div(int x2, int y2) {
+        return new Vec2i(x / x2, y / y2);
+    }
+
+    @Override
+    public @NotNull Vec2i addScalar(int val) {
+        return new Vec2i(x + val, y + val);
+    }
+
+    @Override
+    public @NotNull Vec2i subScalar(int val) {
+        return new Vec2i(x - val, y - val);
+    }
+
+    @Override
+    public @NotNull Vec2i mulScalar(int scale) {
+        return new Vec2i(x * scale, y * scale);
+    }
+
+    @Override
+    protected void appendComponent(@NotNull StringBuilder sb, @Range(from = 0, to = 1) int component, int precision) {
+        VecFormat.append(sb, getInt(component), precision);
+    }
 }
@@ -0,0 +1,231 @@
+package com.hellfire.net.vec.ints;
+
+import com.hellfire.net.vec.IVecBuffer;
+import com.hellfire.net.vec.doubles.Vec2dBuffer;
+import com.hellfire.net.vec.kernel.VecKernelProvider;
+import com.hellfire.net.vec.kernel.VecKernels;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+
+public class Vec2iBuffer extends IVecBuffer<Integer, Vec2i, Vec2iBuffer> {
+
+    public final int[] x, y;
+
+    public Vec2iBuffer(final int size) {
+        super(size);
+        this.x = new int[size];
+        this.y = new int[size];
+    }
+
+    public Vec2iBuffer(final @NotNull Vec2i @NotNull ... vecs) {
+        this(vecs.length);
+        for (int i = 0; i < vecs.length; i++) set(i, vecs[i]);
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // Impl methods
+    ///////////////////////////////////////////////////////////////////////////
+
+    @Override
+    public int numComponents() {
+        return Vec2i.NUM_COMPONENTS;
+    }
+
+    @Override
+    public @NotNull Vec2i get(int index) {
+        return new Vec2i(x[index], y[index]);
+    }
+
+    @Override
+    public @NotNull Vec2iBuffer set(int index, @NotNull Vec2i vec) {
+        x[index] = vec.x;
+        y[index] = vec.y;
+        return this;
+    }
+
+    public @NotNull Vec2iBuffer set(int index, int x, int y) {
+        this.x[index] = x;
+        this.y[index] = y;
+        return this;
+    }
+
+    @Override
+    public @NotNull Vec2iBuffer add(int from, int to, @NotNull Vec2iBuffer other) {
+        checkRange(from, to);
+        other.checkRange(from, to);
+        final VecKernels kernels = VecKernelProvider.get();
+        kernels.add(x, other.x, x, from, to);
+        kernels.add(y, other.y, y, from, to);
+        return this;
+    }
+
+    @Override
+    public @NotNull Vec2iBuffer add(int from, int to, @NotNull Vec2i vec) {
+        checkRange(from, to);
+        final int vx = vec.x, vy = vec.y;
+        for (int i = from; i < to; i++) {
+            x[i] += vx;
+            y[i] += vy;
+        }
+        return this;
+    }
+
+    @Override
+    public @NotNull Vec2iBuffer sub(int from, int to, @NotNull Vec2iBuffer other) {
+        checkRange(from, to);
+        other.checkRange(from, to);
+        final VecKernels kernels = VecKernelProvider.get();
+        kernels.sub(x, other.x, x, from, to);
+        kernels.sub(y, other.y, y, from, to);
+        return this;
+    }
+
+    @Override
+    public @NotNull Vec2iBuffer sub(int from, int to, @NotNull Vec2i vec) {
+        checkRange(from, to);
+        final int vx = vec.x, vy = vec.y;
+        for (int i = from; i < to; i++) {
+            x[i] -= vx;
+            y[i] -= vy;
+        }
+        return this;
+    }
+
+    @Override
+    public @NotNull Vec2iBuffer mul(int from, int to, @NotNull Vec2iBuffer other) {
+        checkRange(from, to);
+        other.checkRange(from, to);
+        final VecKernels kernels = VecKernelProvider.get();
+        kernels.mul(x, other.x, x, from, to);
+        kernels.mul(y, other.y, y, from, to);
+        return this;
+    }
+
+    @Override
+    public @NotNull Vec2iBuffer mul(int from, int to, @NotNull Vec2i vec) {
+        checkRange(from, to);
+        final int vx = vec.x, vy = vec.y;
+        for (int i = from; i < to; i++) {
+            x[i] *= vx;
+            y[i] *= vy;
+        }
+        return this;
+    }
+
+    public @NotNull Vec2iBuffer addScalar(int from, int to, int val) {
+        checkRange(from, to);
+        for (int i = from; i < to; i++) {
+            x[i] += val;
+            y[i] += val;
+        }
+        return this;
+    }
+
+    public @NotNull Vec2iBuffer subScalar(int from, int to, int val) {
+        checkRange(from, to);
+        for (int i = from; i < to; i++) {
+            x[i] -= val;
+            y[i] -= val;
+        }
+        return this;
+    }
+
+    public @NotNull Vec2iBuffer mulScalar(int from, int to, int scale) {
+        checkRange(from, to);
+        for (int i = from; i < to; i++) {
+            x[i] *= scale;
+            y[i] *= scale;
+        }
+        return this;
+    }
+
+    @Override
+    public @NotNull Vec2iBuffer divScalar(int from, int to, double scale) {
+        checkRange(from, to);
+        for (int i = from; i < to; i++) {
+            x[i] = (int) (x[i] / scale);
+            y[i] = (int) (y[i] / scale);
+        }
+        return this;
+    }
+
+    public @NotNull Vec2iBuffer negate(int from, int to) {
+        checkRange(from, to);
+        for (int i = from; i < to; i++) {
+            x[i] = -x[i];
+            y[i] = -y[i];
+        }
+        return this;
+    }
+
+    @Override
+    public double length(int index) {
+        final int xi = x[index], yi = y[index];
+        return Math.sqrt(xi * xi + yi * yi);
+    }
+
+    @Override
+    public double lengthSquared(int index) {
+        final int xi = x[index], yi = y[index];
+        return (xi * xi) + (yi * yi);
+    }
+
+    @Override
+    public double distanceSquared(int index, @NotNull Vec2i vec) {
+        int dx = Math.abs(vec.x - x[index]), dy = Math.abs(vec.y - y[index]);
+        return (dx * dx) + (dy * dy);
+    }
+
+    @Override
+    public void length(int from, int to, double @NotNull [] dst, int dstOffset) {
+        checkRange(from, to);
+        checkDst(from, to, dst, dstOffset);
+        for (int i = from; i < to; i++) {
+            final int xi = x[i], yi = y[i];
+            dst[dstOffset + i - from] = Math.sqrt(xi * xi + yi * yi);
+        }
+    }
+
+    @Override
+    public void distanceSquared(int from, int to, @NotNull Vec2iBuffer other, double @NotNull [] dst, int dstOffset) {
+        checkRange(from, to);
+        other.checkRange(from, to);
+        checkDst(from, to, dst, dstOffset);
+        for (int i = from; i < to; i++) {
+            int dx = Math.abs(other.x[i] - x[i]), dy = Math.abs(other.y[i] - y[i]);
+            dst[dstOffset + i - from] = (dx * dx) + (dy * dy);
+        }
+    }
+
+    @Override
+    public void distanceSquared(int from, int to, @NotNull Vec2i vec, double @NotNull [] dst, int dstOffset) {
+        checkRange(from, to);
+        checkDst(from, to, dst, dstOffset);
+        final int vx = vec.x, vy = vec.y;
+        for (int i = from; i < to; i++) {
+            int dx = Math.abs(vx - x[i]), dy = Math.abs(vy - y[i]);
+            dst[dstOffset + i - from] = (dx * dx) + (dy * dy);
+        }
+    }
+
+    public @NotNull Vec2dBuffer normalize(int from, int to, @NotNull Vec2dBuffer dst) {
+        checkRange(from, to);
+        Objects.checkFromToIndex(from, to, dst.size());
+        for (int i = from; i < to; i++) {
+            final int xi = x[i], yi = y[i];
+            final double len = Math.sqrt(xi * xi + yi * yi);
+            dst.x[i] = (double) xi / len;
+            dst.y[i] = (double) yi / len;
+        }
+        return dst;
+    }
+
+    @Override
+    public @NotNull Vec2iBuffer copy() {
+        final Vec2iBuffer copy = new Vec2iBuffer(size);
+        System.arraycopy(x, 0, copy.x, 0, size);
+        System.arraycopy(y, 0, copy.y, 0, size);
+        return copy;
+    }
+}
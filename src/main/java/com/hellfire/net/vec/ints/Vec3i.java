@@ -1,12 +1,18 @@
 package com.hellfire.net.vec.ints;
 
+import com.hellfire.net.vec.FastMath;
 import com.hellfire.net.vec.IVec3;
 import com.hellfire.net.vec.doubles.Vec3d;
+import com.hellfire.net.vec.text.VecFormat;
+import com.hellfire.net.vec.text.VecParser;
+import net.minestom.server.coordinate.Point;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Range;
 
+import java.util.Objects;
+
 /* Created by Conor on 15.05.2024 */
-public class Vec3i extends IVec3<Integer, Vec3i> {
+public class Vec3i extends IVec3<Integer, Vec3i> implements IntVecOps<Vec3i> {
 
     public static final Vec3i ZERO = new Vec3i(0, 0, 0);
 
@@ -29,6 +35,40 @@ public class Vec3i extends IVec3<Integer, Vec3i> {
         this(0, 0, 0);
     }
 
+    /** Parses the {@code toString}/{@code appendTo} form or plain separated components, see {@link VecParser} */
+    public static @NotNull Vec3i parse(final @NotNull CharSequence text, final int from) {
+        final VecParser parser = new VecParser(text, from).beginVec();
+        final int x = parser.nextInt(), y = parser.nextInt(), z = parser.nextInt();
+        parser.endVec();
+        return new Vec3i(x, y, z);
+    }
+
+    /** The block containing point, same as {@link Point#blockX()} and friends */
+    public static @NotNull Vec3i floor(final @NotNull Point point) {
+        return new Vec3i(point.blockX(), point.blockY(), point.blockZ());
+    }
+
+    public static @NotNull Vec3i floor(final @NotNull Vec3d vec) {
+        return new Vec3i((int) Math.floor(vec.x), (int) Math.floor(vec.y), (int) Math.floor(vec.z));
+    }
+
+    /**
+     * Rounds every component to the nearest integer, ties towards positive infinity. Out of range components saturate
+     * to the int range, like {@link #floor}.
+     */
+    public static @NotNull Vec3i round(final @NotNull Point point) {
+        return new Vec3i(round(point.x()), round(point.y()), round(point.z()));
+    }
+
+    public static @NotNull Vec3i round(final @NotNull Vec3d vec) {
+        return new Vec3i(round(vec.x), round(vec.y), round(vec.z));
+    }
+
+    /** {@link Math#round(double)} saturated to the int range, the rounding twin of {@code (int) Math.floor(val)} */
+    public static int round(double val) {
+        return Math.clamp(Math.round(val), Integer.MIN_VALUE, Integer.MAX_VALUE);
+    }
+
     ///////////////////////////////////////////////////////////////////////////
     // Impl methods
     ///////////////////////////////////////////////////////////////////////////
@@ -169,12 +209,12 @@ public class Vec3i extends IVec3<Integer, Vec3i> {
 
     @Override
     public @NotNull Vec3i minLength(@NotNull Vec3i vec) {
-        return (length() < vec.length()) ? this : vec;
+        return (lengthSquared() < vec.lengthSquared()) ? this : vec;
     }
 
     @Override
     public @NotNull Vec3i maxLength(@NotNull Vec3i vec) {
-        return (length() > vec.length()) ? this : vec;
+        return (lengthSquared() > vec.lengthSquared()) ? this : vec;
     }
 
     @Override
@@ -196,7 +236,29 @@ public class Vec3i extends IVec3<Integer, Vec3i> {
 
     @Override
     public @NotNull Vec3d normalize() {
-        return new Vec3d(x, y, z).divScalar(length());
+        final double len = length();
+        return new Vec3d(x / len, y / len, z / len);
+    }
+
+    @Override
+    public double lengthFast() {
+        return FastMath.sqrt((double) x * x + (double) y * y + (double) z * z);
+    }
+
+    @Override
+    public double inverseLength() {
+        return 1 / Math.sqrt((double) x * x + (double) y * y + (double) z * z);
+    }
+
+    @Override
+    public double inverseLengthFast() {
+        return FastMath.invSqrt((double) x * x + (double) y * y + (double) z * z);
+    }
+
+    @Override
+    public @NotNull Vec3d normalizeFast() {
+        final double inv = inverseLengthFast();
+        return new Vec3d(x * inv, y * inv, z * inv);
     }
 
     @Override
@@ -209,6 +271,10 @@ public class Vec3i extends IVec3<Integer, Vec3i> {
         return new Vec3i(x, y, z);
     }
 
+    public @NotNull MutableVec3i toMutable() {
+        return new MutableVec3i(x, y, z);
+    }
+
     @Override
     public @NotNull Vec3i cross(@NotNull Vec3i other) {
         return new Vec3i(
@@ -217,4 +283,146 @@ public class Vec3i extends IVec3<Integer, Vec3i> {
                 x*other.y - other.x*y
         );
     }
+
+    @Override
+    public @NotNull Vec3i addScaled(@NotNull Vec3i vec, double scale) {
+        return new Vec3i((int) (x + vec.x * scale), (int) (y + vec.y * scale), (int) (z + vec.z * scale));
+    }
+
+    @Override
+    public @NotNull Vec3i mulAdd(@NotNull Vec3i a, @NotNull Vec3i b) {
+        return new Vec3i(x * a.x + b.x, y * a.y + b.y, z * a.z + b.z);
+    }
+
+    @Override
+    public @NotNull Vec3i fma(@NotNull Vec3i a, @NotNull Vec3i b) {
+        return new Vec3i(x * a.x + b.x, y * a.y + b.y, z * a.z + b.z);
+    }
+
+    @Override
+    public @NotNull Vec3i lerp(@NotNull Vec3i other, double t) {
+        return new Vec3i((int) (x + (other.x - x) * t), (int) (y + (other.y - y) * t), (int) (z + (other.z - z) * t));
+    }
+
+    @Override
+    public @NotNull Vec3i scaleAndClamp(double scale, @NotNull Vec3i min, @NotNull Vec3i max) {
+        return new Vec3i(
+                (int) Math.clamp(x * scale, min.x, max.x),
+                (int) Math.clamp(y * scale, min.y, max.y),
+                (int) Math.clamp(z * scale, min.z, max.z)
+        );
+    }
+
+    @Override
+    public double distanceToLine(@NotNull Vec3i a, @NotNull Vec3i b) {
+        final double ux = (double) b.x - a.x, uy = (double) b.y - a.y, uz = (double) b.z - a.z;
+        final double dx = (double) x - a.x, dy = (double) y - a.y, dz = (double) z - a.z;
+        final double uu = ux * ux + uy * uy + uz * uz;
+        if (uu == 0) return Math.sqrt(dx * dx + dy * dy + dz * dz);
+
+        final double t = (dx * ux + dy * uy + dz * uz) / uu;
+        final double ex = dx - ux * t, ey = dy - uy * t, ez = dz - uz * t;
+        return Math.sqrt(ex * ex + ey * ey + ez * ez);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Vec3i v)) return false;
+        return x == v.x && y == v.y && z == v.z;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Integer.hashCode(x);
+        result = HASH_PRIME * result + Integer.hashCode(y);
+        result = HASH_PRIME * result + Integer.hashCode(z);
+        return result;
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // Primitive methods
+    ///////////////////////////////////////////////////////////////////////////
+
+    @Override
+    public int getInt(@Range(from = 0, to = 2) int component) {
+        return switch (component) {
+            case 0 -> x;
+            case 1 -> y;
+            case 2 -> z;
+            default -> throw new IllegalArgumentException("Invalid component");
+        };
+    }
+
+    @Override
+    public double getDouble(@Range(from = 0, to = 2) int component) {
+        return switch (component) {
+            case 0 -> x;
+            case 1 -> y;
+            case 2 -> z;
+            default -> throw new IllegalArgumentException("Invalid component");
+        };
+    }
+
+    @Override
+    public @NotNull Vec3i setInt(@Range(from = 0, to = 2) int component, int val) {
+        return switch (component) {
+            case 0 -> new Vec3i(val, y, z);
+            case 1 -> new Vec3i(x, val, z);
+            case 2 -> new Vec3i(x, y, val);
+            default -> throw new IllegalArgumentException("Invalid component");
+        };
+    }
+
+    @Override
+    public void componentsInto(int @NotNull [] dst, int offset) {
+        Objects.checkFromIndexSize(offset, NUM_COMPONENTS, dst.length);
+        dst[offset] = x;
+        dst[offset + 1] = y;
+        dst[offset + 2] = z;
+    }
+
+    @Override
+    public void componentsInto(double @NotNull [] dst, int offset) {
+        Objects.checkFromIndexSize(offset, NUM_COMPONENTS, dst.length);
+        dst[offset] = x;
+        dst[offset + 1] = y;
+        dst[offset + 2] = z;
+    }
+
+    public @NotNull Vec3i add(int x2, int y2, int z2) {
+        return new Vec3i(x + x2, y + y2, z + z2);
+    }
+
+    public @NotNull Vec3i sub(int x2, int y2, int z2) {
+        return new Vec3i(x - x2, y - y2, z - z2);
+    }
+
+    public @NotNull Vec3i mul(int x2, int y2, int z2) {
+        return new Vec3i(x * x2, y * y2, z * z2);
+    }
+
+    public @NotNull Vec3i div(int x2, int y2, int z2) {
+        return new Vec3i(x / x2, y / y2, z / z2);
+    }
+
+    @Override
+    public @NotNull Vec3i addScalar(int val) {
+        return new Vec3i(x + val, y + val, z + val);
+    }
+
+    @Override
+    public @NotNull Vec3i subScalar(int val) {
+        return new Vec3i(x - val, y - val, z - val);
+    }
+
+    @Override
+    public @NotNull Vec3i mulScalar(int scale) {
+        return new Vec3i(x * scale, y * scale, z * scale);
+    }
+
+    @Override
+    protected void appendComponent(@NotNull StringBuilder sb, @Range(from = 0, to = 2) int component, int precision) {
+        VecFormat.append(sb, getInt(component), precision);
+    }
 }
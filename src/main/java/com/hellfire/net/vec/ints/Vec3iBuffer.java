@@ -0,0 +1,247 @@
+package com.hellfire.net.vec.ints;
+
+import com.hellfire.net.vec.IVecBuffer;
+import com.hellfire.net.vec.doubles.Vec3dBuffer;
+import com.hellfire.net.vec.kernel.VecKernelProvider;
+import com.hellfire.net.vec.kernel.VecKernels;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+
+public class Vec3iBuffer extends IVecBuffer<Integer, Vec3i, Vec3iBuffer> {
+
+    public final int[] x, y, z;
+
+    public Vec3iBuffer(final int size) {
+        super(size);
+        this.x = new int[size];
+        this.y = new int[size];
+        this.z = new int[size];
+    }
+
+    public Vec3iBuffer(final @NotNull Vec3i @NotNull ... vecs) {
+        this(vecs.length);
+        for (int i = 0; i < vecs.length; i++) set(i, vecs[i]);
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // Impl methods
+    ///////////////////////////////////////////////////////////////////////////
+
+    @Override
+    public int numComponents() {
+        return Vec3i.NUM_COMPONENTS;
+    }
+
+    @Override
+    public @NotNull Vec3i get(int index) {
+        return new Vec3i(x[index], y[index], z[index]);
+    }
+
+    @Override
+    public @NotNull Vec3iBuffer set(int index, @NotNull Vec3i vec) {
+        x[index] = vec.x;
+        y[index] = vec.y;
+        z[index] = vec.z;
+        return this;
+    }
+
+    public @NotNull Vec3iBuffer set(int index, int x, int y, int z) {
+        this.x[index] = x;
+        this.y[index] = y;
+        this.z[index] = z;
+        return this;
+    }
+
+    @Override
+    public @NotNull Vec3iBuffer add(int from, int to, @NotNull Vec3iBuffer other) {
+        checkRange(from, to);
+        other.checkRange(from, to);
+        final VecKernels kernels = VecKernelProvider.get();
+        kernels.add(x, other.x, x, from, to);
+        kernels.add(y, other.y, y, from, to);
+        kernels.add(z, other.z, z, from, to);
+        return this;
+    }
+
+    @Override
+    public @NotNull Vec3iBuffer add(int from, int to, @NotNull Vec3i vec) {
+        checkRange(from, to);
+        final int vx = vec.x, vy = vec.y, vz = vec.z;
+        for (int i = from; i < to; i++) {
+            x[i] += vx;
+            y[i] += vy;
+            z[i] += vz;
+        }
+        return this;
+    }
+
+    @Override
+    public @NotNull Vec3iBuffer sub(int from, int to, @NotNull Vec3iBuffer other) {
+        checkRange(from, to);
+        other.checkRange(from, to);
+        final VecKernels kernels = VecKernelProvider.get();
+        kernels.sub(x, other.x, x, from, to);
+        kernels.sub(y, other.y, y, from, to);
+        kernels.sub(z, other.z, z, from, to);
+        return this;
+    }
+
+    @Override
+    public @NotNull Vec3iBuffer sub(int from, int to, @NotNull Vec3i vec) {
+        checkRange(from, to);
+        final int vx = vec.x, vy = vec.y, vz = vec.z;
+        for (int i = from; i < to; i++) {
+            x[i] -= vx;
+            y[i] -= vy;
+            z[i] -= vz;
+        }
+        return this;
+    }
+
+    @Override
+    public @NotNull Vec3iBuffer mul(int from, int to, @NotNull Vec3iBuffer other) {
+        checkRange(from, to);
+        other.checkRange(from, to);
+        final VecKernels kernels = VecKernelProvider.get();
+        kernels.mul(x, other.x, x, from, to);
+        kernels.mul(y, other.y, y, from, to);
+        kernels.mul(z, other.z, z, from, to);
+        return this;
+    }
+
+    @Override
+    public @NotNull Vec3iBuffer mul(int from, int to, @NotNull Vec3i vec) {
+        checkRange(from, to);
+        final int vx = vec.x, vy = vec.y, vz = vec.z;
+        for (int i = from; i < to; i++) {
+            x[i] *= vx;
+            y[i] *= vy;
+            z[i] *= vz;
+        }
+        return this;
+    }
+
+    public @NotNull Vec3iBuffer addScalar(int from, int to, int val) {
+        checkRange(from, to);
+        for (int i = from; i < to; i++) {
+            x[i] += val;
+            y[i] += val;
+            z[i] += val;
+        }
+        return this;
+    }
+
+    public @NotNull Vec3iBuffer subScalar(int from, int to, int val) {
+        checkRange(from, to);
+        for (int i = from; i < to; i++) {
+            x[i] -= val;
+            y[i] -= val;
+            z[i] -= val;
+        }
+        return this;
+    }
+
+    public @NotNull Vec3iBuffer mulScalar(int from, int to, int scale) {
+        checkRange(from, to);
+        for (int i = from; i < to; i++) {
+            x[i] *= scale;
+            y[i] *= scale;
+            z[i] *= scale;
+        }
+        return this;
+    }
+
+    @Override
+    public @NotNull Vec3iBuffer divScalar(int from, int to, double scale) {
+        checkRange(from, to);
+        for (int i = from; i < to; i++) {
+            x[i] = (int) (x[i] / scale);
+            y[i] = (int) (y[i] / scale);
+            z[i] = (int) (z[i] / scale);
+        }
+        return this;
+    }
+
+    public @NotNull Vec3iBuffer negate(int from, int to) {
+        checkRange(from, to);
+        for (int i = from; i < to; i++) {
+            x[i] = -x[i];
+            y[i] = -y[i];
+            z[i] = -z[i];
+        }
+        return this;
+    }
+
+    @Override
+    public double length(int index) {
+        final int xi = x[index], yi = y[index], zi = z[index];
+        return Math.sqrt(xi * xi + yi * yi + zi * zi);
+    }
+
+    @Override
+    public double lengthSquared(int index) {
+        final int xi = x[index], yi = y[index], zi = z[index];
+        return (xi * xi) + (yi * yi) + (zi * zi);
+    }
+
+    @Override
+    public double distanceSquared(int index, @NotNull Vec3i vec) {
+        int dx = Math.abs(vec.x - x[index]), dy = Math.abs(vec.y - y[index]), dz = Math.abs(vec.z - z[index]);
+        return (dx * dx) + (dy * dy) + (dz * dz);
+    }
+
+    @Override
+    public void length(int from, int to, double @NotNull [] dst, int dstOffset) {
+        checkRange(from, to);
+        checkDst(from, to, dst, dstOffset);
+        for (int i = from; i < to; i++) {
+            final int xi = x[i], yi = y[i], zi = z[i];
+            dst[dstOffset + i - from] = Math.sqrt(xi * xi + yi * yi + zi * zi);
+        }
+    }
+
+    @Override
+    public void distanceSquared(int from, int to, @NotNull Vec3iBuffer other, double @NotNull [] dst, int dstOffset) {
+        checkRange(from, to);
+        other.checkRange(from, to);
+        checkDst(from, to, dst, dstOffset);
+        for (int i = from; i < to; i++) {
+            int dx = Math.abs(other.x[i] - x[i]), dy = Math.abs(other.y[i] - y[i]), dz = Math.abs(other.z[i] - z[i]);
+            dst[dstOffset + i - from] = (dx * dx) + (dy * dy) + (dz * dz);
+        }
+    }
+
+    @Override
+    public void distanceSquared(int from, int to, @NotNull Vec3i vec, double @NotNull [] dst, int dstOffset) {
+        checkRange(from, to);
+        checkDst(from, to, dst, dstOffset);
+        final int vx = vec.x, vy = vec.y, vz = vec.z;
+        for (int i = from; i < to; i++) {
+            int dx = Math.abs(vx - x[i]), dy = Math.abs(vy - y[i]), dz = Math.abs(vz - z[i]);
+            dst[dstOffset + i - from] = (dx * dx) + (dy * dy) + (dz * dz);
+        }
+    }
+
+    public @NotNull Vec3dBuffer normalize(int from, int to, @NotNull Vec3dBuffer dst) {
+        checkRange(from, to);
+        Objects.checkFromToIndex(from, to, dst.size());
+        for (int i = from; i < to; i++) {
+            final int xi = x[i], yi = y[i], zi = z[i];
+            final double len = Math.sqrt(xi * xi + yi * yi + zi * zi);
+            dst.x[i] = (double) xi / len;
+            dst.y[i] = (double) yi / len;
+            dst.z[i] = (double) zi / len;
+        }
+        return dst;
+    }
+
+    @Override
+    public @NotNull Vec3iBuffer copy() {
+        final Vec3iBuffer copy = new Vec3iBuffer(size);
+        System.arraycopy(x, 0, copy.x, 0, size);
+        System.arraycopy(y, 0, copy.y, 0, size);
+        System.arraycopy(z, 0, copy.z, 0, size);
+        return copy;
+    }
+}
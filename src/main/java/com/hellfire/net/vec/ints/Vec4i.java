@@ -1,12 +1,17 @@
 package com.hellfire.net.vec.ints;
 
+import com.hellfire.net.vec.FastMath;
 import com.hellfire.net.vec.IVec4;
 import com.hellfire.net.vec.doubles.Vec4d;
+import com.hellfire.net.vec.text.VecFormat;
+import com.hellfire.net.vec.text.VecParser;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Range;
 
+import java.util.Objects;
+
 /* Created by Conor on 15.05.2024 */
-public class Vec4i extends IVec4<Integer, Vec4i> {
+public class Vec4i extends IVec4<Integer, Vec4i> implements IntVecOps<Vec4i> {
 
     public static final Vec4i ZERO = new Vec4i(0, 0, 0, 0);
 
@@ -31,6 +36,14 @@ public class Vec4i extends IVec4<Integer, Vec4i> {
         this(0, 0, 0, 0);
     }
 
+    /** Parses the {@code toString}/{@code appendTo} form or plain separated components, see {@link VecParser} */
+    public static @NotNull Vec4i parse(final @NotNull CharSequence text, final int from) {
+        final VecParser parser = new VecParser(text, from).beginVec();
+        final int x = parser.nextInt(), y = parser.nextInt(), z = parser.nextInt(), w = parser.nextInt();
+        parser.endVec();
+        return new Vec4i(x, y, z, w);
+    }
+
     ///////////////////////////////////////////////////////////////////////////
     // Impl methods
     ///////////////////////////////////////////////////////////////////////////
@@ -173,12 +186,12 @@ public class Vec4i extends IVec4<Integer, Vec4i> {
 
     @Override
     public @NotNull Vec4i minLength(@NotNull Vec4i vec) {
-        return (length() < vec.length()) ? this : vec;
+        return (lengthSquared() < vec.lengthSquared()) ? this : vec;
     }
 
     @Override
     public @NotNull Vec4i maxLength(@NotNull Vec4i vec) {
-        return (length() > vec.length()) ? this : vec;
+        return (lengthSquared() > vec.lengthSquared()) ? this : vec;
     }
 
     @Override
@@ -202,7 +215,29 @@ public class Vec4i extends IVec4<Integer, Vec4i> {
 
     @Override
     public @NotNull Vec4d normalize() {
-        return new Vec4d(x, y, z, w).divScalar(length());
+        final double len = length();
+        return new Vec4d(x / len, y / len, z / len, w / len);
+    }
+
+    @Override
+    public double lengthFast() {
+        return FastMath.sqrt((double) x * x + (double) y * y + (double) z * z + (double) w * w);
+    }
+
+    @Override
+    public double inverseLength() {
+        return 1 / Math.sqrt((double) x * x + (double) y * y + (double) z * z + (double) w * w);
+    }
+
+    @Override
+    public double inverseLengthFast() {
+        return FastMath.invSqrt((double) x * x + (double) y * y + (double) z * z + (double) w * w);
+    }
+
+    @Override
+    public @NotNull Vec4d normalizeFast() {
+        final double inv = inverseLengthFast();
+        return new Vec4d(x * inv, y * inv, z * inv, w * inv);
     }
 
     @Override
@@ -214,4 +249,167 @@ public class Vec4i extends IVec4<Integer, Vec4i> {
     public @NotNull Vec4i clone() {
         return new Vec4i(x, y, z, w);
     }
+
+    public @NotNull MutableVec4i toMutable() {
+        return new MutableVec4i(x, y, z, w);
+    }
+
+    @Override
+    public @NotNull Vec4i addScaled(@NotNull Vec4i vec, double scale) {
+        return new Vec4i(
+                (int) (x + vec.x * scale),
+                (int) (y + vec.y * scale),
+                (int) (z + vec.z * scale),
+                (int) (w + vec.w * scale)
+        );
+    }
+
+    @Override
+    public @NotNull Vec4i mulAdd(@NotNull Vec4i a, @NotNull Vec4i b) {
+        return new Vec4i(x * a.x + b.x, y * a.y + b.y, z * a.z + b.z, w * a.w + b.w);
+    }
+
+    @Override
+    public @NotNull Vec4i fma(@NotNull Vec4i a, @NotNull Vec4i b) {
+        return new Vec4i(x * a.x + b.x, y * a.y + b.y, z * a.z + b.z, w * a.w + b.w);
+    }
+
+    @Override
+    public @NotNull Vec4i lerp(@NotNull Vec4i other, double t) {
+        return new Vec4i(
+                (int) (x + (other.x - x) * t),
+                (int) (y + (other.y - y) * t),
+                (int) (z + (other.z - z) * t),
+                (int) (w + (other.w - w) * t)
+        );
+    }
+
+    @Override
+    public @NotNull Vec4i scaleAndClamp(double scale, @NotNull Vec4i min, @NotNull Vec4i max) {
+        return new Vec4i(
+                (int) Math.clamp(x * scale, min.x, max.x),
+                (int) Math.clamp(y * scale, min.y, max.y),
+                (int) Math.clamp(z * scale, min.z, max.z),
+                (int) Math.clamp(w * scale, min.w, max.w)
+        );
+    }
+
+    @Override
+    public double distanceToLine(@NotNull Vec4i a, @NotNull Vec4i b) {
+        final double ux = (double) b.x - a.x, uy = (double) b.y - a.y, uz = (double) b.z - a.z, uw = (double) b.w - a.w;
+        final double dx = (double) x - a.x, dy = (double) y - a.y, dz = (double) z - a.z, dw = (double) w - a.w;
+        final double uu = ux * ux + uy * uy + uz * uz + uw * uw;
+        if (uu == 0) return Math.sqrt(dx * dx + dy * dy + dz * dz + dw * dw);
+
+        final double t = (dx * ux + dy * uy + dz * uz + dw * uw) / uu;
+        final double ex = dx - ux * t, ey = dy - uy * t, ez = dz - uz * t, ew = dw - uw * t;
+        return Math.sqrt(ex * ex + ey * ey + ez * ez + ew * ew);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Vec4i v)) return false;
+        return x == v.x && y == v.y && z == v.z && w == v.w;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Integer.hashCode(x);
+        result = HASH_PRIME * result + Integer.hashCode(y);
+        result = HASH_PRIME * result + Integer.hashCode(z);
+        result = HASH_PRIME * result + Integer.hashCode(w);
+        return result;
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // Primitive methods
+    ///////////////////////////////////////////////////////////////////////////
+
+    @Override
+    public int getInt(@Range(from = 0, to = 3) int component) {
+        return switch (component) {
+            case 0 -> x;
+            case 1 -> y;
+            case 2 -> z;
+            case 3 -> w;
+            default -> throw new IllegalArgumentException("Invalid component");
+        };
+    }
+
+    @Override
+    public double getDouble(@Range(from = 0, to = 3) int component) {
+        return switch (component) {
+            case 0 -> x;
+            case 1 -> y;
+            case 2 -> z;
+            case 3 -> w;
+            default -> throw new IllegalArgumentException("Invalid component");
+        };
+    }
+
+    @Override
+    public @NotNull Vec4i setInt(@Range(from = 0, to = 3) int component, int val) {
+        return switch (component) {
+            case 0 -> new Vec4i(val, y, z, w);
+            case 1 -> new Vec4i(x, val, z, w);
+            case 2 -> new Vec4i(x, y, val, w);
+            case 3 -> new Vec4i(x, y, z, val);
+            default -> throw new IllegalArgumentException("Invalid component");
+        };
+    }
+
+    @Override
+    public void componentsInto(int @NotNull [] dst, int offset) {
+        Objects.checkFromIndexSize(offset, NUM_COMPONENTS, dst.length);
+        dst[offset] = x;
+        dst[offset + 1] = y;
+        dst[offset + 2] = z;
+        dst[offset + 3] = w;
+    }
+
+    @Override
+    public void componentsInto(double @NotNull [] dst, int offset) {
+        Objects.checkFromIndexSize(offset, NUM_COMPONENTS, dst.length);
+        dst[offset] = x;
+        dst[offset + 1] = y;
+        dst[offset + 2] = z;
+        dst[offset + 3] = w;
+    }
+
+    public @NotNull Vec4i add(int x2, int y2, int z2, int w2) {
+        return new Vec4i(x + x2, y + y2, z + z2, w + w2);
+    }
+
+    public @NotNull Vec4i sub(int x2, int y2, int z2, int w2) {
+        return new Vec4i(x - x2, y - y2, z - z2, w - w2);
+    }
+
+    public @NotNull Vec4i mul(int x2, int y2, int z2, int w2) {
+        return new Vec4i(x * x2, y * y2, z * z2, w * w2);
+    }
+
+    public @NotNull Vec4i div(int x2, int y2, int z2, int w2) {
+        return new Vec4i(x / x2, y / y2, z / z2, w / w2);
+    }
+
+    @Override
+    public @NotNull Vec4i addScalar(int val) {
+        return new Vec4i(x + val, y + val, z + val, w + val);
+    }
+
+    @Override
+    public @NotNull Vec4i subScalar(int val) {
+        return new Vec4i(x - val, y - val, z - val, w - val);
+    }
+
+    @Override
+    public @NotNull Vec4i mulScalar(int scale) {
+        return new Vec4i(x * scale, y * scale, z * scale, w * scale);
+    }
+
+    @Override
+    protected void appendComponent(@NotNull StringBuilder sb, @Range(from = 0, to = 3) int component, int precision) {
+        VecFormat.append(sb, getInt(component), precision);
+    }
 }
@@ -0,0 +1,263 @@
+package com.hellfire.net.vec.ints;
+
+import com.hellfire.net.vec.IVecBuffer;
+import com.hellfire.net.vec.doubles.Vec4dBuffer;
+import com.hellfire.net.vec.kernel.VecKernelProvider;
+import com.hellfire.net.vec.kernel.VecKernels;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+
+public class Vec4iBuffer extends IVecBuffer<Integer, Vec4i, Vec4iBuffer> {
+
+    public final int[] x, y, z, w;
+
+    public Vec4iBuffer(final int size) {
+        super(size);
+        this.x = new int[size];
+        this.y = new int[size];
+        this.z = new int[size];
+        this.w = new int[size];
+    }
+
+    public Vec4iBuffer(final @NotNull Vec4i @NotNull ... vecs) {
+        this(vecs.length);
+        for (int i = 0; i < vecs.length; i++) set(i, vecs[i]);
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // Impl methods
+    ///////////////////////////////////////////////////////////////////////////
+
+    @Override
+    public int numComponents() {
+        return Vec4i.NUM_COMPONENTS;
+    }
+
+    @Override
+    public @NotNull Vec4i get(int index) {
+        return new Vec4i(x[index], y[index], z[index], w[index]);
+    }
+
+    @Override
+    public @NotNull Vec4iBuffer set(int index, @NotNull Vec4i vec) {
+        x[index] = vec.x;
+        y[index] = vec.y;
+        z[index] = vec.z;
+        w[index] = vec.w;
+        return this;
+    }
+
+    public @NotNull Vec4iBuffer set(int index, int x, int y, int z, int w) {
+        this.x[index] = x;
+        this.y[index] = y;
+        this.z[index] = z;
+        this.w[index] = w;
+        return this;
+    }
+
+    @Override
+    public @NotNull Vec4iBuffer add(int from, int to, @NotNull Vec4iBuffer other) {
+        checkRange(from, to);
+        other.checkRange(from, to);
+        final VecKernels kernels = VecKernelProvider.get();
+        kernels.add(x, other.x, x, from, to);
+        kernels.add(y, other.y, y, from, to);
+        kernels.add(z, other.z, z, from, to);
+        kernels.add(w, other.w, w, from, to);
+        return this;
+    }
+
+    @Override
+    public @NotNull Vec4iBuffer add(int from, int to, @NotNull Vec4i vec) {
+        checkRange(from, to);
+        final int vx = vec.x, vy = vec.y, vz = vec.z, vw = vec.w;
+        for (int i = from; i < to; i++) {
+            x[i] += vx;
+            y[i] += vy;
+            z[i] += vz;
+            w[i] += vw;
+        }
+        return this;
+    }
+
+    @Override
+    public @NotNull Vec4iBuffer sub(int from, int to, @NotNull Vec4iBuffer other) {
+        checkRange(from, to);
+        other.checkRange(from, to);
+        final VecKernels kernels = VecKernelProvider.get();
+        kernels.sub(x, other.x, x, from, to);
+        kernels.sub(y, other.y, y, from, to);
+        kernels.sub(z, other.z, z, from, to);
+        kernels.sub(w, other.w, w, from, to);
+        return this;
+    }
+
+    @Override
+    public @NotNull Vec4iBuffer sub(int from, int to, @NotNull Vec4i vec) {
+        checkRange(from, to);
+        final int vx = vec.x, vy = vec.y, vz = vec.z, vw = vec.w;
+        for (int i = from; i < to; i++) {
+            x[i] -= vx;
+            y[i] -= vy;
+            z[i] -= vz;
+            w[i] -= vw;
+        }
+        return this;
+    }
+
+    @Override
+    public @NotNull Vec4iBuffer mul(int from, int to, @NotNull Vec4iBuffer other) {
+        checkRange(from, to);
+        other.checkRange(from, to);
+        final VecKernels kernels = VecKernelProvider.get();
+        kernels.mul(x, other.x, x, from, to);
+        kernels.mul(y, other.y, y, from, to);
+        kernels.mul(z, other.z, z, from, to);
+        kernels.mul(w, other.w, w, from, to);
+        return this;
+    }
+
+    @Override
+    public @NotNull Vec4iBuffer mul(int from, int to, @NotNull Vec4i vec) {
+        checkRange(from, to);
+        final int vx = vec.x, vy = vec.y, vz = vec.z, vw = vec.w;
+        for (int i = from; i < to; i++) {
+            x[i] *= vx;
+            y[i] *= vy;
+            z[i] *= vz;
+            w[i] *= vw;
+        }
+        return this;
+    }
+
+    public @NotNull Vec4iBuffer addScalar(int from, int to, int val) {
+        checkRange(from, to);
+        for (int i = from; i < to; i++) {
+            x[i] += val;
+            y[i] += val;
+            z[i] += val;
+            w[i] += val;
+        }
+        return this;
+    }
+
+    public @NotNull Vec4iBuffer subScalar(int from, int to, int val) {
+        checkRange(from, to);
+        for (int i = from; i < to; i++) {
+            x[i] -= val;
+            y[i] -= val;
+            z[i] -= val;
+            w[i] -= val;
+        }
+        return this;
+    }
+
+    public @NotNull Vec4iBuffer mulScalar(int from, int to, int scale) {
+        checkRange(from, to);
+        for (int i = from; i < to; i++) {
+            x[i] *= scale;
+            y[i] *= scale;
+            z[i] *= scale;
+            w[i] *= scale;
+        }
+        return this;
+    }
+
+    @Override
+    public @NotNull Vec4iBuffer divScalar(int from, int to, double scale) {
+        checkRange(from, to);
+        for (int i = from; i < to; i++) {
+            x[i] = (int) (x[i] / scale);
+            y[i] = (int) (y[i] / scale);
+            z[i] = (int) (z[i] / scale);
+            w[i] = (int) (w[i] / scale);
+        }
+        return this;
+    }
+
+    public @NotNull Vec4iBuffer negate(int from, int to) {
+        checkRange(from, to);
+        for (int i = from; i < to; i++) {
+            x[i] = -x[i];
+            y[i] = -y[i];
+            z[i] = -z[i];
+            w[i] = -w[i];
+        }
+        return this;
+    }
+
+    @Override
+    public double length(int index) {
+        final int xi = x[index], yi = y[index], zi = z[index], wi = w[index];
+        return Math.sqrt(xi * xi + yi * yi + zi * zi + wi * wi);
+    }
+
+    @Override
+    public double lengthSquared(int index) {
+        final int xi = x[index], yi = y[index], zi = z[index], wi = w[index];
+        return (xi * xi) + (yi * yi) + (zi * zi) + (wi * wi);
+    }
+
+    @Override
+    public double distanceSquared(int index, @NotNull Vec4i vec) {
+        int dx = Math.abs(vec.x - x[index]), dy = Math.abs(vec.y - y[index]), dz = Math.abs(vec.z - z[index]), dw = Math.abs(vec.w - w[index]);
+        return (dx * dx) + (dy * dy) + (dz * dz) + (dw * dw);
+    }
+
+    @Override
+    public void length(int from, int to, double @NotNull [] dst, int dstOffset) {
+        checkRange(from, to);
+        checkDst(from, to, dst, dstOffset);
+        for (int i = from; i < to; i++) {
+            final int xi = x[i], yi = y[i], zi = z[i], wi = w[i];
+            dst[dstOffset + i - from] = Math.sqrt(xi * xi + yi * yi + zi * zi + wi * wi);
+        }
+    }
+
+    @Override
+    public void distanceSquared(int from, int to, @NotNull Vec4iBuffer other, double @NotNull [] dst, int dstOffset) {
+        checkRange(from, to);
+        other.checkRange(from, to);
+        checkDst(from, to, dst, dstOffset);
+        for (int i = from; i < to; i++) {
+            int dx = Math.abs(other.x[i] - x[i]), dy = Math.abs(other.y[i] - y[i]), dz = Math.abs(other.z[i] - z[i]), dw = Math.abs(other.w[i] - w[i]);
+            dst[dstOffset + i - from] = (dx * dx) + (dy * dy) + (dz * dz) + (dw * dw);
+        }
+    }
+
+    @Override
+    public void distanceSquared(int from, int to, @NotNull Vec4i vec, double @NotNull [] dst, int dstOffset) {
+        checkRange(from, to);
+        checkDst(from, to, dst, dstOffset);
+        final int vx = vec.x, vy = vec.y, vz = vec.z, vw = vec.w;
+        for (int i = from; i < to; i++) {
+            int dx = Math.abs(vx - x[i]), dy = Math.abs(vy - y[i]), dz = Math.abs(vz - z[i]), dw = Math.abs(vw - w[i]);
+            dst[dstOffset + i - from] = (dx * dx) + (dy * dy) + (dz * dz) + (dw * dw);
+        }
+    }
+
+    public @NotNull Vec4dBuffer normalize(int from, int to, @NotNull Vec4dBuffer dst) {
+        checkRange(from, to);
+        Objects.checkFromToIndex(from, to, dst.size());
+        for (int i = from; i < to; i++) {
+            final int xi = x[i], yi = y[i], zi = z[i], wi = w[i];
+            final double len = Math.sqrt(xi * xi + yi * yi + zi * zi + wi * wi);
+            dst.x[i] = (double) xi / len;
+            dst.y[i] = (double) yi / len;
+            dst.z[i] = (double) zi / len;
+            dst.w[i] = (double) wi / len;
+        }
+        return dst;
+    }
+
+    @Override
+    public @NotNull Vec4iBuffer copy() {
+        final Vec4iBuffer copy = new Vec4iBuffer(size);
+        System.arraycopy(x, 0, copy.x, 0, size);
+        System.arraycopy(y, 0, copy.y, 0, size);
+        System.arraycopy(z, 0, copy.z, 0, size);
+        System.arraycopy(w, 0, copy.w, 0, size);
+        return copy;
+    }
+}
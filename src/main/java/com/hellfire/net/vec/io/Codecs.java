@@ -0,0 +1,75 @@
+package com.hellfire.net.vec.io;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Absolute primitive access to heap and direct {@link ByteBuffer}s in an explicit byte order, independent of the
+ * order set on the buffer. The view handles are static finals so the JIT can inline them.
+ */
+final class Codecs {
+
+    private static final VarHandle DOUBLE_LE = MethodHandles.byteBufferViewVarHandle(double[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle DOUBLE_BE = MethodHandles.byteBufferViewVarHandle(double[].class, ByteOrder.BIG_ENDIAN);
+    private static final VarHandle FLOAT_LE = MethodHandles.byteBufferViewVarHandle(float[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle FLOAT_BE = MethodHandles.byteBufferViewVarHandle(float[].class, ByteOrder.BIG_ENDIAN);
+    private static final VarHandle INT_LE = MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle INT_BE = MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
+    private static final VarHandle LONG_LE = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle LONG_BE = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+
+    private Codecs() {
+    }
+
+    static void putDouble(ByteBuffer buf, int offset, double val, boolean little) {
+        if (little) DOUBLE_LE.set(buf, offset, val);
+        else DOUBLE_BE.set(buf, offset, val);
+    }
+
+    static double getDouble(ByteBuffer buf, int offset, boolean little) {
+        return little ? (double) DOUBLE_LE.get(buf, offset) : (double) DOUBLE_BE.get(buf, offset);
+    }
+
+    static void putFloat(ByteBuffer buf, int offset, float val, boolean little) {
+        if (little) FLOAT_LE.set(buf, offset, val);
+        else FLOAT_BE.set(buf, offset, val);
+    }
+
+    static float getFloat(ByteBuffer buf, int offset, boolean little) {
+        return little ? (float) FLOAT_LE.get(buf, offset) : (float) FLOAT_BE.get(buf, offset);
+    }
+
+    static void putInt(ByteBuffer buf, int offset, int val, boolean little) {
+        if (little) INT_LE.set(buf, offset, val);
+        else INT_BE.set(buf, offset, val);
+    }
+
+    static int getInt(ByteBuffer buf, int offset, boolean little) {
+        return little ? (int) INT_LE.get(buf, offset) : (int) INT_BE.get(buf, offset);
+    }
+
+    static void putLong(ByteBuffer buf, int offset, long val, boolean little) {
+        if (little) LONG_LE.set(buf, offset, val);
+        else LONG_BE.set(buf, offset, val);
+    }
+
+    static long getLong(ByteBuffer buf, int offset, boolean little) {
+        return little ? (long) LONG_LE.get(buf, offset) : (long) LONG_BE.get(buf, offset);
+    }
+
+    /** Checks that {@code count} vectors fit after the position and returns that position */
+    static int reserveWrite(ByteBuffer buf, int count, int bytes) {
+        if ((long) count * bytes > buf.remaining()) throw new BufferOverflowException();
+        return buf.position();
+    }
+
+    /** Checks that {@code count} vectors can be read after the position and returns that position */
+    static int reserveRead(ByteBuffer buf, int count, int bytes) {
+        if ((long) count * bytes > buf.remaining()) throw new BufferUnderflowException();
+        return buf.position();
+    }
+}
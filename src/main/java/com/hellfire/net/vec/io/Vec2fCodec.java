@@ -0,0 +1,106 @@
+package com.hellfire.net.vec.io;
+
+import com.hellfire.net.vec.floats.Vec2fBuffer;
+import com.hellfire.net.vec.floats.Vec2f;
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Objects;
+
+final class Vec2fCodec implements VecCodec<Vec2f, Vec2fBuffer> {
+
+    private static final int BYTES = 2 * Float.BYTES;
+
+    private final ByteOrder order;
+    private final boolean little;
+
+    Vec2fCodec(final @NotNull ByteOrder order) {
+        this.order = order;
+        this.little = order == ByteOrder.LITTLE_ENDIAN;
+    }
+
+    @Override
+    public int byteSize() {
+        return BYTES;
+    }
+
+    @Override
+    public @NotNull ByteOrder order() {
+        return order;
+    }
+
+    @Override
+    public void write(@NotNull ByteBuffer dst, @NotNull Vec2f vec) {
+        final int pos = Codecs.reserveWrite(dst, 1, BYTES);
+        put(dst, pos, vec.x, vec.y);
+        dst.position(pos + BYTES);
+    }
+
+    @Override
+    public void write(@NotNull ByteBuffer dst, int offset, @NotNull Vec2f vec) {
+        Objects.checkFromIndexSize(offset, BYTES, dst.limit());
+        put(dst, offset, vec.x, vec.y);
+    }
+
+    @Override
+    public @NotNull Vec2f read(@NotNull ByteBuffer src) {
+        final int pos = Codecs.reserveRead(src, 1, BYTES);
+        final Vec2f vec = get(src, pos);
+        src.position(pos + BYTES);
+        return vec;
+    }
+
+    @Override
+    public @NotNull Vec2f read(@NotNull ByteBuffer src, int offset) {
+        Objects.checkFromIndexSize(offset, BYTES, src.limit());
+        return get(src, offset);
+    }
+
+    @Override
+    public void write(@NotNull ByteBuffer dst, @NotNull Vec2f @NotNull [] vecs, int from, int to) {
+        Objects.checkFromToIndex(from, to, vecs.length);
+        final int pos = Codecs.reserveWrite(dst, to - from, BYTES);
+        for (int i = from, offset = pos; i < to; i++, offset += BYTES) {
+            final Vec2f vec = vecs[i];
+            put(dst, offset, vec.x, vec.y);
+        }
+        dst.position(pos + (to - from) * BYTES);
+    }
+
+    @Override
+    public void read(@NotNull ByteBuffer src, @NotNull Vec2f @NotNull [] dst, int from, int to) {
+        Objects.checkFromToIndex(from, to, dst.length);
+        final int pos = Codecs.reserveRead(src, to - from, BYTES);
+        for (int i = from, offset = pos; i < to; i++, offset += BYTES) dst[i] = get(src, offset);
+        src.position(pos + (to - from) * BYTES);
+    }
+
+    @Override
+    public void write(@NotNull ByteBuffer dst, @NotNull Vec2fBuffer buf, int from, int to) {
+        Objects.checkFromToIndex(from, to, buf.size());
+        final int pos = Codecs.reserveWrite(dst, to - from, BYTES);
+        for (int i = from, offset = pos; i < to; i++, offset += BYTES) put(dst, offset, buf.x[i], buf.y[i]);
+        dst.position(pos + (to - from) * BYTES);
+    }
+
+    @Override
+    public void read(@NotNull ByteBuffer src, @NotNull Vec2fBuffer buf, int from, int to) {
+        Objects.checkFromToIndex(from, to, buf.size());
+        final int pos = Codecs.reserveRead(src, to - from, BYTES);
+        for (int i = from, offset = pos; i < to; i++, offset += BYTES) {
+            buf.x[i] = Codecs.getFloat(src, offset, little);
+            buf.y[i] = Codecs.getFloat(src, offset + Float.BYTES, little);
+        }
+        src.position(pos + (to - from) * BYTES);
+    }
+
+    private void put(ByteBuffer dst, int offset, float x, float y) {
+        Codecs.putFloat(dst, offset, x, little);
+        Codecs.putFloat(dst, offset + Float.BYTES, y, little);
+    }
+
+    private Vec2f get(ByteBuffer src, int offset) {
+        return new Vec2f(Codecs.getFloat(src, offset, little), Codecs.getFloat(src, offset + Float.BYTES, little));
+    }
+}
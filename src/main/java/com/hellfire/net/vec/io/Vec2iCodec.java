@@ -0,0 +1,106 @@
+package com.hellfire.net.vec.io;
+
+import com.hellfire.net.vec.ints.Vec2iBuffer;
+import com.hellfire.net.vec.ints.Vec2i;
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Objects;
+
+final class Vec2iCodec implements VecCodec<Vec2i, Vec2iBuffer> {
+
+    private static final int BYTES = 2 * Integer.BYTES;
+
+    private final ByteOrder order;
+    private final boolean little;
+
+    Vec2iCodec(final @NotNull ByteOrder order) {
+        this.order = order;
+        this.little = order == ByteOrder.LITTLE_ENDIAN;
+    }
+
+    @Override
+    public int byteSize() {
+        return BYTES;
+    }
+
+    @Override
+    public @NotNull ByteOrder order() {
+        return order;
+    }
+
+    @Override
+    public void write(@NotNull ByteBuffer dst, @NotNull Vec2i vec) {
+        final int pos = Codecs.reserveWrite(dst, 1, BYTES);
+        put(dst, pos, vec.x, vec.y);
+        dst.position(pos + BYTES);
+    }
+
+    @Override
+    public void write(@NotNull ByteBuffer dst, int offset, @NotNull Vec2i vec) {
+        Objects.checkFromIndexSize(offset, BYTES, dst.limit());
+        put(dst, offset, vec.x, vec.y);
+    }
+
+    @Override
+    public @NotNull Vec2i read(@NotNull ByteBuffer src) {
+        final int pos = Codecs.reserveRead(src, 1, BYTES);
+        final Vec2i vec = get(src, pos);
+        src.position(pos + BYTES);
+        return vec;
+    }
+
+    @Override
+    public @NotNull Vec2i read(@NotNull ByteBuffer src, int offset) {
+        Objects.checkFromIndexSize(offset, BYTES, src.limit());
+        return get(src, offset);
+    }
+
+    @Override
+    public void write(@NotNull ByteBuffer dst, @NotNull Vec2i @NotNull [] vecs, int from, int to) {
+        Objects.checkFromToIndex(from, to, vecs.length);
+        final int pos = Codecs.reserveWrite(dst, to - from, BYTES);
+        for (int i = from, offset = pos; i < to; i++, offset += BYTES) {
+            final Vec2i vec = vecs[i];
+            put(dst, offset, vec.x, vec.y);
+        }
+        dst.position(pos + (to - from) * BYTES);
+    }
+
+    @Override
+    public void read(@NotNull ByteBuffer src, @NotNull Vec2i @NotNull [] dst, int from, int to) {
+        Objects.checkFromToIndex(from, to, dst.length);
+        final int pos = Codecs.reserveRead(src, to - from, BYTES);
+        for (int i = from, offset = pos; i < to; i++, offset += BYTES) dst[i] = get(src, offset);
+        src.position(pos + (to - from) * BYTES);
+    }
+
+    @Override
+    public void write(@NotNull ByteBuffer dst, @NotNull Vec2iBuffer buf, int from, int to) {
+        Objects.checkFromToIndex(from, to, buf.size());
+        final int pos = Codecs.reserveWrite(dst, to - from, BYTES);
+        for (int i = from, offset = pos; i < to; i++, offset += BYTES) put(dst, offset, buf.x[i], buf.y[i]);
+        dst.position(pos + (to - from) * BYTES);
+    }
+
+    @Override
+    public void read(@NotNull ByteBuffer src, @NotNull Vec2iBuffer buf, int from, int to) {
+        Objects.checkFromToIndex(from, to, buf.size());
+        final int pos = Codecs.reserveRead(src, to - from, BYTES);
+        for (int i = from, offset = pos; i < to; i++, offset += BYTES) {
+            buf.x[i] = Codecs.getInt(src, offset, little);
+            buf.y[i] = Codecs.getInt(src, offset + Integer.BYTES, little);
+        }
+        src.position(pos + (to - from) * BYTES);
+    }
+
+    private void put(ByteBuffer dst, int offset, int x, int y) {
+        Codecs.putInt(dst, offset, x, little);
+        Codecs.putInt(dst, offset + Integer.BYTES, y, little);
+    }
+
+    private Vec2i get(ByteBuffer src, int offset) {
+        return new Vec2i(Codecs.getInt(src, offset, little), Codecs.getInt(src, offset + Integer.BYTES, little));
+    }
+}
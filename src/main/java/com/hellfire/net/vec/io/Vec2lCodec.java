@@ -0,0 +1,106 @@
+package com.hellfire.net.vec.io;
+
+import com.hellfire.net.vec.longs.Vec2lBuffer;
+import com.hellfire.net.vec.longs.Vec2l;
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Objects;
+
+final class Vec2lCodec implements VecCodec<Vec2l, Vec2lBuffer> {
+
+    private static final int BYTES = 2 * Long.BYTES;
+
+    private final ByteOrder order;
+    private final boolean little;
+
+    Vec2lCodec(final @NotNull ByteOrder order) {
+        this.order = order;
+        this.little = order == ByteOrder.LITTLE_ENDIAN;
+    }
+
+    @Override
+    public int byteSize() {
+        return BYTES;
+    }
+
+    @Override
+    public @NotNull ByteOrder order() {
+        return order;
+    }
+
+    @Override
+    public void write(@NotNull ByteBuffer dst, @NotNull Vec2l vec) {
+        final int pos = Codecs.reserveWrite(dst, 1, BYTES);
+        put(dst, pos, vec.x, vec.y);
+        dst.position(pos + BYTES);
+    }
+
+    @Override
+    public void write(@NotNull ByteBuffer dst, int offset, @NotNull Vec2l vec) {
+        Objects.checkFromIndexSize(offset, BYTES, dst.limit());
+        put(dst, offset, vec.x, vec.y);
+    }
+
+    @Override
+    public @NotNull Vec2l read(@NotNull ByteBuffer src) {
+        final int pos = Codecs.reserveRead(src, 1, BYTES);
+        final Vec2l vec = get(src, pos);
+        src.position(pos + BYTES);
+        return vec;
+    }
+
+    @Override
+    public @NotNull Vec2l read(@NotNull ByteBuffer src, int offset) {
+        Objects.checkFromIndexSize(offset, BYTES, src.limit());
+        return get(src, offset);
+    }
+
+    @Override
+    public void write(@NotNull ByteBuffer dst, @NotNull Vec2l @NotNull [] vecs, int from, int to) {
+        Objects.checkFromToIndex(from, to, vecs.length);
+        final int pos = Codecs.reserveWrite(dst, to - from, BYTES);
+        for (int i = from, offset = pos; i < to; i++, offset += BYTES) {
+            final Vec2l vec = vecs[i];
+            put(dst, offset, vec.x, vec.y);
+        }
+        dst.position(pos + (to - from) * BYTES);
+    }
+
+    @Override
+    public void read(@NotNull ByteBuffer src, @NotNull Vec2l @NotNull [] dst, int from, int to) {
+        Objects.checkFromToIndex(from, to, dst.length);
+        final int pos = Codecs.reserveRead(src, to - from, BYTES);
+        for (int i = from, offset = pos; i < to; i++, offset += BYTES) dst[i] = get(src, offset);
+        src.position(pos + (to - from) * BYTES);
+    }
+
+    @Override
+    public void write(@NotNull ByteBuffer dst, @NotNull Vec2lBuffer buf, int from, int to) {
+        Objects.checkFromToIndex(from, to, buf.size());
+        final int pos = Codecs.reserveWrite(dst, to - from, BYTES);
+        for (int i = from, offset = pos; i < to; i++, offset += BYTES) put(dst, offset, buf.x[i], buf.y[i]);
+        dst.position(pos + (to - from) * BYTES);
+    }
+
+    @Override
+    public void read(@NotNull ByteBuffer src, @NotNull Vec2lBuffer buf, int from, int to) {
+        Objects.checkFromToIndex(from, to, buf.size());
+        final int pos = Codecs.reserveRead(src, to - from, BYTES);
+        for (int i = from, offset = pos; i < to; i++, offset += BYTES) {
+            buf.x[i] = Codecs.getLong(src, offset, little);
+            buf.y[i] = Codecs.getLong(src, offset + Long.BYTES, little);
+        }
+        src.position(pos + (to - from) * BYTES);
+    }
+
+    private void put(ByteBuffer dst, int offset, long x, long y) {
+        Codecs.putLong(dst, offset, x, little);
+        Codecs.putLong(dst, offset + Long.BYTES, y, little);
+    }
+
+    private Vec2l get(ByteBuffer src, int offset) {
+        return new Vec2l(Codecs.getLong(src, offset, little), Codecs.getLong(src, offset + Long.BYTES, little));
+    }
+}
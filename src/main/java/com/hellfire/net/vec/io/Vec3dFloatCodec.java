@@ -0,0 +1,113 @@
+package com.hellfire.net.vec.io;
+
+import com.hellfire.net.vec.doubles.Vec3dBuffer;
+import com.hellfire.net.vec.doubles.Vec3d;
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Objects;
+
+/** {@link Vec3d} stored as 3 floats, reading widens back to double */
+final class Vec3dFloatCodec implements VecCodec<Vec3d, Vec3dBuffer> {
+
+    private static final int BYTES = 3 * Float.BYTES;
+
+    private final ByteOrder order;
+    private final boolean little;
+
+    Vec3dFloatCodec(final @NotNull ByteOrder order) {
+        this.order = order;
+        this.little = order == ByteOrder.LITTLE_ENDIAN;
+    }
+
+    @Override
+    public int byteSize() {
+        return BYTES;
+    }
+
+    @Override
+    public @NotNull ByteOrder order() {
+        return order;
+    }
+
+    @Override
+    public void write(@NotNull ByteBuffer dst, @NotNull Vec3d vec) {
+        final int pos = Codecs.reserveWrite(dst, 1, BYTES);
+        put(dst, pos, vec.x, vec.y, vec.z);
+        dst.position(pos + BYTES);
+    }
+
+    @Override
+    public void write(@NotNull ByteBuffer dst, int offset, @NotNull Vec3d vec) {
+        Objects.checkFromIndexSize(offset, BYTES, dst.limit());
+        put(dst, offset, vec.x, vec.y, vec.z);
+    }
+
+    @Override
+    public @NotNull Vec3d read(@NotNull ByteBuffer src) {
+        final int pos = Codecs.reserveRead(src, 1, BYTES);
+        final Vec3d vec = get(src, pos);
+        src.position(pos + BYTES);
+        return vec;
+    }
+
+    @Override
+    public @NotNull Vec3d read(@NotNull ByteBuffer src, int offset) {
+        Objects.checkFromIndexSize(offset, BYTES, src.limit());
+        return get(src, offset);
+    }
+
+    @Override
+    public void write(@NotNull ByteBuffer dst, @NotNull Vec3d @NotNull [] vecs, int from, int to) {
+        Objects.checkFromToIndex(from, to, vecs.length);
+        final int pos = Codecs.reserveWrite(dst, to - from, BYTES);
+        for (int i = from, offset = pos; i < to; i++, offset += BYTES) {
+            final Vec3d vec = vecs[i];
+            put(dst, offset, vec.x, vec.y, vec.z);
+        }
+        dst.position(pos + (to - from) * BYTES);
+    }
+
+    @Override
+    public void read(@NotNull ByteBuffer src, @NotNull Vec3d @NotNull [] dst, int from, int to) {
+        Objects.checkFromToIndex(from, to, dst.length);
+        final int pos = Codecs.reserveRead(src, to - from, BYTES);
+        for (int i = from, offset = pos; i < to; i++, offset += BYTES) dst[i] = get(src, offset);
+        src.position(pos + (to - from) * BYTES);
+    }
+
+    @Override
+    public void write(@NotNull ByteBuffer dst, @NotNull Vec3dBuffer buf, int from, int to) {
+        Objects.checkFromToIndex(from, to, buf.size());
+        final int pos = Codecs.reserveWrite(dst, to - from, BYTES);
+        for (int i = from, offset = pos; i < to; i++, offset += BYTES) put(dst, offset, buf.x[i], buf.y[i], buf.z[i]);
+        dst.position(pos + (to - from) * BYTES);
+    }
+
+    @Override
+    public void read(@NotNull ByteBuffer src, @NotNull Vec3dBuffer buf, int from, int to) {
+        Objects.checkFromToIndex(from, to, buf.size());
+        final int pos = Codecs.reserveRead(src, to - from, BYTES);
+        for (int i = from, offset = pos; i < to; i++, offset += BYTES) {
+            buf.x[i] = Codecs.getFloat(src, offset, little);
+            buf.y[i] = Codecs.getFloat(src, offset + Float.BYTES, little);
+            buf.z[i] = Codecs.getFloat(src, offset + 2 * Float.BYTES, little);
+        }
+        src.position(pos + (to - from) * BYTES);
+    }
+
+    private void put(ByteBuffer dst, int offset, double x, double y, double z) {
+        Codecs.putFloat(dst, offset, (float) x, little);
+        Codecs.putFloat(dst, offset + Float.BYTES, (float) y, little);
+        Codecs.putFloat(dst, offset + 2 * Float.BYTES, (float) z, little);
+    }
+
+    private Vec3d get(ByteBuffer src, int offset) {
+        return new Vec3d(
+                Codecs.getFloat(src, offset, little),
+                Codecs.getFloat(src, offset + Float.BYTES, little),
+                Codecs.getFloat(src, offset + 2 * Float.BYTES, little)
+        );
+    }
+}
@@ -0,0 +1,115 @@
+package com.hellfire.net.vec.io;
+
+import com.hellfire.net.vec.doubles.Vec4dBuffer;
+import com.hellfire.net.vec.doubles.Vec4d;
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Objects;
+
+final class Vec4dCodec implements VecCodec<Vec4d, Vec4dBuffer> {
+
+    private static final int BYTES = 4 * Double.BYTES;
+
+    private final ByteOrder order;
+    private final boolean little;
+
+    Vec4dCodec(final @NotNull ByteOrder order) {
+        this.order = order;
+        this.little = order == ByteOrder.LITTLE_ENDIAN;
+    }
+
+    @Override
+    public int byteSize() {
+        return BYTES;
+    }
+
+    @Override
+    public @NotNull ByteOrder order() {
+        return order;
+    }
+
+    @Override
+    public void write(@NotNull ByteBuffer dst, @NotNull Vec4d vec) {
+        final int pos = Codecs.reserveWrite(dst, 1, BYTES);
+        put(dst, pos, vec.x, vec.y, vec.z, vec.w);
+        dst.position(pos + BYTES);
+    }
+
+    @Override
+    public void write(@NotNull ByteBuffer dst, int offset, @NotNull Vec4d vec) {
+        Objects.checkFromIndexSize(offset, BYTES, dst.limit());
+        put(dst, offset, vec.x, vec.y, vec.z, vec.w);
+    }
+
+    @Override
+    public @NotNull Vec4d read(@NotNull ByteBuffer src) {
+        final int pos = Codecs.reserveRead(src, 1, BYTES);
+        final Vec4d vec = get(src, pos);
+        src.position(pos + BYTES);
+        return vec;
+    }
+
+    @Override
+    public @NotNull Vec4d read(@NotNull ByteBuffer src, int offset) {
+        Objects.checkFromIndexSize(offset, BYTES, src.limit());
+        return get(src, offset);
+    }
+
+    @Override
+    public void write(@NotNull ByteBuffer dst, @NotNull Vec4d @NotNull [] vecs, int from, int to) {
+        Objects.checkFromToIndex(from, to, vecs.length);
+        final int pos = Codecs.reserveWrite(dst, to - from, BYTES);
+        for (int i = from, offset = pos; i < to; i++, offset += BYTES) {
+            final Vec4d vec = vecs[i];
+            put(dst, offset, vec.x, vec.y, vec.z, vec.w);
+        }
+        dst.position(pos + (to - from) * BYTES);
+    }
+
+    @Override
+    public void read(@NotNull ByteBuffer src, @NotNull Vec4d @NotNull [] dst, int from, int to) {
+        Objects.checkFromToIndex(from, to, dst.length);
+        final int pos = Codecs.reserveRead(src, to - from, BYTES);
+        for (int i = from, offset = pos; i < to; i++, offset += BYTES) dst[i] = get(src, offset);
+        src.position(pos + (to - from) * BYTES);
+    }
+
+    @Override
+    public void write(@NotNull ByteBuffer dst, @NotNull Vec4dBuffer buf, int from, int to) {
+        Objects.checkFromToIndex(from, to, buf.size());
+        final int pos = Codecs.reserveWrite(dst, to - from, BYTES);
+        for (int i = from, offset = pos; i < to; i++, offset += BYTES) put(dst, offset, buf.x[i], buf.y[i], buf.z[i], buf.w[i]);
+        dst.position(pos + (to - from) * BYTES);
+    }
+
+    @Override
+    public void read(@NotNull ByteBuffer src, @NotNull Vec4dBuffer buf, int from, int to) {
+        Objects.checkFromToIndex(from, to, buf.size());
+        final int pos = Codecs.reserveRead(src, to - from, BYTES);
+        for (int i = from, offset = pos; i < to; i++, offset += BYTES) {
+            buf.x[i] = Codecs.getDouble(src, offset, little);
+            buf.y[i] = Codecs.getDouble(src, offset + Double.BYTES, little);
+            buf.z[i] = Codecs.getDouble(src, offset + 2 * Double.BYTES, little);
+            buf.w[i] = Codecs.getDouble(src, offset + 3 * Double.BYTES, little);
+        }
+        src.position(pos + (to - from) * BYTES);
+    }
+
+    private void put(ByteBuffer dst, int offset, double x, double y, double z, double w) {
+        Codecs.putDouble(dst, offset, x, little);
+        Codecs.putDouble(dst, offset + Double.BYTES, y, little);
+        Codecs.putDouble(dst, offset + 2 * Double.BYTES, z, little);
+        Codecs.putDouble(dst, offset + 3 * Double.BYTES, w, little);
+    }
+
+    private Vec4d get(ByteBuffer src, int offset) {
+        return new Vec4d(
+                Codecs.getDouble(src, offset, little),
+                Codecs.getDouble(src, offset + Double.BYTES, little),
+                Codecs.getDouble(src, offset + 2 * Double.BYTES, little),
+                Codecs.getDouble(src, offset + 3 * Double.BYTES, little)
+        );
+    }
+}
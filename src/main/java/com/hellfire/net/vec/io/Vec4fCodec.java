@@ -0,0 +1,115 @@
+package com.hellfire.net.vec.io;
+
+import com.hellfire.net.vec.floats.Vec4fBuffer;
+import com.hellfire.net.vec.floats.Vec4f;
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Objects;
+
+final class Vec4fCodec implements VecCodec<Vec4f, Vec4fBuffer> {
+
+    private static final int BYTES = 4 * Float.BYTES;
+
+    private final ByteOrder order;
+    private final boolean little;
+
+    Vec4fCodec(final @NotNull ByteOrder order) {
+        this.order = order;
+        this.little = order == ByteOrder.LITTLE_ENDIAN;
+    }
+
+    @Override
+    public int byteSize() {
+        return BYTES;
+    }
+
+    @Override
+    public @NotNull ByteOrder order() {
+        return order;
+    }
+
+    @Override
+    public void write(@NotNull ByteBuffer dst, @NotNull Vec4f vec) {
+        final int pos = Codecs.reserveWrite(dst, 1, BYTES);
+        put(dst, pos, vec.x, vec.y, vec.z, vec.w);
+        dst.position(pos + BYTES);
+    }
+
+    @Override
+    public void write(@NotNull ByteBuffer dst, int offset, @NotNull Vec4f vec) {
+        Objects.checkFromIndexSize(offset, BYTES, dst.limit());
+        put(dst, offset, vec.x, vec.y, vec.z, vec.w);
+    }
+
+    @Override
+    public @NotNull Vec4f read(@NotNull ByteBuffer src) {
+        final int pos = Codecs.reserveRead(src, 1, BYTES);
+        final Vec4f vec = get(src, pos);
+        src.position(pos + BYTES);
+        return vec;
+    }
+
+    @Override
+    public @NotNull Vec4f read(@NotNull ByteBuffer src, int offset) {
+        Objects.checkFromIndexSize(offset, BYTES, src.limit());
+        return get(src, offset);
+    }
+
+    @Override
+    public void write(@NotNull ByteBuffer dst, @NotNull Vec4f @NotNull [] vecs, int from, int to) {
+        Objects.checkFromToIndex(from, to, vecs.length);
+        final int pos = Codecs.reserveWrite(dst, to - from, BYTES);
+        for (int i = from, offset = pos; i < to; i++, offset += BYTES) {
+            final Vec4f vec = vecs[i];
+            put(dst, offset, vec.x, vec.y, vec.z, vec.w);
+        }
+        dst.position(pos + (to - from) * BYTES);
+    }
+
+    @Override
+    public void read(@NotNull ByteBuffer src, @NotNull Vec4f @NotNull [] dst, int from, int to) {
+        Objects.checkFromToIndex(from, to, dst.length);
+        final int pos = Codecs.reserveRead(src, to - from, BYTES);
+        for (int i = from, offset = pos; i < to; i++, offset += BYTES) dst[i] = get(src, offset);
+        src.position(pos + (to - from) * BYTES);
+    }
+
+    @Override
+    public void write(@NotNull ByteBuffer dst, @NotNull Vec4fBuffer buf, int from, int to) {
+        Objects.checkFromToIndex(from, to, buf.size());
+        final int pos = Codecs.reserveWrite(dst, to - from, BYTES);
+        for (int i = from, offset = pos; i < to; i++, offset += BYTES) put(dst, offset, buf.x[i], buf.y[i], buf.z[i], buf.w[i]);
+        dst.position(pos + (to - from) * BYTES);
+    }
+
+    @Override
+    public void read(@NotNull ByteBuffer src, @NotNull Vec4fBuffer buf, int from, int to) {
+        Objects.checkFromToIndex(from, to, buf.size());
+        final int pos = Codecs.reserveRead(src, to - from, BYTES);
+        for (int i = from, offset = pos; i < to; i++, offset += BYTES) {
+            buf.x[i] = Codecs.getFloat(src, offset, little);
+            buf.y[i] = Codecs.getFloat(src, offset + Float.BYTES, little);
+            buf.z[i] = Codecs.getFloat(src, offset + 2 * Float.BYTES, little);
+            buf.w[i] = Codecs.getFloat(src, offset + 3 * Float.BYTES, little);
+        }
+        src.position(pos + (to - from) * BYTES);
+    }
+
+    private void put(ByteBuffer dst, int offset, float x, float y, float z, float w) {
+        Codecs.putFloat(dst, offset, x, little);
+        Codecs.putFloat(dst, offset + Float.BYTES, y, little);
+        Codecs.putFloat(dst, offset + 2 * Float.BYTES, z, little);
+        Codecs.putFloat(dst, offset + 3 * Float.BYTES, w, little);
+    }
+
+    private Vec4f get(ByteBuffer src, int offset) {
+        return new Vec4f(
+                Codecs.getFloat(src, offset, little),
+                Codecs.getFloat(src, offset + Float.BYTES, little),
+                Codecs.getFloat(src, offset + 2 * Float.BYTES, little),
+                Codecs.getFloat(src, offset + 3 * Float.BYTES, little)
+        );
+    }
+}
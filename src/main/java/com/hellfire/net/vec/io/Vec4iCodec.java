@@ -0,0 +1,115 @@
+package com.hellfire.net.vec.io;
+
+import com.hellfire.net.vec.ints.Vec4iBuffer;
+import com.hellfire.net.vec.ints.Vec4i;
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Objects;
+
+final class Vec4iCodec implements VecCodec<Vec4i, Vec4iBuffer> {
+
+    private static final int BYTES = 4 * Integer.BYTES;
+
+    private final ByteOrder order;
+    private final boolean little;
+
+    Vec4iCodec(final @NotNull ByteOrder order) {
+        this.order = order;
+        this.little = order == ByteOrder.LITTLE_ENDIAN;
+    }
+
+    @Override
+    public int byteSize() {
+        return BYTES;
+    }
+
+    @Override
+    public @NotNull ByteOrder order() {
+        return order;
+    }
+
+    @Override
+    public void write(@NotNull ByteBuffer dst, @NotNull Vec4i vec) {
+        final int pos = Codecs.reserveWrite(dst, 1, BYTES);
+        put(dst, pos, vec.x, vec.y, vec.z, vec.w);
+        dst.position(pos + BYTES);
+    }
+
+    @Override
+    public void write(@NotNull ByteBuffer dst, int offset, @NotNull Vec4i vec) {
+        Objects.checkFromIndexSize(offset, BYTES, dst.limit());
+        put(dst, offset, vec.x, vec.y, vec.z, vec.w);
+    }
+
+    @Override
+    public @NotNull Vec4i read(@NotNull ByteBuffer src) {
+        final int pos = Codecs.reserveRead(src, 1, BYTES);
+        final Vec4i vec = get(src, pos);
+        src.position(pos + BYTES);
+        return vec;
+    }
+
+    @Override
+    public @NotNull Vec4i read(@NotNull ByteBuffer src, int offset) {
+        Objects.checkFromIndexSize(offset, BYTES, src.limit());
+        return get(src, offset);
+    }
+
+    @Override
+    public void write(@NotNull ByteBuffer dst, @NotNull Vec4i @NotNull [] vecs, int from, int to) {
+        Objects.checkFromToIndex(from, to, vecs.length);
+        final int pos = Codecs.reserveWrite(dst, to - from, BYTES);
+        for (int i = from, offset = pos; i < to; i++, offset += BYTES) {
+            final Vec4i vec = vecs[i];
+            put(dst, offset, vec.x, vec.y, vec.z, vec.w);
+        }
+        dst.position(pos + (to - from) * BYTES);
+    }
+
+    @Override
+    public void read(@NotNull ByteBuffer src, @NotNull Vec4i @NotNull [] dst, int from, int to) {
+        Objects.checkFromToIndex(from, to, dst.length);
+        final int pos = Codecs.reserveRead(src, to - from, BYTES);
+        for (int i = from, offset = pos; i < to; i++, offset += BYTES) dst[i] = get(src, offset);
+        src.position(pos + (to - from) * BYTES);
+    }
+
+    @Override
+    public void write(@NotNull ByteBuffer dst, @NotNull Vec4iBuffer buf, int from, int to) {
+        Objects.checkFromToIndex(from, to, buf.size());
+        final int pos = Codecs.reserveWrite(dst, to - from, BYTES);
+        for (int i = from, offset = pos; i < to; i++, offset += BYTES) put(dst, offset, buf.x[i], buf.y[i], buf.z[i], buf.w[i]);
+        dst.position(pos + (to - from) * BYTES);
+    }
+
+    @Override
+    public void read(@NotNull ByteBuffer src, @NotNull Vec4iBuffer buf, int from, int to) {
+        Objects.checkFromToIndex(from, to, buf.size());
+        final int pos = Codecs.reserveRead(src, to - from, BYTES);
+        for (int i = from, offset = pos; i < to; i++, offset += BYTES) {
+            buf.x[i] = Codecs.getInt(src, offset, little);
+            buf.y[i] = Codecs.getInt(src, offset + Integer.BYTES, little);
+            buf.z[i] = Codecs.getInt(src, offset + 2 * Integer.BYTES, little);
+            buf.w[i] = Codecs.getInt(src, offset + 3 * Integer.BYTES, little);
+        }
+        src.position(pos + (to - from) * BYTES);
+    }
+
+    private void put(ByteBuffer dst, int offset, int x, int y, int z, int w) {
+        Codecs.putInt(dst, offset, x, little);
+        Codecs.putInt(dst, offset + Integer.BYTES, y, little);
+        Codecs.putInt(dst, offset + 2 * Integer.BYTES, z, little);
+        Codecs.putInt(dst, offset + 3 * Integer.BYTES, w, little);
+    }
+
+    private Vec4i get(ByteBuffer src, int offset) {
+        return new Vec4i(
+                Codecs.getInt(src, offset, little),
+                Codecs.getInt(src, offset + Integer.BYTES, little),
+                Codecs.getInt(src, offset + 2 * Integer.BYTES, little),
+                Codecs.getInt(src, offset + 3 * Integer.BYTES, little)
+        );
+    }
+}
@@ -0,0 +1,115 @@
+package com.hellfire.net.vec.io;
+
+import com.hellfire.net.vec.longs.Vec4lBuffer;
+import com.hellfire.net.vec.longs.Vec4l;
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Objects;
+
+final class Vec4lCodec implements VecCodec<Vec4l, Vec4lBuffer> {
+
+    private static final int BYTES = 4 * Long.BYTES;
+
+    private final ByteOrder order;
+    private final boolean little;
+
+    Vec4lCodec(final @NotNull ByteOrder order) {
+        this.order = order;
+        this.little = order == ByteOrder.LITTLE_ENDIAN;
+    }
+
+    @Override
+    public int byteSize() {
+        return BYTES;
+    }
+
+    @Override
+    public @NotNull ByteOrder order() {
+        return order;
+    }
+
+    @Override
+    public void write(@NotNull ByteBuffer dst, @NotNull Vec4l vec) {
+        final int pos = Codecs.reserveWrite(dst, 1, BYTES);
+        put(dst, pos, vec.x, vec.y, vec.z, vec.w);
+        dst.position(pos + BYTES);
+    }
+
+    @Override
+    public void write(@NotNull ByteBuffer dst, int offset, @NotNull Vec4l vec) {
+        Objects.checkFromIndexSize(offset, BYTES, dst.limit());
+        put(dst, offset, vec.x, vec.y, vec.z, vec.w);
+    }
+
+    @Override
+    public @NotNull Vec4l read(@NotNull ByteBuffer src) {
+        final int pos = Codecs.reserveRead(src, 1, BYTES);
+        final Vec4l vec = get(src, pos);
+        src.position(pos + BYTES);
+        return vec;
+    }
+
+    @Override
+    public @NotNull Vec4l read(@NotNull ByteBuffer src, int offset) {
+        Objects.checkFromIndexSize(offset, BYTES, src.limit());
+        return get(src, offset);
+    }
+
+    @Override
+    public void write(@NotNull ByteBuffer dst, @NotNull Vec4l @NotNull [] vecs, int from, int to) {
+        Objects.checkFromToIndex(from, to, vecs.length);
+        final int pos = Codecs.reserveWrite(dst, to - from, BYTES);
+        for (int i = from, offset = pos; i < to; i++, offset += BYTES) {
+            final Vec4l vec = vecs[i];
+            put(dst, offset, vec.x, vec.y, vec.z, vec.w);
+        }
+        dst.position(pos + (to - from) * BYTES);
+    }
+
+    @Override
+    public void read(@NotNull ByteBuffer src, @NotNull Vec4l @NotNull [] dst, int from, int to) {
+        Objects.checkFromToIndex(from, to, dst.length);
+        final int pos = Codecs.reserveRead(src, to - from, BYTES);
+        for (int i = from, offset = pos; i < to; i++, offset += BYTES) dst[i] = get(src, offset);
+        src.position(pos + (to - from) * BYTES);
+    }
+
+    @Override
+    public void write(@NotNull ByteBuffer dst, @NotNull Vec4lBuffer buf, int from, int to) {
+        Objects.checkFromToIndex(from, to, buf.size());
+        final int pos = Codecs.reserveWrite(dst, to - from, BYTES);
+        for (int i = from, offset = pos; i < to; i++, offset += BYTES) put(dst, offset, buf.x[i], buf.y[i], buf.z[i], buf.w[i]);
+        dst.position(pos + (to - from) * BYTES);
+    }
+
+    @Override
+    public void read(@NotNull ByteBuffer src, @NotNull Vec4lBuffer buf, int from, int to) {
+        Objects.checkFromToIndex(from, to, buf.size());
+        final int pos = Codecs.reserveRead(src, to - from, BYTES);
+        for (int i = from, offset = pos; i < to; i++, offset += BYTES) {
+            buf.x[i] = Codecs.getLong(src, offset, little);
+            buf.y[i] = Codecs.getLong(src, offset + Long.BYTES, little);
+            buf.z[i] = Codecs.getLong(src, offset + 2 * Long.BYTES, little);
+            buf.w[i] = Codecs.getLong(src, offset + 3 * Long.BYTES, little);
+        }
+        src.position(pos + (to - from) * BYTES);
+    }
+
+    private void put(ByteBuffer dst, int offset, long x, long y, long z, long w) {
+        Codecs.putLong(dst, offset, x, little);
+        Codecs.putLong(dst, offset + Long.BYTES, y, little);
+        Codecs.putLong(dst, offset + 2 * Long.BYTES, z, little);
+        Codecs.putLong(dst, offset + 3 * Long.BYTES, w, little);
+    }
+
+    private Vec4l get(ByteBuffer src, int offset) {
+        return new Vec4l(
+                Codecs.getLong(src, offset, little),
+                Codecs.getLong(src, offset + Long.BYTES, little),
+                Codecs.getLong(src, offset + 2 * Long.BYTES, little),
+                Codecs.getLong(src, offset + 3 * Long.BYTES, little)
+        );
+    }
+}
@@ -0,0 +1,131 @@
+package com.hellfire.net.vec.io;
+
+import com.hellfire.net.vec.IVec;
+import com.hellfire.net.vec.IVecBuffer;
+import com.hellfire.net.vec.doubles.*;
+import com.hellfire.net.vec.floats.*;
+import com.hellfire.net.vec.ints.*;
+import com.hellfire.net.vec.longs.*;
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Fixed-size binary encoding of one vector type. Components are written back to back in {@code x, y, z, w} order,
+ * using the codec's byte order regardless of the order set on the {@link ByteBuffer}. Heap and direct buffers are
+ * both supported.
+ * <p>
+ * Relative methods start at, and advance, the buffer position. They throw {@link java.nio.BufferOverflowException} or
+ * {@link java.nio.BufferUnderflowException} without touching the buffer if the data does not fit. Absolute methods take a
+ * byte offset and leave the position alone. Bulk methods check bounds once for the whole range, and arrays and
+ * {@link IVecBuffer}s share the same layout.
+ */
+public interface VecCodec<T extends IVec<?, T>, B extends IVecBuffer<?, T, B>> {
+
+    /** Encoded size of one vector in bytes */
+    int byteSize();
+
+    @NotNull
+    ByteOrder order();
+
+    void write(@NotNull ByteBuffer dst, @NotNull T vec);
+
+    void write(@NotNull ByteBuffer dst, int offset, @NotNull T vec);
+
+    @NotNull
+    T read(@NotNull ByteBuffer src);
+
+    @NotNull
+    T read(@NotNull ByteBuffer src, int offset);
+
+    void write(@NotNull ByteBuffer dst, @NotNull T @NotNull [] vecs, int from, int to);
+
+    void read(@NotNull ByteBuffer src, @NotNull T @NotNull [] dst, int from, int to);
+
+    void write(@NotNull ByteBuffer dst, @NotNull B buf, int from, int to);
+
+    void read(@NotNull ByteBuffer src, @NotNull B buf, int from, int to);
+
+    ///////////////////////////////////////////////////////////////////////////
+    // Codecs
+    ///////////////////////////////////////////////////////////////////////////
+
+    @NotNull
+    static VecCodec<Vec2i, Vec2iBuffer> vec2i(final @NotNull ByteOrder order) {
+        return new Vec2iCodec(order);
+    }
+
+    @NotNull
+    static VecCodec<Vec3i, Vec3iBuffer> vec3i(final @NotNull ByteOrder order) {
+        return new Vec3iCodec(order);
+    }
+
+    @NotNull
+    static VecCodec<Vec4i, Vec4iBuffer> vec4i(final @NotNull ByteOrder order) {
+        return new Vec4iCodec(order);
+    }
+
+    @NotNull
+    static VecCodec<Vec2l, Vec2lBuffer> vec2l(final @NotNull ByteOrder order) {
+        return new Vec2lCodec(order);
+    }
+
+    @NotNull
+    static VecCodec<Vec3l, Vec3lBuffer> vec3l(final @NotNull ByteOrder order) {
+        return new Vec3lCodec(order);
+    }
+
+    @NotNull
+    static VecCodec<Vec4l, Vec4lBuffer> vec4l(final @NotNull ByteOrder order) {
+        return new Vec4lCodec(order);
+    }
+
+    @NotNull
+    static VecCodec<Vec2f, Vec2fBuffer> vec2f(final @NotNull ByteOrder order) {
+        return new Vec2fCodec(order);
+    }
+
+    @NotNull
+    static VecCodec<Vec3f, Vec3fBuffer> vec3f(final @NotNull ByteOrder order) {
+        return new Vec3fCodec(order);
+    }
+
+    @NotNull
+    static VecCodec<Vec4f, Vec4fBuffer> vec4f(final @NotNull ByteOrder order) {
+        return new Vec4fCodec(order);
+    }
+
+    @NotNull
+    static VecCodec<Vec2d, Vec2dBuffer> vec2d(final @NotNull ByteOrder order) {
+        return new Vec2dCodec(order);
+    }
+
+    @NotNull
+    static VecCodec<Vec3d, Vec3dBuffer> vec3d(final @NotNull ByteOrder order) {
+        return new Vec3dCodec(order);
+    }
+
+    @NotNull
+    static VecCodec<Vec4d, Vec4dBuffer> vec4d(final @NotNull ByteOrder order) {
+        return new Vec4dCodec(order);
+    }
+
+    /** Narrows every component to a float, halving the size at the cost of precision */
+    @NotNull
+    static VecCodec<Vec2d, Vec2dBuffer> vec2dAsFloats(final @NotNull ByteOrder order) {
+        return new Vec2dFloatCodec(order);
+    }
+
+    /** Narrows every component to a float, halving the size at the cost of precision */
+    @NotNull
+    static VecCodec<Vec3d, Vec3dBuffer> vec3dAsFloats(final @NotNull ByteOrder order) {
+        return new Vec3dFloatCodec(order);
+    }
+
+    /** Narrows every component to a float, halving the size at the cost of precision */
+    @NotNull
+    static VecCodec<Vec4d, Vec4dBuffer> vec4dAsFloats(final @NotNull ByteOrder order) {
+        return new Vec4dFloatCodec(order);
+    }
+}
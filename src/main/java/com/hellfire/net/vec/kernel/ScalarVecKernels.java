@@ -0,0 +1,265 @@
+package com.hellfire.net.vec.kernel;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+
+/**
+ * Plain loop implementation of {@link VecKernels}. Always available, and the reference for every other backend.
+ */
+public final class ScalarVecKernels implements VecKernels {
+
+    public static final ScalarVecKernels INSTANCE = new ScalarVecKernels();
+
+    private ScalarVecKernels() {
+    }
+
+    @Override
+    public @NotNull String name() {
+        return "scalar";
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // double
+    ///////////////////////////////////////////////////////////////////////////
+
+    @Override
+    public void add(double @NotNull [] a, double @NotNull [] b, double @NotNull [] dst, int from, int to) {
+        Objects.checkFromToIndex(from, to, Math.min(a.length, Math.min(b.length, dst.length)));
+        for (int i = from; i < to; i++) dst[i] = a[i] + b[i];
+    }
+
+    @Override
+    public void sub(double @NotNull [] a, double @NotNull [] b, double @NotNull [] dst, int from, int to) {
+        Objects.checkFromToIndex(from, to, Math.min(a.length, Math.min(b.length, dst.length)));
+        for (int i = from; i < to; i++) dst[i] = a[i] - b[i];
+    }
+
+    @Override
+    public void mul(double @NotNull [] a, double @NotNull [] b, double @NotNull [] dst, int from, int to) {
+        Objects.checkFromToIndex(from, to, Math.min(a.length, Math.min(b.length, dst.length)));
+        for (int i = from; i < to; i++) dst[i] = a[i] * b[i];
+    }
+
+    @Override
+    public void min(double @NotNull [] a, double @NotNull [] b, double @NotNull [] dst, int from, int to) {
+        Objects.checkFromToIndex(from, to, Math.min(a.length, Math.min(b.length, dst.length)));
+        for (int i = from; i < to; i++) dst[i] = Math.min(a[i], b[i]);
+    }
+
+    @Override
+    public void max(double @NotNull [] a, double @NotNull [] b, double @NotNull [] dst, int from, int to) {
+        Objects.checkFromToIndex(from, to, Math.min(a.length, Math.min(b.length, dst.length)));
+        for (int i = from; i < to; i++) dst[i] = Math.max(a[i], b[i]);
+    }
+
+    @Override
+    public void fma(double @NotNull [] a, double @NotNull [] b, double @NotNull [] c, double @NotNull [] dst, int from, int to) {
+        Objects.checkFromToIndex(from, to, Math.min(a.length, Math.min(b.length, Math.min(c.length, dst.length))));
+        for (int i = from; i < to; i++) dst[i] = Math.fma(a[i], b[i], c[i]);
+    }
+
+    @Override
+    public void mulScalar(double @NotNull [] a, double scale, double @NotNull [] dst, int from, int to) {
+        Objects.checkFromToIndex(from, to, Math.min(a.length, dst.length));
+        for (int i = from; i < to; i++) dst[i] = a[i] * scale;
+    }
+
+    @Override
+    public void dot3(double @NotNull [] ax, double @NotNull [] ay, double @NotNull [] az, double @NotNull [] bx, double @NotNull [] by, double @NotNull [] bz, double @NotNull [] dst, int from, int to) {
+        Objects.checkFromToIndex(from, to, Math.min(ax.length, Math.min(ay.length, Math.min(az.length, Math.min(bx.length, Math.min(by.length, Math.min(bz.length, dst.length)))))));
+        for (int i = from; i < to; i++) dst[i] = ax[i] * bx[i] + ay[i] * by[i] + az[i] * bz[i];
+    }
+
+    @Override
+    public void length3(double @NotNull [] x, double @NotNull [] y, double @NotNull [] z, double @NotNull [] dst, int from, int to) {
+        Objects.checkFromToIndex(from, to, Math.min(x.length, Math.min(y.length, Math.min(z.length, dst.length))));
+        for (int i = from; i < to; i++) dst[i] = Math.sqrt(x[i] * x[i] + y[i] * y[i] + z[i] * z[i]);
+    }
+
+    @Override
+    public void normalize3(double @NotNull [] x, double @NotNull [] y, double @NotNull [] z, int from, int to) {
+        Objects.checkFromToIndex(from, to, Math.min(x.length, Math.min(y.length, z.length)));
+        for (int i = from; i < to; i++) {
+            final double xi = x[i], yi = y[i], zi = z[i];
+            final double len = Math.sqrt(xi * xi + yi * yi + zi * zi);
+            x[i] = xi / len;
+            y[i] = yi / len;
+            z[i] = zi / len;
+        }
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // float
+    ///////////////////////////////////////////////////////////////////////////
+
+    @Override
+    public void add(float @NotNull [] a, float @NotNull [] b, float @NotNull [] dst, int from, int to) {
+        Objects.checkFromToIndex(from, to, Math.min(a.length, Math.min(b.length, dst.length)));
+        for (int i = from; i < to; i++) dst[i] = a[i] + b[i];
+    }
+
+    @Override
+    public void sub(float @NotNull [] a, float @NotNull [] b, float @NotNull [] dst, int from, int to) {
+        Objects.checkFromToIndex(from, to, Math.min(a.length, Math.min(b.length, dst.length)));
+        for (int i = from; i < to; i++) dst[i] = a[i] - b[i];
+    }
+
+    @Override
+    public void mul(float @NotNull [] a, float @NotNull [] b, float @NotNull [] dst, int from, int to) {
+        Objects.checkFromToIndex(from, to, Math.min(a.length, Math.min(b.length, dst.length)));
+        for (int i = from; i < to; i++) dst[i] = a[i] * b[i];
+    }
+
+    @Override
+    public void min(float @NotNull [] a, float @NotNull [] b, float @NotNull [] dst, int from, int to) {
+        Objects.checkFromToIndex(from, to, Math.min(a.length, Math.min(b.length, dst.length)));
+        for (int i = from; i < to; i++) dst[i] = Math.min(a[i], b[i]);
+    }
+
+    @Override
+    public void max(float @NotNull [] a, float @NotNull [] b, float @NotNull [] dst, int from, int to) {
+        Objects.checkFromToIndex(from, to, Math.min(a.length, Math.min(b.length, dst.length)));
+        for (int i = from; i < to; i++) dst[i] = Math.max(a[i], b[i]);
+    }
+
+    @Override
+    public void fma(float @NotNull [] a, float @NotNull [] b, float @NotNull [] c, float @NotNull [] dst, int from, int to) {
+        Objects.checkFromToIndex(from, to, Math.min(a.length, Math.min(b.length, Math.min(c.length, dst.length))));
+        for (int i = from; i < to; i++) dst[i] = Math.fma(a[i], b[i], c[i]);
+    }
+
+    @Override
+    public void mulScalar(float @NotNull [] a, float scale, float @NotNull [] dst, int from, int to) {
+        Objects.checkFromToIndex(from, to, Math.min(a.length, dst.length));
+        for (int i = from; i < to; i++) dst[i] = a[i] * scale;
+    }
+
+    @Override
+    public void dot3(float @NotNull [] ax, float @NotNull [] ay, float @NotNull [] az, float @NotNull [] bx, float @NotNull [] by, float @NotNull [] bz, float @NotNull [] dst, int from, int to) {
+        Objects.checkFromToIndex(from, to, Math.min(ax.length, Math.min(ay.length, Math.min(az.length, Math.min(bx.length, Math.min(by.length, Math.min(bz.length, dst.length)))))));
+        for (int i = from; i < to; i++) dst[i] = ax[i] * bx[i] + ay[i] * by[i] + az[i] * bz[i];
+    }
+
+    @Override
+    public void length3(float @NotNull [] x, float @NotNull [] y, float @NotNull [] z, float @NotNull [] dst, int from, int to) {
+        Objects.checkFromToIndex(from, to, Math.min(x.length, Math.min(y.length, Math.min(z.length, dst.length))));
+        for (int i = from; i < to; i++) dst[i] = (float) Math.sqrt(x[i] * x[i] + y[i] * y[i] + z[i] * z[i]);
+    }
+
+    @Override
+    public void normalize3(float @NotNull [] x, float @NotNull [] y, float @NotNull [] z, int from, int to) {
+        Objects.checkFromToIndex(from, to, Math.min(x.length, Math.min(y.length, z.length)));
+        for (int i = from; i < to; i++) {
+            final float xi = x[i], yi = y[i], zi = z[i];
+            final float len = (float) Math.sqrt(xi * xi + yi * yi + zi * zi);
+            x[i] = xi / len;
+            y[i] = yi / len;
+            z[i] = zi / len;
+        }
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // int
+    ///////////////////////////////////////////////////////////////////////////
+
+    @Override
+    public void add(int @NotNull [] a, int @NotNull [] b, int @NotNull [] dst, int from, int to) {
+        Objects.checkFromToIndex(from, to, Math.min(a.length, Math.min(b.length, dst.length)));
+        for (int i = from; i < to; i++) dst[i] = a[i] + b[i];
+    }
+
+    @Override
+    public void sub(int @NotNull [] a, int @NotNull [] b, int @NotNull [] dst, int from, int to) {
+        Objects.checkFromToIndex(from, to, Math.min(a.length, Math.min(b.length, dst.length)));
+        for (int i = from; i < to; i++) dst[i] = a[i] - b[i];
+    }
+
+    @Override
+    public void mul(int @NotNull [] a, int @NotNull [] b, int @NotNull [] dst, int from, int to) {
+        Objects.checkFromToIndex(from, to, Math.min(a.length, Math.min(b.length, dst.length)));
+        for (int i = from; i < to; i++) dst[i] = a[i] * b[i];
+    }
+
+    @Override
+    public void min(int @NotNull [] a, int @NotNull [] b, int @NotNull [] dst, int from, int to) {
+        Objects.checkFromToIndex(from, to, Math.min(a.length, Math.min(b.length, dst.length)));
+        for (int i = from; i < to; i++) dst[i] = Math.min(a[i], b[i]);
+    }
+
+    @Override
+    public void max(int @NotNull [] a, int @NotNull [] b, int @NotNull [] dst, int from, int to) {
+        Objects.checkFromToIndex(from, to, Math.min(a.length, Math.min(b.length, dst.length)));
+        for (int i = from; i < to; i++) dst[i] = Math.max(a[i], b[i]);
+    }
+
+    @Override
+    public void fma(int @NotNull [] a, int @NotNull [] b, int @NotNull [] c, int @NotNull [] dst, int from, int to) {
+        Objects.checkFromToIndex(from, to, Math.min(a.length, Math.min(b.length, Math.min(c.length, dst.length))));
+        for (int i = from; i < to; i++) dst[i] = a[i] * b[i] + c[i];
+    }
+
+    @Override
+    public void mulScalar(int @NotNull [] a, int scale, int @NotNull [] dst, int from, int to) {
+        Objects.checkFromToIndex(from, to, Math.min(a.length, dst.length));
+        for (int i = from; i < to; i++) dst[i] = a[i] * scale;
+    }
+
+    @Override
+    public void dot3(int @NotNull [] ax, int @NotNull [] ay, int @NotNull [] az, int @NotNull [] bx, int @NotNull [] by, int @NotNull [] bz, int @NotNull [] dst, int from, int to) {
+        Objects.checkFromToIndex(from, to, Math.min(ax.length, Math.min(ay.length, Math.min(az.length, Math.min(bx.length, Math.min(by.length, Math.min(bz.length, dst.length)))))));
+        for (int i = from; i < to; i++) dst[i] = ax[i] * bx[i] + ay[i] * by[i] + az[i] * bz[i];
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // long
+    ///////////////////////////////////////////////////////////////////////////
+
+    @Override
+    public void add(long @NotNull [] a, long @NotNull [] b, long @NotNull [] dst, int from, int to) {
+        Objects.checkFromToIndex(from, to, Math.min(a.length, Math.min(b.length, dst.length)));
+        for (int i = from; i < to; i++) dst[i] = a[i] + b[i];
+    }
+
+    @Override
+    public void sub(long @NotNull [] a, long @NotNull [] b, long @NotNull [] dst, int from, int to) {
+        Objects.checkFromToIndex(from, to, Math.min(a.length, Math.min(b.length, dst.length)));
+        for (int i = from; i < to; i++) dst[i] = a[i] - b[i];
+    }
+
+    @Override
+    public void mul(long @NotNull [] a, long @NotNull [] b, long @NotNull [] dst, int from, int to) {
+        Objects.checkFromToIndex(from, to, Math.min(a.length, Math.min(b.length, dst.length)));
+        for (int i = from; i < to; i++) dst[i] = a[i] * b[i];
+    }
+
+    @Override
+    public void min(long @NotNull [] a, long @NotNull [] b, long @NotNull [] dst, int from, int to) {
+        Objects.checkFromToIndex(from, to, Math.min(a.length, Math.min(b.length, dst.length)));
+        for (int i = from; i < to; i++) dst[i] = Math.min(a[i], b[i]);
+    }
+
+    @Override
+    public void max(long @NotNull [] a, long @NotNull [] b, long @NotNull [] dst, int from, int to) {
+        Objects.checkFromToIndex(from, to, Math.min(a.length, Math.min(b.length, dst.length)));
+        for (int i = from; i < to; i++) dst[i] = Math.max(a[i], b[i]);
+    }
+
+    @Override
+    public void fma(long @NotNull [] a, long @NotNull [] b, long @NotNull [] c, long @NotNull [] dst, int from, int to) {
+        Objects.checkFromToIndex(from, to, Math.min(a.length, Math.min(b.length, Math.min(c.length, dst.length))));
+        for (int i = from; i < to; i++) dst[i] = a[i] * b[i] + c[i];
+    }
+
+    @Override
+    public void mulScalar(long @NotNull [] a, long scale, long @NotNull [] dst, int from, int to) {
+        Objects.checkFromToIndex(from, to, Math.min(a.length, dst.length));
+        for (int i = from; i < to; i++) dst[i] = a[i] * scale;
+    }
+
+    @Override
+    public void dot3(long @NotNull [] ax, long @NotNull [] ay, long @NotNull [] az, long @NotNull [] bx, long @NotNull [] by, long @NotNull [] bz, long @NotNull [] dst, int from, int to) {
+        Objects.checkFromToIndex(from, to, Math.min(ax.length, Math.min(ay.length, Math.min(az.length, Math.min(bx.length, Math.min(by.length, Math.min(bz.length, dst.length)))))));
+        for (int i = from; i < to; i++) dst[i] = ax[i] * bx[i] + ay[i] * by[i] + az[i] * bz[i];
+    }
+}
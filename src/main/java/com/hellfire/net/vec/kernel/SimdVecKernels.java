@@ -0,0 +1,446 @@
+package com.hellfire.net.vec.kernel;
+
+import jdk.incubator.vector.*;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+
+/**
+ * {@link VecKernels} backed by the incubating Vector API, using the preferred species of the host CPU.
+ * The tail of every range that does not fill a whole vector falls back to the scalar loop.
+ * <p>
+ * Requires {@code --add-modules jdk.incubator.vector} at runtime; loading this class without it fails with a
+ * {@link NoClassDefFoundError}.
+ */
+public final class SimdVecKernels implements VecKernels {
+
+    public static final SimdVecKernels INSTANCE = new SimdVecKernels();
+
+    private static final VectorSpecies<Double> D = DoubleVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Float> F = FloatVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Integer> I = IntVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Long> L = LongVector.SPECIES_PREFERRED;
+
+    private SimdVecKernels() {
+    }
+
+    /** Width of the preferred species in bits. */
+    public static int vectorBitSize() {
+        return D.vectorBitSize();
+    }
+
+    @Override
+    public @NotNull String name() {
+        return "simd-" + vectorBitSize();
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // double
+    ///////////////////////////////////////////////////////////////////////////
+
+    @Override
+    public void add(double @NotNull [] a, double @NotNull [] b, double @NotNull [] dst, int from, int to) {
+        Objects.checkFromToIndex(from, to, Math.min(a.length, Math.min(b.length, dst.length)));
+        int i = from;
+        for (final int bound = from + D.loopBound(to - from); i < bound; i += D.length()) {
+            DoubleVector.fromArray(D, a, i).add(DoubleVector.fromArray(D, b, i)).intoArray(dst, i);
+        }
+        for (; i < to; i++) dst[i] = a[i] + b[i];
+    }
+
+    @Override
+    public void sub(double @NotNull [] a, double @NotNull [] b, double @NotNull [] dst, int from, int to) {
+        Objects.checkFromToIndex(from, to, Math.min(a.length, Math.min(b.length, dst.length)));
+        int i = from;
+        for (final int bound = from + D.loopBound(to - from); i < bound; i += D.length()) {
+            DoubleVector.fromArray(D, a, i).sub(DoubleVector.fromArray(D, b, i)).intoArray(dst, i);
+        }
+        for (; i < to; i++) dst[i] = a[i] - b[i];
+    }
+
+    @Override
+    public void mul(double @NotNull [] a, double @NotNull [] b, double @NotNull [] dst, int from, int to) {
+        Objects.checkFromToIndex(from, to, Math.min(a.length, Math.min(b.length, dst.length)));
+        int i = from;
+        for (final int bound = from + D.loopBound(to - from); i < bound; i += D.length()) {
+            DoubleVector.fromArray(D, a, i).mul(DoubleVector.fromArray(D, b, i)).intoArray(dst, i);
+        }
+        for (; i < to; i++) dst[i] = a[i] * b[i];
+    }
+
+    @Override
+    public void min(double @NotNull [] a, double @NotNull [] b, double @NotNull [] dst, int from, int to) {
+        Objects.checkFromToIndex(from, to, Math.min(a.length, Math.min(b.length, dst.length)));
+        int i = from;
+        for (final int bound = from + D.loopBound(to - from); i < bound; i += D.length()) {
+            DoubleVector.fromArray(D, a, i).min(DoubleVector.fromArray(D, b, i)).intoArray(dst, i);
+        }
+        for (; i < to; i++) dst[i] = Math.min(a[i], b[i]);
+    }
+
+    @Override
+    public void max(double @NotNull [] a, double @NotNull [] b, double @NotNull [] dst, int from, int to) {
+        Objects.checkFromToIndex(from, to, Math.min(a.length, Math.min(b.length, dst.length)));
+        int i = from;
+        for (final int bound = from + D.loopBound(to - from); i < bound; i += D.length()) {
+            DoubleVector.fromArray(D, a, i).max(DoubleVector.fromArray(D, b, i)).intoArray(dst, i);
+        }
+        for (; i < to; i++) dst[i] = Math.max(a[i], b[i]);
+    }
+
+    @Override
+    public void fma(double @NotNull [] a, double @NotNull [] b, double @NotNull [] c, double @NotNull [] dst, int from, int to) {
+        Objects.checkFromToIndex(from, to, Math.min(a.length, Math.min(b.length, Math.min(c.length, dst.length))));
+        int i = from;
+        for (final int bound = from + D.loopBound(to - from); i < bound; i += D.length()) {
+            DoubleVector.fromArray(D, a, i).fma(DoubleVector.fromArray(D, b, i), DoubleVector.fromArray(D, c, i)).intoArray(dst, i);
+        }
+        for (; i < to; i++) dst[i] = Math.fma(a[i], b[i], c[i]);
+    }
+
+    @Override
+    public void mulScalar(double @NotNull [] a, double scale, double @NotNull [] dst, int from, int to) {
+        Objects.checkFromToIndex(from, to, Math.min(a.length, dst.length));
+        int i = from;
+        for (final int bound = from + D.loopBound(to - from); i < bound; i += D.length()) {
+            DoubleVector.fromArray(D, a, i).mul(scale).intoArray(dst, i);
+        }
+        for (; i < to; i++) dst[i] = a[i] * scale;
+    }
+
+    @Override
+    public void dot3(double @NotNull [] ax, double @NotNull [] ay, double @NotNull [] az, double @NotNull [] bx, double @NotNull [] by, double @NotNull [] bz, double @NotNull [] dst, int from, int to) {
+        Objects.checkFromToIndex(from, to, Math.min(ax.length, Math.min(ay.length, Math.min(az.length, Math.min(bx.length, Math.min(by.length, Math.min(bz.length, dst.length)))))));
+        int i = from;
+        for (final int bound = from + D.loopBound(to - from); i < bound; i += D.length()) {
+            DoubleVector.fromArray(D, ax, i).mul(DoubleVector.fromArray(D, bx, i))
+                    .add(DoubleVector.fromArray(D, ay, i).mul(DoubleVector.fromArray(D, by, i)))
+                    .add(DoubleVector.fromArray(D, az, i).mul(DoubleVector.fromArray(D, bz, i)))
+                    .intoArray(dst, i);
+        }
+        for (; i < to; i++) dst[i] = ax[i] * bx[i] + ay[i] * by[i] + az[i] * bz[i];
+    }
+
+    @Override
+    public void length3(double @NotNull [] x, double @NotNull [] y, double @NotNull [] z, double @NotNull [] dst, int from, int to) {
+        Objects.checkFromToIndex(from, to, Math.min(x.length, Math.min(y.length, Math.min(z.length, dst.length))));
+        int i = from;
+        for (final int bound = from + D.loopBound(to - from); i < bound; i += D.length()) {
+            final DoubleVector vx = DoubleVector.fromArray(D, x, i), vy = DoubleVector.fromArray(D, y, i), vz = DoubleVector.fromArray(D, z, i);
+            vx.mul(vx).add(vy.mul(vy)).add(vz.mul(vz)).sqrt().intoArray(dst, i);
+        }
+        for (; i < to; i++) dst[i] = Math.sqrt(x[i] * x[i] + y[i] * y[i] + z[i] * z[i]);
+    }
+
+    @Override
+    public void normalize3(double @NotNull [] x, double @NotNull [] y, double @NotNull [] z, int from, int to) {
+        Objects.checkFromToIndex(from, to, Math.min(x.length, Math.min(y.length, z.length)));
+        int i = from;
+        for (final int bound = from + D.loopBound(to - from); i < bound; i += D.length()) {
+            final DoubleVector vx = DoubleVector.fromArray(D, x, i), vy = DoubleVector.fromArray(D, y, i), vz = DoubleVector.fromArray(D, z, i);
+            final DoubleVector len = vx.mul(vx).add(vy.mul(vy)).add(vz.mul(vz)).sqrt();
+            vx.div(len).intoArray(x, i);
+            vy.div(len).intoArray(y, i);
+            vz.div(len).intoArray(z, i);
+        }
+        for (; i < to; i++) {
+            final double xi = x[i], yi = y[i], zi = z[i];
+            final double len = Math.sqrt(xi * xi + yi * yi + zi * zi);
+            x[i] = xi / len;
+            y[i] = yi / len;
+            z[i] = zi / len;
+        }
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // float
+    ///////////////////////////////////////////////////////////////////////////
+
+    @Override
+    public void add(float @NotNull [] a, float @NotNull [] b, float @NotNull [] dst, int from, int to) {
+        Objects.checkFromToIndex(from, to, Math.min(a.length, Math.min(b.length, dst.length)));
+        int i = from;
+        for (final int bound = from + F.loopBound(to - from); i < bound; i += F.length()) {
+            FloatVector.fromArray(F, a, i).add(FloatVector.fromArray(F, b, i)).intoArray(dst, i);
+        }
+        for (; i < to; i++) dst[i] = a[i] + b[i];
+    }
+
+    @Override
+    public void sub(float @NotNull [] a, float @NotNull [] b, float @NotNull [] dst, int from, int to) {
+        Objects.checkFromToIndex(from, to, Math.min(a.length, Math.min(b.length, dst.length)));
+        int i = from;
+        for (final int bound = from + F.loopBound(to - from); i < bound; i += F.length()) {
+            FloatVector.fromArray(F, a, i).sub(FloatVector.fromArray(F, b, i)).intoArray(dst, i);
+        }
+        for (; i < to; i++) dst[i] = a[i] - b[i];
+    }
+
+    @Override
+    public void mul(float @NotNull [] a, float @NotNull [] b, float @NotNull [] dst, int from, int to) {
+        Objects.checkFromToIndex(from, to, Math.min(a.length, Math.min(b.length, dst.length)));
+        int i = from;
+        for (final int bound = from + F.loopBound(to - from); i < bound; i += F.length()) {
+            FloatVector.fromArray(F, a, i).mul(FloatVector.fromArray(F, b, i)).intoArray(dst, i);
+        }
+        for (; i < to; i++) dst[i] = a[i] * b[i];
+    }
+
+    @Override
+    public void min(float @NotNull [] a, float @NotNull [] b, float @NotNull [] dst, int from, int to) {
+        Objects.checkFromToIndex(from, to, Math.min(a.length, Math.min(b.length, dst.length)));
+        int i = from;
+        for (final int bound = from + F.loopBound(to - from); i < bound; i += F.length()) {
+            FloatVector.fromArray(F, a, i).min(FloatVector.fromArray(F, b, i)).intoArray(dst, i);
+        }
+        for (; i < to; i++) dst[i] = Math.min(a[i], b[i]);
+    }
+
+    @Override
+    public void max(float @NotNull [] a, float @NotNull [] b, float @NotNull [] dst, int from, int to) {
+        Objects.checkFromToIndex(from, to, Math.min(a.length, Math.min(b.length, dst.length)));
+        int i = from;
+        for (final int bound = from + F.loopBound(to - from); i < bound; i += F.length()) {
+            FloatVector.fromArray(F, a, i).max(FloatVector.fromArray(F, b, i)).intoArray(dst, i);
+        }
+        for (; i < to; i++) dst[i] = Math.max(a[i], b[i]);
+    }
+
+    @Override
+    public void fma(float @NotNull [] a, float @NotNull [] b, float @NotNull [] c, float @NotNull [] dst, int from, int to) {
+        Objects.checkFromToIndex(from, to, Math.min(a.length, Math.min(b.length, Math.min(c.length, dst.length))));
+        int i = from;
+        for (final int bound = from + F.loopBound(to - from); i < bound; i += F.length()) {
+            FloatVector.fromArray(F, a, i).fma(FloatVector.fromArray(F, b, i), FloatVector.fromArray(F, c, i)).intoArray(dst, i);
+        }
+        for (; i < to; i++) dst[i] = Math.fma(a[i], b[i], c[i]);
+    }
+
+    @Override
+    public void mulScalar(float @NotNull [] a, float scale, float @NotNull [] dst, int from, int to) {
+        Objects.checkFromToIndex(from, to, Math.min(a.length, dst.length));
+        int i = from;
+        for (final int bound = from + F.loopBound(to - from); i < bound; i += F.length()) {
+            FloatVector.fromArray(F, a, i).mul(scale).intoArray(dst, i);
+        }
+        for (; i < to; i++) dst[i] = a[i] * scale;
+    }
+
+    @Override
+    public void dot3(float @NotNull [] ax, float @NotNull [] ay, float @NotNull [] az, float @NotNull [] bx, float @NotNull [] by, float @NotNull [] bz, float @NotNull [] dst, int from, int to) {
+        Objects.checkFromToIndex(from, to, Math.min(ax.length, Math.min(ay.length, Math.min(az.length, Math.min(bx.length, Math.min(by.length, Math.min(bz.length, dst.length)))))));
+        int i = from;
+        for (final int bound = from + F.loopBound(to - from); i < bound; i += F.length()) {
+            FloatVector.fromArray(F, ax, i).mul(FloatVector.fromArray(F, bx, i))
+                    .add(FloatVector.fromArray(F, ay, i).mul(FloatVector.fromArray(F, by, i)))
+                    .add(FloatVector.fromArray(F, az, i).mul(FloatVector.fromArray(F, bz, i)))
+                    .intoArray(dst, i);
+        }
+        for (; i < to; i++) dst[i] = ax[i] * bx[i] + ay[i] * by[i] + az[i] * bz[i];
+    }
+
+    @Override
+    public void length3(float @NotNull [] x, float @NotNull [] y, float @NotNull [] z, float @NotNull [] dst, int from, int to) {
+        Objects.checkFromToIndex(from, to, Math.min(x.length, Math.min(y.length, Math.min(z.length, dst.length))));
+        int i = from;
+        for (final int bound = from + F.loopBound(to - from); i < bound; i += F.length()) {
+            final FloatVector vx = FloatVector.fromArray(F, x, i), vy = FloatVector.fromArray(F, y, i), vz = FloatVector.fromArray(F, z, i);
+            vx.mul(vx).add(vy.mul(vy)).add(vz.mul(vz)).sqrt().intoArray(dst, i);
+        }
+        for (; i < to; i++) dst[i] = (float) Math.sqrt(x[i] * x[i] + y[i] * y[i] + z[i] * z[i]);
+    }
+
+    @Override
+    public void normalize3(float @NotNull [] x, float @NotNull [] y, float @NotNull [] z, int from, int to) {
+        Objects.checkFromToIndex(from, to, Math.min(x.length, Math.min(y.length, z.length)));
+        int i = from;
+        for (final int bound = from + F.loopBound(to - from); i < bound; i += F.length()) {
+            final FloatVector vx = FloatVector.fromArray(F, x, i), vy = FloatVector.fromArray(F, y, i), vz = FloatVector.fromArray(F, z, i);
+            final FloatVector len = vx.mul(vx).add(vy.mul(vy)).add(vz.mul(vz)).sqrt();
+            vx.div(len).intoArray(x, i);
+            vy.div(len).intoArray(y, i);
+            vz.div(len).intoArray(z, i);
+        }
+        for (; i < to; i++) {
+            final float xi = x[i], yi = y[i], zi = z[i];
+            final float len = (float) Math.sqrt(xi * xi + yi * yi + zi * zi);
+            x[i] = xi / len;
+            y[i] = yi / len;
+            z[i] = zi / len;
+        }
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // int
+    ///////////////////////////////////////////////////////////////////////////
+
+    @Override
+    public void add(int @NotNull [] a, int @NotNull [] b, int @NotNull [] dst, int from, int to) {
+        Objects.checkFromToIndex(from, to, Math.min(a.length, Math.min(b.length, dst.length)));
+        int i = from;
+        for (final int bound = from + I.loopBound(to - from); i < bound; i += I.length()) {
+            IntVector.fromArray(I, a, i).add(IntVector.fromArray(I, b, i)).intoArray(dst, i);
+        }
+        for (; i < to; i++) dst[i] = a[i] + b[i];
+    }
+
+    @Override
+    public void sub(int @NotNull [] a, int @NotNull [] b, int @NotNull [] dst, int from, int to) {
+        Objects.checkFromToIndex(from, to, Math.min(a.length, Math.min(b.length, dst.length)));
+        int i = from;
+        for (final int bound = from + I.loopBound(to - from); i < bound; i += I.length()) {
+            IntVector.fromArray(I, a, i).sub(IntVector.fromArray(I, b, i)).intoArray(dst, i);
+        }
+        for (; i < to; i++) dst[i] = a[i] - b[i];
+    }
+
+    @Override
+    public void mul(int @NotNull [] a, int @NotNull [] b, int @NotNull [] dst, int from, int to) {
+        Objects.checkFromToIndex(from, to, Math.min(a.length, Math.min(b.length, dst.length)));
+        int i = from;
+        for (final int bound = from + I.loopBound(to - from); i < bound; i += I.length()) {
+            IntVector.fromArray(I, a, i).mul(IntVector.fromArray(I, b, i)).intoArray(dst, i);
+        }
+        for (; i < to; i++) dst[i] = a[i] * b[i];
+    }
+
+    @Override
+    public void min(int @NotNull [] a, int @NotNull [] b, int @NotNull [] dst, int from, int to) {
+        Objects.checkFromToIndex(from, to, Math.min(a.length, Math.min(b.length, dst.length)));
+        int i = from;
+        for (final int bound = from + I.loopBound(to - from); i < bound; i += I.length()) {
+            IntVector.fromArray(I, a, i).min(IntVector.fromArray(I, b, i)).intoArray(dst, i);
+        }
+        for (; i < to; i++) dst[i] = Math.min(a[i], b[i]);
+    }
+
+    @Override
+    public void max(int @NotNull [] a, int @NotNull [] b, int @NotNull [] dst, int from, int to) {
+        Objects.checkFromToIndex(from, to, Math.min(a.length, Math.min(b.length, dst.length)));
+        int i = from;
+        for (final int bound = from + I.loopBound(to - from); i < bound; i += I.length()) {
+            IntVector.fromArray(I, a, i).max(IntVector.fromArray(I, b, i)).intoArray(dst, i);
+        }
+        for (; i < to; i++) dst[i] = Math.max(a[i], b[i]);
+    }
+
+    @Override
+    public void fma(int @NotNull [] a, int @NotNull [] b, int @NotNull [] c, int @NotNull [] dst, int from, int to) {
+        Objects.checkFromToIndex(from, to, Math.min(a.length, Math.min(b.length, Math.min(c.length, dst.length))));
+        int i = from;
+        for (final int bound = from + I.loopBound(to - from); i < bound; i += I.length()) {
+            IntVector.fromArray(I, a, i).mul(IntVector.fromArray(I, b, i)).add(IntVector.fromArray(I, c, i)).intoArray(dst, i);
+        }
+        for (; i < to; i++) dst[i] = a[i] * b[i] + c[i];
+    }
+
+    @Override
+    public void mulScalar(int @NotNull [] a, int scale, int @NotNull [] dst, int from, int to) {
+        Objects.checkFromToIndex(from, to, Math.min(a.length, dst.length));
+        int i = from;
+        for (final int bound = from + I.loopBound(to - from); i < bound; i += I.length()) {
+            IntVector.fromArray(I, a, i).mul(scale).intoArray(dst, i);
+        }
+        for (; i < to; i++) dst[i] = a[i] * scale;
+    }
+
+    @Override
+    public void dot3(int @NotNull [] ax, int @NotNull [] ay, int @NotNull [] az, int @NotNull [] bx, int @NotNull [] by, int @NotNull [] bz, int @NotNull [] dst, int from, int to) {
+        Objects.checkFromToIndex(from, to, Math.min(ax.length, Math.min(ay.length, Math.min(az.length, Math.min(bx.length, Math.min(by.length, Math.min(bz.length, dst.length)))))));
+        int i = from;
+        for (final int bound = from + I.loopBound(to - from); i < bound; i += I.length()) {
+            IntVector.fromArray(I, ax, i).mul(IntVector.fromArray(I, bx, i))
+                    .add(IntVector.fromArray(I, ay, i).mul(IntVector.fromArray(I, by, i)))
+                    .add(IntVector.fromArray(I, az, i).mul(IntVector.fromArray(I, bz, i)))
+                    .intoArray(dst, i);
+        }
+        for (; i < to; i++) dst[i] = ax[i] * bx[i] + ay[i] * by[i] + az[i] * bz[i];
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // long
+    ///////////////////////////////////////////////////////////////////////////
+
+    @Override
+    public void add(long @NotNull [] a, long @NotNull [] b, long @NotNull [] dst, int from, int to) {
+        Objects.checkFromToIndex(from, to, Math.min(a.length, Math.min(b.length, dst.length)));
+        int i = from;
+        for (final int bound = from + L.loopBound(to - from); i < bound; i += L.length()) {
+            LongVector.fromArray(L, a, i).add(LongVector.fromArray(L, b, i)).intoArray(dst, i);
+        }
+        for (; i < to; i++) dst[i] = a[i] + b[i];
+    }
+
+    @Override
+    public void sub(long @NotNull [] a, long @NotNull [] b, long @NotNull [] dst, int from, int to) {
+        Objects.checkFromToIndex(from, to, Math.min(a.length, Math.min(b.length, dst.length)));
+        int i = from;
+        for (final int bound = from + L.loopBound(to - from); i < bound; i += L.length()) {
+            LongVector.fromArray(L, a, i).sub(LongVector.fromArray(L, b, i)).intoArray(dst, i);
+        }
+        for (; i < to; i++) dst[i] = a[i] - b[i];
+    }
+
+    @Override
+    public void mul(long @NotNull [] a, long @NotNull [] b, long @NotNull [] dst, int from, int to) {
+        Objects.checkFromToIndex(from, to, Math.min(a.length, Math.min(b.length, dst.length)));
+        int i = from;
+        for (final int bound = from + L.loopBound(to - from); i < bound; i += L.length()) {
+            LongVector.fromArray(L, a, i).mul(LongVector.fromArray(L, b, i)).intoArray(dst, i);
+        }
+        for (; i < to; i++) dst[i] = a[i] * b[i];
+    }
+
+    @Override
+    public void min(long @NotNull [] a, long @NotNull [] b, long @NotNull [] dst, int from, int to) {
+        Objects.checkFromToIndex(from, to, Math.min(a.length, Math.min(b.length, dst.length)));
+        int i = from;
+        for (final int bound = from + L.loopBound(to - from); i < bound; i += L.length()) {
+            LongVector.fromArray(L, a, i).min(LongVector.fromArray(L, b, i)).intoArray(dst, i);
+        }
+        for (; i < to; i++) dst[i] = Math.min(a[i], b[i]);
+    }
+
+    @Override
+    public void max(long @NotNull [] a, long @NotNull [] b, long @NotNull [] dst, int from, int to) {
+        Objects.checkFromToIndex(from, to, Math.min(a.length, Math.min(b.length, dst.length)));
+        int i = from;
+        for (final int bound = from + L.loopBound(to - from); i < bound; i += L.length()) {
+            LongVector.fromArray(L, a, i).max(LongVector.fromArray(L, b, i)).intoArray(dst, i);
+        }
+        for (; i < to; i++) dst[i] = Math.max(a[i], b[i]);
+    }
+
+    @Override
+    public void fma(long @NotNull [] a, long @NotNull [] b, long @NotNull [] c, long @NotNull [] dst, int from, int to) {
+        Objects.checkFromToIndex(from, to, Math.min(a.length, Math.min(b.length, Math.min(c.length, dst.length))));
+        int i = from;
+        for (final int bound = from + L.loopBound(to - from); i < bound; i += L.length()) {
+            LongVector.fromArray(L, a, i).mul(LongVector.fromArray(L, b, i)).add(LongVector.fromArray(L, c, i)).intoArray(dst, i);
+        }
+        for (; i < to; i++) dst[i] = a[i] * b[i] + c[i];
+    }
+
+    @Override
+    public void mulScalar(long @NotNull [] a, long scale, long @NotNull [] dst, int from, int to) {
+        Objects.checkFromToIndex(from, to, Math.min(a.length, dst.length));
+        int i = from;
+        for (final int bound = from + L.loopBound(to - from); i < bound; i += L.length()) {
+            LongVector.fromArray(L, a, i).mul(scale).intoArray(dst, i);
+        }
+        for (; i < to; i++) dst[i] = a[i] * scale;
+    }
+
+    @Override
+    public void dot3(long @NotNull [] ax, long @NotNull [] ay, long @NotNull [] az, long @NotNull [] bx, long @NotNull [] by, long @NotNull [] bz, long @NotNull [] dst, int from, int to) {
+        Objects.checkFromToIndex(from, to, Math.min(ax.length, Math.min(ay.length, Math.min(az.length, Math.min(bx.length, Math.min(by.length, Math.min(bz.length, dst.length)))))));
+        int i = from;
+        for (final int bound = from + L.loopBound(to - from); i < bound; i += L.length()) {
+            LongVector.fromArray(L, ax, i).mul(LongVector.fromArray(L, bx, i))
+                    .add(LongVector.fromArray(L, ay, i).mul(LongVector.fromArray(L, by, i)))
+                    .add(LongVector.fromArray(L, az, i).mul(LongVector.fromArray(L, bz, i)))
+                    .intoArray(dst, i);
+        }
+        for (; i < to; i++) dst[i] = ax[i] * bx[i] + ay[i] * by[i] + az[i] * bz[i];
+    }
+}
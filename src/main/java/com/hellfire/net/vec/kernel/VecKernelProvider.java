@@ -0,0 +1,190 @@
+package com.hellfire.net.vec.kernel;
+
+import com.hellfire.net.vec.doubles.Vec3d;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.SplittableRandom;
+
+/**
+ * Picks the {@link VecKernels} backend for this JVM. Capabilities are detected once, on first use, and the chosen
+ * backend stays bound for the lifetime of the class.
+ * <p>
+ * The SIMD backend is used when {@code jdk.incubator.vector} is resolved, its preferred species is at least
+ * {@value #MIN_VECTOR_BITS} bits wide, and it passes {@link #selfCheck(VecKernels)}. Otherwise the scalar backend is used.
+ * Set {@value #BACKEND_PROPERTY} to {@code scalar} or {@code simd} to force a backend; forcing an unavailable backend fails.
+ */
+public final class VecKernelProvider {
+
+    public static final String BACKEND_PROPERTY = "veclib.kernels";
+    public static final int MIN_VECTOR_BITS = 128;
+
+    /**
+     * What the running JVM supports.
+     *
+     * @param vectorApi     whether the SIMD backend can be loaded
+     * @param vectorBitSize width of the preferred species, or 0 without the Vector API
+     * @param foreignMemory whether the final {@code java.lang.foreign} API is available (JDK 22+)
+     */
+    public record Capabilities(boolean vectorApi, int vectorBitSize, boolean foreignMemory) {
+    }
+
+    private VecKernelProvider() {
+    }
+
+    /** The bound backend. */
+    @NotNull
+    public static VecKernels get() {
+        return Holder.KERNELS;
+    }
+
+    @NotNull
+    public static Capabilities capabilities() {
+        return Holder.CAPABILITIES;
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // Binding
+    ///////////////////////////////////////////////////////////////////////////
+
+    private static final class Holder {
+        static final Capabilities CAPABILITIES = detect();
+        static final VecKernels KERNELS = bind(System.getProperty(BACKEND_PROPERTY, "auto"), CAPABILITIES);
+    }
+
+    @NotNull
+    static Capabilities detect() {
+        final boolean foreignMemory = Runtime.version().feature() >= 22;
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) return new Capabilities(false, 0, foreignMemory);
+
+        try {
+            return new Capabilities(true, SimdVecKernels.vectorBitSize(), foreignMemory);
+        } catch (LinkageError e) {
+            return new Capabilities(false, 0, foreignMemory);
+        }
+    }
+
+    @NotNull
+    static VecKernels bind(@NotNull String backend, @NotNull Capabilities caps) {
+        switch (backend.toLowerCase(Locale.ROOT)) {
+            case "scalar":
+                return ScalarVecKernels.INSTANCE;
+            case "simd":
+                if (!caps.vectorApi()) throw new IllegalStateException("SIMD kernels forced but jdk.incubator.vector is not available");
+                if (!selfCheck(SimdVecKernels.INSTANCE)) throw new IllegalStateException("SIMD kernels forced but failed the self-check");
+                return SimdVecKernels.INSTANCE;
+            case "auto":
+                if (caps.vectorApi() && caps.vectorBitSize() >= MIN_VECTOR_BITS && selfCheck(SimdVecKernels.INSTANCE)) return SimdVecKernels.INSTANCE;
+                return ScalarVecKernels.INSTANCE;
+            default:
+                throw new IllegalArgumentException("Invalid " + BACKEND_PROPERTY + ": " + backend);
+        }
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // Self-check
+    ///////////////////////////////////////////////////////////////////////////
+
+    // Odd so that every backend runs both its vector loop and its scalar tail
+    private static final int CHECK_SIZE = 67;
+
+    /**
+     * Runs the kernels over a fixed pseudo-random data set. The double results must be bit-identical to the
+     * equivalent {@link Vec3d} operations, and the other families must match {@link ScalarVecKernels}.
+     */
+    public static boolean selfCheck(@NotNull VecKernels kernels) {
+        final SplittableRandom rand = new SplittableRandom(0x5EEDL);
+        final Vec3d[] a = new Vec3d[CHECK_SIZE], b = new Vec3d[CHECK_SIZE];
+        for (int i = 0; i < CHECK_SIZE; i++) {
+            a[i] = new Vec3d(rand.nextDouble(-1_000, 1_000), rand.nextDouble(-1_000, 1_000), rand.nextDouble(-1_000, 1_000));
+            b[i] = new Vec3d(rand.nextDouble(-1_000, 1_000), rand.nextDouble(-1_000, 1_000), rand.nextDouble(-1_000, 1_000));
+        }
+
+        final double[] ax = new double[CHECK_SIZE], ay = new double[CHECK_SIZE], az = new double[CHECK_SIZE];
+        final double[] bx = new double[CHECK_SIZE], by = new double[CHECK_SIZE], bz = new double[CHECK_SIZE];
+        final double[] rx = new double[CHECK_SIZE], ry = new double[CHECK_SIZE], rz = new double[CHECK_SIZE];
+        for (int i = 0; i < CHECK_SIZE; i++) {
+            ax[i] = a[i].x;
+            ay[i] = a[i].y;
+            az[i] = a[i].z;
+            bx[i] = b[i].x;
+            by[i] = b[i].y;
+            bz[i] = b[i].z;
+        }
+
+        kernels.add(ax, bx, rx, 0, CHECK_SIZE);
+        kernels.add(ay, by, ry, 0, CHECK_SIZE);
+        kernels.add(az, bz, rz, 0, CHECK_SIZE);
+        for (int i = 0; i < CHECK_SIZE; i++) if (!matches(a[i].add(b[i]), rx[i], ry[i], rz[i])) return false;
+
+        kernels.sub(ax, bx, rx, 0, CHECK_SIZE);
+        kernels.sub(ay, by, ry, 0, CHECK_SIZE);
+        kernels.sub(az, bz, rz, 0, CHECK_SIZE);
+        for (int i = 0; i < CHECK_SIZE; i++) if (!matches(a[i].sub(b[i]), rx[i], ry[i], rz[i])) return false;
+
+        kernels.mul(ax, bx, rx, 0, CHECK_SIZE);
+        kernels.mul(ay, by, ry, 0, CHECK_SIZE);
+        kernels.mul(az, bz, rz, 0, CHECK_SIZE);
+        for (int i = 0; i < CHECK_SIZE; i++) if (!matches(a[i].mul(b[i]), rx[i], ry[i], rz[i])) return false;
+
+        kernels.min(ax, bx, rx, 0, CHECK_SIZE);
+        kernels.min(ay, by, ry, 0, CHECK_SIZE);
+        kernels.min(az, bz, rz, 0, CHECK_SIZE);
+        for (int i = 0; i < CHECK_SIZE; i++) if (!matches(a[i].min(b[i]), rx[i], ry[i], rz[i])) return false;
+
+        kernels.mulScalar(ax, 0.5, rx, 0, CHECK_SIZE);
+        kernels.mulScalar(ay, 0.5, ry, 0, CHECK_SIZE);
+        kernels.mulScalar(az, 0.5, rz, 0, CHECK_SIZE);
+        for (int i = 0; i < CHECK_SIZE; i++) if (!matches(a[i].mulScalar(0.5), rx[i], ry[i], rz[i])) return false;
+
+        kernels.length3(ax, ay, az, rx, 0, CHECK_SIZE);
+        for (int i = 0; i < CHECK_SIZE; i++) if (Double.doubleToLongBits(a[i].length()) != Double.doubleToLongBits(rx[i])) return false;
+
+        kernels.normalize3(ax, ay, az, 0, CHECK_SIZE);
+        for (int i = 0; i < CHECK_SIZE; i++) if (!matches(a[i].normalize(), ax[i], ay[i], az[i])) return false;
+
+        return checkAgainstScalar(kernels, rand);
+    }
+
+    private static boolean matches(@NotNull Vec3d expected, double x, double y, double z) {
+        return Double.doubleToLongBits(expected.x) == Double.doubleToLongBits(x)
+                && Double.doubleToLongBits(expected.y) == Double.doubleToLongBits(y)
+                && Double.doubleToLongBits(expected.z) == Double.doubleToLongBits(z);
+    }
+
+    private static boolean checkAgainstScalar(@NotNull VecKernels kernels, @NotNull SplittableRandom rand) {
+        final VecKernels ref = ScalarVecKernels.INSTANCE;
+
+        final float[] fx = new float[CHECK_SIZE], fy = new float[CHECK_SIZE], fz = new float[CHECK_SIZE];
+        final int[] ia = new int[CHECK_SIZE], ib = new int[CHECK_SIZE];
+        final long[] la = new long[CHECK_SIZE], lb = new long[CHECK_SIZE];
+        for (int i = 0; i < CHECK_SIZE; i++) {
+            fx[i] = (float) rand.nextDouble(-1_000, 1_000);
+            fy[i] = (float) rand.nextDouble(-1_000, 1_000);
+            fz[i] = (float) rand.nextDouble(-1_000, 1_000);
+            ia[i] = rand.nextInt();
+            ib[i] = rand.nextInt();
+            la[i] = rand.nextLong();
+            lb[i] = rand.nextLong();
+        }
+
+        final float[] fExpected = new float[CHECK_SIZE], fActual = new float[CHECK_SIZE];
+        ref.fma(fx, fy, fz, fExpected, 0, CHECK_SIZE);
+        kernels.fma(fx, fy, fz, fActual, 0, CHECK_SIZE);
+        if (!Arrays.equals(fExpected, fActual)) return false;
+        ref.length3(fx, fy, fz, fExpected, 0, CHECK_SIZE);
+        kernels.length3(fx, fy, fz, fActual, 0, CHECK_SIZE);
+        if (!Arrays.equals(fExpected, fActual)) return false;
+
+        final int[] iExpected = new int[CHECK_SIZE], iActual = new int[CHECK_SIZE];
+        ref.fma(ia, ib, ia, iExpected, 0, CHECK_SIZE);
+        kernels.fma(ia, ib, ia, iActual, 0, CHECK_SIZE);
+        if (!Arrays.equals(iExpected, iActual)) return false;
+
+        final long[] lExpected = new long[CHECK_SIZE], lActual = new long[CHECK_SIZE];
+        ref.max(la, lb, lExpected, 0, CHECK_SIZE);
+        kernels.max(la, lb, lActual, 0, CHECK_SIZE);
+        return Arrays.equals(lExpected, lActual);
+    }
+}
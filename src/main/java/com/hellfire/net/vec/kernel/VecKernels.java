@@ -0,0 +1,143 @@
+package com.hellfire.net.vec.kernel;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Bulk lane-wise math over primitive component arrays, such as the {@code x}, {@code y} and {@code z} arrays of a
+ * {@link com.hellfire.net.vec.IVecBuffer}. Every array is indexed over the same half-open range {@code [from, to)},
+ * and {@code dst} may alias any input.
+ * <p>
+ * All implementations produce bit-identical results: floating point ops follow {@link Math} semantics
+ * ({@code fma} is fused, {@code min}/{@code max} handle NaN and signed zeros like {@link Math#min(double, double)}),
+ * and integer ops wrap on overflow.
+ */
+public interface VecKernels {
+
+    /** Human-readable backend name, such as {@code "scalar"} or {@code "simd-256"}. */
+    @NotNull
+    String name();
+
+    ///////////////////////////////////////////////////////////////////////////
+    // double
+    ///////////////////////////////////////////////////////////////////////////
+
+    /** {@code dst[i] = a[i] + b[i]} */
+    void add(double @NotNull [] a, double @NotNull [] b, double @NotNull [] dst, int from, int to);
+
+    /** {@code dst[i] = a[i] - b[i]} */
+    void sub(double @NotNull [] a, double @NotNull [] b, double @NotNull [] dst, int from, int to);
+
+    /** {@code dst[i] = a[i] * b[i]} */
+    void mul(double @NotNull [] a, double @NotNull [] b, double @NotNull [] dst, int from, int to);
+
+    /** {@code dst[i] = min(a[i], b[i])} */
+    void min(double @NotNull [] a, double @NotNull [] b, double @NotNull [] dst, int from, int to);
+
+    /** {@code dst[i] = max(a[i], b[i])} */
+    void max(double @NotNull [] a, double @NotNull [] b, double @NotNull [] dst, int from, int to);
+
+    /** {@code dst[i] = fma(a[i], b[i], c[i])} */
+    void fma(double @NotNull [] a, double @NotNull [] b, double @NotNull [] c, double @NotNull [] dst, int from, int to);
+
+    /** {@code dst[i] = a[i] * scale} */
+    void mulScalar(double @NotNull [] a, double scale, double @NotNull [] dst, int from, int to);
+
+    /** {@code dst[i] = dot((ax, ay, az)[i], (bx, by, bz)[i])} */
+    void dot3(double @NotNull [] ax, double @NotNull [] ay, double @NotNull [] az, double @NotNull [] bx, double @NotNull [] by, double @NotNull [] bz, double @NotNull [] dst, int from, int to);
+
+    /** {@code dst[i] = length((x, y, z)[i])} */
+    void length3(double @NotNull [] x, double @NotNull [] y, double @NotNull [] z, double @NotNull [] dst, int from, int to);
+
+    /** {@code (x, y, z)[i] /= length((x, y, z)[i])} */
+    void normalize3(double @NotNull [] x, double @NotNull [] y, double @NotNull [] z, int from, int to);
+
+    ///////////////////////////////////////////////////////////////////////////
+    // float
+    ///////////////////////////////////////////////////////////////////////////
+
+    /** {@code dst[i] = a[i] + b[i]} */
+    void add(float @NotNull [] a, float @NotNull [] b, float @NotNull [] dst, int from, int to);
+
+    /** {@code dst[i] = a[i] - b[i]} */
+    void sub(float @NotNull [] a, float @NotNull [] b, float @NotNull [] dst, int from, int to);
+
+    /** {@code dst[i] = a[i] * b[i]} */
+    void mul(float @NotNull [] a, float @NotNull [] b, float @NotNull [] dst, int from, int to);
+
+    /** {@code dst[i] = min(a[i], b[i])} */
+    void min(float @NotNull [] a, float @NotNull [] b, float @NotNull [] dst, int from, int to);
+
+    /** {@code dst[i] = max(a[i], b[i])} */
+    void max(float @NotNull [] a, float @NotNull [] b, float @NotNull [] dst, int from, int to);
+
+    /** {@code dst[i] = fma(a[i], b[i], c[i])} */
+    void fma(float @NotNull [] a, float @NotNull [] b, float @NotNull [] c, float @NotNull [] dst, int from, int to);
+
+    /** {@code dst[i] = a[i] * scale} */
+    void mulScalar(float @NotNull [] a, float scale, float @NotNull [] dst, int from, int to);
+
+    /** {@code dst[i] = dot((ax, ay, az)[i], (bx, by, bz)[i])} */
+    void dot3(float @NotNull [] ax, float @NotNull [] ay, float @NotNull [] az, float @NotNull [] bx, float @NotNull [] by, float @NotNull [] bz, float @NotNull [] dst, int from, int to);
+
+    /** {@code dst[i] = length((x, y, z)[i])} */
+    void length3(float @NotNull [] x, float @NotNull [] y, float @NotNull [] z, float @NotNull [] dst, int from, int to);
+
+    /** {@code (x, y, z)[i] /= length((x, y, z)[i])} */
+    void normalize3(float @NotNull [] x, float @NotNull [] y, float @NotNull [] z, int from, int to);
+
+    ///////////////////////////////////////////////////////////////////////////
+    // int
+    ///////////////////////////////////////////////////////////////////////////
+
+    /** {@code dst[i] = a[i] + b[i]} */
+    void add(int @NotNull [] a, int @NotNull [] b, int @NotNull [] dst, int from, int to);
+
+    /** {@code dst[i] = a[i] - b[i]} */
+    void sub(int @NotNull [] a, int @NotNull [] b, int @NotNull [] dst, int from, int to);
+
+    /** {@code dst[i] = a[i] * b[i]} */
+    void mul(int @NotNull [] a, int @NotNull [] b, int @NotNull [] dst, int from, int to);
+
+    /** {@code dst[i] = min(a[i], b[i])} */
+    void min(int @NotNull [] a, int @NotNull [] b, int @NotNull [] dst, int from, int to);
+
+    /** {@code dst[i] = max(a[i], b[i])} */
+    void max(int @NotNull [] a, int @NotNull [] b, int @NotNull [] dst, int from, int to);
+
+    /** {@code dst[i] = a[i] * b[i] + c[i]} */
+    void fma(int @NotNull [] a, int @NotNull [] b, int @NotNull [] c, int @NotNull [] dst, int from, int to);
+
+    /** {@code dst[i] = a[i] * scale} */
+    void mulScalar(int @NotNull [] a, int scale, int @NotNull [] dst, int from, int to);
+
+    /** {@code dst[i] = dot((ax, ay, az)[i], (bx, by, bz)[i])} */
+    void dot3(int @NotNull [] ax, int @NotNull [] ay, int @NotNull [] az, int @NotNull [] bx, int @NotNull [] by, int @NotNull [] bz, int @NotNull [] dst, int from, int to);
+
+    ///////////////////////////////////////////////////////////////////////////
+    // long
+    ///////////////////////////////////////////////////////////////////////////
+
+    /** {@code dst[i] = a[i] + b[i]} */
+    void add(long @NotNull [] a, long @NotNull [] b, long @NotNull [] dst, int from, int to);
+
+    /** {@code dst[i] = a[i] - b[i]} */
+    void sub(long @NotNull [] a, long @NotNull [] b, long @NotNull [] dst, int from, int to);
+
+    /** {@code dst[i] = a[i] * b[i]} */
+    void mul(long @NotNull [] a, long @NotNull [] b, long @NotNull [] dst, int from, int to);
+
+    /** {@code dst[i] = min(a[i], b[i])} */
+    void min(long @NotNull [] a, long @NotNull [] b, long @NotNull [] dst, int from, int to);
+
+    /** {@code dst[i] = max(a[i], b[i])} */
+    void max(long @NotNull [] a, long @NotNull [] b, long @NotNull [] dst, int from, int to);
+
+    /** {@code dst[i] = a[i] * b[i] + c[i]} */
+    void fma(long @NotNull [] a, long @NotNull [] b, long @NotNull [] c, long @NotNull [] dst, int from, int to);
+
+    /** {@code dst[i] = a[i] * scale} */
+    void mulScalar(long @NotNull [] a, long scale, long @NotNull [] dst, int from, int to);
+
+    /** {@code dst[i] = dot((ax, ay, az)[i], (bx, by, bz)[i])} */
+    void dot3(long @NotNull [] ax, long @NotNull [] ay, long @NotNull [] az, long @NotNull [] bx, long @NotNull [] by, long @NotNull [] bz, long @NotNull [] dst, int from, int to);
+}
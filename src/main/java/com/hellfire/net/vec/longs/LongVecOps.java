@@ -0,0 +1,35 @@
+package com.hellfire.net.vec.longs;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Unboxed view of the long vector family. Code written against this interface avoids the
+ * {@code Long} boxing and varargs arrays of the generic {@link com.hellfire.net.vec.IVec} methods.
+ */
+public interface LongVecOps<T extends LongVecOps<T>> {
+
+    int numComponents();
+
+    long getLong(final int component);
+
+    @NotNull
+    T setLong(final int component, final long val);
+
+    void componentsInto(final long @NotNull [] dst, final int offset);
+
+    @NotNull
+    T addScalar(final long val);
+
+    @NotNull
+    T subScalar(final long val);
+
+    @NotNull
+    T mulScalar(final long scale);
+
+    @NotNull
+    T divScalar(double scale);
+
+    double length();
+
+    double lengthSquared();
+}
@@ -0,0 +1,230 @@
+package com.hellfire.net.vec.longs;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Mutable companion of {@link Vec2l}. All {@code *Local} methods modify this instance and return it,
+ * so they never allocate. Use {@link #toImmutable()} to hand the result to code expecting a {@link Vec2l}.
+ */
+public class MutableVec2l {
+
+    public long x, y;
+
+    public MutableVec2l(long x, long y) {
+        this.x = x;
+        this.y = y;
+    }
+
+    public MutableVec2l(final @NotNull Vec2l vec) {
+        this(vec.x, vec.y);
+    }
+
+    public MutableVec2l() {
+        this(0, 0);
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // In-place methods
+    ///////////////////////////////////////////////////////////////////////////
+
+    public @NotNull MutableVec2l set(long x, long y) {
+        this.x = x;
+        this.y = y;
+        return this;
+    }
+
+    public @NotNull MutableVec2l set(@NotNull Vec2l vec) {
+        return set(vec.x, vec.y);
+    }
+
+    public @NotNull MutableVec2l set(@NotNull MutableVec2l vec) {
+        return set(vec.x, vec.y);
+    }
+
+    public @NotNull MutableVec2l addLocal(long x, long y) {
+        this.x += x;
+        this.y += y;
+        return this;
+    }
+
+    public @NotNull MutableVec2l addLocal(@NotNull Vec2l vec) {
+        return addLocal(vec.x, vec.y);
+    }
+
+    public @NotNull MutableVec2l addLocal(@NotNull MutableVec2l vec) {
+        return addLocal(vec.x, vec.y);
+    }
+
+    public @NotNull MutableVec2l subLocal(long x, long y) {
+        this.x -= x;
+        this.y -= y;
+        return this;
+    }
+
+    public @NotNull MutableVec2l subLocal(@NotNull Vec2l vec) {
+        return subLocal(vec.x, vec.y);
+    }
+
+    public @NotNull MutableVec2l subLocal(@NotNull MutableVec2l vec) {
+        return subLocal(vec.x, vec.y);
+    }
+
+    public @NotNull MutableVec2l mulLocal(long x, long y) {
+        this.x *= x;
+        this.y *= y;
+        return this;
+    }
+
+    public @NotNull MutableVec2l mulLocal(@NotNull Vec2l vec) {
+        return mulLocal(vec.x, vec.y);
+    }
+
+    public @NotNull MutableVec2l mulLocal(@NotNull MutableVec2l vec) {
+        return mulLocal(vec.x, vec.y);
+    }
+
+    public @NotNull MutableVec2l addScalarLocal(long val) {
+        x += val;
+        y += val;
+        return this;
+    }
+
+    public @NotNull MutableVec2l subScalarLocal(long val) {
+        x -= val;
+        y -= val;
+        return this;
+    }
+
+    public @NotNull MutableVec2l mulScalarLocal(long scale) {
+        x *= scale;
+        y *= scale;
+        return this;
+    }
+
+    public @NotNull MutableVec2l divScalarLocal(double scale) {
+        x = (long) (x / scale);
+        y = (long) (y / scale);
+        return this;
+    }
+
+    public @NotNull MutableVec2l negateLocal() {
+        x = -x;
+        y = -y;
+        return this;
+    }
+
+    public @NotNull MutableVec2l absLocal() {
+        x = Math.abs(x);
+        y = Math.abs(y);
+        return this;
+    }
+
+    public @NotNull MutableVec2l minLocal(@NotNull Vec2l vec) {
+        x = Math.min(vec.x, x);
+        y = Math.min(vec.y, y);
+        return this;
+    }
+
+    public @NotNull MutableVec2l minLocal(@NotNull MutableVec2l vec) {
+        x = Math.min(vec.x, x);
+        y = Math.min(vec.y, y);
+        return this;
+    }
+
+    public @NotNull MutableVec2l maxLocal(@NotNull Vec2l vec) {
+        x = Math.max(vec.x, x);
+        y = Math.max(vec.y, y);
+        return this;
+    }
+
+    public @NotNull MutableVec2l maxLocal(@NotNull MutableVec2l vec) {
+        x = Math.max(vec.x, x);
+        y = Math.max(vec.y, y);
+        return this;
+    }
+
+    public @NotNull MutableVec2l addScaledLocal(@NotNull Vec2l vec, double scale) {
+        x = (long) (x + vec.x * scale);
+        y = (long) (y + vec.y * scale);
+        return this;
+    }
+
+    public @NotNull MutableVec2l addScaledLocal(@NotNull MutableVec2l vec, double scale) {
+        x = (long) (x + vec.x * scale);
+        y = (long) (y + vec.y * scale);
+        return this;
+    }
+
+    public @NotNull MutableVec2l mulAddLocal(@NotNull Vec2l a, @NotNull Vec2l b) {
+        x = x * a.x + b.x;
+        y = y * a.y + b.y;
+        return this;
+    }
+
+    public @NotNull MutableVec2l mulAddLocal(@NotNull MutableVec2l a, @NotNull MutableVec2l b) {
+        x = x * a.x + b.x;
+        y = y * a.y + b.y;
+        return this;
+    }
+
+    public @NotNull MutableVec2l fmaLocal(@NotNull Vec2l a, @NotNull Vec2l b) {
+        x = x * a.x + b.x;
+        y = y * a.y + b.y;
+        return this;
+    }
+
+    public @NotNull MutableVec2l fmaLocal(@NotNull MutableVec2l a, @NotNull MutableVec2l b) {
+        x = x * a.x + b.x;
+        y = y * a.y + b.y;
+        return this;
+    }
+
+    public @NotNull MutableVec2l lerpLocal(@NotNull Vec2l other, double t) {
+        x = (long) (x + (other.x - x) * t);
+        y = (long) (y + (other.y - y) * t);
+        return this;
+    }
+
+    public @NotNull MutableVec2l lerpLocal(@NotNull MutableVec2l other, double t) {
+        x = (long) (x + (other.x - x) * t);
+        y = (long) (y + (other.y - y) * t);
+        return this;
+    }
+
+    public @NotNull MutableVec2l scaleAndClampLocal(double scale, @NotNull Vec2l min, @NotNull Vec2l max) {
+        x = (long) Math.clamp(x * scale, min.x, max.x);
+        y = (long) Math.clamp(y * scale, min.y, max.y);
+        return this;
+    }
+
+    public @NotNull MutableVec2l zeroLocal() {
+        return set(0, 0);
+    }
+
+    public double length() {
+        return Math.sqrt(x * x + y * y);
+    }
+
+    public double lengthSquared() {
+        return (x * x) + (y * y);
+    }
+
+    public double distanceSquared(@NotNull Vec2l vec) {
+        long dx = Math.abs(vec.x - x), dy = Math.abs(vec.y - y);
+        return (dx * dx) + (dy * dy);
+    }
+
+    public double distanceSquared(@NotNull MutableVec2l vec) {
+        long dx = Math.abs(vec.x - x), dy = Math.abs(vec.y - y);
+        return (dx * dx) + (dy * dy);
+    }
+
+    public @NotNull Vec2l toImmutable() {
+        return new Vec2l(x, y);
+    }
+
+    @Override
+    public String toString() {
+        return "MutableVec2l{x=" + x + ", y=" + y + "}";
+    }
+}
@@ -0,0 +1,270 @@
+package com.hellfire.net.vec.longs;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Mutable companion of {@link Vec3l}. All {@code *Local} methods modify this instance and return it,
+ * so they never allocate. Use {@link #toImmutable()} to hand the result to code expecting a {@link Vec3l}.
+ */
+public class MutableVec3l {
+
+    public long x, y, z;
+
+    public MutableVec3l(long x, long y, long z) {
+        this.x = x;
+        this.y = y;
+        this.z = z;
+    }
+
+    public MutableVec3l(final @NotNull Vec3l vec) {
+        this(vec.x, vec.y, vec.z);
+    }
+
+    public MutableVec3l() {
+        this(0, 0, 0);
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // In-place methods
+    ///////////////////////////////////////////////////////////////////////////
+
+    public @NotNull MutableVec3l set(long x, long y, long z) {
+        this.x = x;
+        this.y = y;
+        this.z = z;
+        return this;
+    }
+
+    public @NotNull MutableVec3l set(@NotNull Vec3l vec) {
+        return set(vec.x, vec.y, vec.z);
+    }
+
+    public @NotNull MutableVec3l set(@NotNull MutableVec3l vec) {
+        return set(vec.x, vec.y, vec.z);
+    }
+
+    public @NotNull MutableVec3l addLocal(long x, long y, long z) {
+        this.x += x;
+        this.y += y;
+        this.z += z;
+        return this;
+    }
+
+    public @NotNull MutableVec3l addLocal(@NotNull Vec3l vec) {
+        return addLocal(vec.x, vec.y, vec.z);
+    }
+
+    public @NotNull MutableVec3l addLocal(@NotNull MutableVec3l vec) {
+        return addLocal(vec.x, vec.y, vec.z);
+    }
+
+    public @NotNull MutableVec3l subLocal(long x, long y, long z) {
+        this.x -= x;
+        this.y -= y;
+        this.z -= z;
+        return this;
+    }
+
+    public @NotNull MutableVec3l subLocal(@NotNull Vec3l vec) {
+        return subLocal(vec.x, vec.y, vec.z);
+    }
+
+    public @NotNull MutableVec3l subLocal(@NotNull MutableVec3l vec) {
+        return subLocal(vec.x, vec.y, vec.z);
+    }
+
+    public @NotNull MutableVec3l mulLocal(long x, long y, long z) {
+        this.x *= x;
+        this.y *= y;
+        this.z *= z;
+        return this;
+    }
+
+    public @NotNull MutableVec3l mulLocal(@NotNull Vec3l vec) {
+        return mulLocal(vec.x, vec.y, vec.z);
+    }
+
+    public @NotNull MutableVec3l mulLocal(@NotNull MutableVec3l vec) {
+        return mulLocal(vec.x, vec.y, vec.z);
+    }
+
+    public @NotNull MutableVec3l addScalarLocal(long val) {
+        x += val;
+        y += val;
+        z += val;
+        return this;
+    }
+
+    public @NotNull MutableVec3l subScalarLocal(long val) {
+        x -= val;
+        y -= val;
+        z -= val;
+        return this;
+    }
+
+    public @NotNull MutableVec3l mulScalarLocal(long scale) {
+        x *= scale;
+        y *= scale;
+        z *= scale;
+        return this;
+    }
+
+    public @NotNull MutableVec3l divScalarLocal(double scale) {
+        x = (long) (x / scale);
+        y = (long) (y / scale);
+        z = (long) (z / scale);
+        return this;
+    }
+
+    public @NotNull MutableVec3l negateLocal() {
+        x = -x;
+        y = -y;
+        z = -z;
+        return this;
+    }
+
+    public @NotNull MutableVec3l absLocal() {
+        x = Math.abs(x);
+        y = Math.abs(y);
+        z = Math.abs(z);
+        return this;
+    }
+
+    public @NotNull MutableVec3l minLocal(@NotNull Vec3l vec) {
+        x = Math.min(vec.x, x);
+        y = Math.min(vec.y, y);
+        z = Math.min(vec.z, z);
+        return this;
+    }
+
+    public @NotNull MutableVec3l minLocal(@NotNull MutableVec3l vec) {
+        x = Math.min(vec.x, x);
+        y = Math.min(vec.y, y);
+        z = Math.min(vec.z, z);
+        return this;
+    }
+
+    public @NotNull MutableVec3l maxLocal(@NotNull Vec3l vec) {
+        x = Math.max(vec.x, x);
+        y = Math.max(vec.y, y);
+        z = Math.max(vec.z, z);
+        return this;
+    }
+
+    public @NotNull MutableVec3l maxLocal(@NotNull MutableVec3l vec) {
+        x = Math.max(vec.x, x);
+        y = Math.max(vec.y, y);
+        z = Math.max(vec.z, z);
+        return this;
+    }
+
+    public @NotNull MutableVec3l crossLocal(@NotNull Vec3l other) {
+        return set(
+                y*other.z - other.y*z,
+                z*other.x - other.z*x,
+                x*other.y - other.x*y
+        );
+    }
+
+    public @NotNull MutableVec3l crossLocal(@NotNull MutableVec3l other) {
+        return set(
+                y*other.z - other.y*z,
+                z*other.x - other.z*x,
+                x*other.y - other.x*y
+        );
+    }
+
+    public @NotNull MutableVec3l addScaledLocal(@NotNull Vec3l vec, double scale) {
+        x = (long) (x + vec.x * scale);
+        y = (long) (y + vec.y * scale);
+        z = (long) (z + vec.z * scale);
+        return this;
+    }
+
+    public @NotNull MutableVec3l addScaledLocal(@NotNull MutableVec3l vec, double scale) {
+        x = (long) (x + vec.x * scale);
+        y = (long) (y + vec.y * scale);
+        z = (long) (z + vec.z * scale);
+        return this;
+    }
+
+    public @NotNull MutableVec3l mulAddLocal(@NotNull Vec3l a, @NotNull Vec3l b) {
+        x = x * a.x + b.x;
+        y = y * a.y + b.y;
+        z = z * a.z + b.z;
+        return this;
+    }
+
+    public @NotNull MutableVec3l mulAddLocal(@NotNull MutableVec3l a, @NotNull MutableVec3l b) {
+        x = x * a.x + b.x;
+        y = y * a.y + b.y;
+        z = z * a.z + b.z;
+        return this;
+    }
+
+    public @NotNull MutableVec3l fmaLocal(@NotNull Vec3l a, @NotNull Vec3l b) {
+        x = x * a.x + b.x;
+        y = y * a.y + b.y;
+        z = z * a.z + b.z;
+        return this;
+    }
+
+    public @NotNull MutableVec3l fmaLocal(@NotNull MutableVec3l a, @NotNull MutableVec3l b) {
+        x = x * a.x + b.x;
+        y = y * a.y + b.y;
+        z = z * a.z + b.z;
+        return this;
+    }
+
+    public @NotNull MutableVec3l lerpLocal(@NotNull Vec3l other, double t) {
+        x = (long) (x + (other.x - x) * t);
+        y = (long) (y + (other.y - y) * t);
+        z = (long) (z + (other.z - z) * t);
+        return this;
+    }
+
+    public @NotNull MutableVec3l lerpLocal(@NotNull MutableVec3l other, double t) {
+        x = (long) (x + (other.x - x) * t);
+        y = (long) (y + (other.y - y) * t);
+        z = (long) (z + (other.z - z) * t);
+        return this;
+    }
+
+    public @NotNull MutableVec3l scaleAndClampLocal(double scale, @NotNull Vec3l min, @NotNull Vec3l max) {
+        x = (long) Math.clamp(x * scale, min.x, max.x);
+        y = (long) Math.clamp(y * scale, min.y, max.y);
+        z = (long) Math.clamp(z * scale, min.z, max.z);
+        return this;
+    }
+
+    public @NotNull MutableVec3l zeroLocal() {
+        return set(0, 0, 0);
+    }
+
+    public double length() {
+        return Math.sqrt(x * x + y * y + z * z);
+    }
+
+    public double lengthSquared() {
+        return (x * x) + (y * y) + (z * z);
+    }
+
+    public double distanceSquared(@NotNull Vec3l vec) {
+        long dx = Math.abs(vec.x - x), dy = Math.abs(vec.y - y), dz = Math.abs(vec.z - z);
+        return (dx * dx) + (dy * dy) + (dz * dz);
+    }
+
+    public double distanceSquared(@NotNull MutableVec3l vec) {
+        long dx = Math.abs(vec.x - x), dy = Math.abs(vec.y - y), dz = Math.abs(vec.z - z);
+        return (dx * dx) + (dy * dy) + (dz * dz);
+    }
+
+    public @NotNull Vec3l toImmutable() {
+        return new Vec3l(x, y, z);
+    }
+
+    @Override
+    public String toString() {
+        return "MutableVec3l{x=" + x + ", y=" + y + ", z=" + z + "}";
+    }
+}
@@ -0,0 +1,278 @@
+package com.hellfire.net.vec.longs;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Mutable companion of {@link Vec4l}. All {@code *Local} methods modify this instance and return it,
+ * so they never allocate. Use {@link #toImmutable()} to hand the result to code expecting a {@link Vec4l}.
+ */
+public class MutableVec4l {
+
+    public long x, y, z, w;
+
+    public MutableVec4l(long x, long y, long z, long w) {
+        this.x = x;
+        this.y = y;
+        this.z = z;
+        this.w = w;
+    }
+
+    public MutableVec4l(final @NotNull Vec4l vec) {
+        this(vec.x, vec.y, vec.z, vec.w);
+    }
+
+    public MutableVec4l() {
+        this(0, 0, 0, 0);
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // In-place methods
+    ///////////////////////////////////////////////////////////////////////////
+
+    public @NotNull MutableVec4l set(long x, long y, long z, long w) {
+        this.x = x;
+        this.y = y;
+        this.z = z;
+        this.w = w;
+        return this;
+    }
+
+    public @NotNull MutableVec4l set(@NotNull Vec4l vec) {
+        return set(vec.x, vec.y, vec.z, vec.w);
+    }
+
+    public @NotNull MutableVec4l set(@NotNull MutableVec4l vec) {
+        return set(vec.x, vec.y, vec.z, vec.w);
+    }
+
+    public @NotNull MutableVec4l addLocal(long x, long y, long z, long w) {
+        this.x += x;
+        this.y += y;
+        this.z += z;
+        this.w += w;
+        return this;
+    }
+
+    public @NotNull MutableVec4l addLocal(@NotNull Vec4l vec) {
+        return addLocal(vec.x, vec.y, vec.z, vec.w);
+    }
+
+    public @NotNull MutableVec4l addLocal(@NotNull MutableVec4l vec) {
+        return addLocal(vec.x, vec.y, vec.z, vec.w);
+    }
+
+    public @NotNull MutableVec4l subLocal(long x, long y, long z, long w) {
+        this.x -= x;
+        this.y -= y;
+        this.z -= z;
+        this.w -= w;
+        return this;
+    }
+
+    public @NotNull MutableVec4l subLocal(@NotNull Vec4l vec) {
+        return subLocal(vec.x, vec.y, vec.z, vec.w);
+    }
+
+    public @NotNull MutableVec4l subLocal(@NotNull MutableVec4l vec) {
+        return subLocal(vec.x, vec.y, vec.z, vec.w);
+    }
+
+    public @NotNull MutableVec4l mulLocal(long x, long y, long z, long w) {
+        this.x *= x;
+        this.y *= y;
+        this.z *= z;
+        this.w *= w;
+        return this;
+    }
+
+    public @NotNull MutableVec4l mulLocal(@NotNull Vec4l vec) {
+        return mulLocal(vec.x, vec.y, vec.z, vec.w);
+    }
+
+    public @NotNull MutableVec4l mulLocal(@NotNull MutableVec4l vec) {
+        return mulLocal(vec.x, vec.y, vec.z, vec.w);
+    }
+
+    public @NotNull MutableVec4l addScalarLocal(long val) {
+        x += val;
+        y += val;
+        z += val;
+        w += val;
+        return this;
+    }
+
+    public @NotNull MutableVec4l subScalarLocal(long val) {
+        x -= val;
+        y -= val;
+        z -= val;
+        w -= val;
+        return this;
+    }
+
+    public @NotNull MutableVec4l mulScalarLocal(long scale) {
+        x *= scale;
+        y *= scale;
+        z *= scale;
+        w *= scale;
+        return this;
+    }
+
+    public @NotNull MutableVec4l divScalarLocal(double scale) {
+        x = (long) (x / scale);
+        y = (long) (y / scale);
+        z = (long) (z / scale);
+        w = (long) (w / scale);
+        return this;
+    }
+
+    public @NotNull MutableVec4l negateLocal() {
+        x = -x;
+        y = -y;
+        z = -z;
+        w = -w;
+        return this;
+    }
+
+    public @NotNull MutableVec4l absLocal() {
+        x = Math.abs(x);
+        y = Math.abs(y);
+        z = Math.abs(z);
+        w = Math.abs(w);
+        return this;
+    }
+
+    public @NotNull MutableVec4l minLocal(@NotNull Vec4l vec) {
+        x = Math.min(vec.x, x);
+        y = Math.min(vec.y, y);
+        z = Math.min(vec.z, z);
+        w = Math.min(vec.w, w);
+        return this;
+    }
+
+    public @NotNull MutableVec4l minLocal(@NotNull MutableVec4l vec) {
+        x = Math.min(vec.x, x);
+        y = Math.min(vec.y, y);
+        z = Math.min(vec.z, z);
+        w = Math.min(vec.w, w);
+        return this;
+    }
+
+    public @NotNull MutableVec4l maxLocal(@NotNull Vec4l vec) {
+        x = Math.max(vec.x, x);
+        y = Math.max(vec.y, y);
+        z = Math.max(vec.z, z);
+        w = Math.max(vec.w, w);
+        return this;
+    }
+
+    public @NotNull MutableVec4l maxLocal(@NotNull MutableVec4l vec) {
+        x = Math.max(vec.x, x);
+        y = Math.max(vec.y, y);
+        z = Math.max(vec.z, z);
+        w = Math.max(vec.w, w);
+        return this;
+    }
+
+    public @NotNull MutableVec4l addScaledLocal(@NotNull Vec4l vec, double scale) {
+        x = (long) (x + vec.x * scale);
+        y = (long) (y + vec.y * scale);
+        z = (long) (z + vec.z * scale);
+        w = (long) (w + vec.w * scale);
+        return this;
+    }
+
+    public @NotNull MutableVec4l addScaledLocal(@NotNull MutableVec4l vec, double scale) {
+        x = (long) (x + vec.x * scale);
+        y = (long) (y + vec.y * scale);
+        z = (long) (z + vec.z * scale);
+        w = (long) (w + vec.w * scale);
+        return this;
+    }
+
+    public @NotNull MutableVec4l mulAddLocal(@NotNull Vec4l a, @NotNull Vec4l b) {
+        x = x * a.x + b.x;
+        y = y * a.y + b.y;
+        z = z * a.z + b.z;
+        w = w * a.w + b.w;
+        return this;
+    }
+
+    public @NotNull MutableVec4l mulAddLocal(@NotNull MutableVec4l a, @NotNull MutableVec4l b) {
+        x = x * a.x + b.x;
+        y = y * a.y + b.y;
+        z = z * a.z + b.z;
+        w = w * a.w + b.w;
+        return this;
+    }
+
+    public @NotNull MutableVec4l fmaLocal(@NotNull Vec4l a, @NotNull Vec4l b) {
+        x = x * a.x + b.x;
+        y = y * a.y + b.y;
+        z = z * a.z + b.z;
+        w = w * a.w + b.w;
+        return this;
+    }
+
+    public @NotNull MutableVec4l fmaLocal(@NotNull MutableVec4l a, @NotNull MutableVec4l b) {
+        x = x * a.x + b.x;
+        y = y * a.y + b.y;
+        z = z * a.z + b.z;
+        w = w * a.w + b.w;
+        return this;
+    }
+
+    public @NotNull MutableVec4l lerpLocal(@NotNull Vec4l other, double t) {
+        x = (long) (x + (other.x - x) * t);
+        y = (long) (y + (other.y - y) * t);
+        z = (long) (z + (other.z - z) * t);
+        w = (long) (w + (other.w - w) * t);
+        return this;
+    }
+
+    public @NotNull MutableVec4l lerpLocal(@NotNull MutableVec4l other, double t) {
+        x = (long) (x + (other.x - x) * t);
+        y = (long) (y + (other.y - y) * t);
+        z = (long) (z + (other.z - z) * t);
+        w = (long) (w + (other.w - w) * t);
+        return this;
+    }
+
+    public @NotNull MutableVec4l scaleAndClampLocal(double scale, @NotNull Vec4l min, @NotNull Vec4l max) {
+        x = (long) Math.clamp(x * scale, min.x, max.x);
+        y = (long) Math.clamp(y * scale, min.y, max.y);
+        z = (long) Math.clamp(z * scale, min.z, max.z);
+        w = (long) Math.clamp(w * scale, min.w, max.w);
+        return this;
+    }
+
+    public @NotNull MutableVec4l zeroLocal() {
+        return set(0, 0, 0, 0);
+    }
+
+    public double length() {
+        return Math.sqrt(x * x + y * y + z * z + w * w);
+    }
+
+    public double lengthSquared() {
+        return (x * x) + (y * y) + (z * z) + (w * w);
+    }
+
+    public double distanceSquared(@NotNull Vec4l vec) {
+        long dx = Math.abs(vec.x - x), dy = Math.abs(vec.y - y), dz = Math.abs(vec.z - z), dw = Math.abs(vec.w - w);
+        return (dx * dx) + (dy * dy) + (dz * dz) + (dw * dw);
+    }
+
+    public double distanceSquared(@NotNull MutableVec4l vec) {
+        long dx = Math.abs(vec.x - x), dy = Math.abs(vec.y - y), dz = Math.abs(vec.z - z), dw = Math.abs(vec.w - w);
+        return (dx * dx) + (dy * dy) + (dz * dz) + (dw * dw);
+    }
+
+    public @NotNull Vec4l toImmutable() {
+        return new Vec4l(x, y, z, w);
+    }
+
+    @Override
+    public String toString() {
+        return "MutableVec4l{x=" + x + ", y=" + y + ", z=" + z + ", w=" + w + "}";
+    }
+}
@@ -1,12 +1,17 @@
 package com.hellfire.net.vec.longs;
 
+import com.hellfire.net.vec.FastMath;
 import com.hellfire.net.vec.IVec2;
 import com.hellfire.net.vec.doubles.Vec2d;
+import com.hellfire.net.vec.text.VecFormat;
+import com.hellfire.net.vec.text.VecParser;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Range;
 
+import java.util.Objects;
+
 /* Created by Conor on 15.05.2024 */
-public class Vec2l extends IVec2<Long, Vec2l> {
+public class Vec2l extends IVec2<Long, Vec2l> implements LongVecOps<Vec2l> {
 
     public static final Vec2l ZERO = new Vec2l(0, 0);
 
@@ -27,6 +32,14 @@ public class Vec2l extends IVec2<Long, Vec2l> {
         this(0, 0);
     }
 
+    /** Parses the {@code toString}/{@code appendTo} form or plain separated components, see {@link VecParser} */
+    public static @NotNull Vec2l parse(final @NotNull CharSequence text, final int from) {
+        final VecParser parser = new VecParser(text, from).beginVec();
+        final long x = parser.nextLong(), y = parser.nextLong();
+        parser.endVec();
+        return new Vec2l(x, y);
+    }
+
     ///////////////////////////////////////////////////////////////////////////
     // Impl methods
     ///////////////////////////////////////////////////////////////////////////
@@ -165,12 +178,12 @@ public class Vec2l extends IVec2<Long, Vec2l> {
 
     @Override
     public @NotNull Vec2l minLength(@NotNull Vec2l vec) {
-        return (length() < vec.length()) ? this : vec;
+        return (lengthSquared() < vec.lengthSquared()) ? this : vec;
     }
 
     @Override
     public @NotNull Vec2l maxLength(@NotNull Vec2l vec) {
-        return (length() > vec.length()) ? this : vec;
+        return (lengthSquared() > vec.lengthSquared()) ? this : vec;
     }
 
     @Override
@@ -190,7 +203,29 @@ public class Vec2l extends IVec2<Long, Vec2l> {
 
     @Override
     public @NotNull Vec2d normalize() {
-        return new Vec2d(x, y).divScalar(length());
+        final double len = length();
+        return new Vec2d(x / len, y / len);
+    }
+
+    @Override
+    public double lengthFast() {
+        return FastMath.sqrt((double) x * x + (double) y * y);
+    }
+
+    @Override
+    public double inverseLength() {
+        return 1 / Math.sqrt((double) x * x + (double) y * y);
+    }
+
+    @Override
+    public double inverseLengthFast() {
+        return FastMath.invSqrt((double) x * x + (double) y * y);
+    }
+
+    @Override
+    public @NotNull Vec2d normalizeFast() {
+        final double inv = inverseLengthFast();
+        return new Vec2d(x * inv, y * inv);
     }
 
     @Override
@@ -202,4 +237,140 @@ public class Vec2l extends IVec2<Long, Vec2l> {
     public @NotNull Vec2l clone() {
         return new Vec2l(x, y);
     }
+
+    public @NotNull MutableVec2l toMutable() {
+        return new MutableVec2l(x, y);
+    }
+
+    @Override
+    public @NotNull Vec2l addScaled(@NotNull Vec2l vec, double scale) {
+        return new Vec2l((long) (x + vec.x * scale), (long) (y + vec.y * scale));
+    }
+
+    @Override
+    public @NotNull Vec2l mulAdd(@NotNull Vec2l a, @NotNull Vec2l b) {
+        return new Vec2l(x * a.x + b.x, y * a.y + b.y);
+    }
+
+    @Override
+    public @NotNull Vec2l fma(@NotNull Vec2l a, @NotNull Vec2l b) {
+        return new Vec2l(x * a.x + b.x, y * a.y + b.y);
+    }
+
+    @Override
+    public @NotNull Vec2l lerp(@NotNull Vec2l other, double t) {
+        return new Vec2l((long) (x + (other.x - x) * t), (long) (y + (other.y - y) * t));
+    }
+
+    @Override
+    public @NotNull Vec2l scaleAndClamp(double scale, @NotNull Vec2l min, @NotNull Vec2l max) {
+        return new Vec2l((long) Math.clamp(x * scale, min.x, max.x), (long) Math.clamp(y * scale, min.y, max.y));
+    }
+
+    @Override
+    public double distanceToLine(@NotNull Vec2l a, @NotNull Vec2l b) {
+        final double ux = (double) b.x - a.x, uy = (double) b.y - a.y;
+        final double dx = (double) x - a.x, dy = (double) y - a.y;
+        final double uu = ux * ux + uy * uy;
+        if (uu == 0) return Math.sqrt(dx * dx + dy * dy);
+
+        final double t = (dx * ux + dy * uy) / uu;
+        final double ex = dx - ux * t, ey = dy - uy * t;
+        return Math.sqrt(ex * ex + ey * ey);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Vec2l v)) return false;
+        return x == v.x && y == v.y;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Long.hashCode(x);
+        result = HASH_PRIME * result + Long.hashCode(y);
+        return result;
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // Primitive methods
+    ///////////////////////////////////////////////////////////////////////////
+
+    @Override
+    public long getLong(@Range(from = 0, to = 1) int component) {
+        return switch (component) {
+            case 0 -> x;
+            case 1 -> y;
+            default -> throw new IllegalArgumentException("Invalid component");
+        };
+    }
+
+    @Override
+    public double getDouble(@Range(from = 0, to = 1) int component) {
+        return switch (component) {
+            case 0 -> x;
+            case 1 -> y;
+            default -> throw new IllegalArgumentException("Invalid component");
+        };
+    }
+
+    @Override
+    public @NotNull Vec2l setLong(@Range(from = 0, to = 1) int component, long val) {
+        return switch (component) {
+            case 0 -> new Vec2l(val, y);
+            case 1 -> new Vec2l(x, val);
+            default -> throw new IllegalArgumentException("Invalid component");
+        };
+    }
+
+    @Override
+    public void componentsInto(long @NotNull [] dst, int offset) {
+        Objects.checkFromIndexSize(offset, NUM_COMPONENTS, dst.length);
+        dst[offset] = x;
+        dst[offset + 1] = y;
+    }
+
+    @Override
+    public void componentsInto(double @NotNull [] dst, int offset) {
+        Objects.checkFromIndexSize(offset, NUM_COMPONENTS, dst.length);
+        dst[offset] = x;
+        dst[offset + 1] = y;
+    }
+
+    public @NotNull Vec2l add(long x2, long y2) {
+        return new Vec2l(x + x2, y + y2);
+    }
+
+    public @NotNull Vec2l sub(long x2, long y2) {
+        return new Vec2l(x - x2, y - y2);
+    }
+
+    public @NotNull Vec2l mul(long x2, long y2) {
+        return new Vec2l(x * x2, y * y2);
+    }
+
+    public @NotNull Vec2l div(long x2, long y2) {
+        return new Vec2l(x / x2, y / y2);
+    }
+
+    @Override
+    public @NotNull Vec2l addScalar(long val) {
+        return new Vec2l(x + val, y + val);
+    }
+
+    @Override
+    public @NotNull Vec2l subScalar(long val) {
+        return new Vec2l(x - val, y - val);
+    }
+
+    @Override
+    public @NotNull Vec2l mulScalar(long scale) {
+        return new Vec2l(x * scale, y * scale);
+    }
+
+    @Override
+    protected void appendComponent(@NotNull StringBuilder sb, @Range(from = 0, to = 1) int component, int precision) {
+        VecFormat.append(sb, getLong(component), precision);
+    }
 }
@@ -0,0 +1,231 @@
+package com.hellfire.net.vec.longs;
+
+import com.hellfire.net.vec.IVecBuffer;
+import com.hellfire.net.vec.doubles.Vec2dBuffer;
+import com.hellfire.net.vec.kernel.VecKernelProvider;
+import com.hellfire.net.vec.kernel.VecKernels;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+
+public class Vec2lBuffer extends IVecBuffer<Long, Vec2l, Vec2lBuffer> {
+
+    public final long[] x, y;
+
+    public Vec2lBuffer(final int size) {
+        super(size);
+        this.x = new long[size];
+        this.y = new long[size];
+    }
+
+    public Vec2lBuffer(final @NotNull Vec2l @NotNull ... vecs) {
+        this(vecs.length);
+        for (int i = 0; i < vecs.length; i++) set(i, vecs[i]);
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // Impl methods
+    ///////////////////////////////////////////////////////////////////////////
+
+    @Override
+    public int numComponents() {
+        return Vec2l.NUM_COMPONENTS;
+    }
+
+    @Override
+    public @NotNull Vec2l get(int index) {
+        return new Vec2l(x[index], y[index]);
+    }
+
+    @Override
+    public @NotNull Vec2lBuffer set(int index, @NotNull Vec2l vec) {
+        x[index] = vec.x;
+        y[index] = vec.y;
+        return this;
+    }
+
+    public @NotNull Vec2lBuffer set(int index, long x, long y) {
+        this.x[index] = x;
+        this.y[index] = y;
+        return this;
+    }
+
+    @Override
+    public @NotNull Vec2lBuffer add(int from, int to, @NotNull Vec2lBuffer other) {
+        checkRange(from, to);
+        other.checkRange(from, to);
+        final VecKernels kernels = VecKernelProvider.get();
+        kernels.add(x, other.x, x, from, to);
+        kernels.add(y, other.y, y, from, to);
+        return this;
+    }
+
+    @Override
+    public @NotNull Vec2lBuffer add(int from, int to, @NotNull Vec2l vec) {
+        checkRange(from, to);
+        final long vx = vec.x, vy = vec.y;
+        for (int i = from; i < to; i++) {
+            x[i] += vx;
+            y[i] += vy;
+        }
+        return this;
+    }
+
+    @Override
+    public @NotNull Vec2lBuffer sub(int from, int to, @NotNull Vec2lBuffer other) {
+        checkRange(from, to);
+        other.checkRange(from, to);
+        final VecKernels kernels = VecKernelProvider.get();
+        kernels.sub(x, other.x, x, from, to);
+        kernels.sub(y, other.y, y, from, to);
+        return this;
+    }
+
+    @Override
+    public @NotNull Vec2lBuffer sub(int from, int to, @NotNull Vec2l vec) {
+        checkRange(from, to);
+        final long vx = vec.x, vy = vec.y;
+        for (int i = from; i < to; i++) {
+            x[i] -= vx;
+            y[i] -= vy;
+        }
+        return this;
+    }
+
+    @Override
+    public @NotNull Vec2lBuffer mul(int from, int to, @NotNull Vec2lBuffer other) {
+        checkRange(from, to);
+        other.checkRange(from, to);
+        final VecKernels kernels = VecKernelProvider.get();
+        kernels.mul(x, other.x, x, from, to);
+        kernels.mul(y, other.y, y, from, to);
+        return this;
+    }
+
+    @Override
+    public @NotNull Vec2lBuffer mul(int from, int to, @NotNull Vec2l vec) {
+        checkRange(from, to);
+        final long vx = vec.x, vy = vec.y;
+        for (int i = from; i < to; i++) {
+            x[i] *= vx;
+            y[i] *= vy;
+        }
+        return this;
+    }
+
+    public @NotNull Vec2lBuffer addScalar(int from, int to, long val) {
+        checkRange(from, to);
+        for (int i = from; i < to; i++) {
+            x[i] += val;
+            y[i] += val;
+        }
+        return this;
+    }
+
+    public @NotNull Vec2lBuffer subScalar(int from, int to, long val) {
+        checkRange(from, to);
+        for (int i = from; i < to; i++) {
+            x[i] -= val;
+            y[i] -= val;
+        }
+        return this;
+    }
+
+    public @NotNull Vec2lBuffer mulScalar(int from, int to, long scale) {
+        checkRange(from, to);
+        for (int i = from; i < to; i++) {
+            x[i] *= scale;
+            y[i] *= scale;
+        }
+        return this;
+    }
+
+    @Override
+    public @NotNull Vec2lBuffer divScalar(int from, int to, double scale) {
+        checkRange(from, to);
+        for (int i = from; i < to; i++) {
+            x[i] = (long) (x[i] / scale);
+            y[i] = (long) (y[i] / scale);
+        }
+        return this;
+    }
+
+    public @NotNull Vec2lBuffer negate(int from, int to) {
+        checkRange(from, to);
+        for (int i = from; i < to; i++) {
+            x[i] = -x[i];
+            y[i] = -y[i];
+        }
+        return this;
+    }
+
+    @Override
+    public double length(int index) {
+        final long xi = x[index], yi = y[index];
+        return Math.sqrt(xi * xi + yi * yi);
+    }
+
+    @Override
+    public double lengthSquared(int index) {
+        final long xi = x[index], yi = y[index];
+        return (xi * xi) + (yi * yi);
+    }
+
+    @Override
+    public double distanceSquared(int index, @NotNull Vec2l vec) {
+        long dx = Math.abs(vec.x - x[index]), dy = Math.abs(vec.y - y[index]);
+        return (dx * dx) + (dy * dy);
+    }
+
+    @Override
+    public void length(int from, int to, double @NotNull [] dst, int dstOffset) {
+        checkRange(from, to);
+        checkDst(from, to, dst, dstOffset);
+        for (int i = from; i < to; i++) {
+            final long xi = x[i], yi = y[i];
+            dst[dstOffset + i - from] = Math.sqrt(xi * xi + yi * yi);
+        }
+    }
+
+    @Override
+    public void distanceSquared(int from, int to, @NotNull Vec2lBuffer other, double @NotNull [] dst, int dstOffset) {
+        checkRange(from, to);
+        other.checkRange(from, to);
+        checkDst(from, to, dst, dstOffset);
+        for (int i = from; i < to; i++) {
+            long dx = Math.abs(other.x[i] - x[i]), dy = Math.abs(other.y[i] - y[i]);
+            dst[dstOffset + i - from] = (dx * dx) + (dy * dy);
+        }
+    }
+
+    @Override
+    public void distanceSquared(int from, int to, @NotNull Vec2l vec, double @NotNull [] dst, int dstOffset) {
+        checkRange(from, to);
+        checkDst(from, to, dst, dstOffset);
+        final long vx = vec.x, vy = vec.y;
+        for (int i = from; i < to; i++) {
+            long dx = Math.abs(vx - x[i]), dy = Math.abs(vy - y[i]);
+            dst[dstOffset + i - from] = (dx * dx) + (dy * dy);
+        }
+    }
+
+    public @NotNull Vec2dBuffer normalize(int from, int to, @NotNull Vec2dBuffer dst) {
+        checkRange(from, to);
+        Objects.checkFromToIndex(from, to, dst.size());
+        for (int i = from; i < to; i++) {
+            final long xi = x[i], yi = y[i];
+            final double len = Math.sqrt(xi * xi + yi * yi);
+            dst.x[i] = (double) xi / len;
+            dst.y[i] = (double) yi / len;
+        }
+        return dst;
+    }
+
+    @Override
+    public @NotNull Vec2lBuffer copy() {
+        final Vec2lBuffer copy = new Vec2lBuffer(size);
+        System.arraycopy(x, 0, copy.x, 0, size);
+        System.arraycopy(y, 0, copy.y, 0, size);
+        return copy;
+    }
+}
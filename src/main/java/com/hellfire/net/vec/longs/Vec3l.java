@@ -1,12 +1,17 @@
 package com.hellfire.net.vec.longs;
 
+import com.hellfire.net.vec.FastMath;
 import com.hellfire.net.vec.IVec3;
 import com.hellfire.net.vec.doubles.Vec3d;
+import com.hellfire.net.vec.text.VecFormat;
+import com.hellfire.net.vec.text.VecParser;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Range;
 
+import java.util.Objects;
+
 /* Created by Conor on 15.05.2024 */
-public class Vec3l extends IVec3<Long, Vec3l> {
+public class Vec3l extends IVec3<Long, Vec3l> implements LongVecOps<Vec3l> {
 
     public static final Vec3l ZERO = new Vec3l(0, 0, 0);
 
@@ -29,6 +34,14 @@ public class Vec3l extends IVec3<Long, Vec3l> {
         this(0, 0, 0);
     }
 
+    /** Parses the {@code toString}/{@code appendTo} form or plain separated components, see {@link VecParser} */
+    public static @NotNull Vec3l parse(final @NotNull CharSequence text, final int from) {
+        final VecParser parser = new VecParser(text, from).beginVec();
+        final long x = parser.nextLong(), y = parser.nextLong(), z = parser.nextLong();
+        parser.endVec();
+        return new Vec3l(x, y, z);
+    }
+
     ///////////////////////////////////////////////////////////////////////////
     // Impl methods
     ///////////////////////////////////////////////////////////////////////////
@@ -169,12 +182,12 @@ public class Vec3l extends IVec3<Long, Vec3l> {
 
     @Override
     public @NotNull Vec3l minLength(@NotNull Vec3l vec) {
-        return (length() < vec.length()) ? this : vec;
+        return (lengthSquared() < vec.lengthSquared()) ? this : vec;
     }
 
     @Override
     public @NotNull Vec3l maxLength(@NotNull Vec3l vec) {
-        return (length() > vec.length()) ? this : vec;
+        return (lengthSquared() > vec.lengthSquared()) ? this : vec;
     }
 
     @Override
@@ -196,7 +209,29 @@ public class Vec3l extends IVec3<Long, Vec3l> {
 
     @Override
     public @NotNull Vec3d normalize() {
-        return new Vec3d(x, y, z).divScalar(length());
+        final double len = length();
+        return new Vec3d(x / len, y / len, z / len);
+    }
+
+    @Override
+    public double lengthFast() {
+        return FastMath.sqrt((double) x * x + (double) y * y + (double) z * z);
+    }
+
+    @Override
+    public double inverseLength() {
+        return 1 / Math.sqrt((double) x * x + (double) y * y + (double) z * z);
+    }
+
+    @Override
+    public double inverseLengthFast() {
+        return FastMath.invSqrt((double) x * x + (double) y * y + (double) z * z);
+    }
+
+    @Override
+    public @NotNull Vec3d normalizeFast() {
+        final double inv = inverseLengthFast();
+        return new Vec3d(x * inv, y * inv, z * inv);
     }
 
     @Override
@@ -209,6 +244,10 @@ public class Vec3l extends IVec3<Long, Vec3l> {
         return new Vec3l(x, y, z);
     }
 
+    public @NotNull MutableVec3l toMutable() {
+        return new MutableVec3l(x, y, z);
+    }
+
     @Override
     public @NotNull Vec3l cross(@NotNull Vec3l other) {
         return new Vec3l(
@@ -217,4 +256,150 @@ public class Vec3l extends IVec3<Long, Vec3l> {
                 x*other.y - other.x*y
         );
     }
+
+    @Override
+    public @NotNull Vec3l addScaled(@NotNull Vec3l vec, double scale) {
+        return new Vec3l((long) (x + vec.x * scale), (long) (y + vec.y * scale), (long) (z + vec.z * scale));
+    }
+
+    @Override
+    public @NotNull Vec3l mulAdd(@NotNull Vec3l a, @NotNull Vec3l b) {
+        return new Vec3l(x * a.x + b.x, y * a.y + b.y, z * a.z + b.z);
+    }
+
+    @Override
+    public @NotNull Vec3l fma(@NotNull Vec3l a, @NotNull Vec3l b) {
+        return new Vec3l(x * a.x + b.x, y * a.y + b.y, z * a.z + b.z);
+    }
+
+    @Override
+    public @NotNull Vec3l lerp(@NotNull Vec3l other, double t) {
+        return new Vec3l(
+                (long) (x + (other.x - x) * t),
+                (long) (y + (other.y - y) * t),
+                (long) (z + (other.z - z) * t)
+        );
+    }
+
+    @Override
+    public @NotNull Vec3l scaleAndClamp(double scale, @NotNull Vec3l min, @NotNull Vec3l max) {
+        return new Vec3l(
+                (long) Math.clamp(x * scale, min.x, max.x),
+                (long) Math.clamp(y * scale, min.y, max.y),
+                (long) Math.clamp(z * scale, min.z, max.z)
+        );
+    }
+
+    @Override
+    public double distanceToLine(@NotNull Vec3l a, @NotNull Vec3l b) {
+        final double ux = (double) b.x - a.x, uy = (double) b.y - a.y, uz = (double) b.z - a.z;
+        final double dx = (double) x - a.x, dy = (double) y - a.y, dz = (double) z - a.z;
+        final double uu = ux * ux + uy * uy + uz * uz;
+        if (uu == 0) return Math.sqrt(dx * dx + dy * dy + dz * dz);
+
+        final double t = (dx * ux + dy * uy + dz * uz) / uu;
+        final double ex = dx - ux * t, ey = dy - uy * t, ez = dz - uz * t;
+        return Math.sqrt(ex * ex + ey * ey + ez * ez);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Vec3l v)) return false;
+        return x == v.x && y == v.y && z == v.z;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Long.hashCode(x);
+        result = HASH_PRIME * result + Long.hashCode(y);
+        result = HASH_PRIME * result + Long.hashCode(z);
+        return result;
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // Primitive methods
+    ///////////////////////////////////////////////////////////////////////////
+
+    @Override
+    public long getLong(@Range(from = 0, to = 2) int component) {
+        return switch (component) {
+            case 0 -> x;
+            case 1 -> y;
+            case 2 -> z;
+            default -> throw new IllegalArgumentException("Invalid component");
+        };
+    }
+
+    @Override
+    public double getDouble(@Range(from = 0, to = 2) int component) {
+        return switch (component) {
+            case 0 -> x;
+            case 1 -> y;
+            case 2 -> z;
+            default -> throw new IllegalArgumentException("Invalid component");
+        };
+    }
+
+    @Override
+    public @NotNull Vec3l setLong(@Range(from = 0, to = 2) int component, long val) {
+        return switch (component) {
+            case 0 -> new Vec3l(val, y, z);
+            case 1 -> new Vec3l(x, val, z);
+            case 2 -> new Vec3l(x, y, val);
+            default -> throw new IllegalArgumentException("Invalid component");
+        };
+    }
+
+    @Override
+    public void componentsInto(long @NotNull [] dst, int offset) {
+        Objects.checkFromIndexSize(offset, NUM_COMPONENTS, dst.length);
+        dst[offset] = x;
+        dst[offset + 1] = y;
+        dst[offset + 2] = z;
+    }
+
+    @Override
+    public void componentsInto(double @NotNull [] dst, int offset) {
+        Objects.checkFromIndexSize(offset, NUM_COMPONENTS, dst.length);
+        dst[offset] = x;
+        dst[offset + 1] = y;
+        dst[offset + 2] = z;
+    }
+
+    public @NotNull Vec3l add(long x2, long y2, long z2) {
+        return new Vec3l(x + x2, y + y2, z + z2);
+    }
+
+    public @NotNull Vec3l sub(long x2, long y2, long z2) {
+        return new Vec3l(x - x2, y - y2, z - z2);
+    }
+
+    public @NotNull Vec3l mul(long x2, long y2, long z2) {
+        return new Vec3l(x * x2, y * y2, z * z2);
+    }
+
+    public @NotNull Vec3l div(long x2, long y2, long z2) {
+        return new Vec3l(x / x2, y / y2, z / z2);
+    }
+
+    @Override
+    public @NotNull Vec3l addScalar(long val) {
+        return new Vec3l(x + val, y + val, z + val);
+    }
+
+    @Override
+    public @NotNull Vec3l subScalar(long val) {
+        return new Vec3l(x - val, y - val, z - val);
+    }
+
+    @Override
+    public @NotNull Vec3l mulScalar(long scale) {
+        return new Vec3l(x * scale, y * scale, z * scale);
+    }
+
+    @Override
+    protected void appendComponent(@NotNull StringBuilder sb, @Range(from = 0, to = 2) int component, int precision) {
+        VecFormat.append(sb, getLong(component), precision);
+    }
 }
@@ -0,0 +1,247 @@
+package com.hellfire.net.vec.longs;
+
+import com.hellfire.net.vec.IVecBuffer;
+import com.hellfire.net.vec.doubles.Vec3dBuffer;
+import com.hellfire.net.vec.kernel.VecKernelProvider;
+import com.hellfire.net.vec.kernel.VecKernels;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+
+public class Vec3lBuffer extends IVecBuffer<Long, Vec3l, Vec3lBuffer> {
+
+    public final long[] x, y, z;
+
+    public Vec3lBuffer(final int size) {
+        super(size);
+        this.x = new long[size];
+        this.y = new long[size];
+        this.z = new long[size];
+    }
+
+    public Vec3lBuffer(final @NotNull Vec3l @NotNull ... vecs) {
+        this(vecs.length);
+        for (int i = 0; i < vecs.length; i++) set(i, vecs[i]);
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // Impl methods
+    ///////////////////////////////////////////////////////////////////////////
+
+    @Override
+    public int numComponents() {
+        return Vec3l.NUM_COMPONENTS;
+    }
+
+    @Override
+    public @NotNull Vec3l get(int index) {
+        return new Vec3l(x[index], y[index], z[index]);
+    }
+
+    @Override
+    public @NotNull Vec3lBuffer set(int index, @NotNull Vec3l vec) {
+        x[index] = vec.x;
+        y[index] = vec.y;
+        z[index] = vec.z;
+        return this;
+    }
+
+    public @NotNull Vec3lBuffer set(int index, long x, long y, long z) {
+        this.x[index] = x;
+        this.y[index] = y;
+        this.z[index] = z;
+        return this;
+    }
+
+    @Override
+    public @NotNull Vec3lBuffer add(int from, int to, @NotNull Vec3lBuffer other) {
+        checkRange(from, to);
+        other.checkRange(from, to);
+        final VecKernels kernels = VecKernelProvider.get();
+        kernels.add(x, other.x, x, from, to);
+        kernels.add(y, other.y, y, from, to);
+        kernels.add(z, other.z, z, from, to);
+        return this;
+    }
+
+    @Override
+    public @NotNull Vec3lBuffer add(int from, int to, @NotNull Vec3l vec) {
+        checkRange(from, to);
+        final long vx = vec.x, vy = vec.y, vz = vec.z;
+        for (int i = from; i < to; i++) {
+            x[i] += vx;
+            y[i] += vy;
+            z[i] += vz;
+        }
+        return this;
+    }
+
+    @Override
+    public @NotNull Vec3lBuffer sub(int from, int to, @NotNull Vec3lBuffer other) {
+        checkRange(from, to);
+        other.checkRange(from, to);
+        final VecKernels kernels = VecKernelProvider.get();
+        kernels.sub(x, other.x, x, from, to);
+        kernels.sub(y, other.y, y, from, to);
+        kernels.sub(z, other.z, z, from, to);
+        return this;
+    }
+
+    @Override
+    public @NotNull Vec3lBuffer sub(int from, int to, @NotNull Vec3l vec) {
+        checkRange(from, to);
+        final long vx = vec.x, vy = vec.y, vz = vec.z;
+        for (int i = from; i < to; i++) {
+            x[i] -= vx;
+            y[i] -= vy;
+            z[i] -= vz;
+        }
+        return this;
+    }
+
+    @Override
+    public @NotNull Vec3lBuffer mul(int from, int to, @NotNull Vec3lBuffer other) {
+        checkRange(from, to);
+        other.checkRange(from, to);
+        final VecKernels kernels = VecKernelProvider.get();
+        kernels.mul(x, other.x, x, from, to);
+        kernels.mul(y, other.y, y, from, to);
+        kernels.mul(z, other.z, z, from, to);
+        return this;
+    }
+
+    @Override
+    public @NotNull Vec3lBuffer mul(int from, int to, @NotNull Vec3l vec) {
+        checkRange(from, to);
+        final long vx = vec.x, vy = vec.y, vz = vec.z;
+        for (int i = from; i < to; i++) {
+            x[i] *= vx;
+            y[i] *= vy;
+            z[i] *= vz;
+        }
+        return this;
+    }
+
+    public @NotNull Vec3lBuffer addScalar(int from, int to, long val) {
+        checkRange(from, to);
+        for (int i = from; i < to; i++) {
+            x[i] += val;
+            y[i] += val;
+            z[i] += val;
+        }
+        return this;
+    }
+
+    public @NotNull Vec3lBuffer subScalar(int from, int to, long val) {
+        checkRange(from, to);
+        for (int i = from; i < to; i++) {
+            x[i] -= val;
+            y[i] -= val;
+            z[i] -= val;
+        }
+        return this;
+    }
+
+    public @NotNull Vec3lBuffer mulScalar(int from, int to, long scale) {
+        checkRange(from, to);
+        for (int i = from; i < to; i++) {
+            x[i] *= scale;
+            y[i] *= scale;
+            z[i] *= scale;
+        }
+        return this;
+    }
+
+    @Override
+    public @NotNull Vec3lBuffer divScalar(int from, int to, double scale) {
+        checkRange(from, to);
+        for (int i = from; i < to; i++) {
+            x[i] = (long) (x[i] / scale);
+            y[i] = (long) (y[i] / scale);
+            z[i] = (long) (z[i] / scale);
+        }
+        return this;
+    }
+
+    public @NotNull Vec3lBuffer negate(int from, int to) {
+        checkRange(from, to);
+        for (int i = from; i < to; i++) {
+            x[i] = -x[i];
+            y[i] = -y[i];
+            z[i] = -z[i];
+        }
+        return this;
+    }
+
+    @Override
+    public double length(int index) {
+        final long xi = x[index], yi = y[index], zi = z[index];
+        return Math.sqrt(xi * xi + yi * yi + zi * zi);
+    }
+
+    @Override
+    public double lengthSquared(int index) {
+        final long xi = x[index], yi = y[index], zi = z[index];
+        return (xi * xi) + (yi * yi) + (zi * zi);
+    }
+
+    @Override
+    public double distanceSquared(int index, @NotNull Vec3l vec) {
+        long dx = Math.abs(vec.x - x[index]), dy = Math.abs(vec.y - y[index]), dz = Math.abs(vec.z - z[index]);
+        return (dx * dx) + (dy * dy) + (dz * dz);
+    }
+
+    @Override
+    public void length(int from, int to, double @NotNull [] dst, int dstOffset) {
+        checkRange(from, to);
+        checkDst(from, to, dst, dstOffset);
+        for (int i = from; i < to; i++) {
+            final long xi = x[i], yi = y[i], zi = z[i];
+            dst[dstOffset + i - from] = Math.sqrt(xi * xi + yi * yi + zi * zi);
+        }
+    }
+
+    @Override
+    public void distanceSquared(int from, int to, @NotNull Vec3lBuffer other, double @NotNull [] dst, int dstOffset) {
+        checkRange(from, to);
+        other.checkRange(from, to);
+        checkDst(from, to, dst, dstOffset);
+        for (int i = from; i < to; i++) {
+            long dx = Math.abs(other.x[i] - x[i]), dy = Math.abs(other.y[i] - y[i]), dz = Math.abs(other.z[i] - z[i]);
+            dst[dstOffset + i - from] = (dx * dx) + (dy * dy) + (dz * dz);
+        }
+    }
+
+    @Override
+    public void distanceSquared(int from, int to, @NotNull Vec3l vec, double @NotNull [] dst, int dstOffset) {
+        checkRange(from, to);
+        checkDst(from, to, dst, dstOffset);
+        final long vx = vec.x, vy = vec.y, vz = vec.z;
+        for (int i = from; i < to; i++) {
+            long dx = Math.abs(vx - x[i]), dy = Math.abs(vy - y[i]), dz = Math.abs(vz - z[i]);
+            dst[dstOffset + i - from] = (dx * dx) + (dy * dy) + (dz * dz);
+        }
+    }
+
+    public @NotNull Vec3dBuffer normalize(int from, int to, @NotNull Vec3dBuffer dst) {
+        checkRange(from, to);
+        Objects.checkFromToIndex(from, to, dst.size());
+        for (int i = from; i < to; i++) {
+            final long xi = x[i], yi = y[i], zi = z[i];
+            final double len = Math.sqrt(xi * xi + yi * yi + zi * zi);
+            dst.x[i] = (double) xi / len;
+            dst.y[i] = (double) yi / len;
+            dst.z[i] = (double) zi / len;
+        }
+        return dst;
+    }
+
+    @Override
+    public @NotNull Vec3lBuffer copy() {
+        final Vec3lBuffer copy = new Vec3lBuffer(size);
+        System.arraycopy(x, 0, copy.x, 0, size);
+        System.arraycopy(y, 0, copy.y, 0, size);
+        System.arraycopy(z, 0, copy.z, 0, size);
+        return copy;
+    }
+}
@@ -1,12 +1,17 @@
 package com.hellfire.net.vec.longs;
 
+import com.hellfire.net.vec.FastMath;
 import com.hellfire.net.vec.IVec4;
 import com.hellfire.net.vec.doubles.Vec4d;
+import com.hellfire.net.vec.text.VecFormat;
+import com.hellfire.net.vec.text.VecParser;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Range;
 
+import java.util.Objects;
+
 /* Created by Conor on 15.05.2024 */
-public class Vec4l extends IVec4<Long, Vec4l> {
+public class Vec4l extends IVec4<Long, Vec4l> implements LongVecOps<Vec4l> {
 
     public static final Vec4l ZERO = new Vec4l(0, 0, 0, 0);
 
@@ -31,6 +36,14 @@ public class Vec4l extends IVec4<Long, Vec4l> {
         this(0, 0, 0, 0);
     }
 
+    /** Parses the {@code toString}/{@code appendTo} form or plain separated components, see {@link VecParser} */
+    public static @NotNull Vec4l parse(final @NotNull CharSequence text, final int from) {
+        final VecParser parser = new VecParser(text, from).beginVec();
+        final long x = parser.nextLong(), y = parser.nextLong(), z = parser.nextLong(), w = parser.nextLong();
+        parser.endVec();
+        return new Vec4l(x, y, z, w);
+    }
+
     ///////////////////////////////////////////////////////////////////////////
     // Impl methods
     ///////////////////////////////////////////////////////////////////////////
@@ -173,12 +186,12 @@ public class Vec4l extends IVec4<Long, Vec4l> {
 
     @Override
     public @NotNull Vec4l minLength(@NotNull Vec4l vec) {
-        return (length() < vec.length()) ? this : vec;
+        return (lengthSquared() < vec.lengthSquared()) ? this : vec;
     }
 
     @Override
     public @NotNull Vec4l maxLength(@NotNull Vec4l vec) {
-        return (length() > vec.length()) ? this : vec;
+        return (lengthSquared() > vec.lengthSquared()) ? this : vec;
     }
 
     @Override
@@ -202,7 +215,29 @@ public class Vec4l extends IVec4<Long, Vec4l> {
 
     @Override
     public @NotNull Vec4d normalize() {
-        return new Vec4d(x, y, z, w).divScalar(length());
+        final double len = length();
+        return new Vec4d(x / len, y / len, z / len, w / len);
+    }
+
+    @Override
+    public double lengthFast() {
+        return FastMath.sqrt((double) x * x + (double) y * y + (double) z * z + (double) w * w);
+    }
+
+    @Override
+    public double inverseLength() {
+        return 1 / Math.sqrt((double) x * x + (double) y * y + (double) z * z + (double) w * w);
+    }
+
+    @Override
+    public double inverseLengthFast() {
+        return FastMath.invSqrt((double) x * x + (double) y * y + (double) z * z + (double) w * w);
+    }
+
+    @Override
+    public @NotNull Vec4d normalizeFast() {
+        final double inv = inverseLengthFast();
+        return new Vec4d(x * inv, y * inv, z * inv, w * inv);
     }
 
     @Override
@@ -214,4 +249,167 @@ public class Vec4l extends IVec4<Long, Vec4l> {
     public @NotNull Vec4l clone() {
         return new Vec4l(x, y, z, w);
     }
+
+    public @NotNull MutableVec4l toMutable() {
+        return new MutableVec4l(x, y, z, w);
+    }
+
+    @Override
+    public @NotNull Vec4l addScaled(@NotNull Vec4l vec, double scale) {
+        return new Vec4l(
+                (long) (x + vec.x * scale),
+                (long) (y + vec.y * scale),
+                (long) (z + vec.z * scale),
+                (long) (w + vec.w * scale)
+        );
+    }
+
+    @Override
+    public @NotNull Vec4l mulAdd(@NotNull Vec4l a, @NotNull Vec4l b) {
+        return new Vec4l(x * a.x + b.x, y * a.y + b.y, z * a.z + b.z, w * a.w + b.w);
+    }
+
+    @Override
+    public @NotNull Vec4l fma(@NotNull Vec4l a, @NotNull Vec4l b) {
+        return new Vec4l(x * a.x + b.x, y * a.y + b.y, z * a.z + b.z, w * a.w + b.w);
+    }
+
+    @Override
+    public @NotNull Vec4l lerp(@NotNull Vec4l other, double t) {
+        return new Vec4l(
+                (long) (x + (other.x - x) * t),
+                (long) (y + (other.y - y) * t),
+                (long) (z + (other.z - z) * t),
+                (long) (w + (other.w - w) * t)
+        );
+    }
+
+    @Override
+    public @NotNull Vec4l scaleAndClamp(double scale, @NotNull Vec4l min, @NotNull Vec4l max) {
+        return new Vec4l(
+                (long) Math.clamp(x * scale, min.x, max.x),
+                (long) Math.clamp(y * scale, min.y, max.y),
+                (long) Math.clamp(z * scale, min.z, max.z),
+                (long) Math.clamp(w * scale, min.w, max.w)
+        );
+    }
+
+    @Override
+    public double distanceToLine(@NotNull Vec4l a, @NotNull Vec4l b) {
+        final double ux = (double) b.x - a.x, uy = (double) b.y - a.y, uz = (double) b.z - a.z, uw = (double) b.w - a.w;
+        final double dx = (double) x - a.x, dy = (double) y - a.y, dz = (double) z - a.z, dw = (double) w - a.w;
+        final double uu = ux * ux + uy * uy + uz * uz + uw * uw;
+        if (uu == 0) return Math.sqrt(dx * dx + dy * dy + dz * dz + dw * dw);
+
+        final double t = (dx * ux + dy * uy + dz * uz + dw * uw) / uu;
+        final double ex = dx - ux * t, ey = dy - uy * t, ez = dz - uz * t, ew = dw - uw * t;
+        return Math.sqrt(ex * ex + ey * ey + ez * ez + ew * ew);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Vec4l v)) return false;
+        return x == v.x && y == v.y && z == v.z && w == v.w;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Long.hashCode(x);
+        result = HASH_PRIME * result + Long.hashCode(y);
+        result = HASH_PRIME * result + Long.hashCode(z);
+        result = HASH_PRIME * result + Long.hashCode(w);
+        return result;
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // Primitive methods
+    ///////////////////////////////////////////////////////////////////////////
+
+    @Override
+    public long getLong(@Range(from = 0, to = 3) int component) {
+        return switch (component) {
+            case 0 -> x;
+            case 1 -> y;
+            case 2 -> z;
+            case 3 -> w;
+            default -> throw new IllegalArgumentException("Invalid component");
+        };
+    }
+
+    @Override
+    public double getDouble(@Range(from = 0, to = 3) int component) {
+        return switch (component) {
+            case 0 -> x;
+            case 1 -> y;
+            case 2 -> z;
+            case 3 -> w;
+            default -> throw new IllegalArgumentException("Invalid component");
+        };
+    }
+
+    @Override
+    public @NotNull Vec4l setLong(@Range(from = 0, to = 3) int component, long val) {
+        return switch (component) {
+            case 0 -> new Vec4l(val, y, z, w);
+            case 1 -> new Vec4l(x, val, z, w);
+            case 2 -> new Vec4l(x, y, val, w);
+            case 3 -> new Vec4l(x, y, z, val);
+            default -> throw new IllegalArgumentException("Invalid component");
+        };
+    }
+
+    @Override
+    public void componentsInto(long @NotNull [] dst, int offset) {
+        Objects.checkFromIndexSize(offset, NUM_COMPONENTS, dst.length);
+        dst[offset] = x;
+        dst[offset + 1] = y;
+        dst[offset + 2] = z;
+        dst[offset + 3] = w;
+    }
+
+    @Override
+    public void componentsInto(double @NotNull [] dst, int offset) {
+        Objects.checkFromIndexSize(offset, NUM_COMPONENTS, dst.length);
+        dst[offset] = x;
+        dst[offset + 1] = y;
+        dst[offset + 2] = z;
+        dst[offset + 3] = w;
+    }
+
+    public @NotNull Vec4l add(long x2, long y2, long z2, long w2) {
+        return new Vec4l(x + x2, y + y2, z + z2, w + w2);
+    }
+
+    public @NotNull Vec4l sub(long x2, long y2, long z2, long w2) {
+        return new Vec4l(x - x2, y - y2, z - z2, w - w2);
+    }
+
+    public @NotNull Vec4l mul(long x2, long y2, long z2, long w2) {
+        return new Vec4l(x * x2, y * y2, z * z2, w * w2);
+    }
+
+    public @NotNull Vec4l div(long x2, long y2, long z2, long w2) {
+        return new Vec4l(x / x2, y / y2, z / z2, w / w2);
+    }
+
+    @Override
+    public @NotNull Vec4l addScalar(long val) {
+        return new Vec4l(x + val, y + val, z + val, w + val);
+    }
+
+    @Override
+    public @NotNull Vec4l subScalar(long val) {
+        return new Vec4l(x - val, y - val, z - val, w - val);
+    }
+
+    @Override
+    public @NotNull Vec4l mulScalar(long scale) {
+        return new Vec4l(x * scale, y * scale, z * scale, w * scale);
+    }
+
+    @Override
+    protected void appendComponent(@NotNull StringBuilder sb, @Range(from = 0, to = 3) int component, int precision) {
+        VecFormat.append(sb, getLong(component), precision);
+    }
 }
@@ -0,0 +1,263 @@
+package com.hellfire.net.vec.longs;
+
+import com.hellfire.net.vec.IVecBuffer;
+import com.hellfire.net.vec.doubles.Vec4dBuffer;
+import com.hellfire.net.vec.kernel.VecKernelProvider;
+import com.hellfire.net.vec.kernel.VecKernels;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+
+public class Vec4lBuffer extends IVecBuffer<Long, Vec4l, Vec4lBuffer> {
+
+    public final long[] x, y, z, w;
+
+    public Vec4lBuffer(final int size) {
+        super(size);
+        this.x = new long[size];
+        this.y = new long[size];
+        this.z = new long[size];
+        this.w = new long[size];
+    }
+
+    public Vec4lBuffer(final @NotNull Vec4l @NotNull ... vecs) {
+        this(vecs.length);
+        for (int i = 0; i < vecs.length; i++) set(i, vecs[i]);
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // Impl methods
+    ///////////////////////////////////////////////////////////////////////////
+
+    @Override
+    public int numComponents() {
+        return Vec4l.NUM_COMPONENTS;
+    }
+
+    @Override
+    public @NotNull Vec4l get(int index) {
+        return new Vec4l(x[index], y[index], z[index], w[index]);
+    }
+
+    @Override
+    public @NotNull Vec4lBuffer set(int index, @NotNull Vec4l vec) {
+        x[index] = vec.x;
+        y[index] = vec.y;
+        z[index] = vec.z;
+        w[index] = vec.w;
+        return this;
+    }
+
+    public @NotNull Vec4lBuffer set(int index, long x, long y, long z, long w) {
+        this.x[index] = x;
+        this.y[index] = y;
+        this.z[index] = z;
+        this.w[index] = w;
+        return this;
+    }
+
+    @Override
+    public @NotNull Vec4lBuffer add(int from, int to, @NotNull Vec4lBuffer other) {
+        checkRange(from, to);
+        other.checkRange(from, to);
+        final VecKernels kernels = VecKernelProvider.get();
+        kernels.add(x, other.x, x, from, to);
+        kernels.add(y, other.y, y, from, to);
+        kernels.add(z, other.z, z, from, to);
+        kernels.add(w, other.w, w, from, to);
+        return this;
+    }
+
+    @Override
+    public @NotNull Vec4lBuffer add(int from, int to, @NotNull Vec4l vec) {
+        checkRange(from, to);
+        final long vx = vec.x, vy = vec.y, vz = vec.z, vw = vec.w;
+        for (int i = from; i < to; i++) {
+            x[i] += vx;
+            y[i] += vy;
+            z[i] += vz;
+            w[i] += vw;
+        }
+        return this;
+    }
+
+    @Override
+    public @NotNull Vec4lBuffer sub(int from, int to, @NotNull Vec4lBuffer other) {
+        checkRange(from, to);
+        other.checkRange(from, to);
+        final VecKernels kernels = VecKernelProvider.get();
+        kernels.sub(x, other.x, x, from, to);
+        kernels.sub(y, other.y, y, from, to);
+        kernels.sub(z, other.z, z, from, to);
+        kernels.sub(w, other.w, w, from, to);
+        return this;
+    }
+
+    @Override
+    public @NotNull Vec4lBuffer sub(int from, int to, @NotNull Vec4l vec) {
+        checkRange(from, to);
+        final long vx = vec.x, vy = vec.y, vz = vec.z, vw = vec.w;
+        for (int i = from; i < to; i++) {
+            x[i] -= vx;
+            y[i] -= vy;
+            z[i] -= vz;
+            w[i] -= vw;
+        }
+        return this;
+    }
+
+    @Override
+    public @NotNull Vec4lBuffer mul(int from, int to, @NotNull Vec4lBuffer other) {
+        checkRange(from, to);
+        other.checkRange(from, to);
+        final VecKernels kernels = VecKernelProvider.get();
+        kernels.mul(x, other.x, x, from, to);
+        kernels.mul(y, other.y, y, from, to);
+        kernels.mul(z, other.z, z, from, to);
+        kernels.mul(w, other.w, w, from, to);
+        return this;
+    }
+
+    @Override
+    public @NotNull Vec4lBuffer mul(int from, int to, @NotNull Vec4l vec) {
+        checkRange(from, to);
+        final long vx = vec.x, vy = vec.y, vz = vec.z, vw = vec.w;
+        for (int i = from; i < to; i++) {
+            x[i] *= vx;
+            y[i] *= vy;
+            z[i] *= vz;
+            w[i] *= vw;
+        }
+        return this;
+    }
+
+    public @NotNull Vec4lBuffer addScalar(int from, int to, long val) {
+        checkRange(from, to);
+        for (int i = from; i < to; i++) {
+            x[i] += val;
+            y[i] += val;
+            z[i] += val;
+            w[i] += val;
+        }
+        return this;
+    }
+
+    public @NotNull Vec4lBuffer subScalar(int from, int to, long val) {
+        checkRange(from, to);
+        for (int i = from; i < to; i++) {
+            x[i] -= val;
+            y[i] -= val;
+            z[i] -= val;
+            w[i] -= val;
+        }
+        return this;
+    }
+
+    public @NotNull Vec4lBuffer mulScalar(int from, int to, long scale) {
+        checkRange(from, to);
+        for (int i = from; i < to; i++) {
+            x[i] *= scale;
+            y[i] *= scale;
+            z[i] *= scale;
+            w[i] *= scale;
+        }
+        return this;
+    }
+
+    @Override
+    public @NotNull Vec4lBuffer divScalar(int from, int to, double scale) {
+        checkRange(from, to);
+        for (int i = from; i < to; i++) {
+            x[i] = (long) (x[i] / scale);
+            y[i] = (long) (y[i] / scale);
+            z[i] = (long) (z[i] / scale);
+            w[i] = (long) (w[i] / scale);
+        }
+        return this;
+    }
+
+    public @NotNull Vec4lBuffer negate(int from, int to) {
+        checkRange(from, to);
+        for (int i = from; i < to; i++) {
+            x[i] = -x[i];
+            y[i] = -y[i];
+            z[i] = -z[i];
+            w[i] = -w[i];
+        }
+        return this;
+    }
+
+    @Override
+    public double length(int index) {
+        final long xi = x[index], yi = y[index], zi = z[index], wi = w[index];
+        return Math.sqrt(xi * xi + yi * yi + zi * zi + wi * wi);
+    }
+
+    @Override
+    public double lengthSquared(int index) {
+        final long xi = x[index], yi = y[index], zi = z[index], wi = w[index];
+        return (xi * xi) + (yi * yi) + (zi * zi) + (wi * wi);
+    }
+
+    @Override
+    public double distanceSquared(int index, @NotNull Vec4l vec) {
+        long dx = Math.abs(vec.x - x[index]), dy = Math.abs(vec.y - y[index]), dz = Math.abs(vec.z - z[index]), dw = Math.abs(vec.w - w[index]);
+        return (dx * dx) + (dy * dy) + (dz * dz) + (dw * dw);
+    }
+
+    @Override
+    public void length(int from, int to, double @NotNull [] dst, int dstOffset) {
+        checkRange(from, to);
+        checkDst(from, to, dst, dstOffset);
+        for (int i = from; i < to; i++) {
+            final long xi = x[i], yi = y[i], zi = z[i], wi = w[i];
+            dst[dstOffset + i - from] = Math.sqrt(xi * xi + yi * yi + zi * zi + wi * wi);
+        }
+    }
+
+    @Override
+    public void distanceSquared(int from, int to, @NotNull Vec4lBuffer other, double @NotNull [] dst, int dstOffset) {
+        checkRange(from, to);
+        other.checkRange(from, to);
+        checkDst(from, to, dst, dstOffset);
+        for (int i = from; i < to; i++) {
+            long dx = Math.abs(other.x[i] - x[i]), dy = Math.abs(other.y[i] - y[i]), dz = Math.abs(other.z[i] - z[i]), dw = Math.abs(other.w[i] - w[i]);
+            dst[dstOffset + i - from] = (dx * dx) + (dy * dy) + (dz * dz) + (dw * dw);
+        }
+    }
+
+    @Override
+    public void distanceSquared(int from, int to, @NotNull Vec4l vec, double @NotNull [] dst, int dstOffset) {
+        checkRange(from, to);
+        checkDst(from, to, dst, dstOffset);
+        final long vx = vec.x, vy = vec.y, vz = vec.z, vw = vec.w;
+        for (int i = from; i < to; i++) {
+            long dx = Math.abs(vx - x[i]), dy = Math.abs(vy - y[i]), dz = Math.abs(vz - z[i]), dw = Math.abs(vw - w[i]);
+            dst[dstOffset + i - from] = (dx * dx) + (dy * dy) + (dz * dz) + (dw * dw);
+        }
+    }
+
+    public @NotNull Vec4dBuffer normalize(int from, int to, @NotNull Vec4dBuffer dst) {
+        checkRange(from, to);
+        Objects.checkFromToIndex(from, to, dst.size());
+        for (int i = from; i < to; i++) {
+            final long xi = x[i], yi = y[i], zi = z[i], wi = w[i];
+            final double len = Math.sqrt(xi * xi + yi * yi + zi * zi + wi * wi);
+            dst.x[i] = (double) xi / len;
+            dst.y[i] = (double) yi / len;
+            dst.z[i] = (double) zi / len;
+            dst.w[i] = (double) wi / len;
+        }
+        return dst;
+    }
+
+    @Override
+    public @NotNull Vec4lBuffer copy() {
+        final Vec4lBuffer copy = new Vec4lBuffer(size);
+        System.arraycopy(x, 0, copy.x, 0, size);
+        System.arraycopy(y, 0, copy.y, 0, size);
+        System.arraycopy(z, 0, copy.z, 0, size);
+        System.arraycopy(w, 0, copy.w, 0, size);
+        return copy;
+    }
+}
@@ -0,0 +1,350 @@
+package com.hellfire.net.vec.minestom;
+
+import com.hellfire.net.vec.doubles.Vec2d;
+import com.hellfire.net.vec.doubles.Vec3d;
+import com.hellfire.net.vec.doubles.Vec4d;
+import com.hellfire.net.vec.floats.Vec2f;
+import com.hellfire.net.vec.floats.Vec3f;
+import com.hellfire.net.vec.floats.Vec4f;
+import com.hellfire.net.vec.ints.Vec2i;
+import com.hellfire.net.vec.ints.Vec3i;
+import com.hellfire.net.vec.ints.Vec4i;
+import com.hellfire.net.vec.longs.Vec2l;
+import com.hellfire.net.vec.longs.Vec3l;
+import com.hellfire.net.vec.longs.Vec4l;
+import com.hellfire.net.vec.ints.PackedVec3i;
+import net.minestom.server.network.NetworkBuffer;
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+
+/**
+ * {@link NetworkBuffer.Type} implementations for vectors, so packets can carry them without first converting to a
+ * Minestom {@code Vec} or {@code Pos}. Components are written in order as the matching big-endian primitive, so
+ * {@link #VEC3D} has the same layout as {@link NetworkBuffer#VECTOR3D} and {@link #VEC3F} as {@link NetworkBuffer#VECTOR3}.
+ * <p>
+ * {@link NetworkBuffer} has no public primitive writes, and its {@code DOUBLE}, {@code FLOAT}, {@code INT} and
+ * {@code LONG} types box every component. These types encode the whole vector into a per-thread scratch array instead,
+ * write it as {@link NetworkBuffer#RAW_BYTES} and read it back through {@link NetworkBuffer#copyTo}, so writing allocates
+ * nothing and reading allocates only the returned vector.
+ */
+public final class VecNetworkTypes {
+
+    public static final NetworkBuffer.Type<Vec2d> VEC2D = new Vec2dType();
+    public static final NetworkBuffer.Type<Vec3d> VEC3D = new Vec3dType();
+    public static final NetworkBuffer.Type<Vec4d> VEC4D = new Vec4dType();
+    public static final NetworkBuffer.Type<Vec2i> VEC2I = new Vec2iType();
+    public static final NetworkBuffer.Type<Vec3i> VEC3I = new Vec3iType();
+    public static final NetworkBuffer.Type<Vec4i> VEC4I = new Vec4iType();
+    public static final NetworkBuffer.Type<Vec2f> VEC2F = new Vec2fType();
+    public static final NetworkBuffer.Type<Vec3f> VEC3F = new Vec3fType();
+    public static final NetworkBuffer.Type<Vec4f> VEC4F = new Vec4fType();
+    public static final NetworkBuffer.Type<Vec2l> VEC2L = new Vec2lType();
+    public static final NetworkBuffer.Type<Vec3l> VEC3L = new Vec3lType();
+    public static final NetworkBuffer.Type<Vec4l> VEC4L = new Vec4lType();
+
+    /** {@link Vec3d} written as three floats, the layout of {@link NetworkBuffer#VECTOR3} */
+    public static final NetworkBuffer.Type<Vec3d> VEC3D_AS_FLOATS = new Vec3dFloatType();
+
+    /** {@link Vec3i} packed into a single long by {@link PackedVec3i#DEFAULT}, the layout of {@link NetworkBuffer#BLOCK_POSITION} */
+    public static final NetworkBuffer.Type<Vec3i> BLOCK_POSITION = new BlockPositionType();
+
+    private static final VarHandle DOUBLE_BE = MethodHandles.byteArrayViewVarHandle(double[].class, ByteOrder.BIG_ENDIAN);
+    private static final VarHandle FLOAT_BE = MethodHandles.byteArrayViewVarHandle(float[].class, ByteOrder.BIG_ENDIAN);
+    private static final VarHandle INT_BE = MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
+    private static final VarHandle LONG_BE = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+
+    // Indexed by encoded size, RAW_BYTES always writes the whole array
+    private static final ThreadLocal<byte[][]> SCRATCH = ThreadLocal.withInitial(() -> new byte[33][]);
+
+    private VecNetworkTypes() {
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // Encoding
+    ///////////////////////////////////////////////////////////////////////////
+
+    private static byte[] scratch(int size) {
+        final byte[][] arrays = SCRATCH.get();
+        byte[] bytes = arrays[size];
+        if (bytes == null) arrays[size] = bytes = new byte[size];
+        return bytes;
+    }
+
+    private static byte[] readBytes(NetworkBuffer buffer, int size) {
+        final byte[] bytes = scratch(size);
+        final int index = buffer.readIndex();
+        buffer.copyTo(index, bytes, 0, size);
+        buffer.readIndex(index + size);
+        return bytes;
+    }
+
+    private static void putDouble(byte[] bytes, int offset, double val) {
+        DOUBLE_BE.set(bytes, offset, val);
+    }
+
+    private static double getDouble(byte[] bytes, int offset) {
+        return (double) DOUBLE_BE.get(bytes, offset);
+    }
+
+    private static void putFloat(byte[] bytes, int offset, float val) {
+        FLOAT_BE.set(bytes, offset, val);
+    }
+
+    private static float getFloat(byte[] bytes, int offset) {
+        return (float) FLOAT_BE.get(bytes, offset);
+    }
+
+    private static void putInt(byte[] bytes, int offset, int val) {
+        INT_BE.set(bytes, offset, val);
+    }
+
+    private static int getInt(byte[] bytes, int offset) {
+        return (int) INT_BE.get(bytes, offset);
+    }
+
+    private static void putLong(byte[] bytes, int offset, long val) {
+        LONG_BE.set(bytes, offset, val);
+    }
+
+    private static long getLong(byte[] bytes, int offset) {
+        return (long) LONG_BE.get(bytes, offset);
+    }
+
+    private record Vec2dType() implements NetworkBuffer.Type<Vec2d> {
+        @Override
+        public void write(@NotNull NetworkBuffer buffer, Vec2d value) {
+            final byte[] bytes = scratch(16);
+            putDouble(bytes, 0, value.x);
+            putDouble(bytes, 8, value.y);
+            buffer.write(NetworkBuffer.RAW_BYTES, bytes);
+        }
+
+        @Override
+        public Vec2d read(@NotNull NetworkBuffer buffer) {
+            final byte[] bytes = readBytes(buffer, 16);
+            return new Vec2d(getDouble(bytes, 0), getDouble(bytes, 8));
+        }
+    }
+
+    private record Vec3dType() implements NetworkBuffer.Type<Vec3d> {
+        @Override
+        public void write(@NotNull NetworkBuffer buffer, Vec3d value) {
+            final byte[] bytes = scratch(24);
+            putDouble(bytes, 0, value.x);
+            putDouble(bytes, 8, value.y);
+            putDouble(bytes, 16, value.z);
+            buffer.write(NetworkBuffer.RAW_BYTES, bytes);
+        }
+
+        @Override
+        public Vec3d read(@NotNull NetworkBuffer buffer) {
+            final byte[] bytes = readBytes(buffer, 24);
+            return new Vec3d(getDouble(bytes, 0), getDouble(bytes, 8), getDouble(bytes, 16));
+        }
+    }
+
+    private record Vec4dType() implements NetworkBuffer.Type<Vec4d> {
+        @Override
+        public void write(@NotNull NetworkBuffer buffer, Vec4d value) {
+            final byte[] bytes = scratch(32);
+            putDouble(bytes, 0, value.x);
+            putDouble(bytes, 8, value.y);
+            putDouble(bytes, 16, value.z);
+            putDouble(bytes, 24, value.w);
+            buffer.write(NetworkBuffer.RAW_BYTES, bytes);
+        }
+
+        @Override
+        public Vec4d read(@NotNull NetworkBuffer buffer) {
+            final byte[] bytes = readBytes(buffer, 32);
+            return new Vec4d(getDouble(bytes, 0), getDouble(bytes, 8), getDouble(bytes, 16), getDouble(bytes, 24));
+        }
+    }
+
+    private record Vec2iType() implements NetworkBuffer.Type<Vec2i> {
+        @Override
+        public void write(@NotNull NetworkBuffer buffer, Vec2i value) {
+            final byte[] bytes = scratch(8);
+            putInt(bytes, 0, value.x);
+            putInt(bytes, 4, value.y);
+            buffer.write(NetworkBuffer.RAW_BYTES, bytes);
+        }
+
+        @Override
+        public Vec2i read(@NotNull NetworkBuffer buffer) {
+            final byte[] bytes = readBytes(buffer, 8);
+            return new Vec2i(getInt(bytes, 0), getInt(bytes, 4));
+        }
+    }
+
+    private record Vec3iType() implements NetworkBuffer.Type<Vec3i> {
+        @Override
+        public void write(@NotNull NetworkBuffer buffer, Vec3i value) {
+            final byte[] bytes = scratch(12);
+            putInt(bytes, 0, value.x);
+            putInt(bytes, 4, value.y);
+            putInt(bytes, 8, value.z);
+            buffer.write(NetworkBuffer.RAW_BYTES, bytes);
+        }
+
+        @Override
+        public Vec3i read(@NotNull NetworkBuffer buffer) {
+            final byte[] bytes = readBytes(buffer, 12);
+            return new Vec3i(getInt(bytes, 0), getInt(bytes, 4), getInt(bytes, 8));
+        }
+    }
+
+    private record Vec4iType() implements NetworkBuffer.Type<Vec4i> {
+        @Override
+        public void write(@NotNull NetworkBuffer buffer, Vec4i value) {
+            final byte[] bytes = scratch(16);
+            putInt(bytes, 0, value.x);
+            putInt(bytes, 4, value.y);
+            putInt(bytes, 8, value.z);
+            putInt(bytes, 12, value.w);
+            buffer.write(NetworkBuffer.RAW_BYTES, bytes);
+        }
+
+        @Override
+        public Vec4i read(@NotNull NetworkBuffer buffer) {
+            final byte[] bytes = readBytes(buffer, 16);
+            return new Vec4i(getInt(bytes, 0), getInt(bytes, 4), getInt(bytes, 8), getInt(bytes, 12));
+        }
+    }
+
+    private record Vec2fType() implements NetworkBuffer.Type<Vec2f> {
+        @Override
+        public void write(@NotNull NetworkBuffer buffer, Vec2f value) {
+            final byte[] bytes = scratch(8);
+            putFloat(bytes, 0, value.x);
+            putFloat(bytes, 4, value.y);
+            buffer.write(NetworkBuffer.RAW_BYTES, bytes);
+        }
+
+        @Override
+        public Vec2f read(@NotNull NetworkBuffer buffer) {
+            final byte[] bytes = readBytes(buffer, 8);
+            return new Vec2f(getFloat(bytes, 0), getFloat(bytes, 4));
+        }
+    }
+
+    private record Vec3fType() implements NetworkBuffer.Type<Vec3f> {
+        @Override
+        public void write(@NotNull NetworkBuffer buffer, Vec3f value) {
+            final byte[] bytes = scratch(12);
+            putFloat(bytes, 0, value.x);
+            putFloat(bytes, 4, value.y);
+            putFloat(bytes, 8, value.z);
+            buffer.write(NetworkBuffer.RAW_BYTES, bytes);
+        }
+
+        @Override
+        public Vec3f read(@NotNull NetworkBuffer buffer) {
+            final byte[] bytes = readBytes(buffer, 12);
+            return new Vec3f(getFloat(bytes, 0), getFloat(bytes, 4), getFloat(bytes, 8));
+        }
+    }
+
+    private record Vec4fType() implements NetworkBuffer.Type<Vec4f> {
+        @Override
+        public void write(@NotNull NetworkBuffer buffer, Vec4f value) {
+            final byte[] bytes = scratch(16);
+            putFloat(bytes, 0, value.x);
+            putFloat(bytes, 4, value.y);
+            putFloat(bytes, 8, value.z);
+            putFloat(bytes, 12, value.w);
+            buffer.write(NetworkBuffer.RAW_BYTES, bytes);
+        }
+
+        @Override
+        public Vec4f read(@NotNull NetworkBuffer buffer) {
+            final byte[] bytes = readBytes(buffer, 16);
+            return new Vec4f(getFloat(bytes, 0), getFloat(bytes, 4), getFloat(bytes, 8), getFloat(bytes, 12));
+        }
+    }
+
+    private record Vec2lType() implements NetworkBuffer.Type<Vec2l> {
+        @Override
+        public void write(@NotNull NetworkBuffer buffer, Vec2l value) {
+            final byte[] bytes = scratch(16);
+            putLong(bytes, 0, value.x);
+            putLong(bytes, 8, value.y);
+            buffer.write(NetworkBuffer.RAW_BYTES, bytes);
+        }
+
+        @Override
+        public Vec2l read(@NotNull NetworkBuffer buffer) {
+            final byte[] bytes = readBytes(buffer, 16);
+            return new Vec2l(getLong(bytes, 0), getLong(bytes, 8));
+        }
+    }
+
+    private record Vec3lType() implements NetworkBuffer.Type<Vec3l> {
+        @Override
+        public void write(@NotNull NetworkBuffer buffer, Vec3l value) {
+            final byte[] bytes = scratch(24);
+            putLong(bytes, 0, value.x);
+            putLong(bytes, 8, value.y);
+            putLong(bytes, 16, value.z);
+            buffer.write(NetworkBuffer.RAW_BYTES, bytes);
+        }
+
+        @Override
+        public Vec3l read(@NotNull NetworkBuffer buffer) {
+            final byte[] bytes = readBytes(buffer, 24);
+            return new Vec3l(getLong(bytes, 0), getLong(bytes, 8), getLong(bytes, 16));
+        }
+    }
+
+    private record Vec4lType() implements NetworkBuffer.Type<Vec4l> {
+        @Override
+        public void write(@NotNull NetworkBuffer buffer, Vec4l value) {
+            final byte[] bytes = scratch(32);
+            putLong(bytes, 0, value.x);
+            putLong(bytes, 8, value.y);
+            putLong(bytes, 16, value.z);
+            putLong(bytes, 24, value.w);
+            buffer.write(NetworkBuffer.RAW_BYTES, bytes);
+        }
+
+        @Override
+        public Vec4l read(@NotNull NetworkBuffer buffer) {
+            final byte[] bytes = readBytes(buffer, 32);
+            return new Vec4l(getLong(bytes, 0), getLong(bytes, 8), getLong(bytes, 16), getLong(bytes, 24));
+        }
+    }
+
+    private record Vec3dFloatType() implements NetworkBuffer.Type<Vec3d> {
+        @Override
+        public void write(@NotNull NetworkBuffer buffer, Vec3d value) {
+            final byte[] bytes = scratch(12);
+            putFloat(bytes, 0, (float) value.x);
+            putFloat(bytes, 4, (float) value.y);
+            putFloat(bytes, 8, (float) value.z);
+            buffer.write(NetworkBuffer.RAW_BYTES, bytes);
+        }
+
+        @Override
+        public Vec3d read(@NotNull NetworkBuffer buffer) {
+            final byte[] bytes = readBytes(buffer, 12);
+            return new Vec3d(getFloat(bytes, 0), getFloat(bytes, 4), getFloat(bytes, 8));
+        }
+    }
+
+    private record BlockPositionType() implements NetworkBuffer.Type<Vec3i> {
+        @Override
+        public void write(@NotNull NetworkBuffer buffer, Vec3i value) {
+            final byte[] bytes = scratch(8);
+            putLong(bytes, 0, PackedVec3i.DEFAULT.pack(value));
+            buffer.write(NetworkBuffer.RAW_BYTES, bytes);
+        }
+
+        @Override
+        public Vec3i read(@NotNull NetworkBuffer buffer) {
+            return PackedVec3i.DEFAULT.unpack(getLong(readBytes(buffer, 8), 0));
+        }
+    }
+}
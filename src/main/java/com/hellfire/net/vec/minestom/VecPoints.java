@@ -0,0 +1,85 @@
+package com.hellfire.net.vec.minestom;
+
+import com.hellfire.net.vec.doubles.Vec3dBuffer;
+import com.hellfire.net.vec.ints.Vec3i;
+import com.hellfire.net.vec.ints.Vec3iBuffer;
+import net.minestom.server.coordinate.Point;
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.entity.Entity;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collection;
+import java.util.Objects;
+
+/**
+ * Bulk conversion between Minestom coordinates and vector buffers, meant for tick loops that gather every entity
+ * position into a {@link Vec3dBuffer}, work on the buffer and write the result back. Gathering does not allocate.
+ * Writing back creates one {@code Pos} per entity, because Minestom positions are immutable.
+ */
+public final class VecPoints {
+
+    private VecPoints() {
+    }
+
+    /** Copies the position of every entity into {@code dst}, starting at {@code offset} in iteration order */
+    public static void fillPositions(final @NotNull Vec3dBuffer dst, final int offset, final @NotNull Collection<? extends Entity> entities) {
+        Objects.checkFromIndexSize(offset, entities.size(), dst.size());
+        int i = offset;
+        for (Entity entity : entities) dst.set(i++, entity.getPosition());
+    }
+
+    /** Copies the velocity of every entity into {@code dst}, starting at {@code offset} in iteration order */
+    public static void fillVelocities(final @NotNull Vec3dBuffer dst, final int offset, final @NotNull Collection<? extends Entity> entities) {
+        Objects.checkFromIndexSize(offset, entities.size(), dst.size());
+        int i = offset;
+        for (Entity entity : entities) dst.set(i++, entity.getVelocity());
+    }
+
+    public static void fill(final @NotNull Vec3dBuffer dst, final int offset, final @NotNull Collection<? extends Point> points) {
+        Objects.checkFromIndexSize(offset, points.size(), dst.size());
+        int i = offset;
+        for (Point point : points) dst.set(i++, point);
+    }
+
+    /**
+     * Moves every entity to the matching position of {@code src}, starting at {@code offset} in iteration order.
+     * Yaw and pitch are kept, the move goes through {@link Entity#refreshPosition}.
+     */
+    public static void writePositions(final @NotNull Vec3dBuffer src, final int offset, final @NotNull Collection<? extends Entity> entities) {
+        Objects.checkFromIndexSize(offset, entities.size(), src.size());
+        int i = offset;
+        for (Entity entity : entities) {
+            entity.refreshPosition(entity.getPosition().withCoord(src.x[i], src.y[i], src.z[i]));
+            i++;
+        }
+    }
+
+    @NotNull
+    public static Vec toVec(final @NotNull Vec3dBuffer src, final int index) {
+        return new Vec(src.x[index], src.y[index], src.z[index]);
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // Blocks
+    ///////////////////////////////////////////////////////////////////////////
+
+    /** {@code dst[i]} becomes the block containing {@code src[i]} over {@code [from, to)}, like {@link Point#blockX()} */
+    public static void floor(final @NotNull Vec3dBuffer src, final @NotNull Vec3iBuffer dst, final int from, final int to) {
+        Objects.checkFromToIndex(from, to, Math.min(src.size(), dst.size()));
+        for (int i = from; i < to; i++) {
+            dst.x[i] = (int) Math.floor(src.x[i]);
+            dst.y[i] = (int) Math.floor(src.y[i]);
+            dst.z[i] = (int) Math.floor(src.z[i]);
+        }
+    }
+
+    /** {@code dst[i]} becomes {@code src[i]} rounded to the nearest integers over {@code [from, to)}, see {@link Vec3i#round(double)} */
+    public static void round(final @NotNull Vec3dBuffer src, final @NotNull Vec3iBuffer dst, final int from, final int to) {
+        Objects.checkFromToIndex(from, to, Math.min(src.size(), dst.size()));
+        for (int i = from; i < to; i++) {
+            dst.x[i] = Vec3i.round(src.x[i]);
+            dst.y[i] = Vec3i.round(src.y[i]);
+            dst.z[i] = Vec3i.round(src.z[i]);
+        }
+    }
+}
@@ -0,0 +1,349 @@
+package com.hellfire.net.vec.offheap;
+
+import com.hellfire.net.vec.floats.Vec2f;
+import com.hellfire.net.vec.floats.Vec2fBuffer;
+import com.hellfire.net.vec.floats.Vec3f;
+import com.hellfire.net.vec.floats.Vec3fBuffer;
+import com.hellfire.net.vec.floats.Vec4f;
+import com.hellfire.net.vec.floats.Vec4fBuffer;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+import java.util.Objects;
+
+public class FloatVecArray extends IOffHeapVecArray<FloatVecArray> {
+
+    FloatBuffer data;
+
+    FloatVecArray(final @NotNull ByteBuffer bytes, final int dims, final int size, final @NotNull VecLayout layout, final @Nullable VecArena arena) {
+        super(bytes, dims, size, Float.BYTES, layout, arena);
+        this.data = bytes.asFloatBuffer();
+    }
+
+    /** Wraps existing (e.g. memory-mapped) memory without copying. The buffer's byte order is kept. */
+    @NotNull
+    public static FloatVecArray wrap(final @NotNull ByteBuffer bytes, final int dims, final int size, final @NotNull VecLayout layout) {
+        return new FloatVecArray(bytes.slice().order(bytes.order()), dims, size, layout, null);
+    }
+
+    @Override
+    void release() {
+        super.release();
+        data = null;
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // Element access
+    ///////////////////////////////////////////////////////////////////////////
+
+    public float get(int index, int component) {
+        checkIndex(index, component);
+        return data.get(elementIndex(index, component));
+    }
+
+    public @NotNull FloatVecArray set(int index, int component, float val) {
+        checkIndex(index, component);
+        data.put(elementIndex(index, component), val);
+        return this;
+    }
+
+    public @NotNull Vec2f getVec2(int index) {
+        checkDims(Vec2f.NUM_COMPONENTS);
+        checkIndex(index, 0);
+        return new Vec2f(data.get(elementIndex(index, 0)), data.get(elementIndex(index, 1)));
+    }
+
+    public @NotNull Vec3f getVec3(int index) {
+        checkDims(Vec3f.NUM_COMPONENTS);
+        checkIndex(index, 0);
+        return new Vec3f(data.get(elementIndex(index, 0)), data.get(elementIndex(index, 1)), data.get(elementIndex(index, 2)));
+    }
+
+    public @NotNull Vec4f getVec4(int index) {
+        checkDims(Vec4f.NUM_COMPONENTS);
+        checkIndex(index, 0);
+        return new Vec4f(data.get(elementIndex(index, 0)), data.get(elementIndex(index, 1)), data.get(elementIndex(index, 2)), data.get(elementIndex(index, 3)));
+    }
+
+    public @NotNull FloatVecArray set(int index, @NotNull Vec2f vec) {
+        checkDims(Vec2f.NUM_COMPONENTS);
+        checkIndex(index, 0);
+        data.put(elementIndex(index, 0), vec.x);
+        data.put(elementIndex(index, 1), vec.y);
+        return this;
+    }
+
+    public @NotNull FloatVecArray set(int index, @NotNull Vec3f vec) {
+        checkDims(Vec3f.NUM_COMPONENTS);
+        checkIndex(index, 0);
+        data.put(elementIndex(index, 0), vec.x);
+        data.put(elementIndex(index, 1), vec.y);
+        data.put(elementIndex(index, 2), vec.z);
+        return this;
+    }
+
+    public @NotNull FloatVecArray set(int index, @NotNull Vec4f vec) {
+        checkDims(Vec4f.NUM_COMPONENTS);
+        checkIndex(index, 0);
+        data.put(elementIndex(index, 0), vec.x);
+        data.put(elementIndex(index, 1), vec.y);
+        data.put(elementIndex(index, 2), vec.z);
+        data.put(elementIndex(index, 3), vec.w);
+        return this;
+    }
+
+    public @NotNull FloatVecArray copyFrom(int index, @NotNull Vec2fBuffer src, int from, int to) {
+        checkDims(2);
+        checkRange(index, index + (to - from));
+        Objects.checkFromToIndex(from, to, src.size());
+        for (int i = from; i < to; i++) {
+            final int dst = index + i - from;
+            data.put(elementIndex(dst, 0), src.x[i]);
+            data.put(elementIndex(dst, 1), src.y[i]);
+        }
+        return this;
+    }
+
+    public @NotNull Vec2fBuffer copyTo(int index, @NotNull Vec2fBuffer dst, int from, int to) {
+        checkDims(2);
+        checkRange(index, index + (to - from));
+        Objects.checkFromToIndex(from, to, dst.size());
+        for (int i = from; i < to; i++) {
+            final int src = index + i - from;
+            dst.x[i] = data.get(elementIndex(src, 0));
+            dst.y[i] = data.get(elementIndex(src, 1));
+        }
+        return dst;
+    }
+
+    public @NotNull FloatVecArray copyFrom(int index, @NotNull Vec3fBuffer src, int from, int to) {
+        checkDims(3);
+        checkRange(index, index + (to - from));
+        Objects.checkFromToIndex(from, to, src.size());
+        for (int i = from; i < to; i++) {
+            final int dst = index + i - from;
+            data.put(elementIndex(dst, 0), src.x[i]);
+            data.put(elementIndex(dst, 1), src.y[i]);
+            data.put(elementIndex(dst, 2), src.z[i]);
+        }
+        return this;
+    }
+
+    public @NotNull Vec3fBuffer copyTo(int index, @NotNull Vec3fBuffer dst, int from, int to) {
+        checkDims(3);
+        checkRange(index, index + (to - from));
+        Objects.checkFromToIndex(from, to, dst.size());
+        for (int i = from; i < to; i++) {
+            final int src = index + i - from;
+            dst.x[i] = data.get(elementIndex(src, 0));
+            dst.y[i] = data.get(elementIndex(src, 1));
+            dst.z[i] = data.get(elementIndex(src, 2));
+        }
+        return dst;
+    }
+
+    public @NotNull FloatVecArray copyFrom(int index, @NotNull Vec4fBuffer src, int from, int to) {
+        checkDims(4);
+        checkRange(index, index + (to - from));
+        Objects.checkFromToIndex(from, to, src.size());
+        for (int i = from; i < to; i++) {
+            final int dst = index + i - from;
+            data.put(elementIndex(dst, 0), src.x[i]);
+            data.put(elementIndex(dst, 1), src.y[i]);
+            data.put(elementIndex(dst, 2), src.z[i]);
+            data.put(elementIndex(dst, 3), src.w[i]);
+        }
+        return this;
+    }
+
+    public @NotNull Vec4fBuffer copyTo(int index, @NotNull Vec4fBuffer dst, int from, int to) {
+        checkDims(4);
+        checkRange(index, index + (to - from));
+        Objects.checkFromToIndex(from, to, dst.size());
+        for (int i = from; i < to; i++) {
+            final int src = index + i - from;
+            dst.x[i] = data.get(elementIndex(src, 0));
+            dst.y[i] = data.get(elementIndex(src, 1));
+            dst.z[i] = data.get(elementIndex(src, 2));
+            dst.w[i] = data.get(elementIndex(src, 3));
+        }
+        return dst;
+    }
+
+    @Override
+    public @NotNull FloatVecArray copyTo(@NotNull FloatVecArray dst) {
+        checkCompatible(dst, 0, size);
+        checkRange(0, size);
+        if (dst.size != size) throw new IllegalArgumentException("Invalid size");
+        for (int c = 0; c < dims; c++) {
+            for (int i = 0; i < size; i++) dst.data.put(dst.elementIndex(i, c), data.get(elementIndex(i, c)));
+        }
+        return dst;
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // Bulk arithmetic
+    ///////////////////////////////////////////////////////////////////////////
+
+    public @NotNull FloatVecArray add(int from, int to, @NotNull FloatVecArray other) {
+        checkRange(from, to);
+        checkCompatible(other, from, to);
+        for (int c = 0; c < dims; c++) {
+            for (int i = from; i < to; i++) {
+                final int e = elementIndex(i, c);
+                data.put(e, data.get(e) + other.data.get(other.elementIndex(i, c)));
+            }
+        }
+        return this;
+    }
+
+    public @NotNull FloatVecArray sub(int from, int to, @NotNull FloatVecArray other) {
+        checkRange(from, to);
+        checkCompatible(other, from, to);
+        for (int c = 0; c < dims; c++) {
+            for (int i = from; i < to; i++) {
+                final int e = elementIndex(i, c);
+                data.put(e, data.get(e) - other.data.get(other.elementIndex(i, c)));
+            }
+        }
+        return this;
+    }
+
+    public @NotNull FloatVecArray mul(int from, int to, @NotNull FloatVecArray other) {
+        checkRange(from, to);
+        checkCompatible(other, from, to);
+        for (int c = 0; c < dims; c++) {
+            for (int i = from; i < to; i++) {
+                final int e = elementIndex(i, c);
+                data.put(e, data.get(e) * other.data.get(other.elementIndex(i, c)));
+            }
+        }
+        return this;
+    }
+
+    public @NotNull FloatVecArray div(int from, int to, @NotNull FloatVecArray other) {
+        checkRange(from, to);
+        checkCompatible(other, from, to);
+        for (int c = 0; c < dims; c++) {
+            for (int i = from; i < to; i++) {
+                final int e = elementIndex(i, c);
+                data.put(e, data.get(e) / other.data.get(other.elementIndex(i, c)));
+            }
+        }
+        return this;
+    }
+
+    public @NotNull FloatVecArray addScalar(int from, int to, float val) {
+        checkRange(from, to);
+        for (int c = 0; c < dims; c++) {
+            for (int i = from; i < to; i++) {
+                final int e = elementIndex(i, c);
+                data.put(e, data.get(e) + val);
+            }
+        }
+        return this;
+    }
+
+    public @NotNull FloatVecArray subScalar(int from, int to, float val) {
+        checkRange(from, to);
+        for (int c = 0; c < dims; c++) {
+            for (int i = from; i < to; i++) {
+                final int e = elementIndex(i, c);
+                data.put(e, data.get(e) - val);
+            }
+        }
+        return this;
+    }
+
+    public @NotNull FloatVecArray mulScalar(int from, int to, float scale) {
+        checkRange(from, to);
+        for (int c = 0; c < dims; c++) {
+            for (int i = from; i < to; i++) {
+                final int e = elementIndex(i, c);
+                data.put(e, data.get(e) * scale);
+            }
+        }
+        return this;
+    }
+
+    public @NotNull FloatVecArray divScalar(int from, int to, double scale) {
+        checkRange(from, to);
+        for (int c = 0; c < dims; c++) {
+            for (int i = from; i < to; i++) {
+                final int e = elementIndex(i, c);
+                data.put(e, (float) (data.get(e) / scale));
+            }
+        }
+        return this;
+    }
+
+    public @NotNull FloatVecArray negate(int from, int to) {
+        checkRange(from, to);
+        for (int c = 0; c < dims; c++) {
+            for (int i = from; i < to; i++) {
+                final int e = elementIndex(i, c);
+                data.put(e, -data.get(e));
+            }
+        }
+        return this;
+    }
+
+    public double lengthSquared(int index) {
+        checkIndex(index, 0);
+        double sum = 0;
+        for (int c = 0; c < dims; c++) {
+            final double v = data.get(elementIndex(index, c));
+            sum += v * v;
+        }
+        return sum;
+    }
+
+    public double length(int index) {
+        return Math.sqrt(lengthSquared(index));
+    }
+
+    public void length(int from, int to, double @NotNull [] dst, int dstOffset) {
+        checkRange(from, to);
+        Objects.checkFromIndexSize(dstOffset, to - from, dst.length);
+        for (int i = from; i < to; i++) dst[dstOffset + i - from] = length(i);
+    }
+
+    public void distanceSquared(int from, int to, @NotNull FloatVecArray other, double @NotNull [] dst, int dstOffset) {
+        checkRange(from, to);
+        checkCompatible(other, from, to);
+        Objects.checkFromIndexSize(dstOffset, to - from, dst.length);
+        for (int i = from; i < to; i++) {
+            double sum = 0;
+            for (int c = 0; c < dims; c++) {
+                final double d = (double) other.data.get(other.elementIndex(i, c)) - data.get(elementIndex(i, c));
+                sum += d * d;
+            }
+            dst[dstOffset + i - from] = sum;
+        }
+    }
+
+    public @NotNull FloatVecArray normalize(int from, int to) {
+        checkRange(from, to);
+        for (int i = from; i < to; i++) {
+            final double len = length(i);
+            for (int c = 0; c < dims; c++) {
+                final int e = elementIndex(i, c);
+                data.put(e, (float) (data.get(e) / len));
+            }
+        }
+        return this;
+    }
+
+    public @NotNull DoubleVecArray normalize(int from, int to, @NotNull DoubleVecArray dst) {
+        checkRange(from, to);
+        dst.checkRange(from, to);
+        if (dst.dims != dims) throw new IllegalArgumentException("Invalid number of components");
+        for (int i = from; i < to; i++) {
+            final double len = length(i);
+            for (int c = 0; c < dims; c++) dst.data.put(dst.elementIndex(i, c), data.get(elementIndex(i, c)) / len);
+        }
+        return dst;
+    }
+}
@@ -0,0 +1,108 @@
+package com.hellfire.net.vec.offheap;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+/**
+ * Base of the off-heap vector arrays. The backing memory is a direct or memory-mapped {@link ByteBuffer},
+ * so a whole point set can be handed to native code or a file mapping without copying.
+ */
+public abstract class IOffHeapVecArray<B extends IOffHeapVecArray<B>> {
+
+    // Dropped when the arena closes, so the memory is reclaimed even while this array stays reachable
+    protected ByteBuffer bytes;
+    private final long byteSize;
+    protected final int dims, size;
+    protected final VecLayout layout;
+    @Nullable
+    protected final VecArena arena;
+
+    protected IOffHeapVecArray(final @NotNull ByteBuffer bytes, final int dims, final int size, final int elementBytes,
+                               final @NotNull VecLayout layout, final @Nullable VecArena arena) {
+        if (dims < 2 || dims > 4) throw new IllegalArgumentException("Invalid number of components");
+        if (bytes.capacity() < byteSize(dims, size, elementBytes)) throw new IllegalArgumentException("Buffer too small");
+        this.bytes = bytes;
+        this.byteSize = bytes.capacity();
+        this.dims = dims;
+        this.size = size;
+        this.layout = layout;
+        this.arena = arena;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int numComponents() {
+        return dims;
+    }
+
+    @NotNull
+    public VecLayout layout() {
+        return layout;
+    }
+
+    public long byteSize() {
+        return byteSize;
+    }
+
+    public boolean isAlive() {
+        return arena == null || arena.isAlive();
+    }
+
+    /**
+     * A view of the backing memory sharing its contents, for handing over to native or mapped storage.
+     * Views are not invalidated when the arena closes: they keep the memory reachable and writable until they are dropped.
+     */
+    @NotNull
+    public ByteBuffer asByteBuffer() {
+        checkAlive();
+        return bytes.duplicate().order(bytes.order());
+    }
+
+    @NotNull
+    public abstract B copyTo(final @NotNull B dst);
+
+    /** Called by the arena on close, after which every access fails in {@link #checkAlive()} */
+    void release() {
+        bytes = null;
+    }
+
+    protected int elementIndex(final int index, final int component) {
+        return layout.elementIndex(index, component, dims, size);
+    }
+
+    protected void checkAlive() {
+        if (arena != null && !arena.isAlive()) throw new IllegalStateException("Arena is closed");
+    }
+
+    protected void checkRange(final int from, final int to) {
+        checkAlive();
+        Objects.checkFromToIndex(from, to, size);
+    }
+
+    protected void checkIndex(final int index, final int component) {
+        checkAlive();
+        Objects.checkIndex(index, size);
+        Objects.checkIndex(component, dims);
+    }
+
+    protected void checkDims(final int expected) {
+        if (dims != expected) throw new IllegalArgumentException("Invalid number of components");
+    }
+
+    protected void checkCompatible(final @NotNull B other, final int from, final int to) {
+        other.checkRange(from, to);
+        if (other.dims != dims) throw new IllegalArgumentException("Invalid number of components");
+    }
+
+    static long byteSize(final int dims, final int size, final int elementBytes) {
+        if (size < 0) throw new IllegalArgumentException("Invalid size");
+        final long bytes = (long) dims * size * elementBytes;
+        if (bytes > Integer.MAX_VALUE) throw new IllegalArgumentException("Array too large");
+        return bytes;
+    }
+}
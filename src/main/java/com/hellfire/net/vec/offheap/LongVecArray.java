@@ -0,0 +1,337 @@
+package com.hellfire.net.vec.offheap;
+
+import com.hellfire.net.vec.longs.Vec2l;
+import com.hellfire.net.vec.longs.Vec2lBuffer;
+import com.hellfire.net.vec.longs.Vec3l;
+import com.hellfire.net.vec.longs.Vec3lBuffer;
+import com.hellfire.net.vec.longs.Vec4l;
+import com.hellfire.net.vec.longs.Vec4lBuffer;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
+import java.util.Objects;
+
+public class LongVecArray extends IOffHeapVecArray<LongVecArray> {
+
+    LongBuffer data;
+
+    LongVecArray(final @NotNull ByteBuffer bytes, final int dims, final int size, final @NotNull VecLayout layout, final @Nullable VecArena arena) {
+        super(bytes, dims, size, Long.BYTES, layout, arena);
+        this.data = bytes.asLongBuffer();
+    }
+
+    /** Wraps existing (e.g. memory-mapped) memory without copying. The buffer's byte order is kept. */
+    @NotNull
+    public static LongVecArray wrap(final @NotNull ByteBuffer bytes, final int dims, final int size, final @NotNull VecLayout layout) {
+        return new LongVecArray(bytes.slice().order(bytes.order()), dims, size, layout, null);
+    }
+
+    @Override
+    void release() {
+        super.release();
+        data = null;
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // Element access
+    ///////////////////////////////////////////////////////////////////////////
+
+    public long get(int index, int component) {
+        checkIndex(index, component);
+        return data.get(elementIndex(index, component));
+    }
+
+    public @NotNull LongVecArray set(int index, int component, long val) {
+        checkIndex(index, component);
+        data.put(elementIndex(index, component), val);
+        return this;
+    }
+
+    public @NotNull Vec2l getVec2(int index) {
+        checkDims(Vec2l.NUM_COMPONENTS);
+        checkIndex(index, 0);
+        return new Vec2l(data.get(elementIndex(index, 0)), data.get(elementIndex(index, 1)));
+    }
+
+    public @NotNull Vec3l getVec3(int index) {
+        checkDims(Vec3l.NUM_COMPONENTS);
+        checkIndex(index, 0);
+        return new Vec3l(data.get(elementIndex(index, 0)), data.get(elementIndex(index, 1)), data.get(elementIndex(index, 2)));
+    }
+
+    public @NotNull Vec4l getVec4(int index) {
+        checkDims(Vec4l.NUM_COMPONENTS);
+        checkIndex(index, 0);
+        return new Vec4l(data.get(elementIndex(index, 0)), data.get(elementIndex(index, 1)), data.get(elementIndex(index, 2)), data.get(elementIndex(index, 3)));
+    }
+
+    public @NotNull LongVecArray set(int index, @NotNull Vec2l vec) {
+        checkDims(Vec2l.NUM_COMPONENTS);
+        checkIndex(index, 0);
+        data.put(elementIndex(index, 0), vec.x);
+        data.put(elementIndex(index, 1), vec.y);
+        return this;
+    }
+
+    public @NotNull LongVecArray set(int index, @NotNull Vec3l vec) {
+        checkDims(Vec3l.NUM_COMPONENTS);
+        checkIndex(index, 0);
+        data.put(elementIndex(index, 0), vec.x);
+        data.put(elementIndex(index, 1), vec.y);
+        data.put(elementIndex(index, 2), vec.z);
+        return this;
+    }
+
+    public @NotNull LongVecArray set(int index, @NotNull Vec4l vec) {
+        checkDims(Vec4l.NUM_COMPONENTS);
+        checkIndex(index, 0);
+        data.put(elementIndex(index, 0), vec.x);
+        data.put(elementIndex(index, 1), vec.y);
+        data.put(elementIndex(index, 2), vec.z);
+        data.put(elementIndex(index, 3), vec.w);
+        return this;
+    }
+
+    public @NotNull LongVecArray copyFrom(int index, @NotNull Vec2lBuffer src, int from, int to) {
+        checkDims(2);
+        checkRange(index, index + (to - from));
+        Objects.checkFromToIndex(from, to, src.size());
+        for (int i = from; i < to; i++) {
+            final int dst = index + i - from;
+            data.put(elementIndex(dst, 0), src.x[i]);
+            data.put(elementIndex(dst, 1), src.y[i]);
+        }
+        return this;
+    }
+
+    public @NotNull Vec2lBuffer copyTo(int index, @NotNull Vec2lBuffer dst, int from, int to) {
+        checkDims(2);
+        checkRange(index, index + (to - from));
+        Objects.checkFromToIndex(from, to, dst.size());
+        for (int i = from; i < to; i++) {
+            final int src = index + i - from;
+            dst.x[i] = data.get(elementIndex(src, 0));
+            dst.y[i] = data.get(elementIndex(src, 1));
+        }
+        return dst;
+    }
+
+    public @NotNull LongVecArray copyFrom(int index, @NotNull Vec3lBuffer src, int from, int to) {
+        checkDims(3);
+        checkRange(index, index + (to - from));
+        Objects.checkFromToIndex(from, to, src.size());
+        for (int i = from; i < to; i++) {
+            final int dst = index + i - from;
+            data.put(elementIndex(dst, 0), src.x[i]);
+            data.put(elementIndex(dst, 1), src.y[i]);
+            data.put(elementIndex(dst, 2), src.z[i]);
+        }
+        return this;
+    }
+
+    public @NotNull Vec3lBuffer copyTo(int index, @NotNull Vec3lBuffer dst, int from, int to) {
+        checkDims(3);
+        checkRange(index, index + (to - from));
+        Objects.checkFromToIndex(from, to, dst.size());
+        for (int i = from; i < to; i++) {
+            final int src = index + i - from;
+            dst.x[i] = data.get(elementIndex(src, 0));
+            dst.y[i] = data.get(elementIndex(src, 1));
+            dst.z[i] = data.get(elementIndex(src, 2));
+        }
+        return dst;
+    }
+
+    public @NotNull LongVecArray copyFrom(int index, @NotNull Vec4lBuffer src, int from, int to) {
+        checkDims(4);
+        checkRange(index, index + (to - from));
+        Objects.checkFromToIndex(from, to, src.size());
+        for (int i = from; i < to; i++) {
+            final int dst = index + i - from;
+            data.put(elementIndex(dst, 0), src.x[i]);
+            data.put(elementIndex(dst, 1), src.y[i]);
+            data.put(elementIndex(dst, 2), src.z[i]);
+            data.put(elementIndex(dst, 3), src.w[i]);
+        }
+        return this;
+    }
+
+    public @NotNull Vec4lBuffer copyTo(int index, @NotNull Vec4lBuffer dst, int from, int to) {
+        checkDims(4);
+        checkRange(index, index + (to - from));
+        Objects.checkFromToIndex(from, to, dst.size());
+        for (int i = from; i < to; i++) {
+            final int src = index + i - from;
+            dst.x[i] = data.get(elementIndex(src, 0));
+            dst.y[i] = data.get(elementIndex(src, 1));
+            dst.z[i] = data.get(elementIndex(src, 2));
+            dst.w[i] = data.get(elementIndex(src, 3));
+        }
+        return dst;
+    }
+
+    @Override
+    public @NotNull LongVecArray copyTo(@NotNull LongVecArray dst) {
+        checkCompatible(dst, 0, size);
+        checkRange(0, size);
+        if (dst.size != size) throw new IllegalArgumentException("Invalid size");
+        for (int c = 0; c < dims; c++) {
+            for (int i = 0; i < size; i++) dst.data.put(dst.elementIndex(i, c), data.get(elementIndex(i, c)));
+        }
+        return dst;
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // Bulk arithmetic
+    ///////////////////////////////////////////////////////////////////////////
+
+    public @NotNull LongVecArray add(int from, int to, @NotNull LongVecArray other) {
+        checkRange(from, to);
+        checkCompatible(other, from, to);
+        for (int c = 0; c < dims; c++) {
+            for (int i = from; i < to; i++) {
+                final int e = elementIndex(i, c);
+                data.put(e, data.get(e) + other.data.get(other.elementIndex(i, c)));
+            }
+        }
+        return this;
+    }
+
+    public @NotNull LongVecArray sub(int from, int to, @NotNull LongVecArray other) {
+        checkRange(from, to);
+        checkCompatible(other, from, to);
+        for (int c = 0; c < dims; c++) {
+            for (int i = from; i < to; i++) {
+                final int e = elementIndex(i, c);
+                data.put(e, data.get(e) - other.data.get(other.elementIndex(i, c)));
+            }
+        }
+        return this;
+    }
+
+    public @NotNull LongVecArray mul(int from, int to, @NotNull LongVecArray other) {
+        checkRange(from, to);
+        checkCompatible(other, from, to);
+        for (int c = 0; c < dims; c++) {
+            for (int i = from; i < to; i++) {
+                final int e = elementIndex(i, c);
+                data.put(e, data.get(e) * other.data.get(other.elementIndex(i, c)));
+            }
+        }
+        return this;
+    }
+
+    public @NotNull LongVecArray div(int from, int to, @NotNull LongVecArray other) {
+        checkRange(from, to);
+        checkCompatible(other, from, to);
+        for (int c = 0; c < dims; c++) {
+            for (int i = from; i < to; i++) {
+                final int e = elementIndex(i, c);
+                data.put(e, data.get(e) / other.data.get(other.elementIndex(i, c)));
+            }
+        }
+        return this;
+    }
+
+    public @NotNull LongVecArray addScalar(int from, int to, long val) {
+        checkRange(from, to);
+        for (int c = 0; c < dims; c++) {
+            for (int i = from; i < to; i++) {
+                final int e = elementIndex(i, c);
+                data.put(e, data.get(e) + val);
+            }
+        }
+        return this;
+    }
+
+    public @NotNull LongVecArray subScalar(int from, int to, long val) {
+        checkRange(from, to);
+        for (int c = 0; c < dims; c++) {
+            for (int i = from; i < to; i++) {
+                final int e = elementIndex(i, c);
+                data.put(e, data.get(e) - val);
+            }
+        }
+        return this;
+    }
+
+    public @NotNull LongVecArray mulScalar(int from, int to, long scale) {
+        checkRange(from, to);
+        for (int c = 0; c < dims; c++) {
+            for (int i = from; i < to; i++) {
+                final int e = elementIndex(i, c);
+                data.put(e, data.get(e) * scale);
+            }
+        }
+        return this;
+    }
+
+    public @NotNull LongVecArray divScalar(int from, int to, double scale) {
+        checkRange(from, to);
+        for (int c = 0; c < dims; c++) {
+            for (int i = from; i < to; i++) {
+                final int e = elementIndex(i, c);
+                data.put(e, (long) (data.get(e) / scale));
+            }
+        }
+        return this;
+    }
+
+    public @NotNull LongVecArray negate(int from, int to) {
+        checkRange(from, to);
+        for (int c = 0; c < dims; c++) {
+            for (int i = from; i < to; i++) {
+                final int e = elementIndex(i, c);
+                data.put(e, -data.get(e));
+            }
+        }
+        return this;
+    }
+
+    public double lengthSquared(int index) {
+        checkIndex(index, 0);
+        double sum = 0;
+        for (int c = 0; c < dims; c++) {
+            final double v = data.get(elementIndex(index, c));
+            sum += v * v;
+        }
+        return sum;
+    }
+
+    public double length(int index) {
+        return Math.sqrt(lengthSquared(index));
+    }
+
+    public void length(int from, int to, double @NotNull [] dst, int dstOffset) {
+        checkRange(from, to);
+        Objects.checkFromIndexSize(dstOffset, to - from, dst.length);
+        for (int i = from; i < to; i++) dst[dstOffset + i - from] = length(i);
+    }
+
+    public void distanceSquared(int from, int to, @NotNull LongVecArray other, double @NotNull [] dst, int dstOffset) {
+        checkRange(from, to);
+        checkCompatible(other, from, to);
+        Objects.checkFromIndexSize(dstOffset, to - from, dst.length);
+        for (int i = from; i < to; i++) {
+            double sum = 0;
+            for (int c = 0; c < dims; c++) {
+                final double d = (double) other.data.get(other.elementIndex(i, c)) - data.get(elementIndex(i, c));
+                sum += d * d;
+            }
+            dst[dstOffset + i - from] = sum;
+        }
+    }
+
+    public @NotNull DoubleVecArray normalize(int from, int to, @NotNull DoubleVecArray dst) {
+        checkRange(from, to);
+        dst.checkRange(from, to);
+        if (dst.dims != dims) throw new IllegalArgumentException("Invalid number of components");
+        for (int i = from; i < to; i++) {
+            final double len = length(i);
+            for (int c = 0; c < dims; c++) dst.data.put(dst.elementIndex(i, c), data.get(elementIndex(i, c)) / len);
+        }
+        return dst;
+    }
+}
@@ -0,0 +1,76 @@
+package com.hellfire.net.vec.offheap;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Owns the off-heap vector arrays allocated through it. Once closed, every array of this arena rejects further access
+ * and drops its memory, which is released once no view from {@link IOffHeapVecArray#asByteBuffer()} references it.
+ * Arenas are meant to be used by a single owner, typically in a try-with-resources block.
+ */
+public final class VecArena implements AutoCloseable {
+
+    private final List<IOffHeapVecArray<?>> arrays = new ArrayList<>();
+    private boolean closed;
+    private long allocatedBytes;
+
+    private VecArena() {
+    }
+
+    @NotNull
+    public static VecArena open() {
+        return new VecArena();
+    }
+
+    @NotNull
+    public DoubleVecArray allocateDoubles(final int dims, final int size, final @NotNull VecLayout layout) {
+        return register(new DoubleVecArray(allocate(dims, size, Double.BYTES), dims, size, layout, this));
+    }
+
+    @NotNull
+    public FloatVecArray allocateFloats(final int dims, final int size, final @NotNull VecLayout layout) {
+        return register(new FloatVecArray(allocate(dims, size, Float.BYTES), dims, size, layout, this));
+    }
+
+    @NotNull
+    public IntVecArray allocateInts(final int dims, final int size, final @NotNull VecLayout layout) {
+        return register(new IntVecArray(allocate(dims, size, Integer.BYTES), dims, size, layout, this));
+    }
+
+    @NotNull
+    public LongVecArray allocateLongs(final int dims, final int size, final @NotNull VecLayout layout) {
+        return register(new LongVecArray(allocate(dims, size, Long.BYTES), dims, size, layout, this));
+    }
+
+    public boolean isAlive() {
+        return !closed;
+    }
+
+    public long allocatedBytes() {
+        return allocatedBytes;
+    }
+
+    @Override
+    public void close() {
+        if (closed) return;
+        closed = true;
+        for (IOffHeapVecArray<?> array : arrays) array.release();
+        arrays.clear();
+    }
+
+    private <A extends IOffHeapVecArray<A>> A register(final A array) {
+        arrays.add(array);
+        return array;
+    }
+
+    private ByteBuffer allocate(final int dims, final int size, final int elementBytes) {
+        if (closed) throw new IllegalStateException("Arena is closed");
+        final long bytes = IOffHeapVecArray.byteSize(dims, size, elementBytes);
+        allocatedBytes += bytes;
+        return ByteBuffer.allocateDirect((int) bytes).order(ByteOrder.nativeOrder());
+    }
+}
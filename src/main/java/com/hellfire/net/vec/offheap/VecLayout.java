@@ -0,0 +1,14 @@
+package com.hellfire.net.vec.offheap;
+
+/**
+ * Memory layout of an off-heap vector array.
+ * {@link #INTERLEAVED} stores {@code x0 y0 z0 x1 y1 z1 ...}, {@link #SOA} stores {@code x0 x1 ... y0 y1 ... z0 z1 ...}.
+ */
+public enum VecLayout {
+    INTERLEAVED,
+    SOA;
+
+    public int elementIndex(final int index, final int component, final int dims, final int size) {
+        return (this == INTERLEAVED) ? index * dims + component : component * size + index;
+    }
+}
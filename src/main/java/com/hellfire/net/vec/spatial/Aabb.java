@@ -0,0 +1,167 @@
+package com.hellfire.net.vec.spatial;
+
+import com.hellfire.net.vec.doubles.Vec3d;
+import org.jetbrains.annotations.NotNull;
+
+/** Immutable axis-aligned bounding box. Bounds are inclusive, a box with equal corners is a point. */
+public class Aabb {
+
+    public final double minX, minY, minZ, maxX, maxY, maxZ;
+
+    public Aabb(double minX, double minY, double minZ, double maxX, double maxY, double maxZ) {
+        if (!(minX <= maxX && minY <= maxY && minZ <= maxZ)) throw new IllegalArgumentException("Invalid bounds");
+        this.minX = minX;
+        this.minY = minY;
+        this.minZ = minZ;
+        this.maxX = maxX;
+        this.maxY = maxY;
+        this.maxZ = maxZ;
+    }
+
+    public Aabb(final @NotNull Vec3d min, final @NotNull Vec3d max) {
+        this(min.x, min.y, min.z, max.x, max.y, max.z);
+    }
+
+    /** The smallest box containing both corners, in any order */
+    public static @NotNull Aabb of(final @NotNull Vec3d a, final @NotNull Vec3d b) {
+        return new Aabb(Math.min(a.x, b.x), Math.min(a.y, b.y), Math.min(a.z, b.z), Math.max(a.x, b.x), Math.max(a.y, b.y), Math.max(a.z, b.z));
+    }
+
+    public static @NotNull Aabb around(final @NotNull Vec3d center, double halfX, double halfY, double halfZ) {
+        return new Aabb(center.x - halfX, center.y - halfY, center.z - halfZ, center.x + halfX, center.y + halfY, center.z + halfZ);
+    }
+
+    public @NotNull Vec3d min() {
+        return new Vec3d(minX, minY, minZ);
+    }
+
+    public @NotNull Vec3d max() {
+        return new Vec3d(maxX, maxY, maxZ);
+    }
+
+    public @NotNull Vec3d center() {
+        return new Vec3d((minX + maxX) * 0.5, (minY + maxY) * 0.5, (minZ + maxZ) * 0.5);
+    }
+
+    public @NotNull Vec3d size() {
+        return new Vec3d(maxX - minX, maxY - minY, maxZ - minZ);
+    }
+
+    public double volume() {
+        return (maxX - minX) * (maxY - minY) * (maxZ - minZ);
+    }
+
+    public double surfaceArea() {
+        return surfaceArea(maxX - minX, maxY - minY, maxZ - minZ);
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // Tests
+    ///////////////////////////////////////////////////////////////////////////
+
+    public boolean contains(double x, double y, double z) {
+        return x >= minX && x <= maxX && y >= minY && y <= maxY && z >= minZ && z <= maxZ;
+    }
+
+    public boolean contains(final @NotNull Vec3d point) {
+        return contains(point.x, point.y, point.z);
+    }
+
+    public boolean contains(final @NotNull Aabb box) {
+        return box.minX >= minX && box.maxX <= maxX && box.minY >= minY && box.maxY <= maxY && box.minZ >= minZ && box.maxZ <= maxZ;
+    }
+
+    public boolean intersects(double minX, double minY, double minZ, double maxX, double maxY, double maxZ) {
+        return minX <= this.maxX && maxX >= this.minX && minY <= this.maxY && maxY >= this.minY && minZ <= this.maxZ && maxZ >= this.minZ;
+    }
+
+    public boolean intersects(final @NotNull Aabb box) {
+        return intersects(box.minX, box.minY, box.minZ, box.maxX, box.maxY, box.maxZ);
+    }
+
+    /**
+     * Where the ray {@code origin + t * direction} first touches this box, {@code 0} if the origin is inside.
+     * The direction does not need to be normalized, t is measured in multiples of it.
+     *
+     * @return t within {@code [0, maxT]}, or {@link Double#POSITIVE_INFINITY} if the ray misses
+     */
+    public double rayDistance(final @NotNull Vec3d origin, final @NotNull Vec3d direction, double maxT) {
+        return rayDistance(minX, minY, minZ, maxX, maxY, maxZ, origin.x, origin.y, origin.z,
+                1 / direction.x, 1 / direction.y, 1 / direction.z, maxT);
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // Derived boxes
+    ///////////////////////////////////////////////////////////////////////////
+
+    public @NotNull Aabb union(final @NotNull Aabb box) {
+        return new Aabb(Math.min(minX, box.minX), Math.min(minY, box.minY), Math.min(minZ, box.minZ),
+                Math.max(maxX, box.maxX), Math.max(maxY, box.maxY), Math.max(maxZ, box.maxZ));
+    }
+
+    /** Grows every side by amount, a negative amount shrinks the box */
+    public @NotNull Aabb expand(double amount) {
+        return new Aabb(minX - amount, minY - amount, minZ - amount, maxX + amount, maxY + amount, maxZ + amount);
+    }
+
+    public @NotNull Aabb offset(final @NotNull Vec3d vec) {
+        return new Aabb(minX + vec.x, minY + vec.y, minZ + vec.z, maxX + vec.x, maxY + vec.y, maxZ + vec.z);
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // Shared with Bvh
+    ///////////////////////////////////////////////////////////////////////////
+
+    static double surfaceArea(double dx, double dy, double dz) {
+        return 2 * (dx * dy + dy * dz + dz * dx);
+    }
+
+    /** Slab test. An axis with a NaN slab distance, from an origin on a face with a zero direction component, never rejects. */
+    static double rayDistance(double minX, double minY, double minZ, double maxX, double maxY, double maxZ,
+                              double ox, double oy, double oz, double invX, double invY, double invZ, double maxT) {
+        double near = 0, far = maxT;
+
+        double t1 = (minX - ox) * invX, t2 = (maxX - ox) * invX;
+        if (t1 == t1 && t2 == t2) {
+            near = Math.max(near, Math.min(t1, t2));
+            far = Math.min(far, Math.max(t1, t2));
+        }
+        t1 = (minY - oy) * invY;
+        t2 = (maxY - oy) * invY;
+        if (t1 == t1 && t2 == t2) {
+            near = Math.max(near, Math.min(t1, t2));
+            far = Math.min(far, Math.max(t1, t2));
+        }
+        t1 = (minZ - oz) * invZ;
+        t2 = (maxZ - oz) * invZ;
+        if (t1 == t1 && t2 == t2) {
+            near = Math.max(near, Math.min(t1, t2));
+            far = Math.min(far, Math.max(t1, t2));
+        }
+
+        return (near <= far) ? near : Double.POSITIVE_INFINITY;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Aabb box)) return false;
+        return Double.compare(minX, box.minX) == 0 && Double.compare(minY, box.minY) == 0 && Double.compare(minZ, box.minZ) == 0
+                && Double.compare(maxX, box.maxX) == 0 && Double.compare(maxY, box.maxY) == 0 && Double.compare(maxZ, box.maxZ) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Double.hashCode(minX);
+        result = 31 * result + Double.hashCode(minY);
+        result = 31 * result + Double.hashCode(minZ);
+        result = 31 * result + Double.hashCode(maxX);
+        result = 31 * result + Double.hashCode(maxY);
+        return 31 * result + Double.hashCode(maxZ);
+    }
+
+    @Override
+    public String toString() {
+        return "Aabb{min=" + min() + ", max=" + max() + "}";
+    }
+}
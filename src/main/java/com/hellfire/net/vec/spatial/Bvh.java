@@ -0,0 +1,480 @@
+package com.hellfire.net.vec.spatial;
+
+import com.hellfire.net.vec.doubles.Vec3d;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+
+/**
+ * Immutable bounding volume hierarchy over a set of {@link Aabb}s, for raycasts and overlap tests against many hitboxes.
+ * <p>
+ * Construction splits on the surface area heuristic evaluated over 16 centroid bins of the widest axis.
+ * Nodes are flattened into primitive arrays, children are stored as adjacent pairs so a node only records its first child.
+ * Large subtrees are built in parallel on the common {@link ForkJoinPool}.
+ * <p>
+ * Boxes are reported by their index in the input. Queries never allocate after the first query of a thread,
+ * which creates its traversal stack, and may run concurrently.
+ */
+public class Bvh {
+
+    /** Subtrees with at least this many boxes are built as separate fork/join tasks */
+    public static final int PARALLEL_THRESHOLD = 1 << 12;
+    public static final int MAX_LEAF_SIZE = 4;
+
+    private static final int BINS = 16;
+    // Cost of visiting a node relative to testing one box
+    private static final double TRAVERSAL_COST = 1;
+
+    // Boxes, in input order
+    private final double[] minX, minY, minZ, maxX, maxY, maxZ;
+    // Leaves reference ranges of this permutation of box indices
+    private final int[] order;
+
+    // Nodes. For an inner node child is the first of its two children and count is 0, for a leaf child is the start in order.
+    private final double[] nMinX, nMinY, nMinZ, nMaxX, nMaxY, nMaxZ;
+    private final int[] child, count;
+    private final int nodeCount, maxDepth;
+
+    private final ThreadLocal<int[]> stacks;
+
+    public Bvh(final @NotNull Aabb @NotNull ... boxes) {
+        this(List.of(boxes));
+    }
+
+    public Bvh(final @NotNull List<? extends @NotNull Aabb> boxes) {
+        final int size = boxes.size();
+        this.minX = new double[size];
+        this.minY = new double[size];
+        this.minZ = new double[size];
+        this.maxX = new double[size];
+        this.maxY = new double[size];
+        this.maxZ = new double[size];
+        this.order = new int[size];
+        for (int i = 0; i < size; i++) {
+            final Aabb box = boxes.get(i);
+            minX[i] = box.minX;
+            minY[i] = box.minY;
+            minZ[i] = box.minZ;
+            maxX[i] = box.maxX;
+            maxY[i] = box.maxY;
+            maxZ[i] = box.maxZ;
+            order[i] = i;
+        }
+
+        final int capacity = Math.max(1, 2 * size - 1);
+        this.nMinX = new double[capacity];
+        this.nMinY = new double[capacity];
+        this.nMinZ = new double[capacity];
+        this.nMaxX = new double[capacity];
+        this.nMaxY = new double[capacity];
+        this.nMaxZ = new double[capacity];
+        this.child = new int[capacity];
+        this.count = new int[capacity];
+
+        final Builder builder = new Builder();
+        if (size >= PARALLEL_THRESHOLD) ForkJoinPool.commonPool().invoke(builder.task(0, 0, size, 1));
+        else if (size > 0) builder.build(0, 0, size, 1);
+        this.nodeCount = builder.nextNode.get();
+        this.maxDepth = builder.maxDepth.get();
+        this.stacks = ThreadLocal.withInitial(() -> new int[maxDepth + 1]);
+    }
+
+    public int size() {
+        return order.length;
+    }
+
+    public int nodeCount() {
+        return nodeCount;
+    }
+
+    /** Bounds of everything in the tree, or null if it is empty */
+    public @Nullable Aabb bounds() {
+        return (order.length == 0) ? null : new Aabb(nMinX[0], nMinY[0], nMinZ[0], nMaxX[0], nMaxY[0], nMaxZ[0]);
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // Rays
+    ///////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Finds the box the ray {@code origin + t * direction} touches first within {@code [0, maxT]}, see {@link Aabb#rayDistance}.
+     *
+     * @return whether anything was hit, the details are written to hit
+     */
+    public boolean raycast(double ox, double oy, double oz, double dx, double dy, double dz, double maxT, final @NotNull RayHit hit) {
+        hit.reset();
+        if (order.length == 0) return false;
+        final double invX = 1 / dx, invY = 1 / dy, invZ = 1 / dz;
+        double best = maxT;
+
+        final int[] stack = stacks.get();
+        int top = 0;
+        int node = 0;
+        if (nodeDistance(node, ox, oy, oz, invX, invY, invZ, best) == Double.POSITIVE_INFINITY) return false;
+
+        while (true) {
+            if (count[node] > 0) {
+                for (int i = child[node], end = i + count[node]; i < end; i++) {
+                    final int box = order[i];
+                    final double t = Aabb.rayDistance(minX[box], minY[box], minZ[box], maxX[box], maxY[box], maxZ[box], ox, oy, oz, invX, invY, invZ, best);
+                    if (t < best || (t == best && hit.index < 0)) {
+                        best = t;
+                        hit.index = box;
+                        hit.t = t;
+                    }
+                }
+            } else {
+                // Descend into the nearer child first and keep the other for later
+                final int left = child[node], right = left + 1;
+                final double tl = nodeDistance(left, ox, oy, oz, invX, invY, invZ, best);
+                final double tr = nodeDistance(right, ox, oy, oz, invX, invY, invZ, best);
+                if (tl != Double.POSITIVE_INFINITY && tr != Double.POSITIVE_INFINITY) {
+                    stack[top++] = (tl <= tr) ? right : left;
+                    node = (tl <= tr) ? left : right;
+                    continue;
+                }
+                if (tl != Double.POSITIVE_INFINITY) {
+                    node = left;
+                    continue;
+                }
+                if (tr != Double.POSITIVE_INFINITY) {
+                    node = right;
+                    continue;
+                }
+            }
+
+            // Pop, skipping nodes that are further away than the best hit found since they were pushed
+            do {
+                if (top == 0) return hit.hit();
+                node = stack[--top];
+            } while (nodeDistance(node, ox, oy, oz, invX, invY, invZ, best) == Double.POSITIVE_INFINITY);
+        }
+    }
+
+    public boolean raycast(final @NotNull Vec3d origin, final @NotNull Vec3d direction, double maxT, final @NotNull RayHit hit) {
+        return raycast(origin.x, origin.y, origin.z, direction.x, direction.y, direction.z, maxT, hit);
+    }
+
+    /**
+     * Finds every box the ray touches within {@code [0, maxT]}. The nearest {@code dstIds.length} of them are written to
+     * {@code dstIds} and their ray parameters to {@code dstT}, nearest first.
+     *
+     * @return the total number of boxes hit
+     */
+    public int raycastAll(double ox, double oy, double oz, double dx, double dy, double dz, double maxT,
+                          int @NotNull [] dstIds, double @NotNull [] dstT) {
+        if (dstT.length < dstIds.length) throw new IllegalArgumentException("Destination arrays differ in length");
+        if (order.length == 0) return 0;
+        final double invX = 1 / dx, invY = 1 / dy, invZ = 1 / dz;
+        final int capacity = dstIds.length;
+
+        // The destination arrays double as a max-heap on t while searching
+        int hits = 0, kept = 0;
+        final int[] stack = stacks.get();
+        int top = 0;
+        stack[top++] = 0;
+        while (top > 0) {
+            final int node = stack[--top];
+            if (nodeDistance(node, ox, oy, oz, invX, invY, invZ, maxT) == Double.POSITIVE_INFINITY) continue;
+            if (count[node] == 0) {
+                stack[top++] = child[node] + 1;
+                stack[top++] = child[node];
+                continue;
+            }
+            for (int i = child[node], end = i + count[node]; i < end; i++) {
+                final int box = order[i];
+                final double t = Aabb.rayDistance(minX[box], minY[box], minZ[box], maxX[box], maxY[box], maxZ[box], ox, oy, oz, invX, invY, invZ, maxT);
+                if (t == Double.POSITIVE_INFINITY) continue;
+                hits++;
+                if (kept < capacity) {
+                    dstIds[kept] = box;
+                    dstT[kept] = t;
+                    siftUp(dstIds, dstT, kept++);
+                } else if (capacity > 0 && t < dstT[0]) {
+                    dstIds[0] = box;
+                    dstT[0] = t;
+                    siftDown(dstIds, dstT, 0, kept);
+                }
+            }
+        }
+
+        for (int end = kept - 1; end > 0; end--) {
+            swap(dstIds, dstT, 0, end);
+            siftDown(dstIds, dstT, 0, end);
+        }
+        return hits;
+    }
+
+    public int raycastAll(final @NotNull Vec3d origin, final @NotNull Vec3d direction, double maxT, int @NotNull [] dstIds, double @NotNull [] dstT) {
+        return raycastAll(origin.x, origin.y, origin.z, direction.x, direction.y, direction.z, maxT, dstIds, dstT);
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // Overlap
+    ///////////////////////////////////////////////////////////////////////////
+
+    /** Calls action with every box intersecting the given one, touching counts */
+    public void forEachOverlapping(final @NotNull Aabb box, final @NotNull IntConsumer action) {
+        overlap(box.minX, box.minY, box.minZ, box.maxX, box.maxY, box.maxZ, action, null);
+    }
+
+    /** @return the number of boxes intersecting the given one, only the first {@code dst.length} of which are written */
+    public int queryOverlapping(final @NotNull Aabb box, int @NotNull [] dst) {
+        return overlap(box.minX, box.minY, box.minZ, box.maxX, box.maxY, box.maxZ, null, dst);
+    }
+
+    public int queryOverlapping(double minX, double minY, double minZ, double maxX, double maxY, double maxZ, int @NotNull [] dst) {
+        if (!(minX <= maxX && minY <= maxY && minZ <= maxZ)) throw new IllegalArgumentException("Invalid bounds");
+        return overlap(minX, minY, minZ, maxX, maxY, maxZ, null, dst);
+    }
+
+    /** Calls action with every box containing the point, bounds inclusive */
+    public void forEachContaining(double x, double y, double z, final @NotNull IntConsumer action) {
+        overlap(x, y, z, x, y, z, action, null);
+    }
+
+    /** @return the number of boxes containing the point, only the first {@code dst.length} of which are written */
+    public int queryContaining(double x, double y, double z, int @NotNull [] dst) {
+        return overlap(x, y, z, x, y, z, null, dst);
+    }
+
+    public int queryContaining(final @NotNull Vec3d point, int @NotNull [] dst) {
+        return queryContaining(point.x, point.y, point.z, dst);
+    }
+
+    private int overlap(double qMinX, double qMinY, double qMinZ, double qMaxX, double qMaxY, double qMaxZ, IntConsumer action, int[] dst) {
+        if (order.length == 0) return 0;
+        int found = 0;
+        final int[] stack = stacks.get();
+        int top = 0;
+        stack[top++] = 0;
+        while (top > 0) {
+            final int node = stack[--top];
+            if (qMinX > nMaxX[node] || qMaxX < nMinX[node] || qMinY > nMaxY[node] || qMaxY < nMinY[node] || qMinZ > nMaxZ[node] || qMaxZ < nMinZ[node]) continue;
+            if (count[node] == 0) {
+                stack[top++] = child[node] + 1;
+                stack[top++] = child[node];
+                continue;
+            }
+            for (int i = child[node], end = i + count[node]; i < end; i++) {
+                final int box = order[i];
+                if (qMinX > maxX[box] || qMaxX < minX[box] || qMinY > maxY[box] || qMaxY < minY[box] || qMinZ > maxZ[box] || qMaxZ < minZ[box]) continue;
+                if (action != null) action.accept(box);
+                else if (found < dst.length) dst[found] = box;
+                found++;
+            }
+        }
+        return found;
+    }
+
+    private double nodeDistance(int node, double ox, double oy, double oz, double invX, double invY, double invZ, double maxT) {
+        return Aabb.rayDistance(nMinX[node], nMinY[node], nMinZ[node], nMaxX[node], nMaxY[node], nMaxZ[node], ox, oy, oz, invX, invY, invZ, maxT);
+    }
+
+    private static void siftUp(int[] heapIds, double[] heapT, int i) {
+        while (i > 0) {
+            final int parent = (i - 1) >>> 1;
+            if (heapT[parent] >= heapT[i]) return;
+            swap(heapIds, heapT, parent, i);
+            i = parent;
+        }
+    }
+
+    private static void siftDown(int[] heapIds, double[] heapT, int i, int size) {
+        while (true) {
+            final int left = 2 * i + 1, right = left + 1;
+            int largest = i;
+            if (left < size && heapT[left] > heapT[largest]) largest = left;
+            if (right < size && heapT[right] > heapT[largest]) largest = right;
+            if (largest == i) return;
+            swap(heapIds, heapT, largest, i);
+            i = largest;
+        }
+    }
+
+    private static void swap(int[] heapIds, double[] heapT, int a, int b) {
+        final int id = heapIds[a];
+        heapIds[a] = heapIds[b];
+        heapIds[b] = id;
+        final double t = heapT[a];
+        heapT[a] = heapT[b];
+        heapT[b] = t;
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // Construction
+    ///////////////////////////////////////////////////////////////////////////
+
+    private final class Builder {
+
+        final AtomicInteger nextNode = new AtomicInteger(1);
+        final AtomicInteger maxDepth = new AtomicInteger(1);
+
+        RecursiveAction task(int node, int start, int end, int depth) {
+            return new RecursiveAction() {
+                @Override
+                protected void compute() {
+                    build(node, start, end, depth);
+                }
+            };
+        }
+
+        void build(int node, int start, int end, int depth) {
+            while (true) {
+                // Node bounds and centroid bounds, centroids are kept doubled to save the multiplication
+                double bMinX = Double.POSITIVE_INFINITY, bMinY = bMinX, bMinZ = bMinX, bMaxX = Double.NEGATIVE_INFINITY, bMaxY = bMaxX, bMaxZ = bMaxX;
+                double cMinX = Double.POSITIVE_INFINITY, cMinY = cMinX, cMinZ = cMinX, cMaxX = Double.NEGATIVE_INFINITY, cMaxY = cMaxX, cMaxZ = cMaxX;
+                for (int i = start; i < end; i++) {
+                    final int box = order[i];
+                    bMinX = Math.min(bMinX, minX[box]);
+                    bMinY = Math.min(bMinY, minY[box]);
+                    bMinZ = Math.min(bMinZ, minZ[box]);
+                    bMaxX = Math.max(bMaxX, maxX[box]);
+                    bMaxY = Math.max(bMaxY, maxY[box]);
+                    bMaxZ = Math.max(bMaxZ, maxZ[box]);
+                    final double cx = minX[box] + maxX[box], cy = minY[box] + maxY[box], cz = minZ[box] + maxZ[box];
+                    cMinX = Math.min(cMinX, cx);
+                    cMinY = Math.min(cMinY, cy);
+                    cMinZ = Math.min(cMinZ, cz);
+                    cMaxX = Math.max(cMaxX, cx);
+                    cMaxY = Math.max(cMaxY, cy);
+                    cMaxZ = Math.max(cMaxZ, cz);
+                }
+                nMinX[node] = bMinX;
+                nMinY[node] = bMinY;
+                nMinZ[node] = bMinZ;
+                nMaxX[node] = bMaxX;
+                nMaxY[node] = bMaxY;
+                nMaxZ[node] = bMaxZ;
+                maxDepth.accumulateAndGet(depth, Math::max);
+
+                final int size = end - start;
+                final double extentX = cMaxX - cMinX, extentY = cMaxY - cMinY, extentZ = cMaxZ - cMinZ;
+                final int axis = (extentX >= extentY && extentX >= extentZ) ? 0 : (extentY >= extentZ) ? 1 : 2;
+                final double cMin = (axis == 0) ? cMinX : (axis == 1) ? cMinY : cMinZ;
+                final double extent = (axis == 0) ? extentX : (axis == 1) ? extentY : extentZ;
+
+                int mid;
+                if (size <= 1) {
+                    mid = -1;
+                } else if (extent == 0) {
+                    // All centroids coincide, no plane separates them
+                    mid = (size <= MAX_LEAF_SIZE) ? -1 : (start + end) >>> 1;
+                } else {
+                    mid = binnedSplit(start, end, axis, cMin, extent, Aabb.surfaceArea(bMaxX - bMinX, bMaxY - bMinY, bMaxZ - bMinZ));
+                }
+
+                if (mid < 0) {
+                    child[node] = start;
+                    count[node] = size;
+                    return;
+                }
+
+                final int left = nextNode.getAndAdd(2);
+                child[node] = left;
+                count[node] = 0;
+                if (size >= PARALLEL_THRESHOLD) {
+                    ForkJoinTask.invokeAll(task(left, start, mid, depth + 1), task(left + 1, mid, end, depth + 1));
+                    return;
+                }
+                build(left, start, mid, depth + 1);
+                node = left + 1;
+                start = mid;
+                depth++;
+            }
+        }
+
+        /** @return the start of the right half after partitioning, or -1 if a leaf is cheaper */
+        private int binnedSplit(int start, int end, int axis, double cMin, double extent, double area) {
+            final int[] binCount = new int[BINS];
+            final double[] bounds = new double[BINS * 6];
+            for (int bin = 0; bin < BINS; bin++) {
+                bounds[bin * 6] = bounds[bin * 6 + 1] = bounds[bin * 6 + 2] = Double.POSITIVE_INFINITY;
+                bounds[bin * 6 + 3] = bounds[bin * 6 + 4] = bounds[bin * 6 + 5] = Double.NEGATIVE_INFINITY;
+            }
+            final double scale = BINS / extent;
+            for (int i = start; i < end; i++) {
+                final int box = order[i];
+                final int bin = bin(box, axis, cMin, scale);
+                binCount[bin]++;
+                final int b = bin * 6;
+                bounds[b] = Math.min(bounds[b], minX[box]);
+                bounds[b + 1] = Math.min(bounds[b + 1], minY[box]);
+                bounds[b + 2] = Math.min(bounds[b + 2], minZ[box]);
+                bounds[b + 3] = Math.max(bounds[b + 3], maxX[box]);
+                bounds[b + 4] = Math.max(bounds[b + 4], maxY[box]);
+                bounds[b + 5] = Math.max(bounds[b + 5], maxZ[box]);
+            }
+
+            // Sweep from the right to get the cost of every right side, then from the left to combine
+            final double[] rightCost = new double[BINS];
+            double sMinX = Double.POSITIVE_INFINITY, sMinY = sMinX, sMinZ = sMinX, sMaxX = Double.NEGATIVE_INFINITY, sMaxY = sMaxX, sMaxZ = sMaxX;
+            int n = 0;
+            for (int bin = BINS - 1; bin > 0; bin--) {
+                final int b = bin * 6;
+                sMinX = Math.min(sMinX, bounds[b]);
+                sMinY = Math.min(sMinY, bounds[b + 1]);
+                sMinZ = Math.min(sMinZ, bounds[b + 2]);
+                sMaxX = Math.max(sMaxX, bounds[b + 3]);
+                sMaxY = Math.max(sMaxY, bounds[b + 4]);
+                sMaxZ = Math.max(sMaxZ, bounds[b + 5]);
+                n += binCount[bin];
+                rightCost[bin] = (n == 0) ? 0 : n * Aabb.surfaceArea(sMaxX - sMinX, sMaxY - sMinY, sMaxZ - sMinZ);
+            }
+
+            int bestBin = -1;
+            double bestCost = Double.POSITIVE_INFINITY;
+            sMinX = sMinY = sMinZ = Double.POSITIVE_INFINITY;
+            sMaxX = sMaxY = sMaxZ = Double.NEGATIVE_INFINITY;
+            n = 0;
+            for (int bin = 0; bin < BINS - 1; bin++) {
+                final int b = bin * 6;
+                sMinX = Math.min(sMinX, bounds[b]);
+                sMinY = Math.min(sMinY, bounds[b + 1]);
+                sMinZ = Math.min(sMinZ, bounds[b + 2]);
+                sMaxX = Math.max(sMaxX, bounds[b + 3]);
+                sMaxY = Math.max(sMaxY, bounds[b + 4]);
+                sMaxZ = Math.max(sMaxZ, bounds[b + 5]);
+                n += binCount[bin];
+                if (n == 0 || n == end - start) continue;
+                final double cost = n * Aabb.surfaceArea(sMaxX - sMinX, sMaxY - sMinY, sMaxZ - sMinZ) + rightCost[bin + 1];
+                if (cost < bestCost) {
+                    bestCost = cost;
+                    bestBin = bin;
+                }
+            }
+
+            final int size = end - start;
+            final double splitCost = TRAVERSAL_COST + ((area > 0) ? bestCost / area : size);
+            if (bestBin < 0 || (size <= MAX_LEAF_SIZE && splitCost >= size)) return -1;
+
+            // Partition so that every box of a bin up to bestBin comes first
+            int i = start, j = end - 1;
+            while (i <= j) {
+                if (bin(order[i], axis, cMin, scale) <= bestBin) {
+                    i++;
+                } else {
+                    final int tmp = order[i];
+                    order[i] = order[j];
+                    order[j--] = tmp;
+                }
+            }
+            return i;
+        }
+
+        private int bin(int box, int axis, double cMin, double scale) {
+            final double c = switch (axis) {
+                case 0 -> minX[box] + maxX[box];
+                case 1 -> minY[box] + maxY[box];
+                default -> minZ[box] + maxZ[box];
+            };
+            return Math.min((int) ((c - cMin) * scale), BINS - 1);
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.hellfire.net.vec.spatial;
+
+@FunctionalInterface
+public interface IdPairConsumer {
+
+    void accept(int a, int b);
+}
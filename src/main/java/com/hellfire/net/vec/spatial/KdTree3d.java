@@ -0,0 +1,299 @@
+package com.hellfire.net.vec.spatial;
+
+import com.hellfire.net.vec.doubles.Vec3d;
+import com.hellfire.net.vec.doubles.Vec3dBuffer;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+
+/**
+ * Immutable k-d tree over a static set of {@link Vec3d} points, such as spawn points or waypoints.
+ * <p>
+ * The tree has no node objects. Points are reordered so that every range {@code [lo, hi)} stores its splitting point at the
+ * middle index, with the smaller half before and the larger half after it. Each split uses the axis of largest spread.
+ * Large inputs are partitioned in parallel on the common {@link ForkJoinPool}.
+ * <p>
+ * Queries report points by their index in the input and never allocate, results go into caller supplied arrays.
+ */
+public class KdTree3d {
+
+    /** Ranges at least this large are partitioned as separate fork/join tasks */
+    public static final int PARALLEL_THRESHOLD = 1 << 14;
+
+    private final double[][] coords;
+    private final double[] x, y, z;
+    private final int[] ids;
+    private final byte[] axes;
+
+    public KdTree3d(final @NotNull Vec3dBuffer points) {
+        final int size = points.size();
+        this.x = points.x.clone();
+        this.y = points.y.clone();
+        this.z = points.z.clone();
+        this.coords = new double[][] {x, y, z};
+        this.ids = new int[size];
+        for (int i = 0; i < size; i++) ids[i] = i;
+        this.axes = new byte[size];
+
+        if (size >= PARALLEL_THRESHOLD) ForkJoinPool.commonPool().invoke(new Build(0, size));
+        else build(0, size);
+    }
+
+    public KdTree3d(final @NotNull Vec3d @NotNull ... points) {
+        this(new Vec3dBuffer(points));
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // Queries
+    ///////////////////////////////////////////////////////////////////////////
+
+    /** @return the index of the point closest to the given position, or -1 if the tree is empty */
+    public int nearest(double x, double y, double z) {
+        if (ids.length == 0) return -1;
+        return ids[nearest(0, ids.length, x, y, z, 0)];
+    }
+
+    public int nearest(final @NotNull Vec3d pos) {
+        return nearest(pos.x, pos.y, pos.z);
+    }
+
+    /**
+     * Finds the k points closest to the given position. Their indices are written to {@code dstIds} and their squared
+     * distances to {@code dstDistSq}, nearest first.
+     *
+     * @return the number of points found, {@code min(k, size())}
+     */
+    public int nearest(double x, double y, double z, int k, int @NotNull [] dstIds, double @NotNull [] dstDistSq) {
+        if (k < 0 || k > dstIds.length || k > dstDistSq.length) throw new IllegalArgumentException("Invalid k");
+        if (k == 0) return 0;
+
+        // The destination arrays double as a max-heap on distance while searching
+        final int count = knn(0, ids.length, x, y, z, k, dstIds, dstDistSq, 0);
+        for (int end = count - 1; end > 0; end--) {
+            swap(dstIds, dstDistSq, 0, end);
+            siftDown(dstIds, dstDistSq, 0, end);
+        }
+        for (int i = 0; i < count; i++) dstIds[i] = ids[dstIds[i]];
+        return count;
+    }
+
+    public int nearest(final @NotNull Vec3d pos, int k, int @NotNull [] dstIds, double @NotNull [] dstDistSq) {
+        return nearest(pos.x, pos.y, pos.z, k, dstIds, dstDistSq);
+    }
+
+    /** Calls action with the index of every point within radius of the given position, inclusive */
+    public void forEachInRadius(double x, double y, double z, double radius, final @NotNull IntConsumer action) {
+        checkRadius(radius);
+        radius(0, ids.length, x, y, z, radius * radius, action, null, 0);
+    }
+
+    /**
+     * Writes the indices of the points within radius of the given position to dst, in no particular order.
+     *
+     * @return the number of matching points, only the first {@code dst.length} of which are written
+     */
+    public int queryRadius(double x, double y, double z, double radius, int @NotNull [] dst) {
+        checkRadius(radius);
+        return radius(0, ids.length, x, y, z, radius * radius, null, dst, 0);
+    }
+
+    public int queryRadius(final @NotNull Vec3d pos, double radius, int @NotNull [] dst) {
+        return queryRadius(pos.x, pos.y, pos.z, radius, dst);
+    }
+
+    private int nearest(int lo, int hi, double qx, double qy, double qz, int best) {
+        if (lo >= hi) return best;
+        final int mid = (lo + hi) >>> 1;
+        if (distanceSquared(mid, qx, qy, qz) < distanceSquared(best, qx, qy, qz)) best = mid;
+
+        final double diff = axisDiff(mid, qx, qy, qz);
+        best = (diff < 0) ? nearest(lo, mid, qx, qy, qz, best) : nearest(mid + 1, hi, qx, qy, qz, best);
+        if (diff * diff < distanceSquared(best, qx, qy, qz)) {
+            best = (diff < 0) ? nearest(mid + 1, hi, qx, qy, qz, best) : nearest(lo, mid, qx, qy, qz, best);
+        }
+        return best;
+    }
+
+    private int knn(int lo, int hi, double qx, double qy, double qz, int k, int[] heapIds, double[] heapDist, int count) {
+        if (lo >= hi) return count;
+        final int mid = (lo + hi) >>> 1;
+        final double dist = distanceSquared(mid, qx, qy, qz);
+        if (count < k) {
+            heapIds[count] = mid;
+            heapDist[count] = dist;
+            siftUp(heapIds, heapDist, count++);
+        } else if (dist < heapDist[0]) {
+            heapIds[0] = mid;
+            heapDist[0] = dist;
+            siftDown(heapIds, heapDist, 0, count);
+        }
+
+        final double diff = axisDiff(mid, qx, qy, qz);
+        count = (diff < 0) ? knn(lo, mid, qx, qy, qz, k, heapIds, heapDist, count) : knn(mid + 1, hi, qx, qy, qz, k, heapIds, heapDist, count);
+        if (count < k || diff * diff < heapDist[0]) {
+            count = (diff < 0) ? knn(mid + 1, hi, qx, qy, qz, k, heapIds, heapDist, count) : knn(lo, mid, qx, qy, qz, k, heapIds, heapDist, count);
+        }
+        return count;
+    }
+
+    private int radius(int lo, int hi, double qx, double qy, double qz, double r2, IntConsumer action, int[] dst, int count) {
+        if (lo >= hi) return count;
+        final int mid = (lo + hi) >>> 1;
+        if (distanceSquared(mid, qx, qy, qz) <= r2) {
+            if (action != null) action.accept(ids[mid]);
+            else if (count < dst.length) dst[count] = ids[mid];
+            count++;
+        }
+
+        final double diff = axisDiff(mid, qx, qy, qz);
+        if (diff <= 0 || diff * diff <= r2) count = radius(lo, mid, qx, qy, qz, r2, action, dst, count);
+        if (diff >= 0 || diff * diff <= r2) count = radius(mid + 1, hi, qx, qy, qz, r2, action, dst, count);
+        return count;
+    }
+
+    private double axisDiff(int node, double qx, double qy, double qz) {
+        return switch (axes[node]) {
+            case 0 -> qx - x[node];
+            case 1 -> qy - y[node];
+            default -> qz - z[node];
+        };
+    }
+
+    private double distanceSquared(int node, double qx, double qy, double qz) {
+        final double dx = x[node] - qx, dy = y[node] - qy, dz = z[node] - qz;
+        return dx * dx + dy * dy + dz * dz;
+    }
+
+    private static void siftUp(int[] heapIds, double[] heapDist, int i) {
+        while (i > 0) {
+            final int parent = (i - 1) >>> 1;
+            if (heapDist[parent] >= heapDist[i]) return;
+            swap(heapIds, heapDist, parent, i);
+            i = parent;
+        }
+    }
+
+    private static void siftDown(int[] heapIds, double[] heapDist, int i, int size) {
+        while (true) {
+            final int left = 2 * i + 1, right = left + 1;
+            int largest = i;
+            if (left < size && heapDist[left] > heapDist[largest]) largest = left;
+            if (right < size && heapDist[right] > heapDist[largest]) largest = right;
+            if (largest == i) return;
+            swap(heapIds, heapDist, largest, i);
+            i = largest;
+        }
+    }
+
+    private static void swap(int[] heapIds, double[] heapDist, int a, int b) {
+        final int id = heapIds[a];
+        heapIds[a] = heapIds[b];
+        heapIds[b] = id;
+        final double dist = heapDist[a];
+        heapDist[a] = heapDist[b];
+        heapDist[b] = dist;
+    }
+
+    private static void checkRadius(double radius) {
+        if (!(radius >= 0)) throw new IllegalArgumentException("Invalid radius");
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // Construction
+    ///////////////////////////////////////////////////////////////////////////
+
+    private void build(int lo, int hi) {
+        while (hi - lo > 1) {
+            final int mid = split(lo, hi);
+            build(lo, mid);
+            lo = mid + 1;
+        }
+    }
+
+    /** Moves the median of the widest axis to the middle of the range and returns its index */
+    private int split(int lo, int hi) {
+        final int axis = widestAxis(lo, hi);
+        final int mid = (lo + hi) >>> 1;
+        select(coords[axis], lo, hi - 1, mid);
+        axes[mid] = (byte) axis;
+        return mid;
+    }
+
+    private int widestAxis(int lo, int hi) {
+        int best = 0;
+        double bestSpread = -1;
+        for (int axis = 0; axis < 3; axis++) {
+            final double[] vals = coords[axis];
+            double min = vals[lo], max = vals[lo];
+            for (int i = lo + 1; i < hi; i++) {
+                min = Math.min(min, vals[i]);
+                max = Math.max(max, vals[i]);
+            }
+            if (max - min > bestSpread) {
+                bestSpread = max - min;
+                best = axis;
+            }
+        }
+        return best;
+    }
+
+    /** Quickselect over {@code [left, right]} so that {@code vals[k]} ends up in its sorted position */
+    private void select(double[] vals, int left, int right, int k) {
+        while (right > left) {
+            // Median of three as the pivot, Hoare partitioning keeps runs of equal values balanced
+            if (vals[k] < vals[left]) swap(k, left);
+            if (vals[right] < vals[left]) swap(right, left);
+            if (vals[right] < vals[k]) swap(right, k);
+            final double pivot = vals[k];
+
+            int i = left, j = right;
+            do {
+                while (vals[i] < pivot) i++;
+                while (pivot < vals[j]) j--;
+                if (i <= j) swap(i++, j--);
+            } while (i <= j);
+
+            if (j < k) left = i;
+            if (k < i) right = j;
+        }
+    }
+
+    private void swap(int a, int b) {
+        final double ax = x[a], ay = y[a], az = z[a];
+        x[a] = x[b];
+        y[a] = y[b];
+        z[a] = z[b];
+        x[b] = ax;
+        y[b] = ay;
+        z[b] = az;
+        final int id = ids[a];
+        ids[a] = ids[b];
+        ids[b] = id;
+    }
+
+    private final class Build extends RecursiveAction {
+
+        private final int lo, hi;
+
+        Build(int lo, int hi) {
+            this.lo = lo;
+            this.hi = hi;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi - lo < PARALLEL_THRESHOLD) {
+                build(lo, hi);
+                return;
+            }
+            final int mid = split(lo, hi);
+            invokeAll(new Build(lo, mid), new Build(mid + 1, hi));
+        }
+    }
+}
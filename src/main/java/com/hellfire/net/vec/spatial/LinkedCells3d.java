@@ -0,0 +1,208 @@
+package com.hellfire.net.vec.spatial;
+
+import com.hellfire.net.vec.collections.Vec3iIntMap;
+import com.hellfire.net.vec.hash.VecHasher;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * Storage and queries shared by {@link SpatialHash3d} and {@link LooseGrid3d}: positions and cells in arrays indexed by
+ * id, and every occupied cell mapped to the first id of an intrusive doubly linked list.
+ * <p>
+ * An id may sit up to a margin outside of the cell it is linked into. A margin of zero gives a plain uniform grid, a
+ * positive one a loose grid where queries widen their cell range by the margin. Callers validate ids and presence.
+ * Not thread safe.
+ */
+final class LinkedCells3d {
+
+    static final int NONE = -1, ABSENT = -2;
+    static final int DEFAULT_CAPACITY = 16;
+
+    final double cellSize, invCellSize, margin;
+    final Vec3iIntMap heads;
+
+    double[] x, y, z;
+    int[] cellX, cellY, cellZ;
+    // prev is ABSENT for ids that are not in the grid and NONE for the first id of a cell
+    int[] next, prev;
+    int size;
+
+    LinkedCells3d(double cellSize, double margin, int expectedSize) {
+        if (!(cellSize > 0) || Double.isInfinite(cellSize)) throw new IllegalArgumentException("Invalid cell size");
+        if (expectedSize < 0) throw new IllegalArgumentException("Invalid expected size");
+        this.cellSize = cellSize;
+        this.invCellSize = 1 / cellSize;
+        this.margin = margin;
+        this.heads = new Vec3iIntMap(expectedSize, 0.75f, VecHasher.MIXED, NONE);
+        allocate(Math.max(expectedSize, DEFAULT_CAPACITY));
+    }
+
+    boolean contains(int id) {
+        return id >= 0 && id < prev.length && prev[id] != ABSENT;
+    }
+
+    int cell(double val) {
+        return (int) Math.floor(val * invCellSize);
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // Updates
+    ///////////////////////////////////////////////////////////////////////////
+
+    /** Adds an absent non-negative id into the cell containing the position */
+    void insert(int id, double px, double py, double pz) {
+        if (id >= prev.length) grow(id + 1);
+        x[id] = px;
+        y[id] = py;
+        z[id] = pz;
+        link(id, cell(px), cell(py), cell(pz));
+        size++;
+    }
+
+    void remove(int id) {
+        unlink(id);
+        size--;
+    }
+
+    /**
+     * Updates the position of a present id, relinking it only if it moved further than the margin outside of its cell.
+     *
+     * @return whether the id was relinked
+     */
+    boolean move(int id, double px, double py, double pz) {
+        x[id] = px;
+        y[id] = py;
+        z[id] = pz;
+        if (withinCell(px, cellX[id]) && withinCell(py, cellY[id]) && withinCell(pz, cellZ[id])) return false;
+        unlink(id);
+        link(id, cell(px), cell(py), cell(pz));
+        return true;
+    }
+
+    void clear() {
+        heads.clear();
+        Arrays.fill(prev, ABSENT);
+        size = 0;
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // Queries
+    ///////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Reports every id inside the box and within {@code sqrt(r2)} of the center, to action if it is not null and into
+     * dst otherwise.
+     *
+     * @return the number of matching ids, only the first {@code dst.length} of which are written
+     */
+    int query(double minX, double minY, double minZ, double maxX, double maxY, double maxZ,
+              double cx, double cy, double cz, double r2, IntConsumer action, int[] dst) {
+        final int minCellX = cell(minX - margin), minCellY = cell(minY - margin), minCellZ = cell(minZ - margin);
+        final int maxCellX = cell(maxX + margin), maxCellY = cell(maxY + margin), maxCellZ = cell(maxZ + margin);
+        final double cells = ((double) maxCellX - minCellX + 1) * ((double) maxCellY - minCellY + 1) * ((double) maxCellZ - minCellZ + 1);
+
+        int count = 0;
+        if (cells > prev.length) {
+            // Cheaper to look at every id than at every cell
+            for (int id = 0; id < prev.length; id++) {
+                if (prev[id] != ABSENT && matches(id, minX, minY, minZ, maxX, maxY, maxZ, cx, cy, cz, r2)) {
+                    count = report(id, count, action, dst);
+                }
+            }
+            return count;
+        }
+
+        for (int cellX = minCellX; cellX <= maxCellX; cellX++) {
+            for (int cellY = minCellY; cellY <= maxCellY; cellY++) {
+                for (int cellZ = minCellZ; cellZ <= maxCellZ; cellZ++) {
+                    for (int id = heads.get(cellX, cellY, cellZ); id != NONE; id = next[id]) {
+                        if (matches(id, minX, minY, minZ, maxX, maxY, maxZ, cx, cy, cz, r2)) count = report(id, count, action, dst);
+                    }
+                }
+            }
+        }
+        return count;
+    }
+
+    double distanceSquared(int a, int b) {
+        final double dx = x[a] - x[b], dy = y[a] - y[b], dz = z[a] - z[b];
+        return dx * dx + dy * dy + dz * dz;
+    }
+
+    static void checkRadius(double radius) {
+        if (!(radius >= 0) || Double.isInfinite(radius)) throw new IllegalArgumentException("Invalid radius");
+    }
+
+    static void checkBox(double minX, double minY, double minZ, double maxX, double maxY, double maxZ) {
+        if (!(minX <= maxX && minY <= maxY && minZ <= maxZ)) throw new IllegalArgumentException("Invalid box");
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // Internals
+    ///////////////////////////////////////////////////////////////////////////
+
+    // Same as val lying in [cell * cellSize - margin, (cell + 1) * cellSize + margin), and exactly cell(val) == cell for no margin
+    private boolean withinCell(double val, int cell) {
+        return cell(val - margin) <= cell && cell <= cell(val + margin);
+    }
+
+    private boolean matches(int id, double minX, double minY, double minZ, double maxX, double maxY, double maxZ,
+                            double cx, double cy, double cz, double r2) {
+        final double px = x[id], py = y[id], pz = z[id];
+        if (px < minX || px > maxX || py < minY || py > maxY || pz < minZ || pz > maxZ) return false;
+        final double dx = px - cx, dy = py - cy, dz = pz - cz;
+        return dx * dx + dy * dy + dz * dz <= r2;
+    }
+
+    private static int report(int id, int count, IntConsumer action, int[] dst) {
+        if (action != null) action.accept(id);
+        else if (count < dst.length) dst[count] = id;
+        return count + 1;
+    }
+
+    private void link(int id, int cx, int cy, int cz) {
+        final int head = heads.put(cx, cy, cz, id);
+        next[id] = head;
+        prev[id] = NONE;
+        if (head != NONE) prev[head] = id;
+        cellX[id] = cx;
+        cellY[id] = cy;
+        cellZ[id] = cz;
+    }
+
+    private void unlink(int id) {
+        final int before = prev[id], after = next[id];
+        if (after != NONE) prev[after] = before;
+        if (before != NONE) next[before] = after;
+        else if (after != NONE) heads.put(cellX[id], cellY[id], cellZ[id], after);
+        else heads.remove(cellX[id], cellY[id], cellZ[id]);
+        prev[id] = ABSENT;
+    }
+
+    private void allocate(int capacity) {
+        x = new double[capacity];
+        y = new double[capacity];
+        z = new double[capacity];
+        cellX = new int[capacity];
+        cellY = new int[capacity];
+        cellZ = new int[capacity];
+        next = new int[capacity];
+        prev = new int[capacity];
+        Arrays.fill(prev, ABSENT);
+    }
+
+    private void grow(int minCapacity) {
+        final int oldCapacity = prev.length;
+        final int capacity = Math.min(Math.max(minCapacity, oldCapacity + (oldCapacity >> 1)), Integer.MAX_VALUE - 8);
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        z = Arrays.copyOf(z, capacity);
+        cellX = Arrays.copyOf(cellX, capacity);
+        cellY = Arrays.copyOf(cellY, capacity);
+        cellZ = Arrays.copyOf(cellZ, capacity);
+        next = Arrays.copyOf(next, capacity);
+        prev = Arrays.copyOf(prev, capacity);
+        Arrays.fill(prev, oldCapacity, capacity, ABSENT);
+    }
+}
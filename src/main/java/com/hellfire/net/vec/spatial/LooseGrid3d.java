@@ -0,0 +1,231 @@
+package com.hellfire.net.vec.spatial;
+
+import com.hellfire.net.vec.doubles.Vec3d;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.IntConsumer;
+
+import static com.hellfire.net.vec.spatial.LinkedCells3d.DEFAULT_CAPACITY;
+import static com.hellfire.net.vec.spatial.LinkedCells3d.checkBox;
+import static com.hellfire.net.vec.spatial.LinkedCells3d.checkRadius;
+
+/**
+ * Grid index over moving {@link Vec3d} positions that is updated in batches, typically once per tick.
+ * <p>
+ * Updates are staged with {@link #stagePosition} and {@link #stageRemove} from any thread and only become visible on
+ * {@link #apply()}. Queries read the applied state under a read lock, so they can run concurrently with each other and
+ * with staging. Only {@code apply} excludes them, and new updates can be staged while it runs.
+ * <p>
+ * Cells are loose: an object keeps its cell until it moves further than {@code looseness * cellSize} outside of it,
+ * so objects jittering around a cell border are not relinked every tick. Queries widen their cell range by that margin.
+ * Ids are non-negative ints chosen by the caller, ideally dense, as in {@link SpatialHash3d}.
+ */
+public class LooseGrid3d {
+
+    public static final double DEFAULT_LOOSENESS = 0.25;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Applied state, guarded by lock
+    private final LinkedCells3d cells;
+    private long rebuckets;
+
+    // Staged updates, guarded by stageLock. Removals are stored as the complement of the id.
+    private final Object stageLock = new Object();
+    private Batch staging = new Batch(), applying = new Batch();
+
+    public LooseGrid3d(double cellSize) {
+        this(cellSize, DEFAULT_LOOSENESS, DEFAULT_CAPACITY);
+    }
+
+    public LooseGrid3d(double cellSize, double looseness, int expectedSize) {
+        if (!(looseness >= 0) || Double.isInfinite(looseness)) throw new IllegalArgumentException("Invalid looseness");
+        this.cells = new LinkedCells3d(cellSize, looseness * cellSize, expectedSize);
+    }
+
+    public double cellSize() {
+        return cells.cellSize;
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // Staging
+    ///////////////////////////////////////////////////////////////////////////
+
+    /** Inserts the id on the next {@link #apply()}, or moves it if it is already present by then */
+    public void stagePosition(int id, double x, double y, double z) {
+        if (id < 0) throw new IllegalArgumentException("Invalid id");
+        synchronized (stageLock) {
+            staging.add(id, x, y, z);
+        }
+    }
+
+    public void stagePosition(int id, @NotNull Vec3d pos) {
+        stagePosition(id, pos.x, pos.y, pos.z);
+    }
+
+    /** Removes the id on the next {@link #apply()}, if it is present by then */
+    public void stageRemove(int id) {
+        if (id < 0) throw new IllegalArgumentException("Invalid id");
+        synchronized (stageLock) {
+            staging.add(~id, 0, 0, 0);
+        }
+    }
+
+    public int stagedCount() {
+        synchronized (stageLock) {
+            return staging.size;
+        }
+    }
+
+    /**
+     * Applies every staged update in the order it was staged. Waits for running queries to finish and blocks new ones
+     * until done, while updates staged in the meantime are kept for the next call.
+     *
+     * @return the number of updates applied
+     */
+    public int apply() {
+        lock.writeLock().lock();
+        try {
+            final Batch batch;
+            synchronized (stageLock) {
+                batch = staging;
+                staging = applying;
+                applying = batch;
+            }
+
+            for (int i = 0; i < batch.size; i++) {
+                final int id = batch.ids[i];
+                if (id < 0) remove(~id);
+                else update(id, batch.x[i], batch.y[i], batch.z[i]);
+            }
+            final int applied = batch.size;
+            batch.size = 0;
+            return applied;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // Queries
+    ///////////////////////////////////////////////////////////////////////////
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return cells.size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean contains(int id) {
+        lock.readLock().lock();
+        try {
+            return cells.contains(id);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** The applied position of a present id */
+    @NotNull
+    public Vec3d position(int id) {
+        lock.readLock().lock();
+        try {
+            if (!cells.contains(id)) throw new IllegalArgumentException("Id not present");
+            return new Vec3d(cells.x[id], cells.y[id], cells.z[id]);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** Number of times an applied move had to relink an object into another cell */
+    public long rebuckets() {
+        lock.readLock().lock();
+        try {
+            return rebuckets;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** Calls action with every id within radius of the given position, inclusive. Action must not call {@link #apply()}. */
+    public void forEachInRadius(double x, double y, double z, double radius, @NotNull IntConsumer action) {
+        checkRadius(radius);
+        query(x - radius, y - radius, z - radius, x + radius, y + radius, z + radius, x, y, z, radius * radius, action, null);
+    }
+
+    public void forEachInRadius(@NotNull Vec3d pos, double radius, @NotNull IntConsumer action) {
+        forEachInRadius(pos.x, pos.y, pos.z, radius, action);
+    }
+
+    /** @return the number of ids within radius, only the first {@code dst.length} of which are written */
+    public int queryRadius(double x, double y, double z, double radius, int @NotNull [] dst) {
+        checkRadius(radius);
+        return query(x - radius, y - radius, z - radius, x + radius, y + radius, z + radius, x, y, z, radius * radius, null, dst);
+    }
+
+    public int queryRadius(@NotNull Vec3d pos, double radius, int @NotNull [] dst) {
+        return queryRadius(pos.x, pos.y, pos.z, radius, dst);
+    }
+
+    /** Calls action with every id inside the box, bounds inclusive. Action must not call {@link #apply()}. */
+    public void forEachInBox(double minX, double minY, double minZ, double maxX, double maxY, double maxZ, @NotNull IntConsumer action) {
+        checkBox(minX, minY, minZ, maxX, maxY, maxZ);
+        query(minX, minY, minZ, maxX, maxY, maxZ, 0, 0, 0, Double.POSITIVE_INFINITY, action, null);
+    }
+
+    /** @return the number of ids inside the box, only the first {@code dst.length} of which are written */
+    public int queryBox(double minX, double minY, double minZ, double maxX, double maxY, double maxZ, int @NotNull [] dst) {
+        checkBox(minX, minY, minZ, maxX, maxY, maxZ);
+        return query(minX, minY, minZ, maxX, maxY, maxZ, 0, 0, 0, Double.POSITIVE_INFINITY, null, dst);
+    }
+
+    private int query(double minX, double minY, double minZ, double maxX, double maxY, double maxZ,
+                      double cx, double cy, double cz, double r2, IntConsumer action, int[] dst) {
+        lock.readLock().lock();
+        try {
+            return cells.query(minX, minY, minZ, maxX, maxY, maxZ, cx, cy, cz, r2, action, dst);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // Internals, called with the write lock held
+    ///////////////////////////////////////////////////////////////////////////
+
+    private void update(int id, double px, double py, double pz) {
+        if (!cells.contains(id)) cells.insert(id, px, py, pz);
+        else if (cells.move(id, px, py, pz)) rebuckets++;
+    }
+
+    private void remove(int id) {
+        if (cells.contains(id)) cells.remove(id);
+    }
+
+    private static final class Batch {
+
+        int[] ids = new int[DEFAULT_CAPACITY];
+        double[] x = new double[DEFAULT_CAPACITY], y = new double[DEFAULT_CAPACITY], z = new double[DEFAULT_CAPACITY];
+        int size;
+
+        void add(int id, double px, double py, double pz) {
+            if (size == ids.length) {
+                final int capacity = size + (size >> 1);
+                ids = Arrays.copyOf(ids, capacity);
+                x = Arrays.copyOf(x, capacity);
+                y = Arrays.copyOf(y, capacity);
+                z = Arrays.copyOf(z, capacity);
+            }
+            ids[size] = id;
+            x[size] = px;
+            y[size] = py;
+            z[size] = pz;
+            size++;
+        }
+    }
+}
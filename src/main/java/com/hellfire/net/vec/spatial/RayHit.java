@@ -0,0 +1,19 @@
+package com.hellfire.net.vec.spatial;
+
+/** Reusable result of {@link Bvh#raycast}, so repeated raycasts do not allocate. */
+public class RayHit {
+
+    /** Index of the hit box in the input of the tree, or -1 */
+    public int index = -1;
+    /** Ray parameter of the hit, in multiples of the direction */
+    public double t = Double.POSITIVE_INFINITY;
+
+    public boolean hit() {
+        return index >= 0;
+    }
+
+    public void reset() {
+        index = -1;
+        t = Double.POSITIVE_INFINITY;
+    }
+}
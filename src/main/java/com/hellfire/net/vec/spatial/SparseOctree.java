@@ -0,0 +1,286 @@
+package com.hellfire.net.vec.spatial;
+
+import com.hellfire.net.vec.collections.Vec3iObjectConsumer;
+import com.hellfire.net.vec.ints.Vec3i;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Sparse octree from {@link Vec3i} keys to non-null values, for data that is clustered but spread over a huge world.
+ * <p>
+ * A tree of depth {@code d} covers {@code [-2^(d-1), 2^(d-1))} on every axis, the default of {@value #DEFAULT_DEPTH}
+ * spans the whole Minecraft world. There are no node objects: each node is eight {@code int} child slots in one pooled
+ * array, and values live in a second pooled array. Removed nodes and values go to free lists, so bursts of inserts after
+ * removals do not allocate. Only the nodes on the path to each key exist, which makes the tree smaller than a hash map
+ * when keys share regions and larger when they are scattered far apart.
+ * <p>
+ * Iteration visits keys in Morton order of the coordinates shifted by {@code 2^(d-1)}, x being the lowest bit.
+ * Not thread safe.
+ */
+public class SparseOctree<V> {
+
+    public static final int DEFAULT_DEPTH = 26;
+    public static final int MAX_DEPTH = 32;
+
+    private static final int ROOT = 0, EMPTY = 0, NO_FREE = -1;
+
+    private final int depth;
+    private final long half;
+
+    // Child slots of node n are nodes[n * 8 .. n * 8 + 7]. EMPTY or a node index above the last level, value index + 1 on it
+    private int[] nodes;
+    private int nodeTop, liveNodes, freeNode = NO_FREE;
+
+    private Object[] values;
+    private int[] freeValues;
+    private int valueCount, freeValueCount, size;
+
+    // Path of the last descent, reused by remove to prune empty nodes
+    private final int[] path;
+
+    public SparseOctree() {
+        this(DEFAULT_DEPTH);
+    }
+
+    public SparseOctree(int depth) {
+        if (depth < 1 || depth > MAX_DEPTH) throw new IllegalArgumentException("Invalid depth");
+        this.depth = depth;
+        this.half = 1L << (depth - 1);
+        this.path = new int[depth];
+        this.nodes = new int[8 * 16];
+        this.nodeTop = liveNodes = 1;
+        this.values = new Object[16];
+        this.freeValues = new int[16];
+    }
+
+    public int depth() {
+        return depth;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /** Number of live nodes including the root, each taking 32 bytes */
+    public int nodeCount() {
+        return liveNodes;
+    }
+
+    public boolean fits(int x, int y, int z) {
+        return fits(x) && fits(y) && fits(z);
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // Access
+    ///////////////////////////////////////////////////////////////////////////
+
+    @SuppressWarnings("unchecked")
+    public @Nullable V get(int x, int y, int z) {
+        if (!fits(x, y, z)) return null;
+        final int slot = find(x, y, z);
+        return (slot == EMPTY) ? null : (V) values[slot - 1];
+    }
+
+    public @Nullable V get(@NotNull Vec3i key) {
+        return get(key.x, key.y, key.z);
+    }
+
+    public boolean containsKey(int x, int y, int z) {
+        return fits(x, y, z) && find(x, y, z) != EMPTY;
+    }
+
+    public boolean containsKey(@NotNull Vec3i key) {
+        return containsKey(key.x, key.y, key.z);
+    }
+
+    /** @return the previous value, or null */
+    @SuppressWarnings("unchecked")
+    public @Nullable V put(int x, int y, int z, @NotNull V value) {
+        Objects.requireNonNull(value, "value");
+        checkFits(x, y, z);
+        final long ux = x + half, uy = y + half, uz = z + half;
+
+        int node = ROOT;
+        for (int level = depth - 1; level > 0; level--) {
+            final int index = node * 8 + child(ux, uy, uz, level);
+            int next = nodes[index];
+            if (next == EMPTY) {
+                next = allocateNode();
+                nodes[index] = next;
+            }
+            node = next;
+        }
+
+        final int index = node * 8 + child(ux, uy, uz, 0);
+        final int slot = nodes[index];
+        if (slot != EMPTY) {
+            final V previous = (V) values[slot - 1];
+            values[slot - 1] = value;
+            return previous;
+        }
+        final int valueIndex = allocateValue();
+        values[valueIndex] = value;
+        nodes[index] = valueIndex + 1;
+        size++;
+        return null;
+    }
+
+    public @Nullable V put(@NotNull Vec3i key, @NotNull V value) {
+        return put(key.x, key.y, key.z, value);
+    }
+
+    /** Removes the key and every node left empty by it. @return the previous value, or null */
+    @SuppressWarnings("unchecked")
+    public @Nullable V remove(int x, int y, int z) {
+        if (!fits(x, y, z)) return null;
+        final long ux = x + half, uy = y + half, uz = z + half;
+
+        int node = ROOT;
+        for (int level = depth - 1; level > 0; level--) {
+            path[level] = node;
+            node = nodes[node * 8 + child(ux, uy, uz, level)];
+            if (node == EMPTY) return null;
+        }
+
+        final int index = node * 8 + child(ux, uy, uz, 0);
+        final int slot = nodes[index];
+        if (slot == EMPTY) return null;
+        final V previous = (V) values[slot - 1];
+        nodes[index] = EMPTY;
+        freeValue(slot - 1);
+        size--;
+
+        for (int level = 1; level < depth && node != ROOT && isLeafless(node); level++) {
+            freeNode(node);
+            final int parent = path[level];
+            nodes[parent * 8 + child(ux, uy, uz, level)] = EMPTY;
+            node = parent;
+        }
+        return previous;
+    }
+
+    public @Nullable V remove(@NotNull Vec3i key) {
+        return remove(key.x, key.y, key.z);
+    }
+
+    /** Removes everything, keeping the pooled arrays */
+    public void clear() {
+        Arrays.fill(nodes, 0, nodeTop * 8, EMPTY);
+        Arrays.fill(values, 0, valueCount, null);
+        nodeTop = liveNodes = 1;
+        freeNode = NO_FREE;
+        valueCount = freeValueCount = size = 0;
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // Iteration
+    ///////////////////////////////////////////////////////////////////////////
+
+    /** Visits every entry in Morton order */
+    public void forEach(@NotNull Vec3iObjectConsumer<? super V> action) {
+        visit(ROOT, half, 0, 0, 0, 0, 0, 0, 2 * half - 1, 2 * half - 1, 2 * half - 1, action);
+    }
+
+    /** Visits every entry inside the box, bounds inclusive, in Morton order */
+    public void forEachInBox(int minX, int minY, int minZ, int maxX, int maxY, int maxZ, @NotNull Vec3iObjectConsumer<? super V> action) {
+        if (minX > maxX || minY > maxY || minZ > maxZ) throw new IllegalArgumentException("Invalid box");
+        final long limit = 2 * half - 1;
+        visit(ROOT, half,
+                0, 0, 0,
+                Math.max(minX + half, 0), Math.max(minY + half, 0), Math.max(minZ + half, 0),
+                Math.min(maxX + half, limit), Math.min(maxY + half, limit), Math.min(maxZ + half, limit),
+                action);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void visit(int node, long childSize, long ox, long oy, long oz,
+                       long minX, long minY, long minZ, long maxX, long maxY, long maxZ,
+                       Vec3iObjectConsumer<? super V> action) {
+        for (int child = 0; child < 8; child++) {
+            final int slot = nodes[node * 8 + child];
+            if (slot == EMPTY) continue;
+            final long cx = ox + ((child & 1) != 0 ? childSize : 0);
+            final long cy = oy + ((child & 2) != 0 ? childSize : 0);
+            final long cz = oz + ((child & 4) != 0 ? childSize : 0);
+            if (cx > maxX || cy > maxY || cz > maxZ || cx + childSize <= minX || cy + childSize <= minY || cz + childSize <= minZ) continue;
+
+            if (childSize == 1) action.accept((int) (cx - half), (int) (cy - half), (int) (cz - half), (V) values[slot - 1]);
+            else visit(slot, childSize >> 1, cx, cy, cz, minX, minY, minZ, maxX, maxY, maxZ, action);
+        }
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // Internals
+    ///////////////////////////////////////////////////////////////////////////
+
+    private int find(int x, int y, int z) {
+        final long ux = x + half, uy = y + half, uz = z + half;
+        int node = ROOT;
+        for (int level = depth - 1; level > 0; level--) {
+            node = nodes[node * 8 + child(ux, uy, uz, level)];
+            if (node == EMPTY) return EMPTY;
+        }
+        return nodes[node * 8 + child(ux, uy, uz, 0)];
+    }
+
+    private static int child(long ux, long uy, long uz, int level) {
+        return (int) ((ux >>> level) & 1 | ((uy >>> level) & 1) << 1 | ((uz >>> level) & 1) << 2);
+    }
+
+    private boolean fits(int val) {
+        return val >= -half && val < half;
+    }
+
+    private void checkFits(int x, int y, int z) {
+        if (!fits(x, y, z)) throw new IllegalArgumentException("Coordinates out of range");
+    }
+
+    private boolean isLeafless(int node) {
+        for (int i = node * 8; i < node * 8 + 8; i++) if (nodes[i] != EMPTY) return false;
+        return true;
+    }
+
+    private int allocateNode() {
+        liveNodes++;
+        if (freeNode != NO_FREE) {
+            final int node = freeNode;
+            freeNode = nodes[node * 8];
+            nodes[node * 8] = EMPTY;
+            return node;
+        }
+        if ((nodeTop + 1) * 8 > nodes.length) nodes = Arrays.copyOf(nodes, grow(nodes.length));
+        return nodeTop++;
+    }
+
+    private void freeNode(int node) {
+        // The first child slot links the free list, the other seven are already empty
+        nodes[node * 8] = freeNode;
+        freeNode = node;
+        liveNodes--;
+    }
+
+    private int allocateValue() {
+        if (freeValueCount > 0) return freeValues[--freeValueCount];
+        if (valueCount == values.length) values = Arrays.copyOf(values, grow(values.length));
+        return valueCount++;
+    }
+
+    private void freeValue(int index) {
+        values[index] = null;
+        if (freeValueCount == freeValues.length) freeValues = Arrays.copyOf(freeValues, grow(freeValues.length));
+        freeValues[freeValueCount++] = index;
+    }
+
+    private static int grow(int length) {
+        final int grown = length + (length >> 1);
+        if (grown < 0 || grown > Integer.MAX_VALUE - 8) throw new IllegalStateException("Octree too large");
+        return grown;
+    }
+}
@@ -0,0 +1,297 @@
+package com.hellfire.net.vec.spatial;
+
+import com.hellfire.net.vec.collections.Vec2iIntMap;
+import com.hellfire.net.vec.doubles.Vec2d;
+import com.hellfire.net.vec.hash.VecHasher;
+import com.hellfire.net.vec.ints.Vec2i;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/** Two-dimensional {@link SpatialHash3d}, for example over the x and z of entities on a flat map. */
+public class SpatialHash2d {
+
+    private static final int NONE = -1, ABSENT = -2;
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private final double cellSize, invCellSize;
+    private final Vec2iIntMap heads;
+
+    private double[] x, y;
+    // prev is ABSENT for ids that are not in the grid and NONE for the first id of a cell
+    private int[] next, prev;
+    private int size;
+
+    public SpatialHash2d(double cellSize) {
+        this(cellSize, DEFAULT_CAPACITY);
+    }
+
+    public SpatialHash2d(double cellSize, int expectedSize) {
+        if (!(cellSize > 0) || Double.isInfinite(cellSize)) throw new IllegalArgumentException("Invalid cell size");
+        if (expectedSize < 0) throw new IllegalArgumentException("Invalid expected size");
+        this.cellSize = cellSize;
+        this.invCellSize = 1 / cellSize;
+        this.heads = new Vec2iIntMap(expectedSize, 0.75f, VecHasher.MIXED, NONE);
+        allocate(Math.max(expectedSize, DEFAULT_CAPACITY));
+    }
+
+    public double cellSize() {
+        return cellSize;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean contains(int id) {
+        return id >= 0 && id < prev.length && prev[id] != ABSENT;
+    }
+
+    public double x(int id) {
+        checkPresent(id);
+        return x[id];
+    }
+
+    public double y(int id) {
+        checkPresent(id);
+        return y[id];
+    }
+
+    /** The cell containing the given position */
+    @NotNull
+    public Vec2i cellOf(double x, double y) {
+        return new Vec2i(cell(x), cell(y));
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // Updates
+    ///////////////////////////////////////////////////////////////////////////
+
+    public void insert(int id, double x, double y) {
+        if (id < 0) throw new IllegalArgumentException("Invalid id");
+        if (id >= prev.length) grow(id + 1);
+        if (prev[id] != ABSENT) throw new IllegalArgumentException("Id already present");
+
+        this.x[id] = x;
+        this.y[id] = y;
+        link(id, cell(x), cell(y));
+        size++;
+    }
+
+    public void insert(int id, @NotNull Vec2d pos) {
+        insert(id, pos.x, pos.y);
+    }
+
+    /** @return whether the id was present */
+    public boolean remove(int id) {
+        if (!contains(id)) return false;
+        unlink(id, cell(x[id]), cell(y[id]));
+        size--;
+        return true;
+    }
+
+    /** Updates the position of a present id, relinking it only if it changes cells */
+    public void move(int id, double x, double y) {
+        checkPresent(id);
+        final int oldX = cell(this.x[id]), oldY = cell(this.y[id]);
+        final int newX = cell(x), newY = cell(y);
+        if (oldX != newX || oldY != newY) {
+            unlink(id, oldX, oldY);
+            link(id, newX, newY);
+        }
+        this.x[id] = x;
+        this.y[id] = y;
+    }
+
+    public void move(int id, @NotNull Vec2d pos) {
+        move(id, pos.x, pos.y);
+    }
+
+    public void clear() {
+        heads.clear();
+        Arrays.fill(prev, ABSENT);
+        size = 0;
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // Queries
+    ///////////////////////////////////////////////////////////////////////////
+
+    /** Calls action with every id within radius of the given position, inclusive, in no particular order */
+    public void forEachInRadius(double x, double y, double radius, @NotNull IntConsumer action) {
+        checkRadius(radius);
+        query(x - radius, y - radius, x + radius, y + radius, x, y, radius * radius, action, null);
+    }
+
+    public void forEachInRadius(@NotNull Vec2d pos, double radius, @NotNull IntConsumer action) {
+        forEachInRadius(pos.x, pos.y, radius, action);
+    }
+
+    /**
+     * Writes the ids within radius of the given position into dst, in no particular order.
+     *
+     * @return the number of matching ids, only the first {@code dst.length} of which are written
+     */
+    public int queryRadius(double x, double y, double radius, int @NotNull [] dst) {
+        checkRadius(radius);
+        return query(x - radius, y - radius, x + radius, y + radius, x, y, radius * radius, null, dst);
+    }
+
+    public int queryRadius(@NotNull Vec2d pos, double radius, int @NotNull [] dst) {
+        return queryRadius(pos.x, pos.y, radius, dst);
+    }
+
+    /** Calls action with every id inside the rectangle, bounds inclusive */
+    public void forEachInBox(double minX, double minY, double maxX, double maxY, @NotNull IntConsumer action) {
+        checkBox(minX, minY, maxX, maxY);
+        query(minX, minY, maxX, maxY, 0, 0, Double.POSITIVE_INFINITY, action, null);
+    }
+
+    /** @return the number of ids inside the rectangle, only the first {@code dst.length} of which are written */
+    public int queryBox(double minX, double minY, double maxX, double maxY, int @NotNull [] dst) {
+        checkBox(minX, minY, maxX, maxY);
+        return query(minX, minY, maxX, maxY, 0, 0, Double.POSITIVE_INFINITY, null, dst);
+    }
+
+    /** Calls action once for every unordered pair of ids within radius of each other, inclusive */
+    public void forEachPairWithin(double radius, @NotNull IdPairConsumer action) {
+        checkRadius(radius);
+        final double r2 = radius * radius;
+        final int span = (int) Math.min(Math.ceil(radius * invCellSize), Integer.MAX_VALUE / 2);
+        final double neighborhood = (2.0 * span + 1) * (2.0 * span + 1);
+        if (neighborhood > prev.length) {
+            forEachPairBruteForce(r2, action);
+            return;
+        }
+
+        // Every cell is visited once through its first id, and only pairs it with the cells after it
+        for (int head = 0; head < prev.length; head++) {
+            if (prev[head] != NONE) continue;
+            final int cx = cell(x[head]), cy = cell(y[head]);
+
+            for (int a = head; a != NONE; a = next[a]) {
+                for (int b = next[a]; b != NONE; b = next[b]) {
+                    if (distanceSquared(a, b) <= r2) action.accept(a, b);
+                }
+            }
+
+            for (int dx = 0; dx <= span; dx++) {
+                for (int dy = (dx == 0) ? 1 : -span; dy <= span; dy++) {
+                    final int other = heads.get(cx + dx, cy + dy);
+                    if (other == NONE) continue;
+                    for (int a = head; a != NONE; a = next[a]) {
+                        for (int b = other; b != NONE; b = next[b]) {
+                            if (distanceSquared(a, b) <= r2) action.accept(a, b);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private void forEachPairBruteForce(double r2, IdPairConsumer action) {
+        for (int a = 0; a < prev.length; a++) {
+            if (prev[a] == ABSENT) continue;
+            for (int b = a + 1; b < prev.length; b++) {
+                if (prev[b] != ABSENT && distanceSquared(a, b) <= r2) action.accept(a, b);
+            }
+        }
+    }
+
+    private int query(double minX, double minY, double maxX, double maxY, double cx, double cy, double r2, IntConsumer action, int[] dst) {
+        final int minCellX = cell(minX), minCellY = cell(minY);
+        final int maxCellX = cell(maxX), maxCellY = cell(maxY);
+        final double cells = ((double) maxCellX - minCellX + 1) * ((double) maxCellY - minCellY + 1);
+
+        int count = 0;
+        if (cells > prev.length) {
+            // Cheaper to look at every id than at every cell
+            for (int id = 0; id < prev.length; id++) {
+                if (prev[id] != ABSENT && matches(id, minX, minY, maxX, maxY, cx, cy, r2)) count = report(id, count, action, dst);
+            }
+            return count;
+        }
+
+        for (int cellX = minCellX; cellX <= maxCellX; cellX++) {
+            for (int cellY = minCellY; cellY <= maxCellY; cellY++) {
+                for (int id = heads.get(cellX, cellY); id != NONE; id = next[id]) {
+                    if (matches(id, minX, minY, maxX, maxY, cx, cy, r2)) count = report(id, count, action, dst);
+                }
+            }
+        }
+        return count;
+    }
+
+    private boolean matches(int id, double minX, double minY, double maxX, double maxY, double cx, double cy, double r2) {
+        final double px = x[id], py = y[id];
+        if (px < minX || px > maxX || py < minY || py > maxY) return false;
+        final double dx = px - cx, dy = py - cy;
+        return dx * dx + dy * dy <= r2;
+    }
+
+    private static int report(int id, int count, IntConsumer action, int[] dst) {
+        if (action != null) action.accept(id);
+        else if (count < dst.length) dst[count] = id;
+        return count + 1;
+    }
+
+    private double distanceSquared(int a, int b) {
+        final double dx = x[a] - x[b], dy = y[a] - y[b];
+        return dx * dx + dy * dy;
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // Internals
+    ///////////////////////////////////////////////////////////////////////////
+
+    private int cell(double val) {
+        return (int) Math.floor(val * invCellSize);
+    }
+
+    private void link(int id, int cellX, int cellY) {
+        final int head = heads.put(cellX, cellY, id);
+        next[id] = head;
+        prev[id] = NONE;
+        if (head != NONE) prev[head] = id;
+    }
+
+    private void unlink(int id, int cellX, int cellY) {
+        final int before = prev[id], after = next[id];
+        if (after != NONE) prev[after] = before;
+        if (before != NONE) next[before] = after;
+        else if (after != NONE) heads.put(cellX, cellY, after);
+        else heads.remove(cellX, cellY);
+        prev[id] = ABSENT;
+    }
+
+    private void allocate(int capacity) {
+        x = new double[capacity];
+        y = new double[capacity];
+        next = new int[capacity];
+        prev = new int[capacity];
+        Arrays.fill(prev, ABSENT);
+    }
+
+    private void grow(int minCapacity) {
+        final int oldCapacity = prev.length;
+        final int capacity = Math.min(Math.max(minCapacity, oldCapacity + (oldCapacity >> 1)), Integer.MAX_VALUE - 8);
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        next = Arrays.copyOf(next, capacity);
+        prev = Arrays.copyOf(prev, capacity);
+        Arrays.fill(prev, oldCapacity, capacity, ABSENT);
+    }
+
+    private void checkPresent(int id) {
+        if (!contains(id)) throw new IllegalArgumentException("Id not present");
+    }
+
+    private static void checkRadius(double radius) {
+        if (!(radius >= 0) || Double.isInfinite(radius)) throw new IllegalArgumentException("Invalid radius");
+    }
+
+    private static void checkBox(double minX, double minY, double maxX, double maxY) {
+        if (!(minX <= maxX && minY <= maxY)) throw new IllegalArgumentException("Invalid box");
+    }
+}
@@ -0,0 +1,199 @@
+package com.hellfire.net.vec.spatial;
+
+import com.hellfire.net.vec.doubles.Vec3d;
+import com.hellfire.net.vec.ints.Vec3i;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.IntConsumer;
+
+import static com.hellfire.net.vec.spatial.LinkedCells3d.ABSENT;
+import static com.hellfire.net.vec.spatial.LinkedCells3d.NONE;
+import static com.hellfire.net.vec.spatial.LinkedCells3d.checkBox;
+import static com.hellfire.net.vec.spatial.LinkedCells3d.checkRadius;
+
+/**
+ * Uniform grid over {@link Vec3d} positions, for radius and neighbor queries without comparing every pair.
+ * <p>
+ * Objects are identified by non-negative {@code int} ids chosen by the caller, ideally dense such as entity indices,
+ * since positions and links are stored in arrays indexed by id. Every occupied cell maps to the first id of an
+ * intrusive doubly linked list, so insert, remove and move are O(1) and nothing is allocated outside of growing.
+ * <p>
+ * Pick a cell size close to the most common query radius. Not thread safe.
+ */
+public class SpatialHash3d {
+
+    private final LinkedCells3d cells;
+
+    public SpatialHash3d(double cellSize) {
+        this(cellSize, LinkedCells3d.DEFAULT_CAPACITY);
+    }
+
+    public SpatialHash3d(double cellSize, int expectedSize) {
+        this.cells = new LinkedCells3d(cellSize, 0, expectedSize);
+    }
+
+    public double cellSize() {
+        return cells.cellSize;
+    }
+
+    public int size() {
+        return cells.size;
+    }
+
+    public boolean contains(int id) {
+        return cells.contains(id);
+    }
+
+    public double x(int id) {
+        checkPresent(id);
+        return cells.x[id];
+    }
+
+    public double y(int id) {
+        checkPresent(id);
+        return cells.y[id];
+    }
+
+    public double z(int id) {
+        checkPresent(id);
+        return cells.z[id];
+    }
+
+    /** The cell containing the given position */
+    @NotNull
+    public Vec3i cellOf(double x, double y, double z) {
+        return new Vec3i(cells.cell(x), cells.cell(y), cells.cell(z));
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // Updates
+    ///////////////////////////////////////////////////////////////////////////
+
+    public void insert(int id, double x, double y, double z) {
+        if (id < 0) throw new IllegalArgumentException("Invalid id");
+        if (cells.contains(id)) throw new IllegalArgumentException("Id already present");
+        cells.insert(id, x, y, z);
+    }
+
+    public void insert(int id, @NotNull Vec3d pos) {
+        insert(id, pos.x, pos.y, pos.z);
+    }
+
+    /** @return whether the id was present */
+    public boolean remove(int id) {
+        if (!cells.contains(id)) return false;
+        cells.remove(id);
+        return true;
+    }
+
+    /** Updates the position of a present id, relinking it only if it changes cells */
+    public void move(int id, double x, double y, double z) {
+        checkPresent(id);
+        cells.move(id, x, y, z);
+    }
+
+    public void move(int id, @NotNull Vec3d pos) {
+        move(id, pos.x, pos.y, pos.z);
+    }
+
+    public void clear() {
+        cells.clear();
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // Queries
+    ///////////////////////////////////////////////////////////////////////////
+
+    /** Calls action with every id within radius of the given position, inclusive, in no particular order */
+    public void forEachInRadius(double x, double y, double z, double radius, @NotNull IntConsumer action) {
+        checkRadius(radius);
+        cells.query(x - radius, y - radius, z - radius, x + radius, y + radius, z + radius, x, y, z, radius * radius, action, null);
+    }
+
+    public void forEachInRadius(@NotNull Vec3d pos, double radius, @NotNull IntConsumer action) {
+        forEachInRadius(pos.x, pos.y, pos.z, radius, action);
+    }
+
+    /**
+     * Writes the ids within radius of the given position into dst, in no particular order.
+     *
+     * @return the number of matching ids, only the first {@code dst.length} of which are written
+     */
+    public int queryRadius(double x, double y, double z, double radius, int @NotNull [] dst) {
+        checkRadius(radius);
+        return cells.query(x - radius, y - radius, z - radius, x + radius, y + radius, z + radius, x, y, z, radius * radius, null, dst);
+    }
+
+    public int queryRadius(@NotNull Vec3d pos, double radius, int @NotNull [] dst) {
+        return queryRadius(pos.x, pos.y, pos.z, radius, dst);
+    }
+
+    /** Calls action with every id inside the box, bounds inclusive */
+    public void forEachInBox(double minX, double minY, double minZ, double maxX, double maxY, double maxZ, @NotNull IntConsumer action) {
+        checkBox(minX, minY, minZ, maxX, maxY, maxZ);
+        cells.query(minX, minY, minZ, maxX, maxY, maxZ, 0, 0, 0, Double.POSITIVE_INFINITY, action, null);
+    }
+
+    /** @return the number of ids inside the box, only the first {@code dst.length} of which are written */
+    public int queryBox(double minX, double minY, double minZ, double maxX, double maxY, double maxZ, int @NotNull [] dst) {
+        checkBox(minX, minY, minZ, maxX, maxY, maxZ);
+        return cells.query(minX, minY, minZ, maxX, maxY, maxZ, 0, 0, 0, Double.POSITIVE_INFINITY, null, dst);
+    }
+
+    /** Calls action once for every unordered pair of ids within radius of each other, inclusive */
+    public void forEachPairWithin(double radius, @NotNull IdPairConsumer action) {
+        checkRadius(radius);
+        final double r2 = radius * radius;
+        final int[] next = cells.next, prev = cells.prev;
+        final int span = (int) Math.min(Math.ceil(radius * cells.invCellSize), Integer.MAX_VALUE / 2);
+        final double neighborhood = (2.0 * span + 1) * (2.0 * span + 1) * (2.0 * span + 1);
+        if (neighborhood > prev.length) {
+            forEachPairBruteForce(r2, action);
+            return;
+        }
+
+        // Every cell is visited once through its first id, and only pairs it with the cells after it
+        for (int head = 0; head < prev.length; head++) {
+            if (prev[head] != NONE) continue;
+            final int cx = cells.cellX[head], cy = cells.cellY[head], cz = cells.cellZ[head];
+
+            for (int a = head; a != NONE; a = next[a]) {
+                for (int b = next[a]; b != NONE; b = next[b]) {
+                    if (cells.distanceSquared(a, b) <= r2) action.accept(a, b);
+                }
+            }
+
+            for (int dx = 0; dx <= span; dx++) {
+                for (int dy = (dx == 0) ? 0 : -span; dy <= span; dy++) {
+                    for (int dz = (dx == 0 && dy == 0) ? 1 : -span; dz <= span; dz++) {
+                        final int other = cells.heads.get(cx + dx, cy + dy, cz + dz);
+                        if (other == NONE) continue;
+                        for (int a = head; a != NONE; a = next[a]) {
+                            for (int b = other; b != NONE; b = next[b]) {
+                                if (cells.distanceSquared(a, b) <= r2) action.accept(a, b);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private void forEachPairBruteForce(double r2, IdPairConsumer action) {
+        final int[] prev = cells.prev;
+        for (int a = 0; a < prev.length; a++) {
+            if (prev[a] == ABSENT) continue;
+            for (int b = a + 1; b < prev.length; b++) {
+                if (prev[b] != ABSENT && cells.distanceSquared(a, b) <= r2) action.accept(a, b);
+            }
+        }
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // Internals
+    ///////////////////////////////////////////////////////////////////////////
+
+    private void checkPresent(int id) {
+        if (!cells.contains(id)) throw new IllegalArgumentException("Id not present");
+    }
+}
@@ -0,0 +1,79 @@
+package com.hellfire.net.vec.text;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Allocation-free number formatting for vector components. Output always uses {@code '.'} as the decimal separator.
+ * <p>
+ * With a precision of {@code 0} to {@value #MAX_PRECISION} the output is identical to {@code String.format("%.2f")}
+ * in the root locale: the shortest decimal representation of the value is rounded half-up. A negative precision
+ * ({@link #FULL_PRECISION}) writes that shortest representation as is, which parses back to the same value.
+ */
+public final class VecFormat {
+
+    public static final int FULL_PRECISION = -1;
+    public static final int MAX_PRECISION = 17;
+
+    private static final long[] POW10 = new long[MAX_PRECISION + 1];
+    // Above this the scaled value no longer fits the fast path exactly
+    private static final double MAX_FAST_SCALED = 1e15;
+    // Relative error bound of the scaled value, with a safety margin
+    private static final double SCALE_ERROR = 0x1p-50;
+
+    static {
+        POW10[0] = 1;
+        for (int i = 1; i < POW10.length; i++) POW10[i] = POW10[i - 1] * 10;
+    }
+
+    private VecFormat() {
+    }
+
+    @NotNull
+    public static StringBuilder append(@NotNull StringBuilder sb, double val, int precision) {
+        if (precision < 0 || !Double.isFinite(val)) return sb.append(val);
+        checkPrecision(precision);
+
+        final boolean negative = Double.doubleToRawLongBits(val) < 0;
+        final double scaled = Math.abs(val) * POW10[precision];
+        if (negative) sb.append('-');
+
+        // Huge values and values too close to a rounding tie to decide from the scaled double are rare enough
+        // that the allocation does not matter
+        if (scaled >= MAX_FAST_SCALED || Math.abs(scaled - Math.floor(scaled) - 0.5) <= scaled * SCALE_ERROR) {
+            return sb.append(new BigDecimal(Double.toString(Math.abs(val))).setScale(precision, RoundingMode.HALF_UP).toPlainString());
+        }
+
+        final long units = Math.round(scaled);
+        sb.append(units / POW10[precision]);
+        return appendFraction(sb, units % POW10[precision], precision);
+    }
+
+    @NotNull
+    public static StringBuilder append(@NotNull StringBuilder sb, float val, int precision) {
+        if (precision < 0) return sb.append(val);
+        return append(sb, (double) val, precision);
+    }
+
+    /** Integers are written as is, followed by {@code precision} zeros so they line up with floating point columns */
+    @NotNull
+    public static StringBuilder append(@NotNull StringBuilder sb, long val, int precision) {
+        sb.append(val);
+        if (precision <= 0) return sb;
+        checkPrecision(precision);
+        return appendFraction(sb, 0, precision);
+    }
+
+    private static StringBuilder appendFraction(StringBuilder sb, long fraction, int precision) {
+        if (precision == 0) return sb;
+        sb.append('.');
+        for (int digit = precision - 1; digit >= 0; digit--) sb.append((char) ('0' + (fraction / POW10[digit]) % 10));
+        return sb;
+    }
+
+    private static void checkPrecision(int precision) {
+        if (precision > MAX_PRECISION) throw new IllegalArgumentException("Invalid precision");
+    }
+}
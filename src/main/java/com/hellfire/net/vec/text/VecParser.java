@@ -0,0 +1,244 @@
+package com.hellfire.net.vec.text;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+
+/**
+ * Cursor over a {@link CharSequence} that reads numbers and vectors without creating intermediate strings.
+ * <p>
+ * Accepts both the {@code toString}/{@code appendTo} form {@code Vec3d{x=1.00, y=2.00, z=3.00}} and plain separated
+ * components such as {@code 1.0,2.0,3.0} or {@code 1 2 3}. Commas, semicolons and whitespace separate components, and a
+ * single-letter {@code name=} prefix is skipped. Decimal numbers with at most 15 significant digits and small exponents are
+ * converted exactly; anything else falls back to {@link Double#parseDouble(String)}.
+ */
+public final class VecParser {
+
+    private static final double[] DOUBLE_POW10 = new double[23];
+    private static final float[] FLOAT_POW10 = new float[11];
+    private static final long MAX_EXACT_DOUBLE = 1L << 53;
+    private static final long MAX_EXACT_FLOAT = 1L << 24;
+    private static final int MAX_DIGITS = 18;
+
+    static {
+        DOUBLE_POW10[0] = 1;
+        for (int i = 1; i < DOUBLE_POW10.length; i++) DOUBLE_POW10[i] = DOUBLE_POW10[i - 1] * 10;
+        FLOAT_POW10[0] = 1;
+        for (int i = 1; i < FLOAT_POW10.length; i++) FLOAT_POW10[i] = FLOAT_POW10[i - 1] * 10;
+    }
+
+    private final CharSequence text;
+    private int pos;
+
+    // Result of the last scan
+    private int start;
+    private long mantissa;
+    private int exp10;
+    private boolean negative, exact;
+
+    public VecParser(final @NotNull CharSequence text) {
+        this(text, 0);
+    }
+
+    public VecParser(final @NotNull CharSequence text, final int from) {
+        this.text = text;
+        position(from);
+    }
+
+    public int position() {
+        return pos;
+    }
+
+    @NotNull
+    public VecParser position(final int pos) {
+        Objects.checkIndex(pos, text.length() + 1);
+        this.pos = pos;
+        return this;
+    }
+
+    public boolean hasRemaining() {
+        return pos < text.length();
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // Vectors
+    ///////////////////////////////////////////////////////////////////////////
+
+    /** Skips whitespace and an optional {@code Name{} header */
+    @NotNull
+    public VecParser beginVec() {
+        skipWhitespace();
+        int i = pos;
+        while (i < text.length() && Character.isLetterOrDigit(text.charAt(i))) i++;
+        if (i > pos && i < text.length() && text.charAt(i) == '{') pos = i + 1;
+        return this;
+    }
+
+    /** Skips whitespace and an optional closing {@code '}'} */
+    @NotNull
+    public VecParser endVec() {
+        skipWhitespace();
+        if (pos < text.length() && text.charAt(pos) == '}') pos++;
+        return this;
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // Numbers
+    ///////////////////////////////////////////////////////////////////////////
+
+    public double nextDouble() {
+        if (scanSpecial()) return special();
+        scan();
+        if (exact && mantissa < MAX_EXACT_DOUBLE && exp10 >= -22 && exp10 <= 22) {
+            final double val = exp10 < 0 ? mantissa / DOUBLE_POW10[-exp10] : mantissa * DOUBLE_POW10[exp10];
+            return negative ? -val : val;
+        }
+        return Double.parseDouble(text.subSequence(start, pos).toString());
+    }
+
+    public float nextFloat() {
+        if (scanSpecial()) return (float) special();
+        scan();
+        if (exact && mantissa < MAX_EXACT_FLOAT && exp10 >= -10 && exp10 <= 10) {
+            final float val = exp10 < 0 ? mantissa / FLOAT_POW10[-exp10] : mantissa * FLOAT_POW10[exp10];
+            return negative ? -val : val;
+        }
+        return Float.parseFloat(text.subSequence(start, pos).toString());
+    }
+
+    /** Reads an integer, a fraction made of zeros only (as written by {@link VecFormat} with a precision) is accepted */
+    public long nextLong() {
+        skipSeparators();
+        start = pos;
+        final boolean neg = readSign();
+        final int digitsStart = pos;
+
+        long val = 0;
+        while (pos < text.length() && isDigit(text.charAt(pos))) {
+            final int digit = text.charAt(pos++) - '0';
+            // Accumulate negatively so that Long.MIN_VALUE fits
+            if (val < (Long.MIN_VALUE + digit) / 10) throw invalid();
+            val = val * 10 - digit;
+        }
+        if (pos == digitsStart) throw invalid();
+
+        if (pos < text.length() && text.charAt(pos) == '.') {
+            pos++;
+            while (pos < text.length() && text.charAt(pos) == '0') pos++;
+            if (pos < text.length() && isDigit(text.charAt(pos))) throw invalid();
+        }
+
+        if (neg) return val;
+        if (val == Long.MIN_VALUE) throw invalid();
+        return -val;
+    }
+
+    public int nextInt() {
+        final long val = nextLong();
+        if (val < Integer.MIN_VALUE || val > Integer.MAX_VALUE) throw invalid();
+        return (int) val;
+    }
+
+    private void scan() {
+        skipSeparators();
+        start = pos;
+        negative = readSign();
+        mantissa = 0;
+        exp10 = 0;
+        exact = true;
+
+        int digits = 0;
+        boolean any = false;
+        while (pos < text.length() && isDigit(text.charAt(pos))) {
+            any = true;
+            digits = accumulate(text.charAt(pos++) - '0', digits, false);
+        }
+        if (pos < text.length() && text.charAt(pos) == '.') {
+            pos++;
+            while (pos < text.length() && isDigit(text.charAt(pos))) {
+                any = true;
+                digits = accumulate(text.charAt(pos++) - '0', digits, true);
+            }
+        }
+        if (!any) throw invalid();
+
+        if (pos < text.length() && (text.charAt(pos) == 'e' || text.charAt(pos) == 'E')) {
+            pos++;
+            final boolean negExp = readSign();
+            final int expStart = pos;
+            int exp = 0;
+            while (pos < text.length() && isDigit(text.charAt(pos))) {
+                // Saturate, the slow path deals with the actual value
+                exp = Math.min(exp * 10 + (text.charAt(pos++) - '0'), 100_000);
+            }
+            if (pos == expStart) throw invalid();
+            exp10 += negExp ? -exp : exp;
+        }
+    }
+
+    private int accumulate(int digit, int digits, boolean fraction) {
+        if (digits < MAX_DIGITS) {
+            mantissa = mantissa * 10 + digit;
+            if (fraction) exp10--;
+            return mantissa == 0 ? 0 : digits + 1;
+        }
+        // Dropped digits only keep the result exact if they are zeros
+        if (digit != 0) exact = false;
+        if (!fraction) exp10++;
+        return digits;
+    }
+
+    private boolean scanSpecial() {
+        skipSeparators();
+        start = pos;
+        int i = pos;
+        if (i < text.length() && (text.charAt(i) == '-' || text.charAt(i) == '+')) i++;
+        return i < text.length() && (text.charAt(i) == 'N' || text.charAt(i) == 'I');
+    }
+
+    private double special() {
+        final boolean neg = readSign();
+        if (matches("NaN")) return Double.NaN;
+        if (matches("Infinity")) return neg ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY;
+        throw invalid();
+    }
+
+    private boolean matches(String word) {
+        if (pos + word.length() > text.length()) return false;
+        for (int i = 0; i < word.length(); i++) if (text.charAt(pos + i) != word.charAt(i)) return false;
+        pos += word.length();
+        return true;
+    }
+
+    private boolean readSign() {
+        if (pos >= text.length()) return false;
+        final char c = text.charAt(pos);
+        if (c == '-') {
+            pos++;
+            return true;
+        }
+        if (c == '+') pos++;
+        return false;
+    }
+
+    private void skipWhitespace() {
+        while (pos < text.length() && Character.isWhitespace(text.charAt(pos))) pos++;
+    }
+
+    private void skipSeparators() {
+        while (pos < text.length()) {
+            final char c = text.charAt(pos);
+            if (c == ',' || c == ';' || Character.isWhitespace(c)) pos++;
+            else if (Character.isLetter(c) && pos + 1 < text.length() && text.charAt(pos + 1) == '=') pos += 2;
+            else break;
+        }
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private NumberFormatException invalid() {
+        return new NumberFormatException("Invalid number at index " + start + ": " + text.subSequence(start, Math.min(text.length(), Math.max(pos, start + 1))));
+    }
+}
@@ -0,0 +1,42 @@
+package com.hellfire.net.vec;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/** Shared allocation checks for tests, built on the per-thread allocation counter of HotSpot. */
+public final class Allocations {
+
+    /**
+     * Bytes a supposedly allocation-free action may still allocate. The JIT occasionally allocates a few bytes on the
+     * measuring thread while compiling, so exactly zero is flaky. One object per call in a measured loop is far above it.
+     */
+    public static final long TOLERANCE = 1_024;
+
+    /** Unmeasured runs before the measured one, so class loading, lazy initialization and compilation are done */
+    public static final int WARMUP_ROUNDS = 3;
+
+    private static final com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private Allocations() {
+    }
+
+    /** Bytes allocated by the current thread while running action once */
+    public static long measure(Runnable action) {
+        final long before = threads.getCurrentThreadAllocatedBytes();
+        action.run();
+        return threads.getCurrentThreadAllocatedBytes() - before;
+    }
+
+    /** Warms up action, then asserts a single run allocates less than the given number of bytes */
+    public static void assertAllocatesLessThan(long bytes, Runnable action) {
+        for (int round = 0; round < WARMUP_ROUNDS; round++) action.run();
+        final long allocated = measure(action);
+        assertTrue(allocated < bytes, "Allocated " + allocated + " bytes, expected less than " + bytes);
+    }
+
+    /** {@link #assertAllocatesLessThan} with {@link #TOLERANCE} */
+    public static void assertDoesNotAllocate(Runnable action) {
+        assertAllocatesLessThan(TOLERANCE, action);
+    }
+}
@@ -0,0 +1,74 @@
+package com.hellfire.net.vec;
+
+import com.hellfire.net.vec.doubles.Vec3d;
+import com.hellfire.net.vec.doubles.Vec3dBuffer;
+import com.hellfire.net.vec.floats.MutableVec3f;
+import com.hellfire.net.vec.floats.Vec3fBuffer;
+import com.hellfire.net.vec.ints.Vec3i;
+import com.hellfire.net.vec.longs.Vec4l;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FastMathTest {
+
+    private static final ThreadLocalRandom rand = ThreadLocalRandom.current();
+
+    @Test
+    void testInvSqrtAccuracy() {
+        double worst = 0, worstFloat = 0;
+        for (int i = 0; i < 1_000_000; i++) {
+            // Log-uniform over a wide range, so every mantissa and exponent parity is covered
+            final double x = Math.pow(10, rand.nextDouble(-30, 30));
+            worst = Math.max(worst, Math.abs(FastMath.invSqrt(x) * Math.sqrt(x) - 1));
+
+            final float f = (float) Math.pow(10, rand.nextDouble(-15, 15));
+            worstFloat = Math.max(worstFloat, Math.abs(FastMath.invSqrt(f) * Math.sqrt(f) - 1));
+        }
+        assertTrue(worst < FastMath.MAX_RELATIVE_ERROR, "double relative error " + worst);
+        assertTrue(worstFloat < FastMath.MAX_RELATIVE_ERROR, "float relative error " + worstFloat);
+        assertEquals(0, FastMath.sqrt(0));
+    }
+
+    @Test
+    void testFastVecMethods() {
+        for (int i = 0; i < 10_000; i++) {
+            final Vec3d vec = new Vec3d(rand.nextDouble(-1_000, 1_000), rand.nextDouble(-1_000, 1_000), rand.nextDouble(-1_000, 1_000));
+            assertEquals(vec.length(), vec.lengthFast(), vec.length() * FastMath.MAX_RELATIVE_ERROR);
+            assertEquals(1 / vec.length(), vec.inverseLength(), 1e-15);
+            assertEquals(1, vec.normalizeFast().length(), FastMath.MAX_RELATIVE_ERROR);
+
+            final Vec3i ints = new Vec3i(rand.nextInt(-1_000, 1_000), rand.nextInt(-1_000, 1_000), rand.nextInt(1, 1_000));
+            assertEquals(1, ints.normalizeFast().length(), FastMath.MAX_RELATIVE_ERROR);
+            assertEquals(ints.normalize(), new Vec3d(ints.x, ints.y, ints.z).normalize());
+        }
+
+        // Squares must not overflow in the integer types
+        final Vec4l big = new Vec4l(Integer.MAX_VALUE, Integer.MAX_VALUE, 0, 0);
+        assertEquals(Integer.MAX_VALUE * Math.sqrt(2), big.lengthFast(), big.lengthFast() * FastMath.MAX_RELATIVE_ERROR);
+
+        final MutableVec3f dir = new MutableVec3f(3, -4, 12).normalizeFastLocal();
+        assertEquals(1, dir.length(), FastMath.MAX_RELATIVE_ERROR);
+    }
+
+    @Test
+    void testBulkNormalizeFast() {
+        final Vec3dBuffer doubles = new Vec3dBuffer(64);
+        final Vec3fBuffer floats = new Vec3fBuffer(64);
+        for (int i = 0; i < 64; i++) {
+            doubles.set(i, rand.nextDouble(1, 100), rand.nextDouble(1, 100), rand.nextDouble(1, 100));
+            floats.set(i, (float) rand.nextDouble(1, 100), (float) rand.nextDouble(1, 100), (float) rand.nextDouble(1, 100));
+        }
+
+        doubles.normalizeFast();
+        floats.normalizeFast(0, 32);
+        for (int i = 0; i < 64; i++) {
+            assertEquals(1, doubles.length(i), FastMath.MAX_RELATIVE_ERROR);
+            if (i < 32) assertEquals(1, floats.length(i), FastMath.MAX_RELATIVE_ERROR);
+            else assertTrue(floats.length(i) > 1);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.hellfire.net.vec;
+
+import com.hellfire.net.vec.doubles.*;
+import com.hellfire.net.vec.floats.*;
+import com.hellfire.net.vec.ints.*;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class IVecBufferTest {
+
+    private static final ThreadLocalRandom rand = ThreadLocalRandom.current();
+    private static final int SIZE = 64;
+
+    private static Vec3d randomVec3d() {
+        return new Vec3d(rand.nextDouble(-5_000, 5_000), rand.nextDouble(-5_000, 5_000), rand.nextDouble(-5_000, 5_000));
+    }
+
+    private static Vec3i randomVec3i() {
+        return new Vec3i(rand.nextInt(10_000) - 5_000, rand.nextInt(10_000) - 5_000, rand.nextInt(10_000) - 5_000);
+    }
+
+    @Test
+    void testMatchesVecOps() {
+        final Vec3d[] a = new Vec3d[SIZE], b = new Vec3d[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            a[i] = randomVec3d();
+            b[i] = randomVec3d();
+        }
+
+        final Vec3dBuffer buf = new Vec3dBuffer(a);
+        final Vec3dBuffer other = new Vec3dBuffer(b);
+        buf.add(other).mulScalar(0, SIZE, 0.5).sub(other);
+
+        for (int i = 0; i < SIZE; i++) assertEquals(a[i].add(b[i]).mulScalar(0.5).sub(b[i]), buf.get(i));
+
+        final double[] dst = new double[SIZE];
+        buf.distanceSquared(0, SIZE, other, dst, 0);
+        for (int i = 0; i < SIZE; i++) assertEquals(buf.get(i).distanceSquared(b[i]), dst[i]);
+
+        buf.normalize();
+        for (int i = 0; i < SIZE; i++) assertEquals(1, buf.length(i), 0.000001);
+    }
+
+    @Test
+    void testRangeIsRespected() {
+        final Vec3iBuffer buf = new Vec3iBuffer(SIZE);
+        buf.add(10, 20, new Vec3i(1, 2, 3));
+
+        for (int i = 0; i < SIZE; i++) {
+            final Vec3i expected = (i >= 10 && i < 20) ? new Vec3i(1, 2, 3) : Vec3i.ZERO;
+            assertEquals(expected, buf.get(i));
+        }
+
+        assertThrows(IndexOutOfBoundsException.class, () -> buf.add(0, SIZE + 1, Vec3i.ZERO));
+        assertThrows(IndexOutOfBoundsException.class, () -> buf.length(0, SIZE, new double[SIZE - 1], 0));
+    }
+
+    @Test
+    void testNormalizeIntoDoubles() {
+        final Vec3i[] vecs = new Vec3i[SIZE];
+        for (int i = 0; i < SIZE; i++) vecs[i] = randomVec3i();
+
+        final Vec3dBuffer dst = new Vec3iBuffer(vecs).normalize(0, SIZE, new Vec3dBuffer(SIZE));
+        for (int i = 0; i < SIZE; i++) assertEquals(vecs[i].normalize(), dst.get(i));
+
+        final Vec2fBuffer floats = new Vec2fBuffer(new Vec2f(3, 4), new Vec2f(0, 5));
+        floats.normalize();
+        assertEquals(new Vec2f(0.6f, 0.8f), floats.get(0));
+        assertEquals(new Vec2f(0, 1), floats.get(1));
+    }
+}
@@ -7,9 +7,13 @@ import com.hellfire.net.vec.doubles.*;
 import org.junit.jupiter.api.Test;
 
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.concurrent.ThreadLocalRandom;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class IVecTest {
 
@@ -108,6 +112,120 @@ class IVecTest {
         assert vec4d.hashCode() != new Vec4d(rand.nextDouble() + rand.nextInt(), rand.nextDouble() + rand.nextInt(), rand.nextDouble() + rand.nextInt(), rand.nextDouble() + rand.nextInt()).hashCode();
     }
 
+    @Test
+    void testEqualsMatchesBoxedSemantics() {
+        assertEquals(new Vec3d(Double.NaN, 0, 1), new Vec3d(Double.NaN, 0, 1));
+        assertFalse(new Vec3d(-0.0, 0, 0).equals(new Vec3d(0.0, 0, 0)));
+        assertFalse(new Vec2f(-0.0f, 0).equals(new Vec2f(0.0f, 0)));
+        assertFalse(vec3i.equals(new Vec3l(vec3i.x, vec3i.y, vec3i.z)));
+
+        // Hashes must stay identical to the former getComponents() based implementation
+        assertEquals(Arrays.hashCode(vec4d.getComponents()) - 31 * 31 * 31 * 31, vec4d.hashCode());
+        assertEquals(31 * Integer.hashCode(vec2i.x) + Integer.hashCode(vec2i.y), vec2i.hashCode());
+        assertEquals(new Vec3f(1.5f, Float.NaN, -2).hashCode(), new Vec3f(1.5f, Float.NaN, -2).hashCode());
+    }
+
+    @Test
+    void testMapLookupsDoNotAllocate() {
+        final Map<Vec3i, Integer> blocks = new HashMap<>();
+        final Vec3i[] keys = new Vec3i[1_024];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = new Vec3i(i, i >> 4, -i);
+            blocks.put(keys[i], i);
+        }
+
+        final long[] hits = new long[1];
+        Allocations.assertDoesNotAllocate(() -> hits[0] = lookup(blocks, keys));
+        assertEquals(keys.length * 100L, hits[0]);
+    }
+
+    private static long lookup(Map<Vec3i, Integer> map, Vec3i[] keys) {
+        long hits = 0;
+        for (int round = 0; round < 100; round++) {
+            for (Vec3i key : keys) if (map.containsKey(key)) hits++;
+        }
+        return hits;
+    }
+
+    @Test
+    void testPrimitiveOps() {
+        assertEquals(vec3d.addScalar(Double.valueOf(2.5)), vec3d.addScalar(2.5));
+        assertEquals(vec3f.mulScalar(Float.valueOf(3)), vec3f.mulScalar(3f));
+        assertEquals(vec4i.subScalar(Integer.valueOf(7)), vec4i.subScalar(7));
+        assertEquals(vec2l.add(Long.valueOf(1), Long.valueOf(2)), vec2l.add(1L, 2L));
+        assertEquals(vec3i.setInt(1, 9), vec3i.set(1, 9));
+
+        final double[] doubles = new double[5];
+        vec4l.componentsInto(doubles, 1);
+        for (int i = 0; i < vec4l.numComponents(); i++) {
+            assertEquals(vec4l.get(i).doubleValue(), doubles[i + 1]);
+            assertEquals(vec4l.getDouble(i), vec4l.getLong(i));
+        }
+
+        final float[] floats = new float[3];
+        vec3f.componentsInto(floats, 0);
+        assertEquals(vec3f, new Vec3f(floats));
+    }
+
+    @Test
+    void testFusedOps() {
+        final Vec3d vel = new Vec3d(0.5, -1.25, 2);
+        assertEquals(vec3d.add(vel.mulScalar(0.05)), vec3d.addScaled(vel, 0.05));
+        assertEquals(vec3d.mul(vel).add(vec3d), vec3d.mulAdd(vel, vec3d));
+        assertEquals(vec3d, vec3d.lerp(vel, 0));
+        assertEquals(vel, new Vec3d(1, 2, 4).lerp(vel, 1));
+        assertEquals(new Vec2i(5, 15), new Vec2i(0, 10).lerp(new Vec2i(10, 20), 0.5));
+        assertEquals(vec4i.mul(vec4i).add(vec4i), vec4i.fma(vec4i, vec4i));
+        assertEquals(new Vec3f(0.1f, 0.2f, 0.3f).mul(new Vec3f(3, 3, 3)).add(new Vec3f(1, 1, 1)).x, 1.3f, 0.000001f);
+
+        final Vec3i min = new Vec3i(-5, -5, -5), max = new Vec3i(5, 5, 5);
+        assertEquals(new Vec3i(5, -5, 2), new Vec3i(10, -4, 1).scaleAndClamp(2, min, max));
+
+        final Vec2d a = new Vec2d(0, 0), b = new Vec2d(10, 0);
+        assertEquals(3, new Vec2d(4, 3).distanceToLine(a, b), EPSILON);
+        assertEquals(3, new Vec2d(-20, -3).distanceToLine(a, b), EPSILON);
+        assertEquals(5, new Vec2d(4, 3).distanceToLine(a, a), EPSILON);
+        assertEquals(Math.sqrt(2), new Vec3l(1, 1, 0).distanceToLine(new Vec3l(0, 0, -7), new Vec3l(0, 0, 9)), EPSILON);
+    }
+
+    @Test
+    void testSquaredComparisonsMatchDistances() {
+        for (int i = 0; i < 1_000; i++) {
+            checkComparisons(new Vec2i(r(), r()), new Vec2i(r(), r()), new Vec2i(r(), r()));
+            checkComparisons(new Vec3i(r(), r(), r()), new Vec3i(r(), r(), r()), new Vec3i(r(), r(), r()));
+            checkComparisons(new Vec4i(r(), r(), r(), r()), new Vec4i(r(), r(), r(), r()), new Vec4i(r(), r(), r(), r()));
+            checkComparisons(new Vec2l(r(), r()), new Vec2l(r(), r()), new Vec2l(r(), r()));
+            checkComparisons(new Vec3l(r(), r(), r()), new Vec3l(r(), r(), r()), new Vec3l(r(), r(), r()));
+            checkComparisons(new Vec4l(r(), r(), r(), r()), new Vec4l(r(), r(), r(), r()), new Vec4l(r(), r(), r(), r()));
+            checkComparisons(new Vec2f(r(), r()), new Vec2f(r(), r()), new Vec2f(r(), r()));
+            checkComparisons(new Vec3f(r(), r(), r()), new Vec3f(r(), r(), r()), new Vec3f(r(), r(), r()));
+            checkComparisons(new Vec4f(r(), r(), r(), r()), new Vec4f(r(), r(), r(), r()), new Vec4f(r(), r(), r(), r()));
+            checkComparisons(new Vec2d(r(), r()), new Vec2d(r(), r()), new Vec2d(r(), r()));
+            checkComparisons(new Vec3d(r(), r(), r()), new Vec3d(r(), r(), r()), new Vec3d(r(), r(), r()));
+            checkComparisons(new Vec4d(r(), r(), r(), r()), new Vec4d(r(), r(), r(), r()), new Vec4d(r(), r(), r(), r()));
+        }
+
+        assertTrue(new Vec3d(0, 0, 0).withinDistance(new Vec3d(3, 4, 0), 5));
+        assertFalse(new Vec3d(0, 0, 0).withinDistance(new Vec3d(3, 4, 0), 4.999));
+        assertFalse(new Vec3d(0, 0, 0).withinDistance(new Vec3d(0, 0, 0), -1));
+    }
+
+    private static int r() {
+        return rand.nextInt(-1_000, 1_000);
+    }
+
+    private static <N extends Number & Comparable<N>, T extends IVec<N, T>> void checkComparisons(T origin, T a, T b) {
+        assertEquals(a.length() < b.length() ? a : b, a.minLength(b));
+        assertEquals(a.length() > b.length() ? a : b, a.maxLength(b));
+        assertEquals(Integer.signum(Double.compare(a.length(), b.length())), Integer.signum(a.compareLength(b)));
+
+        final double da = origin.distance(a), db = origin.distance(b);
+        assertEquals(da < db, origin.closerTo(a, b));
+        assertEquals(Integer.signum(Double.compare(da, db)), Integer.signum(origin.compareDistance(a, b)));
+        assertEquals(da <= db, origin.withinDistance(a, db));
+        assertEquals(Integer.signum(origin.compareDistance(a, b)), Integer.signum(origin.distanceComparator().compare(a, b)));
+    }
+
     private static final double EPSILON = 0.000001;   // Allowed deviance
 
     @Test
@@ -0,0 +1,51 @@
+package com.hellfire.net.vec;
+
+import com.hellfire.net.vec.doubles.*;
+import com.hellfire.net.vec.floats.*;
+import com.hellfire.net.vec.ints.*;
+import org.junit.jupiter.api.Test;
+
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class MutableVecTest {
+
+    @Test
+    void testMatchesImmutable() {
+        final Vec3d a = new Vec3d(1.5, -2, 3), b = new Vec3d(-4, 5.25, 6);
+
+        assertEquals(a.add(b).mulScalar(2.0).sub(b), a.toMutable().addLocal(b).mulScalarLocal(2).subLocal(b).toImmutable());
+        assertEquals(a.cross(b), a.toMutable().crossLocal(b).toImmutable());
+        assertEquals(a.normalize(), a.toMutable().normalizeLocal().toImmutable());
+        assertEquals(a.distanceSquared(b), a.toMutable().distanceSquared(b));
+
+        final Vec3i c = new Vec3i(1, 2, 3), d = new Vec3i(-7, 8, 9);
+        assertEquals(c.cross(d).divScalar(2), c.toMutable().crossLocal(d).divScalarLocal(2).toImmutable());
+        assertEquals(c.min(d).abs(), c.toMutable().minLocal(d).absLocal().toImmutable());
+
+        assertEquals(a.addScaled(b, 0.05).lerp(b, 0.25), a.toMutable().addScaledLocal(b, 0.05).lerpLocal(b, 0.25).toImmutable());
+        assertEquals(a.fma(b, a).scaleAndClamp(0.5, a.min(b), a.max(b)), a.toMutable().fmaLocal(b, a).scaleAndClampLocal(0.5, a.min(b), a.max(b)).toImmutable());
+        assertEquals(c.mulAdd(d, c), c.toMutable().mulAddLocal(d, c).toImmutable());
+    }
+
+    @Test
+    void testInPlaceMethodsDoNotAllocate() {
+        final MutableVec3d pos = new MutableVec3d();
+        final MutableVec3d vel = new MutableVec3d(1, 2, 3);
+        final MutableVec3f dir = new MutableVec3f(3, 4, 5);
+        final MutableVec2i cell = new MutableVec2i();
+        final Vec3d force = new Vec3d(0.25, -0.5, 1);
+
+        Allocations.assertDoesNotAllocate(() -> simulate(pos, vel, dir, cell, force, 100_000));
+    }
+
+    private static void simulate(MutableVec3d pos, MutableVec3d vel, MutableVec3f dir, MutableVec2i cell, Vec3d force, int steps) {
+        for (int i = 0; i < steps; i++) {
+            vel.addLocal(force).mulScalarLocal(0.99).crossLocal(pos);
+            pos.addLocal(vel).divScalarLocal(1.0001).normalizeLocal();
+            dir.subLocal(0.5f, 0.25f, 1).normalizeLocal().negateLocal();
+            cell.set(i, -i).addScalarLocal(3).minLocal(cell).absLocal();
+            pos.addScaledLocal(vel, 0.05).lerpLocal(force, 0.1);
+        }
+    }
+}
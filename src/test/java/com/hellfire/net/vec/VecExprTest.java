@@ -0,0 +1,64 @@
+package com.hellfire.net.vec;
+
+import com.hellfire.net.vec.doubles.*;
+import com.hellfire.net.vec.floats.Vec2f;
+import com.hellfire.net.vec.ints.Vec2i;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class VecExprTest {
+
+    private static final ThreadLocalRandom rand = ThreadLocalRandom.current();
+
+    private static Vec3d randomVec3d() {
+        return new Vec3d(rand.nextDouble(-1_000, 1_000), rand.nextDouble(-1_000, 1_000), rand.nextDouble(-1_000, 1_000));
+    }
+
+    @Test
+    void testMatchesEagerChain() {
+        for (int i = 0; i < 1_000; i++) {
+            final Vec3d a = randomVec3d(), b = randomVec3d(), c = randomVec3d();
+            final double k = rand.nextDouble(-10, 10);
+
+            final VecExpr expr = VecExpr.of(3).add(b).sub(c).mulScalar(k).subScalar(1.5).min(c).abs().normalize().addScaled(b, 0.25).lerp(a, 0.75);
+            final Vec3d expected = a.add(b).sub(c).mulScalar(k).subScalar(1.5).min(c).abs().normalize().addScaled(b, 0.25).lerp(a, 0.75);
+            assertEquals(expected, expr.eval3(a));
+            assertEquals(expected, expr.evalInto(a.toMutable(), new MutableVec3d()).toImmutable());
+        }
+
+        final Vec2i start = new Vec2i(3, 4);
+        assertEquals(start.normalize().mulScalar(2.0), VecExpr.of(2).normalize().mulScalar(2).eval2(start));
+        assertEquals(new Vec2d(2, 2), VecExpr.of(2).div(new Vec2f(2, 3)).eval2(new Vec2i(4, 6)));
+    }
+
+    @Test
+    void testApplyToBuffer() {
+        final Vec3d offset = randomVec3d();
+        final Vec3d[] vecs = new Vec3d[100];
+        for (int i = 0; i < vecs.length; i++) vecs[i] = randomVec3d();
+
+        final Vec3dBuffer buf = new Vec3dBuffer(vecs);
+        VecExpr.of(3).sub(offset).normalize().negate().apply(buf, 10, 90, buf);
+        for (int i = 0; i < vecs.length; i++) {
+            final Vec3d expected = (i >= 10 && i < 90) ? vecs[i].sub(offset).normalize().negate() : vecs[i];
+            assertEquals(expected, buf.get(i));
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> VecExpr.of(2).add(offset));
+        assertThrows(IllegalArgumentException.class, () -> VecExpr.of(3).apply(new Vec2dBuffer(1), 0, 1, new Vec2dBuffer(1)));
+    }
+
+    @Test
+    void testEvalIntoDoesNotAllocate() {
+        final VecExpr expr = VecExpr.of(3).add(new Vec3d(1, 2, 3)).mulScalar(0.5).normalize();
+        final MutableVec3d pos = new MutableVec3d(4, 5, 6);
+
+        Allocations.assertDoesNotAllocate(() -> {
+            for (int i = 0; i < 100_000; i++) expr.evalInto(pos, pos);
+        });
+    }
+}
@@ -0,0 +1,130 @@
+package com.hellfire.net.vec.collections;
+
+import com.hellfire.net.vec.hash.VecHasher;
+import com.hellfire.net.vec.ints.Vec2i;
+import com.hellfire.net.vec.ints.Vec3i;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class Vec3iMapTest {
+
+    private static final ThreadLocalRandom rand = ThreadLocalRandom.current();
+
+    @Test
+    void testObjectMapMatchesHashMap() {
+        // Small coordinate range and a weak hasher to force long probe chains and many backward shifts
+        final Vec3iObjectMap<String> map = new Vec3iObjectMap<>(0, 0.75f, VecHasher.POLYNOMIAL);
+        final Map<Vec3i, String> reference = new HashMap<>();
+
+        for (int i = 0; i < 200_000; i++) {
+            final Vec3i key = new Vec3i(rand.nextInt(-16, 16), rand.nextInt(-8, 8), rand.nextInt(-16, 16));
+            switch (rand.nextInt(3)) {
+                case 0 -> assertEquals(reference.put(key, "v" + i), map.put(key, "v" + i));
+                case 1 -> assertEquals(reference.remove(key), map.remove(key));
+                default -> assertEquals(reference.get(key), map.get(key));
+            }
+            assertEquals(reference.size(), map.size());
+        }
+
+        final Map<Vec3i, String> visited = new HashMap<>();
+        map.forEach((x, y, z, value) -> visited.put(new Vec3i(x, y, z), value));
+        assertEquals(reference, visited);
+    }
+
+    @Test
+    void testIntMapCounts() {
+        final Vec3iIntMap counts = new Vec3iIntMap(0, 0.5f, VecHasher.MIXED, -1);
+        final Map<Vec3i, Integer> reference = new HashMap<>();
+
+        for (int i = 0; i < 50_000; i++) {
+            final Vec3i key = new Vec3i(rand.nextInt(-100, 100), rand.nextInt(-64, 320), rand.nextInt(-100, 100));
+            counts.addTo(key.x, key.y, key.z, 1);
+            reference.merge(key, 0, (a, b) -> a + 1);
+        }
+        reference.forEach((key, count) -> assertEquals(count, counts.get(key)));
+        assertEquals(-1, counts.get(1_000, 1_000, 1_000));
+        assertEquals(reference.size(), counts.size());
+    }
+
+    @Test
+    void testLongMapAndSets() {
+        final Vec3iLongMap longs = new Vec3iLongMap();
+        final Vec3iSet set3 = new Vec3iSet();
+        final Vec2iSet set2 = new Vec2iSet();
+        final Vec2iLongMap chunks = new Vec2iLongMap();
+        final Set<Vec2i> reference = new HashSet<>();
+
+        for (int i = 0; i < 10_000; i++) {
+            final int x = rand.nextInt(), y = rand.nextInt(), z = rand.nextInt();
+            longs.put(x, y, z, (long) x * y);
+            assertEquals((long) x * y, longs.get(x, y, z));
+            assertTrue(set3.add(x, y, z) || set3.contains(x, y, z));
+            assertEquals(reference.add(new Vec2i(x, z)), set2.add(x, z));
+            chunks.addTo(x >> 20, z >> 20, 1);
+        }
+
+        reference.forEach(vec -> {
+            assertTrue(set2.remove(vec));
+            assertFalse(set2.contains(vec));
+        });
+        assertTrue(set2.isEmpty());
+
+        final long[] total = new long[1];
+        chunks.forEach((x, z, count) -> total[0] += count);
+        assertEquals(10_000, total[0]);
+    }
+
+    @Test
+    void testDefaultHasherKeepsAxisLinesShort() {
+        // Keys differing in a single coordinate, like a column of blocks, probed with the default hasher
+        final Vec3iSet column = new Vec3iSet();
+        final Vec3iIntMap row = new Vec3iIntMap();
+        final Vec2iSet column2d = new Vec2iSet();
+        for (int i = 0; i < 6_000; i++) {
+            assertTrue(column.add(-300, 64, i));
+            row.put(i, 64, -300, i);
+            assertTrue(column2d.add(-300, i));
+        }
+        for (int i = 0; i < 6_000; i++) {
+            assertTrue(column.contains(-300, 64, i));
+            assertEquals(i, row.get(i, 64, -300));
+            assertTrue(column2d.contains(-300, i));
+        }
+
+        // Well spread keys average about two probes at this load, a lost axis averages thousands
+        assertTrue(meanProbeLength(column) < 8);
+        assertTrue(meanProbeLength(row) < 8);
+        assertTrue(meanProbeLength(column2d) < 8);
+    }
+
+    private static double meanProbeLength(Vec3iTable table) {
+        long total = 0;
+        for (int slot = 0; slot < table.used.length; slot++) {
+            if (!table.used[slot]) continue;
+            final int k = slot * 3;
+            final int home = (int) table.hasher.hash(table.keys[k], table.keys[k + 1], table.keys[k + 2]) & table.mask;
+            total += ((slot - home) & table.mask) + 1;
+        }
+        return total / (double) table.size();
+    }
+
+    private static double meanProbeLength(Vec2iTable table) {
+        long total = 0;
+        for (int slot = 0; slot < table.used.length; slot++) {
+            if (!table.used[slot]) continue;
+            final long key = table.keys[slot];
+            final int home = (int) table.hasher.hash(Vec2iTable.keyX(key), Vec2iTable.keyY(key)) & table.mask;
+            total += ((slot - home) & table.mask) + 1;
+        }
+        return total / (double) table.size();
+    }
+}
@@ -0,0 +1,73 @@
+package com.hellfire.net.vec.curve;
+
+import com.hellfire.net.vec.ints.Vec2i;
+import com.hellfire.net.vec.ints.Vec3i;
+import com.hellfire.net.vec.ints.Vec3iBuffer;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class HilbertTest {
+
+    private static final ThreadLocalRandom rand = ThreadLocalRandom.current();
+
+    @Test
+    void testRoundTrip() {
+        for (int i = 0; i < 10_000; i++) {
+            final int order2 = rand.nextInt(1, Hilbert.MAX_ORDER_2 + 1), order3 = rand.nextInt(1, Hilbert.MAX_ORDER_3 + 1);
+            final Vec2i vec2 = new Vec2i((int) rand.nextLong(1L << order2), (int) rand.nextLong(1L << order2));
+            final Vec3i vec3 = new Vec3i(rand.nextInt(1 << order3), rand.nextInt(1 << order3), rand.nextInt(1 << order3));
+            assertEquals(vec2, Hilbert.decode2(Hilbert.encode(vec2, order2), order2));
+            assertEquals(vec3, Hilbert.decode3(Hilbert.encode(vec3, order3), order3));
+        }
+    }
+
+    @Test
+    void testCurveIsContinuous() {
+        assertEquals(0, Hilbert.encode(0, 0, 1));
+        assertEquals(1, Hilbert.encode(0, 1, 1));
+        assertEquals(2, Hilbert.encode(1, 1, 1));
+        assertEquals(3, Hilbert.encode(1, 0, 1));
+
+        final int order2 = 5, order3 = 4;
+        for (long index = 0; index + 1 < 1L << (2 * order2); index++) {
+            final Vec2i a = Hilbert.decode2(index, order2), b = Hilbert.decode2(index + 1, order2);
+            assertEquals(1, Math.abs(a.x - b.x) + Math.abs(a.y - b.y));
+            assertEquals(index, Hilbert.encode(a, order2));
+        }
+        for (long index = 0; index + 1 < 1L << (3 * order3); index++) {
+            final Vec3i a = Hilbert.decode3(index, order3), b = Hilbert.decode3(index + 1, order3);
+            assertEquals(1, Math.abs(a.x - b.x) + Math.abs(a.y - b.y) + Math.abs(a.z - b.z));
+            assertEquals(index, Hilbert.encode(a, order3));
+        }
+    }
+
+    @Test
+    void testSortMatchesComparator() {
+        final int order = 10;
+        final Vec3i[] vecs = new Vec3i[1_000];
+        for (int i = 0; i < vecs.length; i++) vecs[i] = new Vec3i(rand.nextInt(1 << order), rand.nextInt(1 << order), rand.nextInt(1 << order));
+
+        final Vec3i[] expected = vecs.clone();
+        Arrays.sort(expected, Hilbert.comparator3(order));
+
+        final Vec3iBuffer buf = new Vec3iBuffer(vecs);
+        Hilbert.sort(vecs, order);
+        assertArrayEquals(expected, vecs);
+
+        Hilbert.sort(buf, order);
+        for (int i = 0; i < vecs.length; i++) assertEquals(expected[i], buf.get(i));
+    }
+
+    @Test
+    void testRejectsOutOfRange() {
+        assertThrows(IllegalArgumentException.class, () -> Hilbert.encode(-1, 0, 8));
+        assertThrows(IllegalArgumentException.class, () -> Hilbert.encode(256, 0, 0, 8));
+        assertThrows(IllegalArgumentException.class, () -> Hilbert.encode(0, 0, 0, Hilbert.MAX_ORDER_3 + 1));
+    }
+}
@@ -0,0 +1,99 @@
+package com.hellfire.net.vec.curve;
+
+import com.hellfire.net.vec.ints.Vec2i;
+import com.hellfire.net.vec.ints.Vec3i;
+import com.hellfire.net.vec.ints.Vec3iBuffer;
+import com.hellfire.net.vec.longs.Vec2l;
+import com.hellfire.net.vec.longs.Vec3l;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MortonTest {
+
+    private static final ThreadLocalRandom rand = ThreadLocalRandom.current();
+
+    @Test
+    void testRoundTrip() {
+        for (int i = 0; i < 10_000; i++) {
+            final Vec2i vec2 = new Vec2i(rand.nextInt(), rand.nextInt());
+            final Vec3i vec3 = new Vec3i(rand.nextInt(-(1 << 20), 1 << 20), rand.nextInt(-(1 << 20), 1 << 20), rand.nextInt(-(1 << 20), 1 << 20));
+            assertEquals(vec2, Morton.decode2(Morton.encode(vec2)));
+            assertEquals(vec3, Morton.decode3(Morton.encode(vec3)));
+            assertTrue(Morton.encode(vec3) >= 0);
+        }
+    }
+
+    @Test
+    void testLongOverloadsRejectWideCoordinates() {
+        assertEquals(Morton.encode(-5, 7), Morton.encode(new Vec2l(-5, 7)));
+        assertEquals(Morton.encode(-5, 7, 9), Morton.encode(new Vec3l(-5, 7, 9)));
+        assertEquals(new Vec2l(Integer.MIN_VALUE, Integer.MAX_VALUE), Morton.decode2l(Morton.encode(new Vec2l(Integer.MIN_VALUE, Integer.MAX_VALUE))));
+        assertThrows(IllegalArgumentException.class, () -> Morton.encode(new Vec2l(1L << 32, 0)));
+        assertThrows(IllegalArgumentException.class, () -> Morton.encode(new Vec3l(0, 0, Integer.MIN_VALUE - 1L)));
+    }
+
+    @Test
+    void testMatchesBitLoop() {
+        for (int i = 0; i < 1_000; i++) {
+            final int x = rand.nextInt(1 << 21), y = rand.nextInt(1 << 21), z = rand.nextInt(1 << 21);
+            long expected = 0;
+            for (int bit = 0; bit < 21; bit++) {
+                expected |= (long) ((x >> bit) & 1) << (3 * bit);
+                expected |= (long) ((y >> bit) & 1) << (3 * bit + 1);
+                expected |= (long) ((z >> bit) & 1) << (3 * bit + 2);
+            }
+            assertEquals(expected, Morton.spread3(x) | Morton.spread3(y) << 1 | Morton.spread3(z) << 2);
+        }
+    }
+
+    @Test
+    void testSignedOrdering() {
+        assertTrue(Long.compareUnsigned(Morton.encode(-1, -1), Morton.encode(0, 0)) < 0);
+        assertTrue(Morton.encode(-1, -1, -1) < Morton.encode(0, 0, 0));
+    }
+
+    @Test
+    void testOffsets() {
+        for (int i = 0; i < 10_000; i++) {
+            final int x = rand.nextInt(-100_000, 100_000), y = rand.nextInt(-100_000, 100_000), z = rand.nextInt(-100_000, 100_000);
+            final int dx = rand.nextInt(-64, 64), dy = rand.nextInt(-64, 64), dz = rand.nextInt(-64, 64);
+            assertEquals(Morton.encode(x + dx, y + dy, z + dz), Morton.offset3(Morton.encode(x, y, z), dx, dy, dz));
+            assertEquals(Morton.encode(x + dx, y + dy), Morton.offset2(Morton.encode(x, y), dx, dy));
+        }
+    }
+
+    @Test
+    void testNextInBox() {
+        // Crossing zero flips the bias bit and spans most of the code space, so the brute force boxes stay positive
+        final long min3 = Morton.encode(3, 2, 5), max3 = Morton.encode(12, 6, 9);
+        final long min2 = Morton.encode(7, 3), max2 = Morton.encode(21, 11);
+
+        for (long code = Morton.encode(0, 0, 0); code <= max3; code++) {
+            long expected = code;
+            while (!Morton.inBox3(expected, min3, max3)) expected++;
+            assertEquals(expected, Morton.nextInBox3(code, min3, max3));
+        }
+        for (long code = Morton.encode(0, 0); Long.compareUnsigned(code, max2) <= 0; code++) {
+            long expected = code;
+            while (!Morton.inBox2(expected, min2, max2)) expected++;
+            assertEquals(expected, Morton.nextInBox2(code, min2, max2));
+        }
+    }
+
+    @Test
+    void testBulk() {
+        final Vec3iBuffer src = new Vec3iBuffer(new Vec3i(1, 2, 3), new Vec3i(-4, 5, -6), new Vec3i(7, -8, 9));
+        final long[] codes = new long[3];
+        Morton.encode(src, 0, 3, codes, 0);
+        for (int i = 0; i < 3; i++) assertEquals(Morton.encode(src.get(i)), codes[i]);
+
+        final Vec3iBuffer dst = new Vec3iBuffer(3);
+        Morton.decode(codes, 0, dst, 0, 3);
+        for (int i = 0; i < 3; i++) assertEquals(src.get(i), dst.get(i));
+    }
+}
@@ -0,0 +1,111 @@
+package com.hellfire.net.vec.hash;
+
+import com.hellfire.net.vec.ints.Vec2i;
+import com.hellfire.net.vec.ints.Vec3i;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class VecHasherTest {
+
+    private static final int TABLE_BITS = 20;
+
+    @Test
+    void testPolynomialMatchesHashCode() {
+        final Vec3i vec = new Vec3i(-1234, 64, 98765);
+        assertEquals(vec.hashCode(), (int) VecHasher.POLYNOMIAL.hash(vec));
+        assertEquals(new Vec2i(7, -3).hashCode(), (int) VecHasher.POLYNOMIAL.hash(new Vec2i(7, -3)));
+    }
+
+    @Test
+    void testGridIsCollisionFreeInRange() {
+        final Set<Long> hashes = new HashSet<>();
+        for (int x = -32; x < 32; x++)
+            for (int y = -64; y < 320; y += 3)
+                for (int z = 1_000_000; z < 1_000_032; z++) assertTrue(hashes.add(VecHasher.GRID.hash(x, y, z)));
+    }
+
+    @Test
+    void testBlockRegionCollisions() {
+        // A 64x256x64 block region around a typical world offset
+        final int polynomial = usedBuckets(VecHasher.POLYNOMIAL, 12_800, -16_384);
+        final int mixed = usedBuckets(VecHasher.MIXED, 12_800, -16_384);
+        final int grid = usedBuckets(VecHasher.GRID, 12_800, -16_384);
+
+        assertTrue(mixed > polynomial * 4);
+        assertTrue(grid > polynomial * 4);
+    }
+
+    @Test
+    void testChunkCollisions() {
+        // Chunk coordinates within a 4096 block radius
+        final int polynomial = usedChunkBuckets(VecHasher.POLYNOMIAL);
+        final int mixed = usedChunkBuckets(VecHasher.MIXED);
+        final int grid = usedChunkBuckets(VecHasher.GRID);
+
+        assertTrue(mixed > polynomial);
+        assertTrue(grid > polynomial);
+    }
+
+    @Test
+    void testRawLowBitsSpreadAlongEachAxis() {
+        // Masked without any further spreading, as the tables in the collections package do
+        for (VecHasher hasher : new VecHasher[] {VecHasher.POLYNOMIAL, VecHasher.MIXED, VecHasher.GRID}) {
+            for (int bits = 8; bits <= 16; bits += 4) {
+                final int mask = (1 << bits) - 1, keys = 1 << (bits - 1);
+                final Set<Integer> xRow = new HashSet<>(), zColumn = new HashSet<>(), yColumn2d = new HashSet<>();
+                for (int i = 0; i < keys; i++) {
+                    xRow.add((int) hasher.hash(i, 64, -300) & mask);
+                    zColumn.add((int) hasher.hash(-300, 64, i) & mask);
+                    yColumn2d.add((int) hasher.hash(-300, i) & mask);
+                }
+                // Random hashes fill about 79% of the keys' count at this load, a lost axis fills a handful
+                assertTrue(xRow.size() > keys / 2, "x row");
+                assertTrue(zColumn.size() > keys / 2, "z column");
+                assertTrue(yColumn2d.size() > keys / 2, "2D y column");
+            }
+        }
+    }
+
+    private static int usedChunkBuckets(VecHasher hasher) {
+        final boolean[] used = new boolean[1 << 16];
+        int count = 0;
+        for (int x = -256; x < 256; x++) {
+            for (int z = -256; z < 256; z++) {
+                final int bucket = bucket(hasher.hash(x, z), 16);
+                if (!used[bucket]) {
+                    used[bucket] = true;
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    private static int usedBuckets(VecHasher hasher, int offsetX, int offsetZ) {
+        final boolean[] used = new boolean[1 << TABLE_BITS];
+        int count = 0;
+        for (int x = 0; x < 64; x++) {
+            for (int y = -64; y < 192; y++) {
+                for (int z = 0; z < 64; z++) {
+                    final int bucket = bucket(hasher.hash(offsetX + x, y, offsetZ + z), TABLE_BITS);
+                    if (!used[bucket]) {
+                        used[bucket] = true;
+                        count++;
+                    }
+                }
+            }
+        }
+        return count;
+    }
+
+    // Same spreading as java.util.HashMap
+    private static int bucket(long hash, int bits) {
+        final int h = VecHasher.fold(hash);
+        return (h ^ (h >>> 16)) & ((1 << bits) - 1);
+    }
+}
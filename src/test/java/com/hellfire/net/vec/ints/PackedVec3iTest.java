@@ -0,0 +1,67 @@
+package com.hellfire.net.vec.ints;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PackedVec3iTest {
+
+    private static final ThreadLocalRandom rand = ThreadLocalRandom.current();
+    private static final PackedVec3i packer = PackedVec3i.DEFAULT;
+
+    private static Vec3i randomBlock() {
+        return new Vec3i(rand.nextInt(-30_000_000, 30_000_000), rand.nextInt(-1984, 1984), rand.nextInt(-30_000_000, 30_000_000));
+    }
+
+    @Test
+    void testRoundTrip() {
+        for (int i = 0; i < 10_000; i++) {
+            final Vec3i vec = randomBlock();
+            assertEquals(vec, packer.unpack(packer.pack(vec)));
+        }
+
+        final PackedVec3i wide = PackedVec3i.of(21, 22, 21);
+        assertEquals(new Vec3i(-1_048_576, 2_097_151, 1_048_575), wide.unpack(wide.pack(-1_048_576, 2_097_151, 1_048_575)));
+        assertThrows(IllegalArgumentException.class, () -> PackedVec3i.of(30, 10, 30));
+    }
+
+    @Test
+    void testVanillaLayout() {
+        final int x = -123_456, y = -60, z = 654_321;
+        final long expected = ((long) (x & 0x3FFFFFF) << 38) | ((long) (z & 0x3FFFFFF) << 12) | (y & 0xFFF);
+        assertEquals(expected, packer.pack(x, y, z));
+    }
+
+    @Test
+    void testPackedArithmetic() {
+        for (int i = 0; i < 10_000; i++) {
+            final Vec3i a = randomBlock(), b = new Vec3i(rand.nextInt(-64, 64), rand.nextInt(-64, 64), rand.nextInt(-64, 64));
+            final long pa = packer.pack(a), pb = packer.pack(b);
+
+            assertEquals(a.add(b), packer.unpack(packer.add(pa, pb)));
+            assertEquals(a.sub(b), packer.unpack(packer.sub(pa, pb)));
+            assertEquals(a.add(b), packer.unpack(packer.offset(pa, b.x, b.y, b.z)));
+            assertEquals(a.add(0, 1, 0), packer.unpack(packer.neighbor(pa, PackedVec3i.UP)));
+            assertEquals(a.add(-1, 0, 0), packer.unpack(packer.neighbor(pa, PackedVec3i.WEST)));
+
+            assertEquals(a.x >> 4, packer.chunkX(pa));
+            assertEquals(a.z >> 4, packer.chunkZ(pa));
+            assertEquals(a.y >> 4, packer.sectionY(pa));
+            assertEquals(new Vec3i(a.x & ~15, a.y & ~15, a.z & ~15), packer.unpack(packer.sectionOrigin(pa)));
+        }
+    }
+
+    @Test
+    void testBulk() {
+        final Vec3iBuffer src = new Vec3iBuffer(randomBlock(), randomBlock(), randomBlock());
+        final long[] packed = new long[4];
+        packer.pack(src, 0, 3, packed, 1);
+
+        final Vec3iBuffer dst = new Vec3iBuffer(3);
+        packer.unpack(packed, 1, dst, 0, 3);
+        for (int i = 0; i < 3; i++) assertEquals(src.get(i), dst.get(i));
+    }
+}
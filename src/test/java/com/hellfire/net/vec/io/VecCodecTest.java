@@ -0,0 +1,98 @@
+package com.hellfire.net.vec.io;
+
+import com.hellfire.net.vec.doubles.Vec3d;
+import com.hellfire.net.vec.doubles.Vec3dBuffer;
+import com.hellfire.net.vec.floats.Vec2f;
+import com.hellfire.net.vec.ints.Vec3i;
+import com.hellfire.net.vec.ints.Vec3iBuffer;
+import com.hellfire.net.vec.longs.Vec4l;
+import org.junit.jupiter.api.Test;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VecCodecTest {
+
+    private static final ThreadLocalRandom rand = ThreadLocalRandom.current();
+
+    @Test
+    void testLayoutMatchesByteBuffer() {
+        for (ByteOrder order : new ByteOrder[] {ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN}) {
+            final Vec3d vec = new Vec3d(1.5, -2.25, Math.PI);
+            final ByteBuffer actual = ByteBuffer.allocateDirect(64);
+            VecCodec.vec3d(order).write(actual, vec);
+
+            final ByteBuffer expected = ByteBuffer.allocate(64).order(order).putDouble(vec.x).putDouble(vec.y).putDouble(vec.z);
+            assertEquals(24, actual.position());
+            assertEquals(expected.flip(), actual.flip());
+            assertEquals(ByteOrder.BIG_ENDIAN, actual.order());
+        }
+    }
+
+    @Test
+    void testRoundTrip() {
+        final ByteBuffer buf = ByteBuffer.allocate(256).order(ByteOrder.LITTLE_ENDIAN);
+        final Vec3i ints = new Vec3i(rand.nextInt(), rand.nextInt(), rand.nextInt());
+        final Vec4l longs = new Vec4l(rand.nextLong(), rand.nextLong(), rand.nextLong(), rand.nextLong());
+        final Vec2f floats = new Vec2f(rand.nextFloat(), Float.NaN);
+
+        VecCodec.vec3i(ByteOrder.BIG_ENDIAN).write(buf, ints);
+        VecCodec.vec4l(ByteOrder.BIG_ENDIAN).write(buf, longs);
+        VecCodec.vec2f(ByteOrder.LITTLE_ENDIAN).write(buf, floats);
+        VecCodec.vec3i(ByteOrder.BIG_ENDIAN).write(buf, 200, ints);
+        assertEquals(12 + 32 + 8, buf.position());
+
+        buf.flip();
+        assertEquals(ints, VecCodec.vec3i(ByteOrder.BIG_ENDIAN).read(buf));
+        assertEquals(longs, VecCodec.vec4l(ByteOrder.BIG_ENDIAN).read(buf));
+        assertEquals(floats, VecCodec.vec2f(ByteOrder.LITTLE_ENDIAN).read(buf));
+        assertFalse(buf.hasRemaining());
+        assertEquals(ints, VecCodec.vec3i(ByteOrder.BIG_ENDIAN).read(buf.limit(256), 200));
+
+        final Vec3d precise = new Vec3d(0.1, 1e10, -7);
+        final VecCodec<Vec3d, Vec3dBuffer> narrow = VecCodec.vec3dAsFloats(ByteOrder.nativeOrder());
+        narrow.write(buf.clear(), precise);
+        assertEquals(12, narrow.byteSize());
+        assertEquals(new Vec3d((float) 0.1, (float) 1e10, -7), narrow.read(buf.flip()));
+    }
+
+    @Test
+    void testBulkArraysAndBuffersShareLayout() {
+        final Vec3i[] vecs = new Vec3i[100];
+        for (int i = 0; i < vecs.length; i++) vecs[i] = new Vec3i(rand.nextInt(), rand.nextInt(), rand.nextInt());
+        final VecCodec<Vec3i, Vec3iBuffer> codec = VecCodec.vec3i(ByteOrder.LITTLE_ENDIAN);
+
+        final ByteBuffer fromArray = ByteBuffer.allocateDirect(codec.byteSize() * 100);
+        codec.write(fromArray, vecs, 0, 100);
+        final ByteBuffer fromBuffer = ByteBuffer.allocate(codec.byteSize() * 100);
+        codec.write(fromBuffer, new Vec3iBuffer(vecs), 0, 100);
+        assertEquals(fromArray.flip(), fromBuffer.flip());
+
+        final Vec3iBuffer read = new Vec3iBuffer(100);
+        codec.read(fromArray, read, 10, 60);
+        codec.read(fromArray, read, 60, 100);
+        for (int i = 10; i < 100; i++) assertEquals(vecs[i - 10], read.get(i));
+
+        final Vec3i[] readArr = new Vec3i[100];
+        codec.read(fromBuffer, readArr, 0, 100);
+        assertArrayEquals(vecs, readArr);
+    }
+
+    @Test
+    void testBoundsAreCheckedUpFront() {
+        final VecCodec<Vec3d, Vec3dBuffer> codec = VecCodec.vec3d(ByteOrder.BIG_ENDIAN);
+        final ByteBuffer buf = ByteBuffer.allocate(codec.byteSize() * 2 + 5);
+        final Vec3d[] vecs = {Vec3d.ZERO, Vec3d.ZERO, Vec3d.ZERO};
+
+        assertThrows(BufferOverflowException.class, () -> codec.write(buf, vecs, 0, 3));
+        assertEquals(0, buf.position());
+        assertThrows(BufferUnderflowException.class, () -> codec.read(buf.limit(10), new Vec3d[1], 0, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> codec.write(buf.clear(), 40, Vec3d.ZERO));
+        assertThrows(IndexOutOfBoundsException.class, () -> codec.write(buf, vecs, 2, 4));
+    }
+}
@@ -0,0 +1,38 @@
+package com.hellfire.net.vec.kernel;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class VecKernelProviderTest {
+
+    @Test
+    void testBackendsPassSelfCheck() {
+        assertTrue(VecKernelProvider.selfCheck(ScalarVecKernels.INSTANCE));
+        assertTrue(VecKernelProvider.selfCheck(SimdVecKernels.INSTANCE));
+    }
+
+    @Test
+    void testDetection() {
+        // Surefire runs with the incubator module resolved
+        final VecKernelProvider.Capabilities caps = VecKernelProvider.capabilities();
+        assertTrue(caps.vectorApi());
+        assertTrue(caps.vectorBitSize() >= 64);
+
+        final VecKernels expected = caps.vectorBitSize() >= VecKernelProvider.MIN_VECTOR_BITS ? SimdVecKernels.INSTANCE : ScalarVecKernels.INSTANCE;
+        assertSame(expected, VecKernelProvider.get());
+    }
+
+    @Test
+    void testForcedBackends() {
+        final VecKernelProvider.Capabilities none = new VecKernelProvider.Capabilities(false, 0, false);
+        assertSame(ScalarVecKernels.INSTANCE, VecKernelProvider.bind("scalar", VecKernelProvider.capabilities()));
+        assertSame(ScalarVecKernels.INSTANCE, VecKernelProvider.bind("auto", none));
+        assertSame(SimdVecKernels.INSTANCE, VecKernelProvider.bind("SIMD", VecKernelProvider.capabilities()));
+
+        assertThrows(IllegalStateException.class, () -> VecKernelProvider.bind("simd", none));
+        assertThrows(IllegalArgumentException.class, () -> VecKernelProvider.bind("gpu", none));
+    }
+}
@@ -0,0 +1,119 @@
+package com.hellfire.net.vec.kernel;
+
+import com.hellfire.net.vec.doubles.Vec3d;
+import com.hellfire.net.vec.doubles.Vec3dBuffer;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class VecKernelsTest {
+
+    private static final ThreadLocalRandom rand = ThreadLocalRandom.current();
+    private static final int SIZE = 1_003, FROM = 3, TO = SIZE - 5;
+
+    private static final VecKernels scalar = ScalarVecKernels.INSTANCE, simd = SimdVecKernels.INSTANCE;
+
+    private static double[] doubles() {
+        final double[] arr = new double[SIZE];
+        for (int i = 0; i < SIZE; i++) arr[i] = rand.nextDouble(-1_000, 1_000);
+        // Edge cases for min/max and fma
+        arr[10] = Double.NaN;
+        arr[11] = -0.0;
+        arr[12] = 0.0;
+        arr[13] = Double.POSITIVE_INFINITY;
+        return arr;
+    }
+
+    private static float[] floats() {
+        final float[] arr = new float[SIZE];
+        for (int i = 0; i < SIZE; i++) arr[i] = (float) rand.nextDouble(-1_000, 1_000);
+        return arr;
+    }
+
+    private static int[] ints() {
+        final int[] arr = new int[SIZE];
+        for (int i = 0; i < SIZE; i++) arr[i] = rand.nextInt();
+        return arr;
+    }
+
+    private static long[] longs() {
+        final long[] arr = new long[SIZE];
+        for (int i = 0; i < SIZE; i++) arr[i] = rand.nextLong();
+        return arr;
+    }
+
+    @Test
+    void testDoublesBitIdentical() {
+        final double[] a = doubles(), b = doubles(), c = doubles();
+        final double[] expected = new double[SIZE], actual = new double[SIZE];
+
+        scalar.min(a, b, expected, FROM, TO);
+        simd.min(a, b, actual, FROM, TO);
+        assertArrayEquals(expected, actual);
+
+        scalar.fma(a, b, c, expected, FROM, TO);
+        simd.fma(a, b, c, actual, FROM, TO);
+        assertArrayEquals(expected, actual);
+
+        scalar.dot3(a, b, c, c, b, a, expected, FROM, TO);
+        simd.dot3(a, b, c, c, b, a, actual, FROM, TO);
+        assertArrayEquals(expected, actual);
+
+        scalar.length3(a, b, c, expected, FROM, TO);
+        simd.length3(a, b, c, actual, FROM, TO);
+        assertArrayEquals(expected, actual);
+    }
+
+    @Test
+    void testFloatsBitIdentical() {
+        final float[] x = floats(), y = floats(), z = floats();
+        final float[] expected = new float[SIZE], actual = new float[SIZE];
+
+        scalar.length3(x, y, z, expected, FROM, TO);
+        simd.length3(x, y, z, actual, FROM, TO);
+        assertArrayEquals(expected, actual);
+
+        final float[] sx = x.clone(), sy = y.clone(), sz = z.clone();
+        scalar.normalize3(sx, sy, sz, FROM, TO);
+        simd.normalize3(x, y, z, FROM, TO);
+        assertArrayEquals(sx, x);
+        assertArrayEquals(sy, y);
+        assertArrayEquals(sz, z);
+    }
+
+    @Test
+    void testIntegersWrapIdentically() {
+        final int[] a = ints(), b = ints(), c = ints();
+        final int[] expected = new int[SIZE], actual = new int[SIZE];
+        scalar.fma(a, b, c, expected, FROM, TO);
+        simd.fma(a, b, c, actual, FROM, TO);
+        assertArrayEquals(expected, actual);
+
+        final long[] la = longs(), lb = longs();
+        final long[] lExpected = new long[SIZE], lActual = new long[SIZE];
+        scalar.mulScalar(la, 31L, lExpected, FROM, TO);
+        simd.mulScalar(la, 31L, lActual, FROM, TO);
+        assertArrayEquals(lExpected, lActual);
+
+        scalar.max(la, lb, lExpected, FROM, TO);
+        simd.max(la, lb, lActual, FROM, TO);
+        assertArrayEquals(lExpected, lActual);
+        assertEquals(0, lActual[0]);
+    }
+
+    @Test
+    void testNormalizeMatchesVec3d() {
+        final Vec3d[] vecs = new Vec3d[SIZE];
+        for (int i = 0; i < SIZE; i++) vecs[i] = new Vec3d(rand.nextDouble(-1_000, 1_000), rand.nextDouble(-1_000, 1_000), rand.nextDouble(-1_000, 1_000));
+
+        final Vec3dBuffer buf = new Vec3dBuffer(vecs);
+        simd.normalize3(buf.x, buf.y, buf.z, 0, SIZE);
+        for (int i = 0; i < SIZE; i++) assertEquals(vecs[i].normalize(), buf.get(i));
+
+        assertThrows(IndexOutOfBoundsException.class, () -> simd.add(new double[4], new double[3], new double[4], 0, 4));
+    }
+}
@@ -0,0 +1,94 @@
+package com.hellfire.net.vec.minestom;
+
+import com.hellfire.net.vec.Allocations;
+import com.hellfire.net.vec.doubles.Vec3d;
+import com.hellfire.net.vec.floats.Vec3f;
+import com.hellfire.net.vec.ints.Vec3i;
+import com.hellfire.net.vec.longs.Vec4l;
+import com.hellfire.net.vec.ints.Vec2i;
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.network.NetworkBuffer;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VecNetworkTypesTest {
+
+    private static final ThreadLocalRandom rand = ThreadLocalRandom.current();
+
+    @Test
+    void testLayoutMatchesMinestom() {
+        final Vec3d vec = new Vec3d(rand.nextDouble(-1e6, 1e6), rand.nextDouble(-1e6, 1e6), rand.nextDouble(-1e6, 1e6));
+        assertArrayEquals(bytes(NetworkBuffer.VECTOR3D, vec.asVec()), bytes(VecNetworkTypes.VEC3D, vec));
+        assertArrayEquals(bytes(NetworkBuffer.VECTOR3, vec.asVec()), bytes(VecNetworkTypes.VEC3D_AS_FLOATS, vec));
+
+        final Vec3f floats = new Vec3f(rand.nextFloat(), rand.nextFloat(), rand.nextFloat());
+        assertArrayEquals(bytes(NetworkBuffer.VECTOR3, floats.asVec()), bytes(VecNetworkTypes.VEC3F, floats));
+
+        for (int i = 0; i < 100; i++) {
+            final Vec3i block = new Vec3i(rand.nextInt(-(1 << 25), 1 << 25), rand.nextInt(-2048, 2048), rand.nextInt(-(1 << 25), 1 << 25));
+            assertArrayEquals(bytes(NetworkBuffer.BLOCK_POSITION, new Vec(block.x, block.y, block.z)), bytes(VecNetworkTypes.BLOCK_POSITION, block));
+        }
+    }
+
+    @Test
+    void testRoundTrip() {
+        final NetworkBuffer buffer = new NetworkBuffer();
+        final Vec3d doubles = new Vec3d(1.5, -2, Math.E);
+        final Vec3i block = new Vec3i(-30_000_000, -64, 29_999_999);
+        final Vec4l longs = new Vec4l(Long.MIN_VALUE, -1, 0, Long.MAX_VALUE);
+        final Vec2i ints = new Vec2i(Integer.MIN_VALUE, 7);
+
+        buffer.write(VecNetworkTypes.VEC3D, doubles);
+        buffer.write(VecNetworkTypes.BLOCK_POSITION, block);
+        buffer.write(VecNetworkTypes.VEC4L, longs);
+        buffer.write(VecNetworkTypes.VEC2I, ints);
+        assertEquals(24 + 8 + 32 + 8, buffer.writeIndex());
+
+        assertEquals(doubles, buffer.read(VecNetworkTypes.VEC3D));
+        assertEquals(block, buffer.read(VecNetworkTypes.BLOCK_POSITION));
+        assertEquals(longs, buffer.read(VecNetworkTypes.VEC4L));
+        assertEquals(ints, buffer.read(VecNetworkTypes.VEC2I));
+        assertEquals(0, buffer.readableBytes());
+    }
+
+    @Test
+    void testWritesDoNotAllocate() {
+        final NetworkBuffer buffer = new NetworkBuffer(1 << 20);
+        final Vec3d vec = new Vec3d(1.5, -2, Math.E);
+        final Vec3i block = new Vec3i(-30_000_000, -64, 29_999_999);
+        final Vec4l longs = new Vec4l(Long.MIN_VALUE, -1, 0, Long.MAX_VALUE);
+
+        Allocations.assertDoesNotAllocate(() -> {
+            buffer.writeIndex(0);
+            for (int i = 0; i < 10_000; i++) {
+                buffer.write(VecNetworkTypes.VEC3D, vec);
+                buffer.write(VecNetworkTypes.VEC3D_AS_FLOATS, vec);
+                buffer.write(VecNetworkTypes.BLOCK_POSITION, block);
+                buffer.write(VecNetworkTypes.VEC4L, longs);
+            }
+        });
+
+        // The path this replaces: convert to a Minestom Vec and write it as VECTOR3D
+        final Runnable minestom = () -> {
+            buffer.writeIndex(0);
+            for (int i = 0; i < 10_000; i++) buffer.write(NetworkBuffer.VECTOR3D, vec.asVec());
+        };
+        final Runnable ours = () -> {
+            buffer.writeIndex(0);
+            for (int i = 0; i < 10_000; i++) buffer.write(VecNetworkTypes.VEC3D, vec);
+        };
+        for (int round = 0; round < Allocations.WARMUP_ROUNDS; round++) {
+            minestom.run();
+            ours.run();
+        }
+        final long minestomBytes = Allocations.measure(minestom), ourBytes = Allocations.measure(ours);
+        assertTrue(ourBytes <= minestomBytes, "VEC3D allocated " + ourBytes + " bytes against " + minestomBytes + " for VECTOR3D");
+    }
+
+    private static <T> byte[] bytes(NetworkBuffer.Type<T> type, T value) {
+        return NetworkBuffer.makeArray(buffer -> buffer.write(type, value));
+    }
+}
@@ -0,0 +1,72 @@
+package com.hellfire.net.vec.minestom;
+
+import com.hellfire.net.vec.doubles.MutableVec3d;
+import com.hellfire.net.vec.doubles.Vec3d;
+import com.hellfire.net.vec.doubles.Vec3dBuffer;
+import com.hellfire.net.vec.floats.Vec3f;
+import com.hellfire.net.vec.ints.MutableVec3i;
+import com.hellfire.net.vec.ints.Vec3i;
+import com.hellfire.net.vec.ints.Vec3iBuffer;
+import net.minestom.server.coordinate.Point;
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.coordinate.Vec;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VecPointsTest {
+
+    private static final ThreadLocalRandom rand = ThreadLocalRandom.current();
+
+    @Test
+    void testSingleConversions() {
+        for (int i = 0; i < 1_000; i++) {
+            final Pos pos = new Pos(rand.nextDouble(-1e4, 1e4), rand.nextDouble(-64, 320), rand.nextDouble(-1e4, 1e4), 90, 0);
+            final Vec3d vec = Vec3d.from(pos);
+            assertEquals(new Vec3d(pos.x(), pos.y(), pos.z()), vec);
+            assertEquals(new Vec3f((float) pos.x(), (float) pos.y(), (float) pos.z()), Vec3f.from(pos));
+            assertEquals(pos.asVec(), vec.asVec());
+
+            final Vec3i block = new Vec3i(pos.blockX(), pos.blockY(), pos.blockZ());
+            assertEquals(block, Vec3i.floor(pos));
+            assertEquals(block, Vec3i.floor(vec));
+            assertEquals(block, new MutableVec3i().setFloor(pos).toImmutable());
+            assertEquals(new Vec3i((int) Math.round(pos.x()), (int) Math.round(pos.y()), (int) Math.round(pos.z())), Vec3i.round(vec));
+            assertEquals(Vec3i.round(vec), Vec3i.round(pos));
+            assertEquals(vec, new MutableVec3d().set(pos).toImmutable());
+        }
+        assertEquals(new Vec3i(-1, 0, -2), Vec3i.floor(new Vec(-0.5, 0.5, -1.5)));
+        assertEquals(new Vec3i(0, 1, -1), Vec3i.round(new Vec(-0.5, 0.5, -1.5)));
+
+        // Out of range components saturate the same way in both conversions
+        final Vec huge = new Vec(1e12, -1e12, 3e9);
+        assertEquals(new Vec3i(Integer.MAX_VALUE, Integer.MIN_VALUE, Integer.MAX_VALUE), Vec3i.floor(new Vec3d(huge.x(), huge.y(), huge.z())));
+        assertEquals(Vec3i.floor(new Vec3d(huge.x(), huge.y(), huge.z())), Vec3i.round(huge));
+        assertEquals(Integer.MIN_VALUE, Vec3i.round(Double.NEGATIVE_INFINITY));
+    }
+
+    @Test
+    void testBulkConversions() {
+        final List<Point> points = new ArrayList<>();
+        for (int i = 0; i < 100; i++) points.add(new Vec(rand.nextDouble(-1e4, 1e4), rand.nextDouble(-1e4, 1e4), rand.nextDouble(-1e4, 1e4)));
+
+        final Vec3dBuffer buffer = new Vec3dBuffer(110);
+        VecPoints.fill(buffer, 10, points);
+        assertThrows(IndexOutOfBoundsException.class, () -> VecPoints.fill(buffer, 11, points));
+
+        final Vec3iBuffer floored = new Vec3iBuffer(110), rounded = new Vec3iBuffer(110);
+        VecPoints.floor(buffer, floored, 10, 110);
+        VecPoints.round(buffer, rounded, 10, 110);
+        for (int i = 0; i < points.size(); i++) {
+            final Point point = points.get(i);
+            assertEquals(point, VecPoints.toVec(buffer, i + 10));
+            assertEquals(Vec3i.floor(point), floored.get(i + 10));
+            assertEquals(Vec3i.round(point), rounded.get(i + 10));
+        }
+        assertEquals(Vec3i.ZERO, floored.get(0));
+    }
+}
@@ -0,0 +1,80 @@
+package com.hellfire.net.vec.offheap;
+
+import com.hellfire.net.vec.doubles.Vec3d;
+import com.hellfire.net.vec.doubles.Vec3dBuffer;
+import com.hellfire.net.vec.ints.Vec2i;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class VecArenaTest {
+
+    @Test
+    void testLayoutsAgree() {
+        try (VecArena arena = VecArena.open()) {
+            final DoubleVecArray interleaved = arena.allocateDoubles(3, 16, VecLayout.INTERLEAVED);
+            final DoubleVecArray soa = arena.allocateDoubles(3, 16, VecLayout.SOA);
+
+            for (int i = 0; i < 16; i++) {
+                interleaved.set(i, new Vec3d(i, i * 2, i * 3));
+                soa.set(i, new Vec3d(i, i * 2, i * 3));
+            }
+            interleaved.add(0, 16, soa).mulScalar(0, 16, 0.5);
+            soa.copyTo(arena.allocateDoubles(3, 16, VecLayout.INTERLEAVED));
+
+            for (int i = 0; i < 16; i++) assertEquals(soa.getVec3(i), interleaved.getVec3(i));
+            assertEquals(3 * 16 * Double.BYTES * 3, arena.allocatedBytes());
+            assertEquals(3.0, soa.get(1, 2));
+            assertEquals(16.0, soa.asByteBuffer().getDouble(Double.BYTES * (16 + 8)), 0.0);
+        }
+    }
+
+    @Test
+    void testHeapRoundTrip() {
+        final Vec3dBuffer heap = new Vec3dBuffer(new Vec3d(3, 0, 4), new Vec3d(0, 5, 0));
+        try (VecArena arena = VecArena.open()) {
+            final DoubleVecArray arr = arena.allocateDoubles(3, 2, VecLayout.SOA).copyFrom(0, heap, 0, 2).normalize(0, 2);
+            final Vec3dBuffer back = arr.copyTo(0, new Vec3dBuffer(2), 0, 2);
+
+            assertEquals(new Vec3d(0.6, 0, 0.8), back.get(0));
+            assertEquals(new Vec3d(0, 1, 0), back.get(1));
+        }
+    }
+
+    @Test
+    void testClosedArenaRejectsAccess() {
+        final VecArena arena = VecArena.open();
+        final IntVecArray arr = arena.allocateInts(2, 4, VecLayout.INTERLEAVED);
+        arr.set(0, new Vec2i(1, 2));
+        final ByteBuffer view = arr.asByteBuffer();
+        arena.close();
+
+        assertThrows(IllegalStateException.class, () -> arr.getVec2(0));
+        assertThrows(IllegalStateException.class, arr::asByteBuffer);
+        assertThrows(IllegalStateException.class, () -> arena.allocateInts(2, 4, VecLayout.SOA));
+
+        // The array no longer holds its memory, only views taken before closing still do
+        assertNull(arr.bytes);
+        assertNull(arr.data);
+        assertEquals(2 * 4 * Integer.BYTES, arr.byteSize());
+        assertEquals(2, view.getInt(Integer.BYTES));
+        arena.close();
+    }
+
+    @Test
+    void testWrapSharesMemory() {
+        final ByteBuffer raw = ByteBuffer.allocateDirect(2 * 2 * Long.BYTES).order(ByteOrder.BIG_ENDIAN);
+        raw.putLong(Long.BYTES, 42);
+
+        final LongVecArray arr = LongVecArray.wrap(raw, 2, 2, VecLayout.INTERLEAVED);
+        assertEquals(42, arr.get(0, 1));
+
+        arr.set(1, 0, 7);
+        assertEquals(7, raw.getLong(2 * Long.BYTES));
+    }
+}
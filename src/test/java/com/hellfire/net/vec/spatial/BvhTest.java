@@ -0,0 +1,132 @@
+package com.hellfire.net.vec.spatial;
+
+import com.hellfire.net.vec.Allocations;
+import com.hellfire.net.vec.doubles.Vec3d;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BvhTest {
+
+    private static final ThreadLocalRandom rand = ThreadLocalRandom.current();
+
+    @Test
+    void testAabb() {
+        final Aabb box = Aabb.of(new Vec3d(1, 2, 3), new Vec3d(-1, 0, 1));
+        assertEquals(new Aabb(-1, 0, 1, 1, 2, 3), box);
+        assertEquals(new Vec3d(0, 1, 2), box.center());
+        assertEquals(8, box.volume());
+        assertEquals(24, box.surfaceArea());
+        assertTrue(box.contains(1, 2, 3));
+        assertFalse(box.contains(1, 2, 3.001));
+        assertTrue(box.intersects(new Aabb(1, 2, 3, 5, 5, 5)));
+        assertFalse(box.intersects(new Aabb(1.1, 2, 3, 5, 5, 5)));
+        assertThrows(IllegalArgumentException.class, () -> new Aabb(1, 0, 0, 0, 1, 1));
+
+        assertEquals(4, box.rayDistance(new Vec3d(-5, 1, 2), new Vec3d(1, 0, 0), 100));
+        assertEquals(0, box.rayDistance(new Vec3d(0, 1, 2), new Vec3d(0, 0, -1), 100));
+        assertEquals(Double.POSITIVE_INFINITY, box.rayDistance(new Vec3d(-5, 1, 2), new Vec3d(1, 0, 0), 3.9));
+        assertEquals(Double.POSITIVE_INFINITY, box.rayDistance(new Vec3d(-5, 1, 2), new Vec3d(-1, 0, 0), 100));
+        // Grazing along a face with zero direction components
+        assertEquals(4, box.rayDistance(new Vec3d(-5, 2, 3), new Vec3d(1, 0, 0), 100));
+    }
+
+    @Test
+    void testQueriesMatchBruteForce() {
+        // Large enough for the parallel build, with stacked duplicates and a few huge boxes
+        final List<Aabb> boxes = new ArrayList<>();
+        for (int i = 0; i < Bvh.PARALLEL_THRESHOLD * 3; i++) {
+            if (i % 50 == 0) boxes.add(new Aabb(10, 10, 10, 11, 12, 11));
+            else if (i % 997 == 0) boxes.add(Aabb.around(randomPoint(), 100, 5, 100));
+            else boxes.add(Aabb.around(randomPoint(), rand.nextDouble(0, 2), rand.nextDouble(0, 2), rand.nextDouble(0, 2)));
+        }
+        final Bvh bvh = new Bvh(boxes);
+        assertEquals(boxes.size(), bvh.size());
+        assertTrue(bvh.bounds().contains(boxes.get(1)));
+
+        final RayHit hit = new RayHit();
+        final int[] ids = new int[32], dst = new int[boxes.size()];
+        final double[] ts = new double[32];
+        for (int q = 0; q < 300; q++) {
+            final Vec3d origin = randomPoint();
+            final Vec3d direction = (q % 10 == 0) ? new Vec3d(0, -1, 0) : randomPoint().sub(origin);
+            final double maxT = rand.nextDouble(0.5, 2);
+
+            double best = Double.POSITIVE_INFINITY;
+            int hits = 0;
+            for (Aabb box : boxes) {
+                final double t = box.rayDistance(origin, direction, maxT);
+                if (t != Double.POSITIVE_INFINITY) hits++;
+                best = Math.min(best, t);
+            }
+
+            assertEquals(best != Double.POSITIVE_INFINITY, bvh.raycast(origin, direction, maxT, hit));
+            assertEquals(best, hit.t);
+            if (hit.hit()) assertEquals(best, boxes.get(hit.index).rayDistance(origin, direction, maxT));
+
+            assertEquals(hits, bvh.raycastAll(origin, direction, maxT, ids, ts));
+            for (int i = 0; i < Math.min(hits, ids.length); i++) {
+                assertEquals(ts[i], boxes.get(ids[i]).rayDistance(origin, direction, maxT));
+                if (i > 0) assertTrue(ts[i - 1] <= ts[i]);
+            }
+            if (hits > 0) assertEquals(best, ts[0]);
+
+            final Aabb query = Aabb.around(origin, rand.nextDouble(20), rand.nextDouble(20), rand.nextDouble(20));
+            final Set<Integer> expected = new HashSet<>();
+            for (int i = 0; i < boxes.size(); i++) if (boxes.get(i).intersects(query)) expected.add(i);
+            assertEquals(expected, toSet(dst, bvh.queryOverlapping(query, dst)));
+
+            expected.clear();
+            for (int i = 0; i < boxes.size(); i++) if (boxes.get(i).contains(origin)) expected.add(i);
+            assertEquals(expected, toSet(dst, bvh.queryContaining(origin, dst)));
+        }
+
+        assertEquals(boxes.size() / 50 + 1, bvh.queryContaining(10.5, 11, 10.5, dst) - countHugeContaining(boxes, 10.5, 11, 10.5));
+    }
+
+    @Test
+    void testEmptyAndQueriesDoNotAllocate() {
+        final Bvh empty = new Bvh();
+        assertNull(empty.bounds());
+        assertFalse(empty.raycast(0, 0, 0, 1, 0, 0, 10, new RayHit()));
+        assertEquals(0, empty.queryContaining(0, 0, 0, new int[1]));
+
+        final List<Aabb> boxes = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) boxes.add(Aabb.around(randomPoint(), 1, 1, 1));
+        final Bvh bvh = new Bvh(boxes);
+        final RayHit hit = new RayHit();
+        final int[] ids = new int[16];
+        final double[] ts = new double[16];
+
+        Allocations.assertDoesNotAllocate(() -> {
+            for (int i = 0; i < 20_000; i++) {
+                final double x = (i % 200) - 100, z = ((i * 7) % 200) - 100;
+                bvh.raycast(x, 100, z, 0.1, -1, 0.2, 300, hit);
+                bvh.raycastAll(x, 100, z, 0.1, -1, 0.2, 300, ids, ts);
+                bvh.queryContaining(x, 0, z, ids);
+            }
+        });
+    }
+
+    private static Vec3d randomPoint() {
+        return new Vec3d(rand.nextDouble(-100, 100), rand.nextDouble(-100, 100), rand.nextDouble(-100, 100));
+    }
+
+    private static int countHugeContaining(List<Aabb> boxes, double x, double y, double z) {
+        int count = 0;
+        for (int i = 0; i < boxes.size(); i++) if (i % 50 != 0 && boxes.get(i).contains(x, y, z)) count++;
+        return count;
+    }
+
+    private static Set<Integer> toSet(int[] ids, int count) {
+        final Set<Integer> set = new HashSet<>();
+        for (int i = 0; i < count; i++) assertTrue(set.add(ids[i]), "Box reported twice");
+        return set;
+    }
+}
@@ -0,0 +1,119 @@
+package com.hellfire.net.vec.spatial;
+
+import com.hellfire.net.vec.Allocations;
+import com.hellfire.net.vec.doubles.Vec2dBuffer;
+import com.hellfire.net.vec.doubles.Vec3d;
+import com.hellfire.net.vec.doubles.Vec3dBuffer;
+import com.hellfire.net.vec.floats.Vec3fBuffer;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KdTreeTest {
+
+    private static final ThreadLocalRandom rand = ThreadLocalRandom.current();
+
+    @Test
+    void testTree3dMatchesBruteForce() {
+        // Large enough for the parallel build, with a flat axis and duplicates to stress partitioning
+        final int size = KdTree3d.PARALLEL_THRESHOLD * 3;
+        final Vec3dBuffer points = new Vec3dBuffer(size);
+        for (int i = 0; i < size; i++) {
+            if (i % 10 == 0) points.set(i, 5, 0, 5);
+            else points.set(i, rand.nextDouble(-1000, 1000), 64, rand.nextInt(-1000, 1000));
+        }
+        final KdTree3d tree = new KdTree3d(points);
+        assertEquals(size, tree.size());
+
+        final int[] ids = new int[64];
+        final double[] dists = new double[64];
+        final double[] all = new double[size];
+        for (int q = 0; q < 50; q++) {
+            final Vec3d pos = new Vec3d(rand.nextDouble(-1100, 1100), rand.nextDouble(0, 100), rand.nextDouble(-1100, 1100));
+            for (int i = 0; i < size; i++) all[i] = points.distanceSquared(i, pos);
+            final double[] sorted = all.clone();
+            Arrays.sort(sorted);
+
+            assertEquals(sorted[0], all[tree.nearest(pos)]);
+
+            final int k = rand.nextInt(1, 65);
+            assertEquals(k, tree.nearest(pos, k, ids, dists));
+            for (int i = 0; i < k; i++) {
+                assertEquals(sorted[i], dists[i]);
+                assertEquals(all[ids[i]], dists[i]);
+            }
+
+            final double radius = rand.nextDouble(60);
+            final Set<Integer> expected = new HashSet<>();
+            for (int i = 0; i < size; i++) if (all[i] <= radius * radius) expected.add(i);
+            final int[] dst = new int[size];
+            final int count = tree.queryRadius(pos, radius, dst);
+            final Set<Integer> actual = new HashSet<>();
+            for (int i = 0; i < count; i++) assertTrue(actual.add(dst[i]));
+            assertEquals(expected, actual);
+        }
+
+        // Every duplicate of the same point must be found
+        final int[] dst = new int[size];
+        assertEquals((size + 9) / 10, tree.queryRadius(5, 0, 5, 0, dst));
+    }
+
+    @Test
+    void testSmallAndFloatTrees() {
+        assertEquals(-1, new KdTree3d(new Vec3dBuffer(0)).nearest(0, 0, 0));
+        assertEquals(0, new KdTree3d(new Vec3dBuffer(0)).nearest(0, 0, 0, 3, new int[3], new double[3]));
+
+        final int size = 2_000;
+        final Vec3fBuffer floats = new Vec3fBuffer(size);
+        final Vec2dBuffer flat = new Vec2dBuffer(size);
+        for (int i = 0; i < size; i++) {
+            floats.set(i, rand.nextFloat(), rand.nextFloat(), rand.nextFloat());
+            flat.set(i, rand.nextDouble(), rand.nextDouble());
+        }
+        final KdTree3f floatTree = new KdTree3f(floats);
+        final KdTree2d flatTree = new KdTree2d(flat);
+
+        final int[] ids = new int[size + 1];
+        final float[] floatDists = new float[size + 1];
+        final double[] flatDists = new double[size + 1];
+        assertEquals(size, floatTree.nearest(0.5f, 0.5f, 0.5f, size + 1, ids, floatDists));
+        for (int i = 1; i < size; i++) assertTrue(floatDists[i - 1] <= floatDists[i]);
+        assertEquals(size, Arrays.stream(ids, 0, size).distinct().count());
+
+        for (int q = 0; q < 100; q++) {
+            final double x = rand.nextDouble(), y = rand.nextDouble();
+            double best = Double.POSITIVE_INFINITY;
+            for (int i = 0; i < size; i++) {
+                final double dx = flat.x[i] - x, dy = flat.y[i] - y;
+                best = Math.min(best, dx * dx + dy * dy);
+            }
+            assertEquals(1, flatTree.nearest(x, y, 1, ids, flatDists));
+            assertEquals(best, flatDists[0]);
+            final int nearest = flatTree.nearest(x, y);
+            assertEquals(best, (flat.x[nearest] - x) * (flat.x[nearest] - x) + (flat.y[nearest] - y) * (flat.y[nearest] - y));
+        }
+    }
+
+    @Test
+    void testQueriesDoNotAllocate() {
+        final Vec3dBuffer points = new Vec3dBuffer(10_000);
+        for (int i = 0; i < points.size(); i++) points.set(i, rand.nextDouble(100), rand.nextDouble(100), rand.nextDouble(100));
+        final KdTree3d tree = new KdTree3d(points);
+        final int[] ids = new int[16], dst = new int[1024];
+        final double[] dists = new double[16];
+
+        Allocations.assertDoesNotAllocate(() -> {
+            for (int i = 0; i < 20_000; i++) {
+                final double x = i % 100, y = (i * 7) % 100, z = (i * 13) % 100;
+                tree.nearest(x, y, z, 16, ids, dists);
+                tree.queryRadius(x, y, z, 5, dst);
+                tree.nearest(x, y, z);
+            }
+        });
+    }
+}
@@ -0,0 +1,168 @@
+package com.hellfire.net.vec.spatial;
+
+import com.hellfire.net.vec.doubles.Vec3d;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LooseGridTest {
+
+    private static final ThreadLocalRandom rand = ThreadLocalRandom.current();
+    private static final int IDS = 3_000;
+    private static final double WORLD = 150;
+
+    @Test
+    void testTicksMatchBruteForce() {
+        final LooseGrid3d grid = new LooseGrid3d(8);
+        final double[][] pos = new double[IDS][];
+        final int[] dst = new int[IDS];
+
+        for (int tick = 0; tick < 20; tick++) {
+            final double[][] next = new double[IDS][];
+            for (int id = 0; id < IDS; id++) next[id] = (pos[id] == null) ? null : pos[id].clone();
+
+            for (int i = 0; i < 2_000; i++) {
+                final int id = rand.nextInt(IDS);
+                if (rand.nextInt(6) == 0) {
+                    grid.stageRemove(id);
+                    next[id] = null;
+                } else if (next[id] != null && rand.nextInt(4) != 0) {
+                    final double[] p = next[id];
+                    p[0] += rand.nextDouble(-3, 3);
+                    p[1] += rand.nextDouble(-3, 3);
+                    p[2] += rand.nextDouble(-3, 3);
+                    grid.stagePosition(id, p[0], p[1], p[2]);
+                } else {
+                    next[id] = new double[] {rand.nextDouble(-WORLD, WORLD), rand.nextDouble(-WORLD, WORLD), rand.nextDouble(-WORLD, WORLD)};
+                    grid.stagePosition(id, next[id][0], next[id][1], next[id][2]);
+                }
+            }
+
+            // Nothing is visible before apply
+            assertEquals(count(pos), grid.size());
+            assertEquals(2_000, grid.stagedCount());
+            assertEquals(2_000, grid.apply());
+            assertEquals(0, grid.stagedCount());
+            System.arraycopy(next, 0, pos, 0, IDS);
+            assertEquals(count(pos), grid.size());
+
+            for (int q = 0; q < 20; q++) {
+                final double x = rand.nextDouble(-WORLD, WORLD), y = rand.nextDouble(-WORLD, WORLD), z = rand.nextDouble(-WORLD, WORLD);
+                final double radius = rand.nextDouble(30);
+                final Set<Integer> expected = new HashSet<>();
+                for (int id = 0; id < IDS; id++) {
+                    if (pos[id] == null) continue;
+                    final double dx = pos[id][0] - x, dy = pos[id][1] - y, dz = pos[id][2] - z;
+                    if (dx * dx + dy * dy + dz * dz <= radius * radius) expected.add(id);
+                }
+                final int count = grid.queryRadius(x, y, z, radius, dst);
+                assertEquals(expected.size(), count);
+                for (int i = 0; i < count; i++) assertTrue(expected.contains(dst[i]));
+
+                final Set<Integer> boxExpected = new HashSet<>();
+                for (int id = 0; id < IDS; id++) {
+                    if (pos[id] == null) continue;
+                    if (Math.abs(pos[id][0] - x) <= radius && Math.abs(pos[id][1] - y) <= radius && Math.abs(pos[id][2] - z) <= radius) boxExpected.add(id);
+                }
+                final Set<Integer> box = new HashSet<>();
+                grid.forEachInBox(x - radius, y - radius, z - radius, x + radius, y + radius, z + radius, box::add);
+                assertEquals(boxExpected, box);
+            }
+        }
+        for (int id = 0; id < IDS; id++) {
+            assertEquals(pos[id] != null, grid.contains(id));
+            if (pos[id] != null) assertEquals(new Vec3d(pos[id][0], pos[id][1], pos[id][2]), grid.position(id));
+        }
+    }
+
+    @Test
+    void testLooseCellsAvoidRelinking() {
+        final LooseGrid3d grid = new LooseGrid3d(10, 0.25, 16);
+        grid.stagePosition(0, 9.9, 5, 5);
+        grid.apply();
+
+        // Jitter across the border at x = 10, within the 2.5 margin
+        for (int i = 0; i < 100; i++) {
+            grid.stagePosition(0, (i % 2 == 0) ? 10.1 : 9.9, 5, 5);
+            grid.apply();
+        }
+        assertEquals(0, grid.rebuckets());
+        assertEquals(1, grid.queryRadius(9.9, 5, 5, 0.01, new int[1]));
+
+        grid.stagePosition(0, 12.6, 5, 5);
+        grid.apply();
+        assertEquals(1, grid.rebuckets());
+        assertEquals(1, grid.queryRadius(12.6, 5, 5, 0, new int[1]));
+
+        // Later updates to the same id win, removal of an absent id is ignored
+        grid.stagePosition(1, 0, 0, 0);
+        grid.stageRemove(1);
+        grid.stageRemove(2);
+        grid.stagePosition(0, -50, 0, 0);
+        grid.apply();
+        assertFalse(grid.contains(1));
+        assertEquals(new Vec3d(-50, 0, 0), grid.position(0));
+        assertThrows(IllegalArgumentException.class, () -> grid.position(1));
+        assertThrows(IllegalArgumentException.class, () -> grid.stagePosition(-1, 0, 0, 0));
+        assertThrows(IllegalArgumentException.class, () -> grid.forEachInRadius(0, 0, 0, -1, id -> {}));
+    }
+
+    @Test
+    void testConcurrentQueriesAndStaging() throws InterruptedException {
+        // Every tick moves all ids by the same offset, so a reader always sees exactly IDS ids around the shared center
+        final LooseGrid3d grid = new LooseGrid3d(4);
+        final double[] offsets = new double[IDS];
+        for (int id = 0; id < IDS; id++) {
+            offsets[id] = rand.nextDouble(-10, 10);
+            grid.stagePosition(id, offsets[id], 0, 0);
+        }
+        grid.apply();
+
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        final Thread[] readers = new Thread[4];
+        final int ticks = 200;
+        for (int t = 0; t < readers.length; t++) {
+            readers[t] = new Thread(() -> {
+                final int[] dst = new int[IDS];
+                try {
+                    for (int i = 0; i < 500; i++) {
+                        final int count = grid.queryBox(-1_000, -1, -1, 1_000, 1, 1, dst);
+                        if (count != IDS) throw new AssertionError("Saw " + count + " ids");
+                    }
+                } catch (Throwable e) {
+                    failure.compareAndSet(null, e);
+                }
+            });
+            readers[t].start();
+        }
+
+        final Thread stager = new Thread(() -> {
+            try {
+                for (int tick = 1; tick <= ticks; tick++) {
+                    for (int id = 0; id < IDS; id++) grid.stagePosition(id, offsets[id] + tick * 0.5, 0, 0);
+                    grid.apply();
+                }
+            } catch (Throwable e) {
+                failure.compareAndSet(null, e);
+            }
+        });
+        stager.start();
+
+        for (Thread reader : readers) reader.join();
+        stager.join();
+        assertNull(failure.get());
+        assertEquals(IDS, grid.size());
+        assertTrue(grid.rebuckets() > 0);
+    }
+
+    private static int count(double[][] pos) {
+        int count = 0;
+        for (double[] p : pos) if (p != null) count++;
+        return count;
+    }
+}
@@ -0,0 +1,107 @@
+package com.hellfire.net.vec.spatial;
+
+import com.hellfire.net.vec.Allocations;
+import com.hellfire.net.vec.curve.Morton;
+import com.hellfire.net.vec.ints.Vec3i;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SparseOctreeTest {
+
+    private static final ThreadLocalRandom rand = ThreadLocalRandom.current();
+
+    @Test
+    void testMatchesHashMap() {
+        final SparseOctree<String> tree = new SparseOctree<>();
+        final Map<Vec3i, String> reference = new HashMap<>();
+
+        // A few clusters far apart, as block annotations would be
+        final Vec3i[] centers = {new Vec3i(-29_000_000, -64, 12_345), new Vec3i(0, 0, 0), new Vec3i(1_000_000, 300, -5_000_000)};
+        for (int i = 0; i < 100_000; i++) {
+            final Vec3i center = centers[rand.nextInt(centers.length)];
+            final Vec3i key = new Vec3i(center.x + rand.nextInt(-20, 20), center.y + rand.nextInt(-20, 20), center.z + rand.nextInt(-20, 20));
+            switch (rand.nextInt(3)) {
+                case 0 -> assertEquals(reference.put(key, "v" + i), tree.put(key, "v" + i));
+                case 1 -> assertEquals(reference.remove(key), tree.remove(key));
+                default -> {
+                    assertEquals(reference.get(key), tree.get(key));
+                    assertEquals(reference.containsKey(key), tree.containsKey(key));
+                }
+            }
+            assertEquals(reference.size(), tree.size());
+        }
+
+        final Map<Vec3i, String> visited = new HashMap<>();
+        tree.forEach((x, y, z, value) -> assertNull(visited.put(new Vec3i(x, y, z), value)));
+        assertEquals(reference, visited);
+
+        final Vec3i min = new Vec3i(-10, -5, -30), max = new Vec3i(15, 5, 0);
+        final Map<Vec3i, String> inBox = new HashMap<>();
+        reference.forEach((key, value) -> {
+            if (key.x >= min.x && key.y >= min.y && key.z >= min.z && key.x <= max.x && key.y <= max.y && key.z <= max.z) inBox.put(key, value);
+        });
+        final Map<Vec3i, String> boxed = new HashMap<>();
+        tree.forEachInBox(min.x, min.y, min.z, max.x, max.y, max.z, (x, y, z, value) -> boxed.put(new Vec3i(x, y, z), value));
+        assertEquals(inBox, boxed);
+
+        for (Vec3i key : new ArrayList<>(reference.keySet())) assertEquals(reference.remove(key), tree.remove(key));
+        assertTrue(tree.isEmpty());
+        assertEquals(1, tree.nodeCount());
+    }
+
+    @Test
+    void testMortonOrderAndRange() {
+        final int depth = 10;
+        final SparseOctree<Vec3i> tree = new SparseOctree<>(depth);
+        final List<Vec3i> keys = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            final Vec3i key = new Vec3i(rand.nextInt(-512, 512), rand.nextInt(-512, 512), rand.nextInt(-512, 512));
+            if (tree.put(key, key) == null) keys.add(key);
+        }
+        keys.sort(Comparator.comparingLong(key -> Morton.encode(key.x + 512, key.y + 512, key.z + 512)));
+
+        final List<Vec3i> visited = new ArrayList<>();
+        tree.forEach((x, y, z, value) -> {
+            assertEquals(new Vec3i(x, y, z), value);
+            visited.add(value);
+        });
+        assertEquals(keys, visited);
+
+        assertFalse(tree.fits(512, 0, 0));
+        assertNull(tree.get(-513, 0, 0));
+        assertThrows(IllegalArgumentException.class, () -> tree.put(0, 0, 512, Vec3i.ZERO));
+
+        final SparseOctree<String> full = new SparseOctree<>(SparseOctree.MAX_DEPTH);
+        full.put(Integer.MIN_VALUE, Integer.MAX_VALUE, 0, "corner");
+        assertEquals("corner", full.get(Integer.MIN_VALUE, Integer.MAX_VALUE, 0));
+        full.forEachInBox(Integer.MIN_VALUE, 0, -1, -1, Integer.MAX_VALUE, 1, (x, y, z, value) -> assertEquals(Integer.MIN_VALUE, x));
+    }
+
+    @Test
+    void testPooledReinsertDoesNotAllocate() {
+        final SparseOctree<String> tree = new SparseOctree<>();
+        final int[] xs = new int[20_000], ys = new int[xs.length], zs = new int[xs.length];
+        for (int i = 0; i < xs.length; i++) {
+            xs[i] = rand.nextInt(-1_000_000, 1_000_000);
+            ys[i] = rand.nextInt(-64, 320);
+            zs[i] = rand.nextInt(-1_000_000, 1_000_000);
+            tree.put(xs[i], ys[i], zs[i], "value");
+        }
+        final int nodes = tree.nodeCount();
+
+        Allocations.assertDoesNotAllocate(() -> {
+            for (int i = 0; i < xs.length; i++) tree.remove(xs[i], ys[i], zs[i]);
+            assertEquals(1, tree.nodeCount());
+            for (int i = 0; i < xs.length; i++) tree.put(xs[i], ys[i], zs[i], "value");
+        });
+        assertEquals(nodes, tree.nodeCount());
+    }
+}
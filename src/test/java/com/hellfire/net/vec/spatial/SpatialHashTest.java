@@ -0,0 +1,188 @@
+package com.hellfire.net.vec.spatial;
+
+import com.hellfire.net.vec.Allocations;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SpatialHashTest {
+
+    private static final ThreadLocalRandom rand = ThreadLocalRandom.current();
+    private static final int IDS = 5_000;
+    private static final double WORLD = 200;
+
+    @Test
+    void testGrid3dMatchesBruteForce() {
+        final SpatialHash3d grid = new SpatialHash3d(8);
+        final double[][] pos = new double[IDS][];
+
+        // Mix of inserts, moves within and across cells and removals
+        for (int i = 0; i < 50_000; i++) {
+            final int id = rand.nextInt(IDS);
+            final double x = rand.nextDouble(-WORLD, WORLD), y = rand.nextDouble(-WORLD / 4, WORLD / 4), z = rand.nextDouble(-WORLD, WORLD);
+            if (pos[id] == null) {
+                grid.insert(id, x, y, z);
+                pos[id] = new double[] {x, y, z};
+            } else if (rand.nextInt(4) == 0) {
+                assertTrue(grid.remove(id));
+                assertFalse(grid.remove(id));
+                pos[id] = null;
+            } else if (rand.nextBoolean()) {
+                final double[] p = pos[id];
+                p[0] += rand.nextDouble(-2, 2);
+                p[2] += rand.nextDouble(-2, 2);
+                grid.move(id, p[0], p[1], p[2]);
+            } else {
+                grid.move(id, x, y, z);
+                pos[id] = new double[] {x, y, z};
+            }
+        }
+        assertEquals(Arrays.stream(pos).filter(p -> p != null).count(), grid.size());
+        assertThrows(IllegalArgumentException.class, () -> grid.insert(firstPresent(pos), 0, 0, 0));
+
+        final int[] dst = new int[IDS];
+        for (int q = 0; q < 200; q++) {
+            final double x = rand.nextDouble(-WORLD, WORLD), y = rand.nextDouble(-WORLD / 4, WORLD / 4), z = rand.nextDouble(-WORLD, WORLD);
+            final double radius = rand.nextDouble(40);
+
+            final Set<Integer> expected = new HashSet<>();
+            for (int id = 0; id < IDS; id++) {
+                if (pos[id] == null) continue;
+                final double dx = pos[id][0] - x, dy = pos[id][1] - y, dz = pos[id][2] - z;
+                if (dx * dx + dy * dy + dz * dz <= radius * radius) expected.add(id);
+            }
+            final int count = grid.queryRadius(x, y, z, radius, dst);
+            assertEquals(expected, toSet(dst, count));
+            final Set<Integer> visited = new HashSet<>();
+            grid.forEachInRadius(x, y, z, radius, visited::add);
+            assertEquals(expected, visited);
+
+            final Set<Integer> inBox = new HashSet<>();
+            for (int id = 0; id < IDS; id++) {
+                if (pos[id] == null) continue;
+                if (Math.abs(pos[id][0] - x) <= radius && Math.abs(pos[id][1] - y) <= radius && Math.abs(pos[id][2] - z) <= radius) inBox.add(id);
+            }
+            assertEquals(inBox, toSet(dst, grid.queryBox(x - radius, y - radius, z - radius, x + radius, y + radius, z + radius, dst)));
+        }
+
+        for (double radius : new double[] {0.5, 3, 8, 20}) {
+            final Set<Long> expected = new HashSet<>();
+            for (int a = 0; a < IDS; a++) {
+                if (pos[a] == null) continue;
+                for (int b = a + 1; b < IDS; b++) {
+                    if (pos[b] == null) continue;
+                    final double dx = pos[a][0] - pos[b][0], dy = pos[a][1] - pos[b][1], dz = pos[a][2] - pos[b][2];
+                    if (dx * dx + dy * dy + dz * dz <= radius * radius) expected.add(pair(a, b));
+                }
+            }
+            final Set<Long> actual = new HashSet<>();
+            grid.forEachPairWithin(radius, (a, b) -> assertTrue(actual.add(pair(a, b)), "Pair reported twice"));
+            assertEquals(expected, actual);
+        }
+    }
+
+    @Test
+    void testGrid2dMatchesBruteForce() {
+        final SpatialHash2d grid = new SpatialHash2d(4, IDS);
+        final double[][] pos = new double[IDS][];
+        for (int id = 0; id < IDS; id++) {
+            if (rand.nextInt(5) == 0) continue;
+            pos[id] = new double[] {rand.nextDouble(-WORLD, WORLD), rand.nextDouble(-WORLD, WORLD)};
+            grid.insert(id, pos[id][0], pos[id][1]);
+        }
+        for (int id = 0; id < IDS; id += 3) {
+            if (pos[id] == null) continue;
+            pos[id][0] += rand.nextDouble(-10, 10);
+            grid.move(id, pos[id][0], pos[id][1]);
+        }
+
+        final int[] dst = new int[IDS];
+        for (int q = 0; q < 200; q++) {
+            final double x = rand.nextDouble(-WORLD, WORLD), y = rand.nextDouble(-WORLD, WORLD), radius = rand.nextDouble(30);
+            final Set<Integer> expected = new HashSet<>();
+            for (int id = 0; id < IDS; id++) {
+                if (pos[id] == null) continue;
+                final double dx = pos[id][0] - x, dy = pos[id][1] - y;
+                if (dx * dx + dy * dy <= radius * radius) expected.add(id);
+            }
+            assertEquals(expected, toSet(dst, grid.queryRadius(x, y, radius, dst)));
+        }
+
+        final double radius = 5;
+        final Set<Long> expected = new HashSet<>();
+        for (int a = 0; a < IDS; a++) {
+            for (int b = a + 1; b < IDS; b++) {
+                if (pos[a] == null || pos[b] == null) continue;
+                final double dx = pos[a][0] - pos[b][0], dy = pos[a][1] - pos[b][1];
+                if (dx * dx + dy * dy <= radius * radius) expected.add(pair(a, b));
+            }
+        }
+        final Set<Long> actual = new HashSet<>();
+        grid.forEachPairWithin(radius, (a, b) -> assertTrue(actual.add(pair(a, b)), "Pair reported twice"));
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void testColumnsAlongOneAxis() {
+        // One object per unit cell along z (and y in 2D), so every occupied cell key differs in that coordinate only
+        final int ids = 8_000;
+        final SpatialHash3d grid = new SpatialHash3d(1, ids);
+        final SpatialHash2d grid2d = new SpatialHash2d(1, ids);
+        for (int id = 0; id < ids; id++) {
+            grid.insert(id, 0.5, 64.5, id + 0.5);
+            grid2d.insert(id, 0.5, id + 0.5);
+        }
+
+        final int[] dst = new int[16];
+        for (int q = 0; q < 2_000; q++) {
+            final int center = rand.nextInt(ids);
+            final double radius = rand.nextDouble(5);
+            final int min = Math.max(0, (int) Math.ceil(center - radius)), max = Math.min(ids - 1, (int) Math.floor(center + radius));
+            final Set<Integer> expected = new HashSet<>();
+            for (int id = min; id <= max; id++) expected.add(id);
+
+            assertEquals(expected, toSet(dst, grid.queryRadius(0.5, 64.5, center + 0.5, radius, dst)));
+            assertEquals(expected, toSet(dst, grid.queryBox(0, 64, center + 0.5 - radius, 1, 65, center + 0.5 + radius, dst)));
+            assertEquals(expected, toSet(dst, grid2d.queryRadius(0.5, center + 0.5, radius, dst)));
+        }
+
+        final int[] pairs = new int[1];
+        grid.forEachPairWithin(1, (a, b) -> pairs[0]++);
+        assertEquals(ids - 1, pairs[0]);
+    }
+
+    @Test
+    void testUpdatesAndQueriesDoNotAllocate() {
+        final SpatialHash3d grid = new SpatialHash3d(16, IDS);
+        for (int id = 0; id < IDS; id++) grid.insert(id, rand.nextDouble(-WORLD, WORLD), 0, rand.nextDouble(-WORLD, WORLD));
+        final int[] dst = new int[IDS];
+
+        Allocations.assertDoesNotAllocate(() -> {
+            for (int i = 0; i < 20_000; i++) {
+                final int id = i % IDS;
+                grid.move(id, grid.x(id) + 0.5, 0, grid.z(id));
+                grid.queryRadius(grid.x(id), 0, grid.z(id), 16, dst);
+            }
+        });
+    }
+
+    private static Set<Integer> toSet(int[] ids, int count) {
+        assertTrue(count <= ids.length);
+        final Set<Integer> set = new HashSet<>();
+        for (int i = 0; i < count; i++) assertTrue(set.add(ids[i]), "Id reported twice");
+        return set;
+    }
+
+    private static long pair(int a, int b) {
+        return ((long) Math.min(a, b) << 32) | Math.max(a, b);
+    }
+
+    private static int firstPresent(double[][] pos) {
+        for (int id = 0; ; id++) if (pos[id] != null) return id;
+    }
+}
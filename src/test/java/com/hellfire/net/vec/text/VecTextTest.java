@@ -0,0 +1,115 @@
+package com.hellfire.net.vec.text;
+
+import com.hellfire.net.vec.Allocations;
+import com.hellfire.net.vec.doubles.Vec3d;
+import com.hellfire.net.vec.floats.Vec2f;
+import com.hellfire.net.vec.floats.Vec3f;
+import com.hellfire.net.vec.ints.Vec3i;
+import com.hellfire.net.vec.longs.Vec4l;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class VecTextTest {
+
+    private static final ThreadLocalRandom rand = ThreadLocalRandom.current();
+
+    @Test
+    void testMatchesStringFormat() {
+        final StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 100_000; i++) {
+            final double val = rand.nextDouble(-1e6, 1e6) / Math.pow(10, rand.nextInt(8));
+            final int precision = rand.nextInt(6);
+            sb.setLength(0);
+            assertEquals(String.format(Locale.ROOT, "%." + precision + "f", val), VecFormat.append(sb, val, precision).toString());
+        }
+
+        for (double tie : new double[] {1.005, 0.125, 1.115, 2.675, 1e-7, 0.5, 1234.5}) {
+            assertEquals(String.format(Locale.ROOT, "%.2f", tie), VecFormat.append(new StringBuilder(), tie, 2).toString());
+            assertEquals(String.format(Locale.ROOT, "%.0f", tie), VecFormat.append(new StringBuilder(), tie, 0).toString());
+        }
+        assertEquals("-0.00", VecFormat.append(new StringBuilder(), -0.001, 2).toString());
+        assertEquals(String.format(Locale.ROOT, "%.1f", 1e300), VecFormat.append(new StringBuilder(), 1e300, 1).toString());
+        assertEquals("NaN", VecFormat.append(new StringBuilder(), Double.NaN, 2).toString());
+        assertEquals("12.000", VecFormat.append(new StringBuilder(), 12L, 3).toString());
+    }
+
+    @Test
+    void testAppendToMatchesToString() throws IOException {
+        final Vec3d vec = new Vec3d(1, -2.5, 3.14159);
+        final Locale locale = Locale.getDefault();
+        try {
+            Locale.setDefault(Locale.ROOT);
+            assertEquals(vec.toString(), vec.appendTo(new StringBuilder(), 2).toString());
+            assertEquals(new Vec3i(1, 2, 3).toString(), new Vec3i(1, 2, 3).appendTo(new StringBuilder(), 2).toString());
+        } finally {
+            Locale.setDefault(locale);
+        }
+
+        final StringWriter writer = new StringWriter();
+        vec.appendTo(writer, 1);
+        assertEquals("Vec3d{x=1.0, y=-2.5, z=3.1}", writer.toString());
+        assertEquals("1.000;-2.500;3.142", vec.appendComponents(new StringBuilder(), 3, ';').toString());
+    }
+
+    @Test
+    void testRoundTrip() {
+        final StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 10_000; i++) {
+            final Vec3d vec = new Vec3d(rand.nextDouble(-1e6, 1e6), rand.nextGaussian() * 1e-12, Double.longBitsToDouble(rand.nextLong() >>> 2));
+            sb.setLength(0);
+            assertEquals(vec, Vec3d.parse(vec.appendTo(sb, VecFormat.FULL_PRECISION), 0));
+
+            final Vec3f floats = new Vec3f((float) rand.nextDouble(-1e4, 1e4), Float.intBitsToFloat(rand.nextInt() >>> 2), (float) rand.nextGaussian());
+            sb.setLength(0);
+            assertEquals(floats, Vec3f.parse(floats.appendTo(sb, VecFormat.FULL_PRECISION), 0));
+
+            final Vec4l longs = new Vec4l(rand.nextLong(), Long.MIN_VALUE, Long.MAX_VALUE, rand.nextInt());
+            sb.setLength(0);
+            assertEquals(longs, Vec4l.parse(longs.appendTo(sb, 2), 0));
+        }
+
+        assertEquals(new Vec3d(1.25, -2, 3), Vec3d.parse("1.25,-2,3e0", 0));
+        assertEquals(new Vec2f(Float.NaN, Float.NEGATIVE_INFINITY), Vec2f.parse("Vec2f{x=NaN, y=-Infinity}", 0));
+        assertThrows(NumberFormatException.class, () -> Vec3i.parse("1, 2.5, 3", 0));
+        assertThrows(NumberFormatException.class, () -> Vec3i.parse("1, 2", 0));
+    }
+
+    @Test
+    void testParserWalksCsv() {
+        final String csv = "1.00,2.00,3.00\n-4.5,5.5,-6.5\n";
+        final VecParser parser = new VecParser(csv);
+        assertEquals(new Vec3d(1, 2, 3), new Vec3d(parser.nextDouble(), parser.nextDouble(), parser.nextDouble()));
+        assertEquals(new Vec3d(-4.5, 5.5, -6.5), Vec3d.parse(csv, parser.position()));
+    }
+
+    @Test
+    void testAppendAndParseDoNotAllocate() {
+        final Vec3d vec = new Vec3d(123.456, -0.5, 1e-3);
+        final StringBuilder sb = new StringBuilder(256);
+        final String text = "Vec3d{x=123.46, y=-0.50, z=0.00}";
+        final VecParser parser = new VecParser(text);
+
+        final double[] sum = new double[1];
+        Allocations.assertDoesNotAllocate(() -> {
+            for (int i = 0; i < 100_000; i++) sum[0] += run(vec, sb, parser);
+        });
+        assertNotEquals(0, sum[0]);   // Keeps the results live so the JIT cannot drop the work
+    }
+
+    private static double run(Vec3d vec, StringBuilder sb, VecParser parser) {
+        sb.setLength(0);
+        vec.appendComponents(sb, 2, ',');
+        parser.position(0).beginVec();
+        final double x = parser.nextDouble(), y = parser.nextDouble(), z = parser.nextDouble();
+        parser.endVec();
+        return x + y + z + sb.length();
+    }
+}